@@ -57,6 +57,7 @@ abstract class AbstractNamedObject implements NamedObject {
    */
   AbstractNamedObject(final String name) {
     this.name = name;
+    MutableRetrievalMetrics.countObject();
   }
 
   /** {@inheritDoc} */
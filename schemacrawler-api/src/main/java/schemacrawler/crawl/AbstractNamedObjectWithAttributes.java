@@ -48,7 +48,9 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
 
   private static final long serialVersionUID = -1486322887991472729L;
 
-  private final Map<String, Object> attributeMap;
+  // Most named objects have no attributes, so the map is created only when needed, and it is
+  // compacted once the catalog is frozen
+  private Map<String, Object> attributeMap;
   private String remarks;
 
   /**
@@ -59,7 +61,6 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
    */
   AbstractNamedObjectWithAttributes(final String name) {
     super(name);
-    attributeMap = new HashMap<>();
     remarks = "";
   }
 
@@ -73,12 +74,18 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   @Override
   public final <T> T getAttribute(final String name, final T defaultValue)
       throws ClassCastException {
+    if (attributeMap == null) {
+      return defaultValue;
+    }
     return (T) attributeMap.getOrDefault(name, defaultValue);
   }
 
   /** {@inheritDoc} */
   @Override
   public final Map<String, Object> getAttributes() {
+    if (attributeMap == null) {
+      return Collections.emptyMap();
+    }
     return Collections.unmodifiableMap(attributeMap);
   }
 
@@ -91,7 +98,7 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   /** {@inheritDoc} */
   @Override
   public final boolean hasAttribute(final String name) {
-    return attributeMap.containsKey(name);
+    return attributeMap != null && attributeMap.containsKey(name);
   }
 
   /** {@inheritDoc} */
@@ -109,8 +116,8 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   /** {@inheritDoc} */
   @Override
   public final void removeAttribute(final String name) {
-    if (!isBlank(name)) {
-      attributeMap.remove(name);
+    if (!isBlank(name) && hasAttribute(name)) {
+      modifiableAttributes().remove(name);
     }
   }
 
@@ -119,9 +126,9 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   public final void setAttribute(final String name, final Object value) {
     if (!isBlank(name)) {
       if (value == null) {
-        attributeMap.remove(name);
+        removeAttribute(name);
       } else {
-        attributeMap.put(name, value);
+        modifiableAttributes().put(name, value);
       }
     }
   }
@@ -136,8 +143,29 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   }
 
   protected final void addAttributes(final Map<String, Object> values) {
-    if (values != null) {
-      attributeMap.putAll(values);
+    if (values != null && !values.isEmpty()) {
+      modifiableAttributes().putAll(values);
+    }
+  }
+
+  /** Compacts the attributes, once the catalog is fully loaded. */
+  final void freezeAttributes() {
+    if (attributeMap == null || attributeMap instanceof CompactAttributes) {
+      return;
+    }
+    if (attributeMap.isEmpty()) {
+      attributeMap = null;
+    } else {
+      attributeMap = new CompactAttributes(attributeMap);
+    }
+  }
+
+  private Map<String, Object> modifiableAttributes() {
+    if (attributeMap == null) {
+      attributeMap = new HashMap<>();
+    } else if (attributeMap instanceof CompactAttributes) {
+      attributeMap = new HashMap<>(attributeMap);
     }
+    return attributeMap;
   }
 }
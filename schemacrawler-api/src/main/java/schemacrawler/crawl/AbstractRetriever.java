@@ -64,6 +64,7 @@ abstract class AbstractRetriever {
   final MutableCatalog catalog;
   private final SchemaCrawlerOptions options;
   private final RetrieverConnection retrieverConnection;
+  private NamedObjectList<MutableTable> tablesInScope;
 
   AbstractRetriever(
       final RetrieverConnection retrieverConnection,
@@ -114,6 +115,13 @@ abstract class AbstractRetriever {
     return catalog.getAllSchemas();
   }
 
+  final NamedObjectList<MutableTable> getTablesInScope() {
+    if (tablesInScope != null) {
+      return tablesInScope;
+    }
+    return catalog.getAllTables();
+  }
+
   final DatabaseMetaData getMetaData() {
     return retrieverConnection.getMetaData();
   }
@@ -177,31 +185,35 @@ abstract class AbstractRetriever {
       final int javaSqlTypeInt,
       final String databaseSpecificTypeName,
       final String mappedClassName) {
-    MutableColumnDataType columnDataType =
-        catalog
-            .lookupColumnDataType(schema, databaseSpecificTypeName)
-            .orElse(catalog.lookupSystemColumnDataType(databaseSpecificTypeName).orElse(null));
-    // Create new data type, if needed
-    if (columnDataType == null) {
-      columnDataType = new MutableColumnDataType(schema, databaseSpecificTypeName, type);
-      final JavaSqlType javaSqlType = retrieverConnection.getJavaSqlTypes().valueOf(javaSqlTypeInt);
-      columnDataType.setJavaSqlType(javaSqlType);
-      if (isBlank(mappedClassName)) {
-        final TypeMap typeMap = retrieverConnection.getTypeMap();
-        final Class<?> mappedClass;
-        if (typeMap.containsKey(databaseSpecificTypeName)) {
-          mappedClass = typeMap.get(databaseSpecificTypeName);
+    // Tables and routines may be crawled concurrently, and both create data types
+    synchronized (catalog) {
+      MutableColumnDataType columnDataType =
+          catalog
+              .lookupColumnDataType(schema, databaseSpecificTypeName)
+              .orElse(catalog.lookupSystemColumnDataType(databaseSpecificTypeName).orElse(null));
+      // Create new data type, if needed
+      if (columnDataType == null) {
+        columnDataType = new MutableColumnDataType(schema, databaseSpecificTypeName, type);
+        final JavaSqlType javaSqlType =
+            retrieverConnection.getJavaSqlTypes().valueOf(javaSqlTypeInt);
+        columnDataType.setJavaSqlType(javaSqlType);
+        if (isBlank(mappedClassName)) {
+          final TypeMap typeMap = retrieverConnection.getTypeMap();
+          final Class<?> mappedClass;
+          if (typeMap.containsKey(databaseSpecificTypeName)) {
+            mappedClass = typeMap.get(databaseSpecificTypeName);
+          } else {
+            mappedClass = typeMap.get(javaSqlType.getName());
+          }
+          columnDataType.setTypeMappedClass(mappedClass);
         } else {
-          mappedClass = typeMap.get(javaSqlType.getName());
+          columnDataType.setTypeMappedClass(mappedClassName);
         }
-        columnDataType.setTypeMappedClass(mappedClass);
-      } else {
-        columnDataType.setTypeMappedClass(mappedClassName);
-      }
 
-      catalog.addColumnDataType(columnDataType);
+        catalog.addColumnDataType(columnDataType);
+      }
+      return columnDataType;
     }
-    return columnDataType;
   }
 
   final Optional<MutableRoutine> lookupRoutine(
@@ -210,12 +222,30 @@ abstract class AbstractRetriever {
       final String routineName,
       final String specificName) {
     return catalog.lookupRoutine(
-        new NamedObjectKey(catalogName, schemaName, routineName, specificName));
+        schemaKey(catalogName, schemaName).with(routineName).with(specificName));
   }
 
+  /**
+   * Looks up a table that is in scope for retrieval. All tables in the catalog are in scope,
+   * unless retrieval has been limited to some tables.
+   */
   final Optional<MutableTable> lookupTable(
       final String catalogName, final String schemaName, final String tableName) {
-    return catalog.lookupTable(new NamedObjectKey(catalogName, schemaName, tableName));
+    final NamedObjectKey tableLookupKey = schemaKey(catalogName, schemaName).with(tableName);
+    if (tablesInScope != null) {
+      return tablesInScope.lookup(tableLookupKey);
+    }
+    return catalog.lookupTable(tableLookupKey);
+  }
+
+  /**
+   * Limits retrieval of table details to the provided tables, for example when only tables that
+   * have changed are crawled again. Other tables in the catalog are left as they are.
+   *
+   * @param tablesInScope Tables to retrieve details for
+   */
+  final void limitToTables(final NamedObjectList<MutableTable> tablesInScope) {
+    this.tablesInScope = requireNonNull(tablesInScope, "No tables provided");
   }
 
   final String normalizeCatalogName(final String name) {
@@ -233,4 +263,12 @@ abstract class AbstractRetriever {
       return null;
     }
   }
+
+  /**
+   * Makes a lookup key for a schema, to build lookup keys for objects in the schema. The key shares
+   * catalog and schema names with the schema in the catalog, if there is one.
+   */
+  final NamedObjectKey schemaKey(final String catalogName, final String schemaName) {
+    return catalog.lookupSchemaKey(catalogName, schemaName);
+  }
 }
@@ -0,0 +1,249 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+
+/**
+ * Content hashes of the structure of a catalog, computed bottom-up, so that two catalogs can be
+ * compared without looking at every object. Each column is hashed into the hash of its table, each
+ * table, routine, sequence and synonym into the hash of its schema, and each schema into the hash
+ * of the catalog. The hashes of the catalog, each schema and each table are kept. If the hashes of
+ * a schema are the same, nothing in the schema has changed, so the tables in the schema do not
+ * need to be compared. Digests can be stored with catalog snapshots, and read back on their own.
+ */
+public final class CatalogDigest implements Serializable {
+
+  private static final class SchemaDigest implements Serializable {
+
+    private static final long serialVersionUID = 7683021558294402357L;
+
+    private final String catalogName;
+    private final String schemaName;
+    private final byte[] digest;
+    private final Map<String, byte[]> tableDigests;
+
+    SchemaDigest(
+        final String catalogName,
+        final String schemaName,
+        final byte[] digest,
+        final Map<String, byte[]> tableDigests) {
+      this.catalogName = catalogName;
+      this.schemaName = schemaName;
+      this.digest = digest;
+      this.tableDigests = tableDigests;
+    }
+  }
+
+  private static final long serialVersionUID = -1290405611785307526L;
+
+  /**
+   * Computes the digest of a catalog.
+   *
+   * @param catalog Catalog
+   * @return Digest of the catalog
+   */
+  public static CatalogDigest from(final Catalog catalog) {
+    requireNonNull(catalog, "No catalog provided");
+    return new CatalogDigester().digest(catalog);
+  }
+
+  static CatalogDigest read(final CatalogSnapshotInput in) throws IOException {
+    final CatalogDigest catalogDigest = new CatalogDigest(in.readByteArray());
+    final int schemaCount = in.readInt();
+    for (int i = 0; i < schemaCount; i++) {
+      final String catalogName = in.readString();
+      final String schemaName = in.readString();
+      final byte[] schemaDigest = in.readByteArray();
+      final int tableCount = in.readInt();
+      final Map<String, byte[]> tableDigests = new LinkedHashMap<>();
+      for (int j = 0; j < tableCount; j++) {
+        tableDigests.put(in.readString(), in.readByteArray());
+      }
+      catalogDigest.addSchemaDigest(catalogName, schemaName, schemaDigest, tableDigests);
+    }
+    return catalogDigest;
+  }
+
+  private final byte[] digest;
+  private final Map<NamedObjectKey, SchemaDigest> schemaDigests;
+
+  CatalogDigest(final byte[] digest) {
+    this.digest = requireNonNull(digest, "No digest provided");
+    schemaDigests = new LinkedHashMap<>();
+  }
+
+  /**
+   * Finds the tables that have been added, removed or changed in the other catalog, comparing
+   * only the hashes of tables in schemas that have changed.
+   *
+   * @param other Digest of the other catalog
+   * @return Lookup keys of the tables that are different
+   */
+  public Collection<NamedObjectKey> changedTables(final CatalogDigest other) {
+    requireNonNull(other, "No catalog digest provided");
+    if (isUnchanged(other)) {
+      return Collections.emptyList();
+    }
+
+    final Collection<NamedObjectKey> changedTables = new ArrayList<>();
+    final Set<NamedObjectKey> schemaKeys = new HashSet<>(schemaDigests.keySet());
+    schemaKeys.addAll(other.schemaDigests.keySet());
+    for (final NamedObjectKey schemaKey : schemaKeys) {
+      final SchemaDigest schemaDigest = schemaDigests.get(schemaKey);
+      final SchemaDigest otherSchemaDigest = other.schemaDigests.get(schemaKey);
+      if (schemaDigest != null
+          && otherSchemaDigest != null
+          && Arrays.equals(schemaDigest.digest, otherSchemaDigest.digest)) {
+        continue;
+      }
+
+      final Map<String, byte[]> tableDigests =
+          schemaDigest == null ? Collections.emptyMap() : schemaDigest.tableDigests;
+      final Map<String, byte[]> otherTableDigests =
+          otherSchemaDigest == null ? Collections.emptyMap() : otherSchemaDigest.tableDigests;
+      for (final Entry<String, byte[]> tableDigest : tableDigests.entrySet()) {
+        final String tableName = tableDigest.getKey();
+        if (!Arrays.equals(tableDigest.getValue(), otherTableDigests.get(tableName))) {
+          changedTables.add(schemaKey.with(tableName));
+        }
+      }
+      for (final String tableName : otherTableDigests.keySet()) {
+        if (!tableDigests.containsKey(tableName)) {
+          changedTables.add(schemaKey.with(tableName));
+        }
+      }
+    }
+    return changedTables;
+  }
+
+  /**
+   * Whether nothing in the other catalog has changed.
+   *
+   * @param other Digest of the other catalog
+   * @return True if the catalog hashes are the same
+   */
+  public boolean isUnchanged(final CatalogDigest other) {
+    requireNonNull(other, "No catalog digest provided");
+    return Arrays.equals(digest, other.digest);
+  }
+
+  /**
+   * Whether nothing in a schema has changed in the other catalog.
+   *
+   * @param other Digest of the other catalog
+   * @param schema Schema to check
+   * @return True if the schema is in both catalogs, and the schema hashes are the same
+   */
+  public boolean isUnchanged(final CatalogDigest other, final Schema schema) {
+    requireNonNull(other, "No catalog digest provided");
+    requireNonNull(schema, "No schema provided");
+    final SchemaDigest schemaDigest = schemaDigests.get(schema.key());
+    final SchemaDigest otherSchemaDigest = other.schemaDigests.get(schema.key());
+    return schemaDigest != null
+        && otherSchemaDigest != null
+        && Arrays.equals(schemaDigest.digest, otherSchemaDigest.digest);
+  }
+
+  /**
+   * Whether a table, including its columns, keys, indexes, constraints and triggers, has changed
+   * in the other catalog.
+   *
+   * @param other Digest of the other catalog
+   * @param table Table to check
+   * @return True if the table is in both catalogs, and the table hashes are the same
+   */
+  public boolean isUnchanged(final CatalogDigest other, final Table table) {
+    requireNonNull(other, "No catalog digest provided");
+    requireNonNull(table, "No table provided");
+    if (isUnchanged(other, table.getSchema())) {
+      return schemaDigests.get(table.getSchema().key()).tableDigests.containsKey(table.getName());
+    }
+    final SchemaDigest schemaDigest = schemaDigests.get(table.getSchema().key());
+    final SchemaDigest otherSchemaDigest = other.schemaDigests.get(table.getSchema().key());
+    if (schemaDigest == null || otherSchemaDigest == null) {
+      return false;
+    }
+    final byte[] tableDigest = schemaDigest.tableDigests.get(table.getName());
+    return tableDigest != null
+        && Arrays.equals(tableDigest, otherSchemaDigest.tableDigests.get(table.getName()));
+  }
+
+  /** Hex encoded hash of the catalog. */
+  @Override
+  public String toString() {
+    final StringBuilder buffer = new StringBuilder(digest.length * 2);
+    for (final byte digestByte : digest) {
+      buffer.append(String.format("%02x", digestByte));
+    }
+    return buffer.toString();
+  }
+
+  void addSchemaDigest(
+      final String catalogName,
+      final String schemaName,
+      final byte[] schemaDigest,
+      final Map<String, byte[]> tableDigests) {
+    schemaDigests.put(
+        new NamedObjectKey(catalogName, schemaName),
+        new SchemaDigest(catalogName, schemaName, schemaDigest, tableDigests));
+  }
+
+  void write(final CatalogSnapshotOutput out) {
+    out.writeByteArray(digest);
+    out.writeInt(schemaDigests.size());
+    for (final SchemaDigest schemaDigest : schemaDigests.values()) {
+      out.writeString(schemaDigest.catalogName);
+      out.writeString(schemaDigest.schemaName);
+      out.writeByteArray(schemaDigest.digest);
+      out.writeInt(schemaDigest.tableDigests.size());
+      for (final Entry<String, byte[]> tableDigest : schemaDigest.tableDigests.entrySet()) {
+        out.writeString(tableDigest.getKey());
+        out.writeByteArray(tableDigest.getValue());
+      }
+    }
+  }
+}
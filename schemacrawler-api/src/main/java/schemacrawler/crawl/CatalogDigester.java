@@ -0,0 +1,330 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparing;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import schemacrawler.schema.BaseColumn;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableConstraintColumn;
+import schemacrawler.schema.Trigger;
+
+/**
+ * Computes catalog digests bottom-up. There is one hasher for each level of the tree, so the hash
+ * of a child is finished before it is added to the hash of its parent.
+ */
+final class CatalogDigester {
+
+  private static final class Hasher {
+
+    private final MessageDigest messageDigest;
+
+    Hasher() {
+      try {
+        messageDigest = MessageDigest.getInstance("SHA-256");
+      } catch (final NoSuchAlgorithmException e) {
+        // Every Java platform is required to support SHA-256
+        throw new IllegalStateException(e);
+      }
+    }
+
+    byte[] finish() {
+      return Arrays.copyOf(messageDigest.digest(), DIGEST_LENGTH);
+    }
+
+    Hasher put(final Object value) {
+      if (value == null) {
+        putLength(-1);
+      } else {
+        final byte[] bytes = String.valueOf(value).getBytes(UTF_8);
+        putLength(bytes.length);
+        messageDigest.update(bytes);
+      }
+      return this;
+    }
+
+    Hasher putDigest(final byte[] digest) {
+      messageDigest.update(digest);
+      return this;
+    }
+
+    private void putLength(final int length) {
+      messageDigest.update((byte) (length >>> 24));
+      messageDigest.update((byte) (length >>> 16));
+      messageDigest.update((byte) (length >>> 8));
+      messageDigest.update((byte) length);
+    }
+  }
+
+  static final int DIGEST_LENGTH = 16;
+
+  private static <D extends DatabaseObject> Map<NamedObjectKey, List<D>> bySchema(
+      final Collection<D> databaseObjects) {
+    final Map<NamedObjectKey, List<D>> databaseObjectsBySchema = new HashMap<>();
+    for (final D databaseObject : databaseObjects) {
+      databaseObjectsBySchema
+          .computeIfAbsent(databaseObject.getSchema().key(), key -> new ArrayList<>())
+          .add(databaseObject);
+    }
+    for (final List<D> schemaObjects : databaseObjectsBySchema.values()) {
+      schemaObjects.sort(comparing(NamedObject::key));
+    }
+    return databaseObjectsBySchema;
+  }
+
+  private static <N extends NamedObject> List<N> sortedByKey(
+      final Collection<? extends N> namedObjects) {
+    final List<N> sortedObjects = new ArrayList<>(namedObjects);
+    sortedObjects.sort(comparing(NamedObject::key));
+    return sortedObjects;
+  }
+
+  private final Hasher catalogHasher = new Hasher();
+  private final Hasher schemaHasher = new Hasher();
+  private final Hasher objectHasher = new Hasher();
+  private final Hasher dependentHasher = new Hasher();
+
+  CatalogDigest digest(final Catalog catalog) {
+    final Map<NamedObjectKey, List<Table>> tables = bySchema(catalog.getTables());
+    final Map<NamedObjectKey, List<Routine>> routines = bySchema(catalog.getRoutines());
+    final Map<NamedObjectKey, List<Sequence>> sequences = bySchema(catalog.getSequences());
+    final Map<NamedObjectKey, List<Synonym>> synonyms = bySchema(catalog.getSynonyms());
+
+    final List<Schema> schemas = sortedByKey(catalog.getSchemas());
+    final List<byte[]> schemaDigests = new ArrayList<>();
+    final List<Map<String, byte[]>> schemaTableDigests = new ArrayList<>();
+    for (final Schema schema : schemas) {
+      final NamedObjectKey schemaKey = schema.key();
+      schemaHasher.put(schema.getFullName());
+
+      final Map<String, byte[]> tableDigests = new LinkedHashMap<>();
+      for (final Table table : tables.getOrDefault(schemaKey, Collections.emptyList())) {
+        final byte[] tableDigest = digestTable(table);
+        tableDigests.put(table.getName(), tableDigest);
+        schemaHasher.put(table.getName()).putDigest(tableDigest);
+      }
+      for (final Routine routine : routines.getOrDefault(schemaKey, Collections.emptyList())) {
+        schemaHasher.putDigest(digestRoutine(routine));
+      }
+      for (final Sequence sequence : sequences.getOrDefault(schemaKey, Collections.emptyList())) {
+        schemaHasher.putDigest(
+            objectHasher
+                .put(sequence.getName())
+                .put(sequence.getStartValue())
+                .put(sequence.getIncrement())
+                .put(sequence.getMinimumValue())
+                .put(sequence.getMaximumValue())
+                .put(sequence.isCycle())
+                .put(sequence.getRemarks())
+                .finish());
+      }
+      for (final Synonym synonym : synonyms.getOrDefault(schemaKey, Collections.emptyList())) {
+        schemaHasher.putDigest(
+            objectHasher
+                .put(synonym.getName())
+                .put(synonym.getReferencedObject().getFullName())
+                .put(synonym.getRemarks())
+                .finish());
+      }
+
+      final byte[] schemaDigest = schemaHasher.finish();
+      schemaDigests.add(schemaDigest);
+      schemaTableDigests.add(tableDigests);
+      catalogHasher.put(schema.getFullName()).putDigest(schemaDigest);
+    }
+
+    for (final ColumnDataType columnDataType : sortedByKey(catalog.getColumnDataTypes())) {
+      catalogHasher.putDigest(digestColumnDataType(columnDataType));
+    }
+    catalogHasher.put(null);
+    for (final ColumnDataType columnDataType :
+        sortedByKey(catalog.getSystemColumnDataTypes())) {
+      catalogHasher.putDigest(digestColumnDataType(columnDataType));
+    }
+
+    final CatalogDigest catalogDigest = new CatalogDigest(catalogHasher.finish());
+    for (int i = 0; i < schemas.size(); i++) {
+      final Schema schema = schemas.get(i);
+      catalogDigest.addSchemaDigest(
+          schema.getCatalogName(), schema.getName(), schemaDigests.get(i), schemaTableDigests.get(i));
+    }
+    return catalogDigest;
+  }
+
+  private Hasher putBaseColumn(final Hasher hasher, final BaseColumn<?> column) {
+    final ColumnDataType columnDataType = column.getColumnDataType();
+    return hasher
+        .put(column.getName())
+        .put(columnDataType == null ? null : columnDataType.getDatabaseSpecificTypeName())
+        .put(column.getSize())
+        .put(column.getDecimalDigits())
+        .put(column.isNullable())
+        .put(column.getOrdinalPosition())
+        .put(column.getRemarks());
+  }
+
+  private byte[] digestColumnDataType(final ColumnDataType columnDataType) {
+    return objectHasher
+        .put(columnDataType.getFullName())
+        .put(columnDataType.getDatabaseSpecificTypeName())
+        .put(columnDataType.getJavaSqlType())
+        .put(columnDataType.getPrecision())
+        .put(columnDataType.getBaseType())
+        .put(columnDataType.getEnumValues())
+        .finish();
+  }
+
+  private byte[] digestRoutine(final Routine routine) {
+    objectHasher
+        .put(routine.getName())
+        .put(routine.getSpecificName())
+        .put(routine.getRoutineType())
+        .put(routine.getReturnType())
+        .put(routine.getRoutineBodyType())
+        .put(routine.getDefinition())
+        .put(routine.getRemarks());
+    for (final RoutineParameter<?> parameter : routine.getParameters()) {
+      objectHasher.putDigest(
+          putBaseColumn(dependentHasher, parameter).put(parameter.getParameterMode()).finish());
+    }
+    return objectHasher.finish();
+  }
+
+  private byte[] digestTable(final Table table) {
+    objectHasher
+        .put(table.getTableType())
+        .put(table.getDefinition())
+        .put(table.getRemarks());
+
+    for (final Column column : sortedByKey(table.getColumns())) {
+      objectHasher.putDigest(
+          putBaseColumn(dependentHasher, column)
+              .put(column.getDefaultValue())
+              .put(column.isAutoIncremented())
+              .put(column.isGenerated())
+              .put(column.isHidden())
+              .finish());
+    }
+
+    final PrimaryKey primaryKey = table.getPrimaryKey();
+    if (primaryKey != null) {
+      putTableConstraintColumns(dependentHasher.put(primaryKey.getName()), primaryKey);
+      objectHasher.putDigest(dependentHasher.put(primaryKey.getDefinition()).finish());
+    }
+
+    for (final Index index : sortedByKey(table.getIndexes())) {
+      dependentHasher.put(index.getName());
+      for (final IndexColumn indexColumn : index.getColumns()) {
+        dependentHasher.put(indexColumn.getName()).put(indexColumn.getSortSequence());
+      }
+      objectHasher.putDigest(
+          dependentHasher
+              .put(index.isUnique())
+              .put(index.getIndexType())
+              .put(index.getDefinition())
+              .finish());
+    }
+
+    for (final ForeignKey foreignKey : sortedByKey(table.getImportedForeignKeys())) {
+      dependentHasher.put(foreignKey.getName()).put(foreignKey.getSpecificName());
+      for (final ColumnReference columnReference : foreignKey.getColumnReferences()) {
+        dependentHasher
+            .put(columnReference.getForeignKeyColumn().getFullName())
+            .put(columnReference.getPrimaryKeyColumn().getFullName());
+      }
+      objectHasher.putDigest(
+          dependentHasher
+              .put(foreignKey.getUpdateRule())
+              .put(foreignKey.getDeleteRule())
+              .put(foreignKey.getDeferrability())
+              .finish());
+    }
+
+    for (final TableConstraint tableConstraint : sortedByKey(table.getTableConstraints())) {
+      if (tableConstraint instanceof PrimaryKey || tableConstraint instanceof ForeignKey) {
+        continue;
+      }
+      putTableConstraintColumns(
+          dependentHasher.put(tableConstraint.getName()).put(tableConstraint.getType()),
+          tableConstraint);
+      objectHasher.putDigest(dependentHasher.put(tableConstraint.getDefinition()).finish());
+    }
+
+    for (final Trigger trigger : sortedByKey(table.getTriggers())) {
+      objectHasher.putDigest(
+          dependentHasher
+              .put(trigger.getName())
+              .put(trigger.getEventManipulationType())
+              .put(trigger.getConditionTiming())
+              .put(trigger.getActionOrientation())
+              .put(trigger.getActionOrder())
+              .put(trigger.getActionCondition())
+              .put(trigger.getActionStatement())
+              .finish());
+    }
+
+    return objectHasher.finish();
+  }
+
+  private void putTableConstraintColumns(
+      final Hasher hasher, final TableConstraint tableConstraint) {
+    for (final TableConstraintColumn column : tableConstraint.getConstrainedColumns()) {
+      hasher.put(column.getName());
+    }
+  }
+}
@@ -0,0 +1,297 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static schemacrawler.crawl.CatalogSnapshotOutput.VALUE_BIG_DECIMAL;
+import static schemacrawler.crawl.CatalogSnapshotOutput.VALUE_BIG_INTEGER;
+import static schemacrawler.crawl.CatalogSnapshotOutput.VALUE_BOOLEAN;
+import static schemacrawler.crawl.CatalogSnapshotOutput.VALUE_BYTE;
+import static schemacrawler.crawl.CatalogSnapshotOutput.VALUE_DOUBLE;
+import static schemacrawler.crawl.CatalogSnapshotOutput.VALUE_FLOAT;
+import static schemacrawler.crawl.CatalogSnapshotOutput.VALUE_INTEGER;
+import static schemacrawler.crawl.CatalogSnapshotOutput.VALUE_LIST;
+import static schemacrawler.crawl.CatalogSnapshotOutput.VALUE_LONG;
+import static schemacrawler.crawl.CatalogSnapshotOutput.VALUE_NULL;
+import static schemacrawler.crawl.CatalogSnapshotOutput.VALUE_SERIALIZED;
+import static schemacrawler.crawl.CatalogSnapshotOutput.VALUE_SHORT;
+import static schemacrawler.crawl.CatalogSnapshotOutput.VALUE_STRING;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes the body of a catalog snapshot. A snapshot stream is read in chunks, so that the catalog
+ * can be built while the snapshot is still being read. A snapshot that is held in a buffer, such
+ * as a memory-mapped file, can be read from any position, and strings are only decoded when they
+ * are first read.
+ */
+final class CatalogSnapshotInput {
+
+  private final InputStream in;
+  private final ByteBuffer buffer;
+  private String[] strings;
+  private int[] stringOffsets;
+  private int bodyStart;
+
+  CatalogSnapshotInput(final ByteBuffer buffer) {
+    in = null;
+    this.buffer = buffer;
+  }
+
+  CatalogSnapshotInput(final InputStream in) {
+    this.in = in;
+    buffer = ByteBuffer.allocate(64 * 1024);
+    buffer.limit(0);
+  }
+
+  /**
+   * Position in the body of a snapshot held in a buffer.
+   *
+   * @return Offset from the start of the body
+   */
+  int position() {
+    return buffer.position() - bodyStart;
+  }
+
+  boolean readBoolean() throws IOException {
+    return readByte() != 0;
+  }
+
+  byte[] readByteArray() throws IOException {
+    return readBytes(readLength());
+  }
+
+  <E extends Enum<E>> E readEnum(final Class<E> enumClass) throws IOException {
+    final String name = readString();
+    if (name == null) {
+      return null;
+    }
+    try {
+      return Enum.valueOf(enumClass, name);
+    } catch (final IllegalArgumentException e) {
+      throw new IOException(
+          String.format("Unknown value <%s> for %s", name, enumClass.getSimpleName()), e);
+    }
+  }
+
+  /**
+   * Reads a fixed length integer, which is used where the value is only known after the rest of
+   * the body is written.
+   *
+   * @return Integer value
+   * @throws IOException On an exception reading the snapshot
+   */
+  int readFixedInt() throws IOException {
+    int value = 0;
+    for (int i = 0; i < 4; i++) {
+      value = value << 8 | readByte();
+    }
+    return value;
+  }
+
+  int readInt() throws IOException {
+    final int value = (int) readUnsignedLong();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  long readLong() throws IOException {
+    final long value = readUnsignedLong();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  String readString() throws IOException {
+    final long stringId = readUnsignedLong();
+    if (stringId < 0 || stringId >= strings.length) {
+      throw new IOException("Bad string reference in catalog snapshot");
+    }
+    final int id = (int) stringId;
+    if (strings[id] == null && stringOffsets != null && id > 0) {
+      final int position = buffer.position();
+      buffer.position(stringOffsets[id]);
+      strings[id] = new String(readBytes(readLength()), UTF_8);
+      buffer.position(position);
+    }
+    return strings[id];
+  }
+
+  /**
+   * Reads the string table, which precedes the body of the snapshot. Strings in a snapshot held in
+   * a buffer are only located, and not decoded.
+   *
+   * @return Length of the body
+   * @throws IOException On an exception reading the stream
+   */
+  int readStrings() throws IOException {
+    final int count = readLength();
+    strings = new String[count];
+    if (in == null) {
+      stringOffsets = new int[count];
+      for (int i = 1; i < count; i++) {
+        stringOffsets[i] = buffer.position();
+        skip(readLength());
+      }
+    } else {
+      for (int i = 1; i < count; i++) {
+        strings[i] = new String(readBytes(readLength()), UTF_8);
+      }
+    }
+    final int bodyLength = readLength();
+    bodyStart = buffer.position();
+    return bodyLength;
+  }
+
+  Object readValue() throws IOException {
+    final int type = readByte();
+    switch (type) {
+      case VALUE_NULL:
+        return null;
+      case VALUE_STRING:
+        return readString();
+      case VALUE_BOOLEAN:
+        return readBoolean();
+      case VALUE_INTEGER:
+        return readInt();
+      case VALUE_LONG:
+        return readLong();
+      case VALUE_SHORT:
+        return (short) readInt();
+      case VALUE_BYTE:
+        return (byte) readInt();
+      case VALUE_DOUBLE:
+        return Double.longBitsToDouble(readLong());
+      case VALUE_FLOAT:
+        return Float.intBitsToFloat(readInt());
+      case VALUE_BIG_DECIMAL:
+        return new BigDecimal(readString());
+      case VALUE_BIG_INTEGER:
+        return new BigInteger(readString());
+      case VALUE_LIST:
+        final int size = readInt();
+        final List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          list.add(readValue());
+        }
+        return list;
+      case VALUE_SERIALIZED:
+        final byte[] bytes = readBytes(readLength());
+        try (final ObjectInputStream objIn =
+            new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+          return objIn.readObject();
+        } catch (final ClassNotFoundException e) {
+          throw new IOException("Cannot read attribute value", e);
+        }
+      default:
+        throw new IOException(String.format("Unknown value type <%d>", type));
+    }
+  }
+
+  /**
+   * Moves to a position in the body of a snapshot held in a buffer.
+   *
+   * @param position Offset from the start of the body
+   * @throws IOException If the position is outside the snapshot
+   */
+  void seek(final int position) throws IOException {
+    if (position < 0 || bodyStart + position > buffer.limit()) {
+      throw new IOException("Bad position in catalog snapshot");
+    }
+    buffer.position(bodyStart + position);
+  }
+
+  void skipString() throws IOException {
+    readUnsignedLong();
+  }
+
+  private void fill() throws IOException {
+    buffer.clear();
+    final int count = in == null ? -1 : in.read(buffer.array(), 0, buffer.capacity());
+    if (count <= 0) {
+      buffer.limit(0);
+      throw new EOFException("Unexpected end of catalog snapshot");
+    }
+    buffer.limit(count);
+  }
+
+  private int readByte() throws IOException {
+    if (!buffer.hasRemaining()) {
+      fill();
+    }
+    return buffer.get() & 0xFF;
+  }
+
+  private byte[] readBytes(final int count) throws IOException {
+    final byte[] bytes = new byte[count];
+    int offset = 0;
+    while (offset < count) {
+      if (!buffer.hasRemaining()) {
+        fill();
+      }
+      final int chunk = Math.min(count - offset, buffer.remaining());
+      buffer.get(bytes, offset, chunk);
+      offset = offset + chunk;
+    }
+    return bytes;
+  }
+
+  private int readLength() throws IOException {
+    final long length = readUnsignedLong();
+    if (length < 0 || length > Integer.MAX_VALUE) {
+      throw new IOException("Bad length in catalog snapshot");
+    }
+    return (int) length;
+  }
+
+  private long readUnsignedLong() throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift = shift + 7) {
+      final int b = readByte();
+      value = value | (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Bad number in catalog snapshot");
+  }
+
+  private void skip(final int count) throws IOException {
+    if (count > buffer.remaining()) {
+      throw new EOFException("Unexpected end of catalog snapshot");
+    }
+    buffer.position(buffer.position() + count);
+  }
+}
@@ -0,0 +1,237 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the body of a catalog snapshot. Integers are written as variable length, zig-zag
+ * encoded values, and every string is written once into a string table, and referred to by its
+ * position in the table everywhere else.
+ */
+final class CatalogSnapshotOutput {
+
+  static final int VALUE_NULL = 0;
+  static final int VALUE_STRING = 1;
+  static final int VALUE_BOOLEAN = 2;
+  static final int VALUE_INTEGER = 3;
+  static final int VALUE_LONG = 4;
+  static final int VALUE_SHORT = 5;
+  static final int VALUE_BYTE = 6;
+  static final int VALUE_DOUBLE = 7;
+  static final int VALUE_FLOAT = 8;
+  static final int VALUE_BIG_DECIMAL = 9;
+  static final int VALUE_BIG_INTEGER = 10;
+  static final int VALUE_LIST = 11;
+  static final int VALUE_SERIALIZED = 12;
+
+  private final Map<String, Integer> stringIds;
+  private final List<String> strings;
+  private byte[] buffer;
+  private int length;
+
+  CatalogSnapshotOutput() {
+    stringIds = new HashMap<>();
+    strings = new ArrayList<>();
+    // String id 0 is reserved for null
+    strings.add(null);
+    buffer = new byte[64 * 1024];
+  }
+
+  /**
+   * Position in the body, which is where the next value will be written.
+   *
+   * @return Offset from the start of the body
+   */
+  int position() {
+    return length;
+  }
+
+  void writeBoolean(final boolean value) {
+    writeByte(value ? 1 : 0);
+  }
+
+  void writeByteArray(final byte[] value) {
+    writeUnsignedLong(value.length);
+    writeBytes(value);
+  }
+
+  void writeEnum(final Enum<?> value) {
+    writeString(value == null ? null : value.name());
+  }
+
+  void writeFixedInt(final int value) {
+    ensureCapacity(4);
+    for (int shift = 24; shift >= 0; shift = shift - 8) {
+      buffer[length++] = (byte) (value >>> shift);
+    }
+  }
+
+  void writeInt(final int value) {
+    writeUnsignedLong(((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+  }
+
+  void writeLong(final long value) {
+    writeUnsignedLong((value << 1) ^ (value >> 63));
+  }
+
+  void writeString(final String value) {
+    if (value == null) {
+      writeUnsignedLong(0);
+      return;
+    }
+    Integer stringId = stringIds.get(value);
+    if (stringId == null) {
+      stringId = strings.size();
+      strings.add(value);
+      stringIds.put(value, stringId);
+    }
+    writeUnsignedLong(stringId);
+  }
+
+  /**
+   * Writes the string table, followed by the body, to the output stream.
+   *
+   * @param out Output stream
+   * @throws IOException On an exception writing the stream
+   */
+  void writeTo(final OutputStream out) throws IOException {
+    final CatalogSnapshotOutput header = new CatalogSnapshotOutput();
+    header.writeUnsignedLong(strings.size());
+    for (int i = 1; i < strings.size(); i++) {
+      final byte[] bytes = strings.get(i).getBytes(UTF_8);
+      header.writeUnsignedLong(bytes.length);
+      header.writeBytes(bytes);
+    }
+    header.writeUnsignedLong(length);
+    out.write(header.buffer, 0, header.length);
+    out.write(buffer, 0, length);
+  }
+
+  /**
+   * Writes an attribute value, tagged with its type. Values of unknown types are written with
+   * Java serialization if possible, or else as strings.
+   *
+   * @param value Attribute value
+   * @throws IOException On an exception serializing a value
+   */
+  void writeValue(final Object value) throws IOException {
+    if (value == null) {
+      writeByte(VALUE_NULL);
+    } else if (value instanceof String) {
+      writeByte(VALUE_STRING);
+      writeString((String) value);
+    } else if (value instanceof Boolean) {
+      writeByte(VALUE_BOOLEAN);
+      writeBoolean((Boolean) value);
+    } else if (value instanceof Integer) {
+      writeByte(VALUE_INTEGER);
+      writeInt((Integer) value);
+    } else if (value instanceof Long) {
+      writeByte(VALUE_LONG);
+      writeLong((Long) value);
+    } else if (value instanceof Short) {
+      writeByte(VALUE_SHORT);
+      writeInt((Short) value);
+    } else if (value instanceof Byte) {
+      writeByte(VALUE_BYTE);
+      writeInt((Byte) value);
+    } else if (value instanceof Double) {
+      writeByte(VALUE_DOUBLE);
+      writeLong(Double.doubleToLongBits((Double) value));
+    } else if (value instanceof Float) {
+      writeByte(VALUE_FLOAT);
+      writeInt(Float.floatToIntBits((Float) value));
+    } else if (value instanceof BigDecimal) {
+      writeByte(VALUE_BIG_DECIMAL);
+      writeString(value.toString());
+    } else if (value instanceof BigInteger) {
+      writeByte(VALUE_BIG_INTEGER);
+      writeString(value.toString());
+    } else if (value instanceof List) {
+      final List<?> list = (List<?>) value;
+      writeByte(VALUE_LIST);
+      writeInt(list.size());
+      for (final Object element : list) {
+        writeValue(element);
+      }
+    } else if (value instanceof Serializable) {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+        out.writeObject(value);
+      }
+      writeByte(VALUE_SERIALIZED);
+      writeUnsignedLong(bytes.size());
+      writeBytes(bytes.toByteArray());
+    } else {
+      writeByte(VALUE_STRING);
+      writeString(value.toString());
+    }
+  }
+
+  private void ensureCapacity(final int additional) {
+    if (length + additional > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+    }
+  }
+
+  private void writeByte(final int value) {
+    ensureCapacity(1);
+    buffer[length++] = (byte) value;
+  }
+
+  private void writeBytes(final byte[] bytes) {
+    ensureCapacity(bytes.length);
+    System.arraycopy(bytes, 0, buffer, length, bytes.length);
+    length = length + bytes.length;
+  }
+
+  private void writeUnsignedLong(final long value) {
+    ensureCapacity(10);
+    long remaining = value;
+    while ((remaining & ~0x7FL) != 0) {
+      buffer[length++] = (byte) (remaining & 0x7F | 0x80);
+      remaining = remaining >>> 7;
+    }
+    buffer[length++] = (byte) remaining;
+  }
+}
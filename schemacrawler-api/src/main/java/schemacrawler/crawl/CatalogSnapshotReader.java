@@ -0,0 +1,1175 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.CatalogSnapshotWriter.CONSTRAINT_ALTERNATE_KEY;
+import static schemacrawler.crawl.CatalogSnapshotWriter.CONSTRAINT_FOREIGN_KEY;
+import static schemacrawler.crawl.CatalogSnapshotWriter.CONSTRAINT_OWN;
+import static schemacrawler.crawl.CatalogSnapshotWriter.CONSTRAINT_PRIMARY_KEY;
+import static schemacrawler.crawl.CatalogSnapshotWriter.FLAG_COMPRESSED;
+import static schemacrawler.crawl.CatalogSnapshotWriter.FLAG_DIGESTED;
+import static schemacrawler.crawl.CatalogSnapshotWriter.FLAG_INDEXED;
+import static schemacrawler.crawl.CatalogSnapshotWriter.FORMAT_VERSION;
+import static schemacrawler.crawl.CatalogSnapshotWriter.MAGIC;
+import static schemacrawler.crawl.CatalogSnapshotWriter.REFERENCE_ROUTINE;
+import static schemacrawler.crawl.CatalogSnapshotWriter.REFERENCE_TABLE;
+import static schemacrawler.crawl.CatalogSnapshotWriter.REFERENCE_UNKNOWN;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.DriverPropertyInfo;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import schemacrawler.BaseProductVersion;
+import schemacrawler.ProductVersion;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.schema.ActionOrientationType;
+import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CheckOptionType;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ConditionTimingType;
+import schemacrawler.schema.DataTypeType;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.DescribedObject;
+import schemacrawler.schema.EventManipulationType;
+import schemacrawler.schema.ForeignKeyDeferrability;
+import schemacrawler.schema.ForeignKeyUpdateRule;
+import schemacrawler.schema.FunctionReturnType;
+import schemacrawler.schema.IndexColumnSortSequence;
+import schemacrawler.schema.IndexType;
+import schemacrawler.schema.ParameterModeType;
+import schemacrawler.schema.ProcedureReturnType;
+import schemacrawler.schema.RoutineBodyType;
+import schemacrawler.schema.SearchableType;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableConstraintType;
+import schemacrawler.schema.TableType;
+import schemacrawler.schema.TableTypes;
+import schemacrawler.schemacrawler.FilterOptions;
+import schemacrawler.schemacrawler.Identifiers;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.utility.JavaSqlTypes;
+
+/**
+ * Reads a catalog from a binary snapshot written by {@link CatalogSnapshotWriter}. The snapshot is
+ * read as a stream, and objects are created as their records are read, with references resolved
+ * by id.
+ *
+ * <p>An indexed snapshot file is memory-mapped, and only the tables that are selected are read
+ * from it. Columns and tables that are referred to from the selected tables, but are not selected
+ * themselves, are read as partial objects, in the same way as they are when a database is crawled
+ * with the same options.
+ */
+public final class CatalogSnapshotReader {
+
+  private static final int HEADER_LENGTH = MAGIC.length + 2;
+
+  /**
+   * Checks if the stream starts with a catalog snapshot header. The stream needs to support mark
+   * and reset, and is reset to where it was before the check.
+   *
+   * @param inputStream Input stream
+   * @return True if the stream has a catalog snapshot
+   * @throws IOException On an exception reading the stream
+   */
+  public static boolean isCatalogSnapshot(final InputStream inputStream) throws IOException {
+    requireNonNull(inputStream, "No input stream provided");
+    if (!inputStream.markSupported()) {
+      throw new IllegalArgumentException("Input stream does not support mark");
+    }
+    inputStream.mark(MAGIC.length);
+    try {
+      for (final byte magicByte : MAGIC) {
+        if (inputStream.read() != magicByte) {
+          return false;
+        }
+      }
+      return true;
+    } finally {
+      inputStream.reset();
+    }
+  }
+
+  private static Optional<CatalogDigest> readDigest(final InputStream inputStream)
+      throws IOException {
+    final int flags = readHeader(inputStream);
+    if ((flags & FLAG_DIGESTED) == 0) {
+      return Optional.empty();
+    }
+    final CatalogSnapshotInput digestIn =
+        new CatalogSnapshotInput(ByteBuffer.wrap(readDigestBlock(inputStream)));
+    digestIn.readStrings();
+    return Optional.of(CatalogDigest.read(digestIn));
+  }
+
+  private static byte[] readDigestBlock(final InputStream inputStream) throws IOException {
+    final DataInputStream dataInputStream = new DataInputStream(inputStream);
+    final int length = dataInputStream.readInt();
+    if (length < 0) {
+      throw new IOException("Bad length in catalog snapshot");
+    }
+    final byte[] digestBlock = new byte[length];
+    dataInputStream.readFully(digestBlock);
+    return digestBlock;
+  }
+
+  private static int readHeader(final InputStream inputStream) throws IOException {
+    final byte[] header = new byte[HEADER_LENGTH];
+    int offset = 0;
+    while (offset < header.length) {
+      final int count = inputStream.read(header, offset, header.length - offset);
+      if (count < 0) {
+        throw new EOFException("Not a catalog snapshot");
+      }
+      offset = offset + count;
+    }
+    for (int i = 0; i < MAGIC.length; i++) {
+      if (header[i] != MAGIC[i]) {
+        throw new IOException("Not a catalog snapshot");
+      }
+    }
+    final int formatVersion = header[MAGIC.length];
+    if (formatVersion != FORMAT_VERSION) {
+      throw new IOException(
+          String.format("Unsupported catalog snapshot format version <%d>", formatVersion));
+    }
+    return header[MAGIC.length + 1];
+  }
+
+  private static byte[] readRemaining(final InputStream inputStream) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+    final byte[] buffer = new byte[64 * 1024];
+    int count;
+    while ((count = inputStream.read(buffer)) != -1) {
+      bytes.write(buffer, 0, count);
+    }
+    return bytes.toByteArray();
+  }
+
+  private final InputStream inputStream;
+  private final Path snapshotFile;
+  private SchemaCrawlerOptions schemaCrawlerOptions;
+
+  private CatalogSnapshotInput in;
+  private MutableCatalog catalog;
+  private SchemaReference[] schemas;
+  private MutableColumnDataType[] columnDataTypes;
+  private final List<Table> tables = new ArrayList<>();
+  private final List<Column> columns = new ArrayList<>();
+  private final Map<Integer, List<MutablePrimaryKey>> alternateKeys = new HashMap<>();
+  private final Map<Integer, List<MutableTableConstraint>> ownTableConstraints = new HashMap<>();
+  private MutableForeignKey[] foreignKeys;
+  private MutableWeakAssociation[] weakAssociations;
+  private MutableRoutine[] routines;
+  private int catalogTableCount;
+  private int catalogColumnCount;
+
+  // Index of an indexed snapshot
+  private int[] tableSchemaIds;
+  private String[] tableNames;
+  private int[] tablePositions;
+  private int[] firstColumnIds;
+  private int[] foreignKeyPositions;
+  private int[] weakAssociationPositions;
+
+  public CatalogSnapshotReader(final InputStream inputStream) {
+    this.inputStream = requireNonNull(inputStream, "No input stream provided");
+    snapshotFile = null;
+  }
+
+  public CatalogSnapshotReader(final Path snapshotFile) {
+    this.snapshotFile = requireNonNull(snapshotFile, "No catalog snapshot file provided");
+    inputStream = null;
+  }
+
+  /**
+   * Reads the catalog snapshot. An input stream is not closed. A snapshot file is memory-mapped if
+   * it is indexed.
+   *
+   * @return Catalog
+   * @throws IOException On an exception reading the snapshot, or if it is not a valid snapshot
+   */
+  public Catalog read() throws IOException {
+    if (snapshotFile == null) {
+      final int flags = readHeader(inputStream);
+      if ((flags & FLAG_DIGESTED) != 0) {
+        readDigestBlock(inputStream);
+      }
+      if ((flags & FLAG_INDEXED) != 0) {
+        readIndexed(ByteBuffer.wrap(readRemaining(inputStream)));
+      } else {
+        readStreamed(inputStream, flags);
+      }
+    } else {
+      try (final FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+        final InputStream fileStream = Channels.newInputStream(channel);
+        final int flags = readHeader(fileStream);
+        long bodyStart = HEADER_LENGTH;
+        if ((flags & FLAG_DIGESTED) != 0) {
+          bodyStart = bodyStart + 4 + readDigestBlock(fileStream).length;
+        }
+        if ((flags & FLAG_INDEXED) != 0) {
+          final long size = channel.size();
+          if (size > Integer.MAX_VALUE) {
+            throw new IOException("Catalog snapshot is too large to be mapped");
+          }
+          readIndexed(channel.map(MapMode.READ_ONLY, bodyStart, size - bodyStart));
+        } else {
+          readStreamed(fileStream, flags);
+        }
+      }
+    }
+
+    final Catalog readCatalog = catalog;
+    catalog = null;
+    in = null;
+    return readCatalog;
+  }
+
+  /**
+   * Reads only the catalog digest, if one was written with the snapshot. The rest of the snapshot
+   * is not read. An input stream is not closed.
+   *
+   * @return Catalog digest, or empty if the snapshot does not have one
+   * @throws IOException On an exception reading the snapshot, or if it is not a valid snapshot
+   */
+  public Optional<CatalogDigest> readDigest() throws IOException {
+    if (snapshotFile == null) {
+      return readDigest(inputStream);
+    }
+    try (final InputStream fileStream = Files.newInputStream(snapshotFile)) {
+      return readDigest(fileStream);
+    }
+  }
+
+  /**
+   * Selects the tables to read from an indexed snapshot, with the schema and table inclusion
+   * rules, and the table types of the limit options. All tables are read if related tables are to
+   * be included by the filter options. Other options, such as grep options, are not applied, so
+   * the catalog still needs to be reduced after it is read.
+   *
+   * @param schemaCrawlerOptions SchemaCrawler options
+   * @return This reader
+   */
+  public CatalogSnapshotReader withSchemaCrawlerOptions(
+      final SchemaCrawlerOptions schemaCrawlerOptions) {
+    this.schemaCrawlerOptions = schemaCrawlerOptions;
+    return this;
+  }
+
+  /**
+   * Finds a column by id. A column of a table that is not read from an indexed snapshot is read as
+   * a partial column, with just its name, which is found from the list of names at the start of
+   * the block for the table.
+   */
+  private Column column(final int columnId) throws IOException {
+    if (columnId < 0) {
+      return null;
+    }
+    if (columnId < columns.size() && columns.get(columnId) != null) {
+      return columns.get(columnId);
+    }
+    if (tablePositions == null || columnId >= catalogColumnCount) {
+      throw new IOException("Bad column reference in catalog snapshot");
+    }
+
+    int tableId = 0;
+    int high = catalogTableCount - 1;
+    while (tableId < high) {
+      final int middle = (tableId + high + 1) >>> 1;
+      if (firstColumnIds[middle] <= columnId) {
+        tableId = middle;
+      } else {
+        high = middle - 1;
+      }
+    }
+    final Table table = table(tableId);
+
+    final int position = in.position();
+    in.seek(tablePositions[tableId]);
+    for (int i = firstColumnIds[tableId]; i < columnId; i++) {
+      in.skipString();
+    }
+    final ColumnPartial column = new ColumnPartial(table, in.readString());
+    in.seek(position);
+
+    ((TablePartial) table).addColumn(column);
+    putColumn(columnId, column);
+    return column;
+  }
+
+  private MutableColumnDataType columnDataType(final int dataTypeId) {
+    if (dataTypeId < 0) {
+      return null;
+    }
+    return columnDataTypes[dataTypeId];
+  }
+
+  private MutableForeignKey foreignKey(final int foreignKeyId) throws IOException {
+    if (foreignKeys[foreignKeyId] == null) {
+      final int position = in.position();
+      in.seek(foreignKeyPositions[foreignKeyId]);
+      foreignKeys[foreignKeyId] = readForeignKey();
+      in.seek(position);
+    }
+    return foreignKeys[foreignKeyId];
+  }
+
+  private void putColumn(final int columnId, final Column column) {
+    while (columns.size() <= columnId) {
+      columns.add(null);
+    }
+    columns.set(columnId, column);
+  }
+
+  private void putTable(final int tableId, final Table table) {
+    while (tables.size() <= tableId) {
+      tables.add(null);
+    }
+    tables.set(tableId, table);
+  }
+
+  private void readAttributes(final AttributedObject attributedObject) throws IOException {
+    final int count = in.readInt();
+    if (count == 0) {
+      return;
+    }
+    final Map<String, Object> attributes = new HashMap<>(count * 2);
+    for (int i = 0; i < count; i++) {
+      final String name = in.readString();
+      attributes.put(name, in.readValue());
+    }
+    // Attributes retrieved from metadata can have null values, which are kept as they are
+    if (attributedObject instanceof AbstractNamedObjectWithAttributes) {
+      ((AbstractNamedObjectWithAttributes) attributedObject).addAttributes(attributes);
+    } else {
+      for (final Entry<String, Object> attribute : attributes.entrySet()) {
+        attributedObject.setAttribute(attribute.getKey(), attribute.getValue());
+      }
+    }
+  }
+
+  private void readCatalogInfo() throws IOException {
+    catalog = new MutableCatalog(in.readString());
+    readDescribed(catalog);
+
+    final MutableDatabaseInfo databaseInfo = catalog.getDatabaseInfo();
+    databaseInfo.setProductName(in.readString());
+    databaseInfo.setProductVersion(in.readString());
+    databaseInfo.setUserName(in.readString());
+    final int propertyCount = in.readInt();
+    final List<ImmutableDatabaseProperty> properties = new ArrayList<>(propertyCount);
+    for (int i = 0; i < propertyCount; i++) {
+      final String name = in.readString();
+      properties.add(new ImmutableDatabaseProperty(name, in.readValue()));
+    }
+    databaseInfo.addAll(properties);
+    final int serverInfoCount = in.readInt();
+    for (int i = 0; i < serverInfoCount; i++) {
+      final String name = in.readString();
+      final Object value = in.readValue();
+      final String description = in.readString();
+      databaseInfo.addServerInfo(
+          new ImmutableServerInfoProperty(
+              name, value == null ? null : String.valueOf(value), description));
+    }
+
+    final MutableJdbcDriverInfo jdbcDriverInfo = catalog.getJdbcDriverInfo();
+    jdbcDriverInfo.setJdbcDriverClassName(in.readString());
+    jdbcDriverInfo.setConnectionUrl(in.readString());
+    jdbcDriverInfo.setDriverName(in.readString());
+    jdbcDriverInfo.setDriverVersion(in.readString());
+    jdbcDriverInfo.setJdbcCompliant(in.readBoolean());
+    final int driverPropertyCount = in.readInt();
+    for (int i = 0; i < driverPropertyCount; i++) {
+      final DriverPropertyInfo driverPropertyInfo =
+          new DriverPropertyInfo(in.readString(), in.readString());
+      driverPropertyInfo.description = in.readString();
+      driverPropertyInfo.required = in.readBoolean();
+      driverPropertyInfo.choices = new String[in.readInt()];
+      for (int j = 0; j < driverPropertyInfo.choices.length; j++) {
+        driverPropertyInfo.choices[j] = in.readString();
+      }
+      jdbcDriverInfo.addJdbcDriverProperty(new ImmutableJdbcDriverProperty(driverPropertyInfo));
+    }
+
+    final ProductVersion schemaCrawlerVersion = readProductVersion();
+    final ProductVersion operatingSystemVersion = readProductVersion();
+    final ProductVersion jvmVersion = readProductVersion();
+    final long epochSecond = in.readLong();
+    final Instant crawlTimestamp = Instant.ofEpochSecond(epochSecond, in.readInt());
+    final UUID runId = UUID.fromString(in.readString());
+    final MutableCrawlMetrics crawlMetrics = new MutableCrawlMetrics();
+    final int retrievalCount = in.readInt();
+    for (int i = 0; i < retrievalCount; i++) {
+      final String phase = in.readString();
+      final String name = in.readString();
+      final Duration elapsedTime = Duration.ofNanos(in.readLong());
+      final long statementCount = in.readLong();
+      final long rowCount = in.readLong();
+      final long objectCount = in.readLong();
+      crawlMetrics.addRetrievalMetrics(
+          new MutableRetrievalMetrics(
+              phase, name, elapsedTime, statementCount, rowCount, objectCount));
+    }
+    catalog.setCrawlInfo(
+        new MutableCrawlInfo(
+            schemaCrawlerVersion,
+            operatingSystemVersion,
+            jvmVersion,
+            crawlTimestamp,
+            runId,
+            crawlMetrics));
+
+    final int databaseUserCount = in.readInt();
+    for (int i = 0; i < databaseUserCount; i++) {
+      final ImmutableDatabaseUser databaseUser = new ImmutableDatabaseUser(in.readString());
+      readAttributes(databaseUser);
+      catalog.addDatabaseUser(databaseUser);
+    }
+  }
+
+  private MutableColumn readColumn(final MutableTable table) throws IOException {
+    final MutableColumn column = new MutableColumn(table, in.readString());
+    column.setOrdinalPosition(in.readInt());
+    column.setColumnDataType(columnDataType(in.readInt()));
+    column.setSize(in.readInt());
+    column.setDecimalDigits(in.readInt());
+    column.setNullable(in.readBoolean());
+    column.setDefaultValue(in.readString());
+    column.setAutoIncremented(in.readBoolean());
+    column.setGenerated(in.readBoolean());
+    column.setHidden(in.readBoolean());
+    if (in.readBoolean()) {
+      column.markAsPartOfIndex();
+    }
+    if (in.readBoolean()) {
+      column.markAsPartOfPrimaryKey();
+    }
+    if (in.readBoolean()) {
+      column.markAsPartOfUniqueIndex();
+    }
+    readDescribed(column);
+
+    final int privilegeCount = in.readInt();
+    for (int i = 0; i < privilegeCount; i++) {
+      final MutablePrivilege<Column> privilege =
+          new MutablePrivilege<>(new ColumnPointer(column), in.readString());
+      readPrivilege(privilege);
+      column.addPrivilege(privilege);
+    }
+    return column;
+  }
+
+  private void readColumnDataTypes() throws IOException {
+    final int count = in.readInt();
+    final int catalogCount = in.readInt();
+    final JavaSqlTypes javaSqlTypes = new JavaSqlTypes();
+    columnDataTypes = new MutableColumnDataType[count];
+    final int[] baseTypeIds = new int[count];
+    for (int i = 0; i < count; i++) {
+      final SchemaReference schema = schemas[in.readInt()];
+      final String name = in.readString();
+      final MutableColumnDataType columnDataType =
+          new MutableColumnDataType(schema, name, in.readEnum(DataTypeType.class));
+      columnDataType.setAutoIncrementable(in.readBoolean());
+      columnDataType.setCaseSensitive(in.readBoolean());
+      columnDataType.setCreateParameters(in.readString());
+      columnDataType.setFixedPrecisionScale(in.readBoolean());
+      columnDataType.setJavaSqlType(javaSqlTypes.valueOf(in.readInt()));
+      columnDataType.setTypeMappedClass(in.readString());
+      columnDataType.setLiteralPrefix(in.readString());
+      columnDataType.setLiteralSuffix(in.readString());
+      columnDataType.setLocalTypeName(in.readString());
+      columnDataType.setMaximumScale(in.readInt());
+      columnDataType.setMinimumScale(in.readInt());
+      columnDataType.setNullable(in.readBoolean());
+      columnDataType.setNumPrecisionRadix(in.readInt());
+      columnDataType.setPrecision(in.readLong());
+      columnDataType.setSearchable(in.readEnum(SearchableType.class));
+      columnDataType.setUnsigned(in.readBoolean());
+      final int enumValueCount = in.readInt();
+      final List<String> enumValues = new ArrayList<>(enumValueCount);
+      for (int j = 0; j < enumValueCount; j++) {
+        enumValues.add(in.readString());
+      }
+      columnDataType.setEnumValues(enumValues);
+      baseTypeIds[i] = in.readInt();
+      readDescribed(columnDataType);
+
+      columnDataTypes[i] = columnDataType;
+      if (i < catalogCount) {
+        catalog.addColumnDataType(columnDataType);
+      }
+    }
+    // Base types can refer to data types that are read later
+    for (int i = 0; i < count; i++) {
+      columnDataTypes[i].setBaseType(columnDataType(baseTypeIds[i]));
+    }
+  }
+
+  private void readColumnReferences(final AbstractTableReference tableReference)
+      throws IOException {
+    final int count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      final int keySequence = in.readInt();
+      final Column fkColumn = column(in.readInt());
+      final Column pkColumn = column(in.readInt());
+      if (tableReference instanceof MutableForeignKey) {
+        final MutableForeignKey foreignKey = (MutableForeignKey) tableReference;
+        foreignKey.addColumnReference(keySequence, pkColumn, fkColumn);
+        // Partial tables and columns are linked to foreign keys in the same way as when the
+        // foreign keys are retrieved
+        if (fkColumn instanceof ColumnPartial) {
+          ((ColumnPartial) fkColumn).setReferencedColumn(pkColumn);
+        }
+        if (fkColumn.getParent() instanceof TablePartial) {
+          ((TablePartial) fkColumn.getParent()).addForeignKey(foreignKey);
+        }
+        if (pkColumn.getParent() instanceof TablePartial) {
+          ((TablePartial) pkColumn.getParent()).addForeignKey(foreignKey);
+        }
+      } else {
+        tableReference.addColumnReference(
+            new ImmutableColumnReference(keySequence, fkColumn, pkColumn));
+      }
+    }
+  }
+
+  private <N extends DescribedObject & AttributedObject> void readDescribed(final N object)
+      throws IOException {
+    object.setRemarks(in.readString());
+    readAttributes(object);
+  }
+
+  private MutableForeignKey readForeignKey() throws IOException {
+    final String name = in.readString();
+    final MutableForeignKey foreignKey = new MutableForeignKey(name, in.readString());
+    foreignKey.setUpdateRule(in.readEnum(ForeignKeyUpdateRule.class));
+    foreignKey.setDeleteRule(in.readEnum(ForeignKeyUpdateRule.class));
+    foreignKey.setDeferrability(in.readEnum(ForeignKeyDeferrability.class));
+    foreignKey.appendDefinition(in.readString());
+    readDescribed(foreignKey);
+    readColumnReferences(foreignKey);
+    return foreignKey;
+  }
+
+  /**
+   * Reads the selected tables from an indexed snapshot. The directory at the end of the snapshot
+   * is read first, and then the block for each selected table. Foreign keys and weak associations
+   * are only read when a selected table refers to them.
+   */
+  private void readIndexed(final ByteBuffer buffer) throws IOException {
+    in = new CatalogSnapshotInput(buffer);
+    final int bodyLength = in.readStrings();
+    in.seek(bodyLength - 4);
+    in.seek(in.readFixedInt());
+
+    readCatalogInfo();
+    readSchemas();
+    readColumnDataTypes();
+    final boolean[] selectedTables = readTableIndex();
+
+    final int[] tableConstraintPositions = new int[catalogTableCount];
+    final int directoryPosition = in.position();
+    for (int tableId = 0; tableId < catalogTableCount; tableId++) {
+      if (selectedTables[tableId]) {
+        in.seek(tablePositions[tableId]);
+        for (int i = firstColumnIds[tableId]; i < firstColumnIds[tableId + 1]; i++) {
+          in.skipString();
+        }
+        readTable(tableId, firstColumnIds[tableId]);
+        tableConstraintPositions[tableId] = in.position();
+      }
+    }
+    in.seek(directoryPosition);
+
+    readPartials();
+    foreignKeyPositions = readPositions();
+    foreignKeys = new MutableForeignKey[foreignKeyPositions.length];
+    weakAssociationPositions = readPositions();
+    weakAssociations = new MutableWeakAssociation[weakAssociationPositions.length];
+
+    final int routinesPosition = in.position();
+    for (int tableId = 0; tableId < catalogTableCount; tableId++) {
+      if (selectedTables[tableId]) {
+        in.seek(tableConstraintPositions[tableId]);
+        readTableConstraints(tableId);
+        readTableLinks(tableId);
+      }
+    }
+    in.seek(routinesPosition);
+
+    readRoutines();
+    readSequences();
+    readSynonyms();
+  }
+
+  private void readPartials() throws IOException {
+    final int tableCount = in.readInt();
+    for (int i = 0; i < tableCount; i++) {
+      final SchemaReference schema = schemas[in.readInt()];
+      final TablePartial table = new TablePartial(schema, in.readString());
+      readAttributes(table);
+      putTable(catalogTableCount + i, table);
+    }
+    final int columnCount = in.readInt();
+    for (int i = 0; i < columnCount; i++) {
+      final Table table = table(in.readInt());
+      final ColumnPartial column = new ColumnPartial(table, in.readString());
+      readAttributes(column);
+      if (table instanceof TablePartial) {
+        ((TablePartial) table).addColumn(column);
+      }
+      putColumn(catalogColumnCount + i, column);
+    }
+  }
+
+  private int[] readPositions() throws IOException {
+    final int[] positions = new int[in.readInt()];
+    for (int i = 0; i < positions.length; i++) {
+      positions[i] = in.readInt();
+    }
+    return positions;
+  }
+
+  private <D extends DatabaseObject> void readPrivilege(final MutablePrivilege<D> privilege)
+      throws IOException {
+    readDescribed(privilege);
+    final int grantCount = in.readInt();
+    for (int i = 0; i < grantCount; i++) {
+      final String grantor = in.readString();
+      final String grantee = in.readString();
+      privilege.addGrant(grantor, grantee, in.readBoolean());
+    }
+  }
+
+  private ProductVersion readProductVersion() throws IOException {
+    final String productName = in.readString();
+    return new BaseProductVersion(productName, in.readString());
+  }
+
+  private void readRoutines() throws IOException {
+    final int count = in.readInt();
+    routines = new MutableRoutine[count];
+    for (int i = 0; i < count; i++) {
+      final boolean isFunction = in.readBoolean();
+      final SchemaReference schema = schemas[in.readInt()];
+      final String name = in.readString();
+      final String specificName = in.readString();
+      final MutableRoutine routine;
+      if (isFunction) {
+        final MutableFunction function = new MutableFunction(schema, name, specificName);
+        final FunctionReturnType returnType = in.readEnum(FunctionReturnType.class);
+        if (returnType != null) {
+          function.setReturnType(returnType);
+        }
+        routine = function;
+      } else {
+        final MutableProcedure procedure = new MutableProcedure(schema, name, specificName);
+        final ProcedureReturnType returnType = in.readEnum(ProcedureReturnType.class);
+        if (returnType != null) {
+          procedure.setReturnType(returnType);
+        }
+        routine = procedure;
+      }
+      routine.setRoutineBodyType(in.readEnum(RoutineBodyType.class));
+      routine.appendDefinition(in.readString());
+      readDescribed(routine);
+
+      final int parameterCount = in.readInt();
+      for (int j = 0; j < parameterCount; j++) {
+        final String parameterName = in.readString();
+        final MutableRoutineParameter<?> parameter;
+        if (isFunction) {
+          parameter = new MutableFunctionParameter((MutableFunction) routine, parameterName);
+        } else {
+          parameter = new MutableProcedureParameter((MutableProcedure) routine, parameterName);
+        }
+        parameter.setParameterMode(in.readEnum(ParameterModeType.class));
+        parameter.setOrdinalPosition(in.readInt());
+        parameter.setColumnDataType(columnDataType(in.readInt()));
+        parameter.setSize(in.readInt());
+        parameter.setDecimalDigits(in.readInt());
+        parameter.setPrecision(in.readInt());
+        parameter.setNullable(in.readBoolean());
+        readDescribed(parameter);
+        if (isFunction) {
+          ((MutableFunction) routine).addParameter((MutableFunctionParameter) parameter);
+        } else {
+          ((MutableProcedure) routine).addParameter((MutableProcedureParameter) parameter);
+        }
+      }
+
+      routines[i] = routine;
+      catalog.addRoutine(routine);
+    }
+  }
+
+  private void readSchemas() throws IOException {
+    final int count = in.readInt();
+    final int catalogCount = in.readInt();
+    schemas = new SchemaReference[count];
+    for (int i = 0; i < count; i++) {
+      final String catalogName = in.readString();
+      final SchemaReference schema = new SchemaReference(catalogName, in.readString());
+      readDescribed(schema);
+      schemas[i] = schema;
+      if (i < catalogCount) {
+        catalog.addSchema(schema);
+      }
+    }
+  }
+
+  private void readSequences() throws IOException {
+    final int count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      final SchemaReference schema = schemas[in.readInt()];
+      final MutableSequence sequence = new MutableSequence(schema, in.readString());
+      sequence.setIncrement(in.readLong());
+      sequence.setMinimumValue((BigInteger) in.readValue());
+      sequence.setMaximumValue((BigInteger) in.readValue());
+      sequence.setStartValue((BigInteger) in.readValue());
+      sequence.setCycle(in.readBoolean());
+      readDescribed(sequence);
+      catalog.addSequence(sequence);
+    }
+  }
+
+  private void readStreamed(final InputStream inputStream, final int flags) throws IOException {
+    if ((flags & FLAG_COMPRESSED) != 0) {
+      in = new CatalogSnapshotInput(new GZIPInputStream(inputStream, 64 * 1024));
+    } else {
+      in = new CatalogSnapshotInput(inputStream);
+    }
+
+    in.readStrings();
+    readCatalogInfo();
+    readSchemas();
+    readColumnDataTypes();
+    readTables();
+    readPartials();
+    readTableConstraints();
+    readTableReferences();
+    readTableLinks();
+    readRoutines();
+    readSequences();
+    readSynonyms();
+  }
+
+  private void readSynonyms() throws IOException {
+    final int count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      final SchemaReference schema = schemas[in.readInt()];
+      final MutableSynonym synonym = new MutableSynonym(schema, in.readString());
+      readDescribed(synonym);
+      switch (in.readInt()) {
+        case REFERENCE_TABLE:
+          final int tableId = in.readInt();
+          if (tableId < tables.size() && tables.get(tableId) != null) {
+            synonym.setReferencedObject(tables.get(tableId));
+          } else if (tableId < catalogTableCount && tableNames != null) {
+            // The table was not selected, so it is not in the catalog
+            synonym.setReferencedObject(
+                new SynonymRetriever.UnknownDatabaseObject(
+                    schemas[tableSchemaIds[tableId]], tableNames[tableId]));
+          } else {
+            throw new IOException("Bad table reference in catalog snapshot");
+          }
+          break;
+        case REFERENCE_ROUTINE:
+          synonym.setReferencedObject(routines[in.readInt()]);
+          break;
+        case REFERENCE_UNKNOWN:
+          final SchemaReference referencedSchema = schemas[in.readInt()];
+          synonym.setReferencedObject(
+              new SynonymRetriever.UnknownDatabaseObject(referencedSchema, in.readString()));
+          break;
+        default:
+          break;
+      }
+      catalog.addSynonym(synonym);
+    }
+  }
+
+  private void readTableConstraint(final MutableTableConstraint tableConstraint)
+      throws IOException {
+    tableConstraint.setTableConstraintType(in.readEnum(TableConstraintType.class));
+    tableConstraint.setDeferrable(in.readBoolean());
+    tableConstraint.setInitiallyDeferred(in.readBoolean());
+    tableConstraint.appendDefinition(in.readString());
+    readDescribed(tableConstraint);
+    final int columnCount = in.readInt();
+    for (int i = 0; i < columnCount; i++) {
+      final MutableTableConstraintColumn constraintColumn =
+          new MutableTableConstraintColumn(tableConstraint, column(in.readInt()));
+      constraintColumn.setKeyOrdinalPosition(in.readInt());
+      constraintColumn.appendDefinition(in.readString());
+      readAttributes(constraintColumn);
+      tableConstraint.addColumn(constraintColumn);
+    }
+  }
+
+  private void readTableConstraints() throws IOException {
+    for (int tableId = 0; tableId < catalogTableCount; tableId++) {
+      readTableConstraints(tableId);
+    }
+  }
+
+  private void readTableConstraints(final int tableId) throws IOException {
+    final MutableTable table = (MutableTable) tables.get(tableId);
+
+    if (in.readBoolean()) {
+      final MutablePrimaryKey primaryKey =
+          MutablePrimaryKey.newPrimaryKey(table, in.readString());
+      readTableConstraint(primaryKey);
+      table.setPrimaryKey(primaryKey);
+    }
+    final int alternateKeyCount = in.readInt();
+    final List<MutablePrimaryKey> tableAlternateKeys = new ArrayList<>(alternateKeyCount);
+    for (int i = 0; i < alternateKeyCount; i++) {
+      final MutablePrimaryKey alternateKey =
+          MutablePrimaryKey.newAlternateKey(table, in.readString());
+      readTableConstraint(alternateKey);
+      table.addAlternateKey(alternateKey);
+      tableAlternateKeys.add(alternateKey);
+    }
+    alternateKeys.put(tableId, tableAlternateKeys);
+
+    final int indexCount = in.readInt();
+    for (int i = 0; i < indexCount; i++) {
+      final MutableIndex index = new MutableIndex(table, in.readString());
+      index.setIndexType(in.readEnum(IndexType.class));
+      index.setUnique(in.readBoolean());
+      index.setCardinality(in.readLong());
+      index.setPages(in.readLong());
+      index.appendDefinition(in.readString());
+      readDescribed(index);
+      final int columnCount = in.readInt();
+      for (int j = 0; j < columnCount; j++) {
+        final MutableIndexColumn indexColumn =
+            new MutableIndexColumn(index, column(in.readInt()));
+        indexColumn.setKeyOrdinalPosition(in.readInt());
+        indexColumn.appendDefinition(in.readString());
+        readAttributes(indexColumn);
+        indexColumn.setSortSequence(in.readEnum(IndexColumnSortSequence.class));
+        index.addColumn(indexColumn);
+      }
+      table.addIndex(index);
+    }
+
+    final int tableConstraintCount = in.readInt();
+    final List<MutableTableConstraint> tableConstraints =
+        new ArrayList<>(tableConstraintCount);
+    for (int i = 0; i < tableConstraintCount; i++) {
+      final MutableTableConstraint tableConstraint =
+          new MutableTableConstraint(table, in.readString());
+      readTableConstraint(tableConstraint);
+      tableConstraints.add(tableConstraint);
+    }
+    ownTableConstraints.put(tableId, tableConstraints);
+  }
+
+  /**
+   * Reads the index of tables in an indexed snapshot, and selects the tables to read.
+   *
+   * @return Whether each table is selected
+   */
+  private boolean[] readTableIndex() throws IOException {
+    catalogTableCount = in.readInt();
+    tableSchemaIds = new int[catalogTableCount];
+    tableNames = new String[catalogTableCount];
+    tablePositions = new int[catalogTableCount];
+    firstColumnIds = new int[catalogTableCount + 1];
+    final String[] tableTypes = new String[catalogTableCount];
+    for (int tableId = 0; tableId < catalogTableCount; tableId++) {
+      tableSchemaIds[tableId] = in.readInt();
+      tableNames[tableId] = in.readString();
+      tableTypes[tableId] = in.readString();
+      firstColumnIds[tableId + 1] = firstColumnIds[tableId] + in.readInt();
+      tablePositions[tableId] = in.readInt();
+    }
+    catalogColumnCount = firstColumnIds[catalogTableCount];
+
+    final boolean[] selectedTables = new boolean[catalogTableCount];
+    final LimitOptions limitOptions;
+    if (schemaCrawlerOptions == null) {
+      limitOptions = null;
+    } else {
+      // Related tables can be anywhere in the catalog
+      final FilterOptions filterOptions = schemaCrawlerOptions.getFilterOptions();
+      if (filterOptions.getChildTableFilterDepth() > 0
+          || filterOptions.getParentTableFilterDepth() > 0) {
+        limitOptions = null;
+      } else {
+        limitOptions = schemaCrawlerOptions.getLimitOptions();
+      }
+    }
+    if (limitOptions == null) {
+      Arrays.fill(selectedTables, true);
+      return selectedTables;
+    }
+
+    final InclusionRule schemaInclusionRule = limitOptions.get(ruleForSchemaInclusion);
+    final InclusionRule tableInclusionRule = limitOptions.get(ruleForTableInclusion);
+    final boolean includeAllTables = limitOptions.isIncludeAll(ruleForTableInclusion);
+    final TableTypes includedTableTypes = limitOptions.getTableTypes();
+    final Boolean[] selectedSchemas = new Boolean[schemas.length];
+    for (int tableId = 0; tableId < catalogTableCount; tableId++) {
+      final int schemaId = tableSchemaIds[tableId];
+      final String schemaFullName = schemas[schemaId].getFullName();
+      if (selectedSchemas[schemaId] == null) {
+        selectedSchemas[schemaId] = schemaInclusionRule.test(schemaFullName);
+      }
+      if (!selectedSchemas[schemaId]
+          || !includedTableTypes.lookupTableType(tableTypes[tableId]).isPresent()) {
+        continue;
+      }
+      if (includeAllTables) {
+        selectedTables[tableId] = true;
+      } else {
+        // Full name of the table, built in the same way as for any other database object
+        final String tableName = Identifiers.STANDARD.quoteName(tableNames[tableId]);
+        final String tableFullName =
+            schemaFullName.isEmpty() ? tableName : schemaFullName + "." + tableName;
+        selectedTables[tableId] = tableInclusionRule.test(tableFullName);
+      }
+    }
+    return selectedTables;
+  }
+
+  private void readTableLinks() throws IOException {
+    for (int tableId = 0; tableId < catalogTableCount; tableId++) {
+      readTableLinks(tableId);
+    }
+  }
+
+  private void readTableLinks(final int tableId) throws IOException {
+    final MutableTable table = (MutableTable) tables.get(tableId);
+
+    final int foreignKeyCount = in.readInt();
+    for (int i = 0; i < foreignKeyCount; i++) {
+      table.addForeignKey(foreignKey(in.readInt()));
+    }
+    final int weakAssociationCount = in.readInt();
+    for (int i = 0; i < weakAssociationCount; i++) {
+      table.addWeakAssociation(weakAssociation(in.readInt()));
+    }
+
+    final int tableConstraintCount = in.readInt();
+    for (int i = 0; i < tableConstraintCount; i++) {
+      final TableConstraint tableConstraint;
+      switch (in.readInt()) {
+        case CONSTRAINT_PRIMARY_KEY:
+          tableConstraint = table.getPrimaryKey();
+          break;
+        case CONSTRAINT_ALTERNATE_KEY:
+          tableConstraint = alternateKeys.get(tableId).get(in.readInt());
+          break;
+        case CONSTRAINT_FOREIGN_KEY:
+          tableConstraint = foreignKey(in.readInt());
+          break;
+        case CONSTRAINT_OWN:
+          tableConstraint = ownTableConstraints.get(tableId).get(in.readInt());
+          break;
+        default:
+          throw new IOException("Unknown table constraint in catalog snapshot");
+      }
+      table.addTableConstraint(tableConstraint);
+    }
+
+    final int referencingColumnCount = in.readInt();
+    for (int i = 0; i < referencingColumnCount; i++) {
+      final MutableColumn column = (MutableColumn) column(in.readInt());
+      column.setReferencedColumn(column(in.readInt()));
+    }
+
+    if (table instanceof MutableView) {
+      final int tableUsageCount = in.readInt();
+      for (int i = 0; i < tableUsageCount; i++) {
+        // Tables that are not read from an indexed snapshot are left out
+        final int usedTableId = in.readInt();
+        final Table usedTable = usedTableId < tables.size() ? tables.get(usedTableId) : null;
+        if (usedTable instanceof MutableTable) {
+          ((MutableView) table).addTableUsage((MutableTable) usedTable);
+        }
+      }
+    }
+  }
+
+  private void readTableReferences() throws IOException {
+    final int foreignKeyCount = in.readInt();
+    foreignKeys = new MutableForeignKey[foreignKeyCount];
+    for (int i = 0; i < foreignKeyCount; i++) {
+      foreignKeys[i] = readForeignKey();
+    }
+    final int weakAssociationCount = in.readInt();
+    weakAssociations = new MutableWeakAssociation[weakAssociationCount];
+    for (int i = 0; i < weakAssociationCount; i++) {
+      weakAssociations[i] = readWeakAssociation();
+    }
+  }
+
+  /**
+   * Reads a table, with its columns, which are given consecutive ids.
+   *
+   * @return Id of the first column of the next table
+   */
+  private int readTable(final int tableId, final int firstColumnId) throws IOException {
+    final boolean isView = in.readBoolean();
+    final SchemaReference schema = schemas[in.readInt()];
+    final String name = in.readString();
+    final MutableTable table;
+    if (isView) {
+      table = new MutableView(schema, name);
+    } else {
+      table = new MutableTable(schema, name);
+    }
+    table.setTableType(new TableType(in.readString()));
+    final int sortIndex = in.readInt();
+    if (sortIndex != 0) {
+      table.setSortIndex(sortIndex);
+    }
+    table.appendDefinition(in.readString());
+    readDescribed(table);
+    if (isView) {
+      final MutableView view = (MutableView) table;
+      view.setCheckOption(in.readEnum(CheckOptionType.class));
+      view.setUpdatable(in.readBoolean());
+    }
+
+    int columnId = firstColumnId;
+    final int columnCount = in.readInt();
+    final int hiddenColumnCount = in.readInt();
+    for (int i = 0; i < columnCount; i++) {
+      final MutableColumn column = readColumn(table);
+      table.addColumn(column);
+      putColumn(columnId++, column);
+    }
+    for (int i = 0; i < hiddenColumnCount; i++) {
+      final MutableColumn column = readColumn(table);
+      table.addHiddenColumn(column);
+      putColumn(columnId++, column);
+    }
+
+    final int privilegeCount = in.readInt();
+    for (int i = 0; i < privilegeCount; i++) {
+      final MutablePrivilege<Table> privilege =
+          new MutablePrivilege<>(new TablePointer(table), in.readString());
+      readPrivilege(privilege);
+      table.addPrivilege(privilege);
+    }
+
+    final int triggerCount = in.readInt();
+    for (int i = 0; i < triggerCount; i++) {
+      final MutableTrigger trigger = new MutableTrigger(table, in.readString());
+      trigger.appendActionCondition(in.readString());
+      trigger.appendActionStatement(in.readString());
+      trigger.setActionOrder(in.readInt());
+      trigger.setActionOrientation(in.readEnum(ActionOrientationType.class));
+      trigger.setConditionTiming(in.readEnum(ConditionTimingType.class));
+      trigger.setEventManipulationType(in.readEnum(EventManipulationType.class));
+      readDescribed(trigger);
+      table.addTrigger(trigger);
+    }
+
+    putTable(tableId, table);
+    catalog.addTable(table);
+    return columnId;
+  }
+
+  private void readTables() throws IOException {
+    catalogTableCount = in.readInt();
+    int columnId = 0;
+    for (int tableId = 0; tableId < catalogTableCount; tableId++) {
+      columnId = readTable(tableId, columnId);
+    }
+    catalogColumnCount = columnId;
+  }
+
+  private MutableWeakAssociation readWeakAssociation() throws IOException {
+    final MutableWeakAssociation weakAssociation = new MutableWeakAssociation(in.readString());
+    readDescribed(weakAssociation);
+    readColumnReferences(weakAssociation);
+    return weakAssociation;
+  }
+
+  /** Finds a table by id. A table that is not read from an indexed snapshot is a partial table. */
+  private Table table(final int tableId) throws IOException {
+    if (tableId < tables.size() && tables.get(tableId) != null) {
+      return tables.get(tableId);
+    }
+    if (tableNames == null || tableId >= catalogTableCount) {
+      throw new IOException("Bad table reference in catalog snapshot");
+    }
+    final TablePartial table =
+        new TablePartial(schemas[tableSchemaIds[tableId]], tableNames[tableId]);
+    putTable(tableId, table);
+    return table;
+  }
+
+  private MutableWeakAssociation weakAssociation(final int weakAssociationId)
+      throws IOException {
+    if (weakAssociations[weakAssociationId] == null) {
+      final int position = in.position();
+      in.seek(weakAssociationPositions[weakAssociationId]);
+      weakAssociations[weakAssociationId] = readWeakAssociation();
+      in.seek(position);
+    }
+    return weakAssociations[weakAssociationId];
+  }
+}
@@ -0,0 +1,1038 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.zip.GZIPOutputStream;
+
+import schemacrawler.ProductVersion;
+import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.DatabaseInfo;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.DatabaseProperty;
+import schemacrawler.schema.DatabaseUser;
+import schemacrawler.schema.DefinedObject;
+import schemacrawler.schema.DescribedObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Function;
+import schemacrawler.schema.Grant;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.JdbcDriverInfo;
+import schemacrawler.schema.JdbcDriverProperty;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Procedure;
+import schemacrawler.schema.Property;
+import schemacrawler.schema.RetrievalMetrics;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableConstraintColumn;
+import schemacrawler.schema.TableReference;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.View;
+import schemacrawler.schema.WeakAssociation;
+
+/**
+ * Writes a catalog as a compact binary snapshot, which can be read back with {@link
+ * CatalogSnapshotReader}. Every object in the catalog is given a numeric id, and references
+ * between objects are written as ids, so the snapshot is a flat sequence of records, rather than
+ * a deeply nested graph of objects as with Java serialization. Names and other strings are
+ * written once into a string table. The snapshot may optionally be compressed.
+ *
+ * <p>An indexed snapshot has a block of records for each table, and an index of the tables, with
+ * the position of their blocks. The index is written in a directory at the end of the snapshot,
+ * along with the information about the catalog that is needed to read any table. An indexed
+ * snapshot can be memory-mapped, and just the tables that are needed can be read from it.
+ *
+ * <p>A snapshot may have a {@link CatalogDigest} written right after the header, uncompressed, so
+ * that the digest can be read without reading the catalog.
+ */
+public final class CatalogSnapshotWriter {
+
+  /** Assigns ids to objects, looking them up by identity first, and then by key. */
+  private static final class ObjectIds<N extends NamedObject> {
+
+    private final List<N> objects = new ArrayList<>();
+    private final Map<N, Integer> identityIds = new IdentityHashMap<>();
+    private final Map<NamedObjectKey, Integer> keyIds = new HashMap<>();
+
+    N get(final int id) {
+      return objects.get(id);
+    }
+
+    Integer lookup(final N object) {
+      final Integer id = identityIds.get(object);
+      if (id != null) {
+        return id;
+      }
+      return keyIds.get(object.key());
+    }
+
+    int register(final N object) {
+      final int id = objects.size();
+      objects.add(object);
+      identityIds.put(object, id);
+      keyIds.putIfAbsent(object.key(), id);
+      return id;
+    }
+
+    int size() {
+      return objects.size();
+    }
+  }
+
+  static final byte[] MAGIC = {'S', 'C', 'S', 'N', 'A', 'P'};
+  static final int FORMAT_VERSION = 1;
+  static final int FLAG_COMPRESSED = 1;
+  static final int FLAG_INDEXED = 2;
+  static final int FLAG_DIGESTED = 4;
+
+  static final int CONSTRAINT_OWN = 0;
+  static final int CONSTRAINT_PRIMARY_KEY = 1;
+  static final int CONSTRAINT_ALTERNATE_KEY = 2;
+  static final int CONSTRAINT_FOREIGN_KEY = 3;
+
+  static final int REFERENCE_NONE = 0;
+  static final int REFERENCE_TABLE = 1;
+  static final int REFERENCE_ROUTINE = 2;
+  static final int REFERENCE_UNKNOWN = 3;
+
+  private final Catalog catalog;
+  private boolean compressed;
+  private boolean digested;
+  private boolean indexed;
+
+  private final ObjectIds<Schema> schemas = new ObjectIds<>();
+  private final ObjectIds<ColumnDataType> columnDataTypes = new ObjectIds<>();
+  private final ObjectIds<Table> tables = new ObjectIds<>();
+  private final ObjectIds<Column> columns = new ObjectIds<>();
+  private final ObjectIds<ForeignKey> foreignKeys = new ObjectIds<>();
+  private final ObjectIds<WeakAssociation> weakAssociations = new ObjectIds<>();
+  private final ObjectIds<Routine> routines = new ObjectIds<>();
+  private final Map<Integer, Integer> hiddenColumnCounts = new HashMap<>();
+  private final Map<Integer, List<PrimaryKey>> alternateKeys = new HashMap<>();
+  private int catalogSchemaCount;
+  private int catalogColumnDataTypeCount;
+  private int catalogTableCount;
+  private int catalogColumnCount;
+
+  private CatalogSnapshotOutput out;
+
+  public CatalogSnapshotWriter(final Catalog catalog) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+  }
+
+  /**
+   * Whether the snapshot is compressed as it is written.
+   *
+   * @param compressed True if the snapshot is to be compressed
+   * @return This writer
+   */
+  public CatalogSnapshotWriter withCompression(final boolean compressed) {
+    this.compressed = compressed;
+    return this;
+  }
+
+  /**
+   * Whether a digest of the catalog is written with the snapshot, so that it can be compared with
+   * other catalogs without reading the whole snapshot.
+   *
+   * @param digested True if the catalog digest is to be written
+   * @return This writer
+   */
+  public CatalogSnapshotWriter withDigest(final boolean digested) {
+    this.digested = digested;
+    return this;
+  }
+
+  /**
+   * Whether the snapshot is written with an index of tables, so that tables can be read from it
+   * selectively. An indexed snapshot is read by position, so it cannot be compressed.
+   *
+   * @param indexed True if the snapshot is to be indexed
+   * @return This writer
+   */
+  public CatalogSnapshotWriter withIndex(final boolean indexed) {
+    this.indexed = indexed;
+    return this;
+  }
+
+  /**
+   * Writes the catalog snapshot to the output stream. The stream is not closed.
+   *
+   * @param outputStream Output stream
+   * @throws IOException On an exception writing the snapshot
+   */
+  public void write(final OutputStream outputStream) throws IOException {
+    requireNonNull(outputStream, "No output stream provided");
+    if (compressed && indexed) {
+      throw new IllegalStateException("Cannot compress an indexed catalog snapshot");
+    }
+
+    assignIds();
+
+    out = new CatalogSnapshotOutput();
+    if (indexed) {
+      writeIndexed();
+    } else {
+      writeCatalogInfo();
+      writeSchemas();
+      writeColumnDataTypes();
+      writeTables();
+      writePartials();
+      writeTableConstraints();
+      writeTableReferences();
+      writeTableLinks();
+      writeRoutines();
+      writeSequences();
+      writeSynonyms();
+    }
+
+    outputStream.write(MAGIC);
+    outputStream.write(FORMAT_VERSION);
+    outputStream.write(
+        (compressed ? FLAG_COMPRESSED : 0)
+            | (indexed ? FLAG_INDEXED : 0)
+            | (digested ? FLAG_DIGESTED : 0));
+    if (digested) {
+      writeDigest(outputStream);
+    }
+    if (compressed) {
+      final GZIPOutputStream compressedStream = new GZIPOutputStream(outputStream, 64 * 1024);
+      out.writeTo(compressedStream);
+      compressedStream.finish();
+    } else {
+      out.writeTo(outputStream);
+    }
+    outputStream.flush();
+    out = null;
+  }
+
+  /**
+   * Gives every object an id before anything is written, so that objects outside the catalog,
+   * such as partial tables for foreign keys to other schemas, are known up front.
+   */
+  private void assignIds() {
+    for (final Schema schema : catalog.getSchemas()) {
+      schemas.register(schema);
+    }
+    catalogSchemaCount = schemas.size();
+    for (final ColumnDataType columnDataType : catalog.getColumnDataTypes()) {
+      columnDataTypes.register(columnDataType);
+    }
+    catalogColumnDataTypeCount = columnDataTypes.size();
+    for (final Table table : catalog.getTables()) {
+      tables.register(table);
+      schemaId(table.getSchema());
+    }
+    catalogTableCount = tables.size();
+    for (int tableId = 0; tableId < catalogTableCount; tableId++) {
+      final Table table = tables.get(tableId);
+      for (final Column column : table.getColumns()) {
+        columns.register(column);
+      }
+      final Collection<Column> hiddenColumns = table.getHiddenColumns();
+      for (final Column column : hiddenColumns) {
+        columns.register(column);
+      }
+      hiddenColumnCounts.put(tableId, hiddenColumns.size());
+    }
+    catalogColumnCount = columns.size();
+
+    for (int tableId = 0; tableId < catalogTableCount; tableId++) {
+      final Table table = tables.get(tableId);
+      // Alternate keys are not held in any order, so fix an order for them
+      alternateKeys.put(tableId, new ArrayList<>(table.getAlternateKeys()));
+      for (final Column column : table.getColumns()) {
+        columnDataTypeId(column.getColumnDataType());
+        columnId(column.getReferencedColumn());
+      }
+      for (final Column column : table.getHiddenColumns()) {
+        columnDataTypeId(column.getColumnDataType());
+        columnId(column.getReferencedColumn());
+      }
+      for (final TableConstraint tableConstraint : table.getTableConstraints()) {
+        for (final TableConstraintColumn column : tableConstraint.getConstrainedColumns()) {
+          columnId(column);
+        }
+      }
+      if (table.getPrimaryKey() != null) {
+        for (final TableConstraintColumn column : table.getPrimaryKey().getConstrainedColumns()) {
+          columnId(column);
+        }
+      }
+      for (final PrimaryKey alternateKey : alternateKeys.get(tableId)) {
+        for (final TableConstraintColumn column : alternateKey.getConstrainedColumns()) {
+          columnId(column);
+        }
+      }
+      for (final Index index : table.getIndexes()) {
+        for (final IndexColumn column : index.getColumns()) {
+          columnId(column);
+        }
+      }
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        if (foreignKeys.lookup(foreignKey) == null) {
+          foreignKeys.register(foreignKey);
+          assignColumnReferenceIds(foreignKey);
+        }
+      }
+      for (final WeakAssociation weakAssociation : table.getWeakAssociations()) {
+        if (weakAssociations.lookup(weakAssociation) == null) {
+          weakAssociations.register(weakAssociation);
+          assignColumnReferenceIds(weakAssociation);
+        }
+      }
+      if (table instanceof View) {
+        for (final Table usedTable : ((View) table).getTableUsage()) {
+          tableId(usedTable);
+        }
+      }
+    }
+
+    for (final Routine routine : catalog.getRoutines()) {
+      routines.register(routine);
+      schemaId(routine.getSchema());
+      for (final RoutineParameter<?> parameter : routine.getParameters()) {
+        columnDataTypeId(parameter.getColumnDataType());
+      }
+    }
+    for (final Sequence sequence : catalog.getSequences()) {
+      schemaId(sequence.getSchema());
+    }
+    for (final Synonym synonym : catalog.getSynonyms()) {
+      schemaId(synonym.getSchema());
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      if (referencedObject instanceof Table) {
+        tableId((Table) referencedObject);
+      } else if (referencedObject != null) {
+        schemaId(referencedObject.getSchema());
+      }
+    }
+
+    // Data types can be found anywhere above, so their schemas and base types are found last
+    for (int dataTypeId = 0; dataTypeId < columnDataTypes.size(); dataTypeId++) {
+      final ColumnDataType columnDataType = columnDataTypes.get(dataTypeId);
+      schemaId(columnDataType.getSchema());
+      columnDataTypeId(columnDataType.getBaseType());
+    }
+  }
+
+  private void assignColumnReferenceIds(final TableReference tableReference) {
+    for (final ColumnReference columnReference : tableReference.getColumnReferences()) {
+      columnId(columnReference.getForeignKeyColumn());
+      columnId(columnReference.getPrimaryKeyColumn());
+    }
+  }
+
+  /** Counts the columns of a table, including hidden columns. */
+  private int columnCount(final int tableId) {
+    return tables.get(tableId).getColumns().size() + hiddenColumnCounts.get(tableId);
+  }
+
+  private int columnDataTypeId(final ColumnDataType columnDataType) {
+    if (columnDataType == null) {
+      return -1;
+    }
+    final Integer id = columnDataTypes.lookup(columnDataType);
+    if (id != null) {
+      return id;
+    }
+    return columnDataTypes.register(columnDataType);
+  }
+
+  /**
+   * Finds the id of a column. Key columns are found by key, and columns that are not in the
+   * catalog are given ids as partial columns.
+   */
+  private int columnId(final Column column) {
+    if (column == null) {
+      return -1;
+    }
+    final Integer id = columns.lookup(column);
+    if (id != null) {
+      return id;
+    }
+    tableId(column.getParent());
+    return columns.register(column);
+  }
+
+  private int schemaId(final Schema schema) {
+    final Integer id = schemas.lookup(schema);
+    if (id != null) {
+      return id;
+    }
+    return schemas.register(schema);
+  }
+
+  /** Finds the id of a table. Tables that are not in the catalog are given ids as partials. */
+  private int tableId(final Table table) {
+    final Integer id = tables.lookup(table);
+    if (id != null) {
+      return id;
+    }
+    schemaId(table.getSchema());
+    return tables.register(table);
+  }
+
+  private void writeAttributes(final AttributedObject attributedObject) throws IOException {
+    final Map<String, Object> attributes = attributedObject.getAttributes();
+    out.writeInt(attributes.size());
+    for (final Entry<String, Object> attribute : attributes.entrySet()) {
+      out.writeString(attribute.getKey());
+      out.writeValue(attribute.getValue());
+    }
+  }
+
+  private void writeCatalogInfo() throws IOException {
+    out.writeString(catalog.getName());
+    out.writeString(catalog.getRemarks());
+    writeAttributes(catalog);
+
+    final DatabaseInfo databaseInfo = catalog.getDatabaseInfo();
+    out.writeString(databaseInfo.getProductName());
+    out.writeString(databaseInfo.getProductVersion());
+    out.writeString(databaseInfo.getUserName());
+    final Collection<DatabaseProperty> properties = databaseInfo.getProperties();
+    out.writeInt(properties.size());
+    for (final DatabaseProperty property : properties) {
+      out.writeString(property.getName());
+      out.writeValue(property.getValue());
+    }
+    final Collection<Property> serverInfo = databaseInfo.getServerInfo();
+    out.writeInt(serverInfo.size());
+    for (final Property property : serverInfo) {
+      out.writeString(property.getName());
+      out.writeValue(property.getValue());
+      out.writeString(property.getDescription());
+    }
+
+    final JdbcDriverInfo jdbcDriverInfo = catalog.getJdbcDriverInfo();
+    out.writeString(jdbcDriverInfo.getDriverClassName());
+    out.writeString(jdbcDriverInfo.getConnectionUrl());
+    out.writeString(jdbcDriverInfo.getProductName());
+    out.writeString(jdbcDriverInfo.getProductVersion());
+    out.writeBoolean(jdbcDriverInfo.isJdbcCompliant());
+    final Collection<JdbcDriverProperty> driverProperties = jdbcDriverInfo.getDriverProperties();
+    out.writeInt(driverProperties.size());
+    for (final JdbcDriverProperty property : driverProperties) {
+      out.writeString(property.getName());
+      out.writeString(property.getValue());
+      out.writeString(property.getDescription());
+      out.writeBoolean(property.isRequired());
+      final Collection<String> choices = property.getChoices();
+      out.writeInt(choices.size());
+      for (final String choice : choices) {
+        out.writeString(choice);
+      }
+    }
+
+    final CrawlInfo crawlInfo = catalog.getCrawlInfo();
+    writeProductVersion(crawlInfo.getSchemaCrawlerVersion());
+    writeProductVersion(crawlInfo.getOperatingSystemVersion());
+    writeProductVersion(crawlInfo.getJvmVersion());
+    out.writeLong(crawlInfo.getCrawlTimestampInstant().getEpochSecond());
+    out.writeInt(crawlInfo.getCrawlTimestampInstant().getNano());
+    out.writeString(crawlInfo.getRunId());
+    final List<RetrievalMetrics> retrievalMetrics =
+        crawlInfo.getCrawlMetrics().getRetrievalMetrics();
+    out.writeInt(retrievalMetrics.size());
+    for (final RetrievalMetrics retrieval : retrievalMetrics) {
+      out.writeString(retrieval.getPhase());
+      out.writeString(retrieval.getName());
+      out.writeLong(retrieval.getElapsedTime().toNanos());
+      out.writeLong(retrieval.getStatementCount());
+      out.writeLong(retrieval.getRowCount());
+      out.writeLong(retrieval.getObjectCount());
+    }
+
+    final Collection<DatabaseUser> databaseUsers = catalog.getDatabaseUsers();
+    out.writeInt(databaseUsers.size());
+    for (final DatabaseUser databaseUser : databaseUsers) {
+      out.writeString(databaseUser.getName());
+      writeAttributes(databaseUser);
+    }
+  }
+
+  private void writeColumn(final Column column) throws IOException {
+    out.writeString(column.getName());
+    out.writeInt(column.getOrdinalPosition());
+    out.writeInt(columnDataTypeId(column.getColumnDataType()));
+    out.writeInt(column.getSize());
+    out.writeInt(column.getDecimalDigits());
+    out.writeBoolean(column.isNullable());
+    out.writeString(column.getDefaultValue());
+    out.writeBoolean(column.isAutoIncremented());
+    out.writeBoolean(column.isGenerated());
+    out.writeBoolean(column.isHidden());
+    out.writeBoolean(column.isPartOfIndex());
+    out.writeBoolean(column.isPartOfPrimaryKey());
+    out.writeBoolean(column.isPartOfUniqueIndex());
+    writeDescribed(column);
+    writePrivileges(column.getPrivileges());
+  }
+
+  private void writeColumnDataTypes() throws IOException {
+    out.writeInt(columnDataTypes.size());
+    out.writeInt(catalogColumnDataTypeCount);
+    for (int dataTypeId = 0; dataTypeId < columnDataTypes.size(); dataTypeId++) {
+      final ColumnDataType columnDataType = columnDataTypes.get(dataTypeId);
+      out.writeInt(schemaId(columnDataType.getSchema()));
+      out.writeString(columnDataType.getName());
+      out.writeEnum(columnDataType.getType());
+      out.writeBoolean(columnDataType.isAutoIncrementable());
+      out.writeBoolean(columnDataType.isCaseSensitive());
+      out.writeString(columnDataType.getCreateParameters());
+      out.writeBoolean(columnDataType.isFixedPrecisionScale());
+      out.writeInt(columnDataType.getJavaSqlType().getVendorTypeNumber());
+      out.writeString(columnDataType.getTypeMappedClass().getName());
+      out.writeString(columnDataType.getLiteralPrefix());
+      out.writeString(columnDataType.getLiteralSuffix());
+      out.writeString(columnDataType.getLocalTypeName());
+      out.writeInt(columnDataType.getMaximumScale());
+      out.writeInt(columnDataType.getMinimumScale());
+      out.writeBoolean(columnDataType.isNullable());
+      out.writeInt(columnDataType.getNumPrecisionRadix());
+      out.writeLong(columnDataType.getPrecision());
+      out.writeEnum(columnDataType.getSearchable());
+      out.writeBoolean(columnDataType.isUnsigned());
+      final List<String> enumValues = columnDataType.getEnumValues();
+      out.writeInt(enumValues.size());
+      for (final String enumValue : enumValues) {
+        out.writeString(enumValue);
+      }
+      out.writeInt(columnDataTypeId(columnDataType.getBaseType()));
+      writeDescribed(columnDataType);
+    }
+  }
+
+  private void writeColumnReferences(final TableReference tableReference) throws IOException {
+    final List<ColumnReference> columnReferences = tableReference.getColumnReferences();
+    out.writeInt(columnReferences.size());
+    for (final ColumnReference columnReference : columnReferences) {
+      out.writeInt(columnReference.getKeySequence());
+      out.writeInt(columnId(columnReference.getForeignKeyColumn()));
+      out.writeInt(columnId(columnReference.getPrimaryKeyColumn()));
+    }
+  }
+
+  private void writeDefinition(final Object object) {
+    if (object instanceof DefinedObject) {
+      out.writeString(((DefinedObject) object).getDefinition());
+    } else {
+      out.writeString(null);
+    }
+  }
+
+  private <N extends DescribedObject & AttributedObject> void writeDescribed(final N object)
+      throws IOException {
+    out.writeString(object.getRemarks());
+    writeAttributes(object);
+  }
+
+  /** Writes the digest as a block with its own string table, prefixed by its length. */
+  private void writeDigest(final OutputStream outputStream) throws IOException {
+    final CatalogSnapshotOutput digestOut = new CatalogSnapshotOutput();
+    CatalogDigest.from(catalog).write(digestOut);
+    final ByteArrayOutputStream digestBytes = new ByteArrayOutputStream();
+    digestOut.writeTo(digestBytes);
+    new DataOutputStream(outputStream).writeInt(digestBytes.size());
+    digestBytes.writeTo(outputStream);
+  }
+
+  private void writeForeignKey(final ForeignKey foreignKey) throws IOException {
+    out.writeString(foreignKey.getName());
+    out.writeString(foreignKey.getSpecificName());
+    out.writeEnum(foreignKey.getUpdateRule());
+    out.writeEnum(foreignKey.getDeleteRule());
+    out.writeEnum(foreignKey.getDeferrability());
+    out.writeString(foreignKey.getDefinition());
+    writeDescribed(foreignKey);
+    writeColumnReferences(foreignKey);
+  }
+
+  /**
+   * Writes an indexed snapshot. Foreign keys and weak associations are shared between tables, so
+   * they are written first, and found by their positions. Then there is a block for each table,
+   * starting with the names of the columns, so that columns can be referred to without reading
+   * the whole table. The directory at the end has the catalog information, the index of tables,
+   * and the objects that are not part of any table. The position of the directory is written
+   * last.
+   */
+  private void writeIndexed() throws IOException {
+    final int[] foreignKeyPositions = new int[foreignKeys.size()];
+    for (int foreignKeyId = 0; foreignKeyId < foreignKeys.size(); foreignKeyId++) {
+      foreignKeyPositions[foreignKeyId] = out.position();
+      writeForeignKey(foreignKeys.get(foreignKeyId));
+    }
+    final int[] weakAssociationPositions = new int[weakAssociations.size()];
+    for (int weakAssociationId = 0;
+        weakAssociationId < weakAssociations.size();
+        weakAssociationId++) {
+      weakAssociationPositions[weakAssociationId] = out.position();
+      writeWeakAssociation(weakAssociations.get(weakAssociationId));
+    }
+
+    final int[] tablePositions = new int[catalogTableCount];
+    int columnId = 0;
+    for (int tableId = 0; tableId < catalogTableCount; tableId++) {
+      tablePositions[tableId] = out.position();
+      final int nextColumnId = columnId + columnCount(tableId);
+      for (int i = columnId; i < nextColumnId; i++) {
+        out.writeString(columns.get(i).getName());
+      }
+      columnId = writeTable(tableId, columnId);
+      writeTableConstraints(tableId);
+      writeTableLinks(tableId);
+    }
+
+    final int directoryPosition = out.position();
+    writeCatalogInfo();
+    writeSchemas();
+    writeColumnDataTypes();
+    out.writeInt(catalogTableCount);
+    for (int tableId = 0; tableId < catalogTableCount; tableId++) {
+      final Table table = tables.get(tableId);
+      out.writeInt(schemaId(table.getSchema()));
+      out.writeString(table.getName());
+      out.writeString(table.getTableType().getTableType());
+      out.writeInt(columnCount(tableId));
+      out.writeInt(tablePositions[tableId]);
+    }
+    writePartials();
+    writePositions(foreignKeyPositions);
+    writePositions(weakAssociationPositions);
+    writeRoutines();
+    writeSequences();
+    writeSynonyms();
+    out.writeFixedInt(directoryPosition);
+  }
+
+  private void writeKeyColumn(final Column column, final int ordinalPosition)
+      throws IOException {
+    out.writeInt(columnId(column));
+    out.writeInt(ordinalPosition);
+    writeDefinition(column);
+    writeAttributes(column);
+  }
+
+  private void writePartials() throws IOException {
+    out.writeInt(tables.size() - catalogTableCount);
+    for (int tableId = catalogTableCount; tableId < tables.size(); tableId++) {
+      final Table table = tables.get(tableId);
+      out.writeInt(schemaId(table.getSchema()));
+      out.writeString(table.getName());
+      writeAttributes(table);
+    }
+    out.writeInt(columns.size() - catalogColumnCount);
+    for (int columnId = catalogColumnCount; columnId < columns.size(); columnId++) {
+      final Column column = columns.get(columnId);
+      out.writeInt(tableId(column.getParent()));
+      out.writeString(column.getName());
+      writeAttributes(column);
+    }
+  }
+
+  private void writePositions(final int[] positions) {
+    out.writeInt(positions.length);
+    for (final int position : positions) {
+      out.writeInt(position);
+    }
+  }
+
+  private <D extends DatabaseObject> void writePrivileges(
+      final Collection<Privilege<D>> privileges) throws IOException {
+    out.writeInt(privileges.size());
+    for (final Privilege<D> privilege : privileges) {
+      out.writeString(privilege.getName());
+      writeDescribed(privilege);
+      final Collection<Grant<D>> grants = privilege.getGrants();
+      out.writeInt(grants.size());
+      for (final Grant<D> grant : grants) {
+        out.writeString(grant.getGrantor());
+        out.writeString(grant.getGrantee());
+        out.writeBoolean(grant.isGrantable());
+      }
+    }
+  }
+
+  private void writeProductVersion(final ProductVersion productVersion) {
+    out.writeString(productVersion.getProductName());
+    out.writeString(productVersion.getProductVersion());
+  }
+
+  private void writeRoutines() throws IOException {
+    out.writeInt(routines.size());
+    for (int routineId = 0; routineId < routines.size(); routineId++) {
+      final Routine routine = routines.get(routineId);
+      out.writeBoolean(routine instanceof Function);
+      out.writeInt(schemaId(routine.getSchema()));
+      out.writeString(routine.getName());
+      out.writeString(routine.getSpecificName());
+      if (routine instanceof Function) {
+        out.writeEnum(((Function) routine).getReturnType());
+      } else if (routine instanceof Procedure) {
+        out.writeEnum(((Procedure) routine).getReturnType());
+      } else {
+        out.writeEnum(null);
+      }
+      out.writeEnum(routine.getRoutineBodyType());
+      out.writeString(routine.getDefinition());
+      writeDescribed(routine);
+
+      final List<? extends RoutineParameter<?>> parameters = routine.getParameters();
+      out.writeInt(parameters.size());
+      for (final RoutineParameter<?> parameter : parameters) {
+        out.writeString(parameter.getName());
+        out.writeEnum(parameter.getParameterMode());
+        out.writeInt(parameter.getOrdinalPosition());
+        out.writeInt(columnDataTypeId(parameter.getColumnDataType()));
+        out.writeInt(parameter.getSize());
+        out.writeInt(parameter.getDecimalDigits());
+        out.writeInt(parameter.getPrecision());
+        out.writeBoolean(parameter.isNullable());
+        writeDescribed(parameter);
+      }
+    }
+  }
+
+  private void writeSchemas() throws IOException {
+    out.writeInt(schemas.size());
+    out.writeInt(catalogSchemaCount);
+    for (int schemaId = 0; schemaId < schemas.size(); schemaId++) {
+      final Schema schema = schemas.get(schemaId);
+      out.writeString(schema.getCatalogName());
+      out.writeString(schema.getName());
+      writeDescribed(schema);
+    }
+  }
+
+  private void writeSequences() throws IOException {
+    final Collection<Sequence> sequences = catalog.getSequences();
+    out.writeInt(sequences.size());
+    for (final Sequence sequence : sequences) {
+      out.writeInt(schemaId(sequence.getSchema()));
+      out.writeString(sequence.getName());
+      out.writeLong(sequence.getIncrement());
+      out.writeValue(sequence.getMinimumValue());
+      out.writeValue(sequence.getMaximumValue());
+      out.writeValue(sequence.getStartValue());
+      out.writeBoolean(sequence.isCycle());
+      writeDescribed(sequence);
+    }
+  }
+
+  private void writeSynonyms() throws IOException {
+    final Collection<Synonym> synonyms = catalog.getSynonyms();
+    out.writeInt(synonyms.size());
+    for (final Synonym synonym : synonyms) {
+      out.writeInt(schemaId(synonym.getSchema()));
+      out.writeString(synonym.getName());
+      writeDescribed(synonym);
+
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      final Integer routineId =
+          referencedObject instanceof Routine ? routines.lookup((Routine) referencedObject) : null;
+      if (referencedObject == null) {
+        out.writeInt(REFERENCE_NONE);
+      } else if (referencedObject instanceof Table) {
+        out.writeInt(REFERENCE_TABLE);
+        out.writeInt(tableId((Table) referencedObject));
+      } else if (routineId != null) {
+        out.writeInt(REFERENCE_ROUTINE);
+        out.writeInt(routineId);
+      } else {
+        out.writeInt(REFERENCE_UNKNOWN);
+        out.writeInt(schemaId(referencedObject.getSchema()));
+        out.writeString(referencedObject.getName());
+      }
+    }
+  }
+
+  /**
+   * Writes a table, with its columns, privileges and triggers.
+   *
+   * @return Id of the column after the last column of the table
+   */
+  private int writeTable(final int tableId, final int firstColumnId) throws IOException {
+    final Table table = tables.get(tableId);
+    out.writeBoolean(table instanceof View);
+    out.writeInt(schemaId(table.getSchema()));
+    out.writeString(table.getName());
+    out.writeString(table.getTableType().getTableType());
+    out.writeInt(table instanceof MutableTable ? ((MutableTable) table).getSortIndex() : 0);
+    out.writeString(table.getDefinition());
+    writeDescribed(table);
+    if (table instanceof View) {
+      final View view = (View) table;
+      out.writeEnum(view.getCheckOption());
+      out.writeBoolean(view.isUpdatable());
+    }
+
+    final int hiddenColumnCount = hiddenColumnCounts.get(tableId);
+    final int columnCount = table.getColumns().size();
+    out.writeInt(columnCount);
+    out.writeInt(hiddenColumnCount);
+    int columnId = firstColumnId;
+    for (int i = 0; i < columnCount + hiddenColumnCount; i++) {
+      writeColumn(columns.get(columnId++));
+    }
+
+    writePrivileges(table.getPrivileges());
+
+    final Collection<Trigger> triggers = table.getTriggers();
+    out.writeInt(triggers.size());
+    for (final Trigger trigger : triggers) {
+      out.writeString(trigger.getName());
+      out.writeString(trigger.getActionCondition());
+      out.writeString(trigger.getActionStatement());
+      out.writeInt(trigger.getActionOrder());
+      out.writeEnum(trigger.getActionOrientation());
+      out.writeEnum(trigger.getConditionTiming());
+      out.writeEnum(trigger.getEventManipulationType());
+      writeDescribed(trigger);
+    }
+    return columnId;
+  }
+
+  private void writeTableConstraint(final TableConstraint tableConstraint) throws IOException {
+    out.writeString(tableConstraint.getName());
+    out.writeEnum(tableConstraint.getType());
+    out.writeBoolean(tableConstraint.isDeferrable());
+    out.writeBoolean(tableConstraint.isInitiallyDeferred());
+    out.writeString(tableConstraint.getDefinition());
+    writeDescribed(tableConstraint);
+    final List<TableConstraintColumn> constrainedColumns =
+        tableConstraint.getConstrainedColumns();
+    out.writeInt(constrainedColumns.size());
+    for (final TableConstraintColumn column : constrainedColumns) {
+      writeKeyColumn(column, column.getTableConstraintOrdinalPosition());
+    }
+  }
+
+  private void writeTableConstraints() throws IOException {
+    for (int tableId = 0; tableId < catalogTableCount; tableId++) {
+      writeTableConstraints(tableId);
+    }
+  }
+
+  /**
+   * Writes primary keys, alternate keys, indexes and other table constraints, apart from foreign
+   * keys, for a table.
+   */
+  private void writeTableConstraints(final int tableId) throws IOException {
+    final Table table = tables.get(tableId);
+
+    final PrimaryKey primaryKey = table.getPrimaryKey();
+    out.writeBoolean(primaryKey != null);
+    if (primaryKey != null) {
+      writeTableConstraint(primaryKey);
+    }
+    final List<PrimaryKey> tableAlternateKeys = alternateKeys.get(tableId);
+    out.writeInt(tableAlternateKeys.size());
+    for (final PrimaryKey alternateKey : tableAlternateKeys) {
+      writeTableConstraint(alternateKey);
+    }
+
+    final Collection<Index> indexes = table.getIndexes();
+    out.writeInt(indexes.size());
+    for (final Index index : indexes) {
+      out.writeString(index.getName());
+      out.writeEnum(index.getIndexType());
+      out.writeBoolean(index.isUnique());
+      out.writeLong(index.getCardinality());
+      out.writeLong(index.getPages());
+      out.writeString(index.getDefinition());
+      writeDescribed(index);
+      final List<IndexColumn> indexColumns = index.getColumns();
+      out.writeInt(indexColumns.size());
+      for (final IndexColumn indexColumn : indexColumns) {
+        writeKeyColumn(indexColumn, indexColumn.getIndexOrdinalPosition());
+        out.writeEnum(indexColumn.getSortSequence());
+      }
+    }
+
+    final List<TableConstraint> ownTableConstraints = new ArrayList<>();
+    for (final TableConstraint tableConstraint : table.getTableConstraints()) {
+      if (constraintKind(tableId, tableConstraint) == CONSTRAINT_OWN) {
+        ownTableConstraints.add(tableConstraint);
+      }
+    }
+    out.writeInt(ownTableConstraints.size());
+    for (final TableConstraint tableConstraint : ownTableConstraints) {
+      writeTableConstraint(tableConstraint);
+    }
+  }
+
+  private void writeTableLinks() throws IOException {
+    for (int tableId = 0; tableId < catalogTableCount; tableId++) {
+      writeTableLinks(tableId);
+    }
+  }
+
+  /**
+   * Writes the lists of foreign keys, weak associations, and table constraints of a table, and
+   * the columns that are referenced by foreign key columns, once all of these objects have ids.
+   */
+  private void writeTableLinks(final int tableId) throws IOException {
+    final Table table = tables.get(tableId);
+
+    final Collection<ForeignKey> tableForeignKeys = table.getForeignKeys();
+    out.writeInt(tableForeignKeys.size());
+    for (final ForeignKey foreignKey : tableForeignKeys) {
+      out.writeInt(foreignKeys.lookup(foreignKey));
+    }
+    final Collection<WeakAssociation> tableWeakAssociations = table.getWeakAssociations();
+    out.writeInt(tableWeakAssociations.size());
+    for (final WeakAssociation weakAssociation : tableWeakAssociations) {
+      out.writeInt(weakAssociations.lookup(weakAssociation));
+    }
+
+    final Collection<TableConstraint> tableConstraints = table.getTableConstraints();
+    final List<PrimaryKey> tableAlternateKeys = alternateKeys.get(tableId);
+    out.writeInt(tableConstraints.size());
+    int ownTableConstraintIndex = 0;
+    for (final TableConstraint tableConstraint : tableConstraints) {
+      final int constraintKind = constraintKind(tableId, tableConstraint);
+      out.writeInt(constraintKind);
+      switch (constraintKind) {
+        case CONSTRAINT_ALTERNATE_KEY:
+          out.writeInt(indexOf(tableAlternateKeys, tableConstraint));
+          break;
+        case CONSTRAINT_FOREIGN_KEY:
+          out.writeInt(foreignKeys.lookup((ForeignKey) tableConstraint));
+          break;
+        case CONSTRAINT_OWN:
+          out.writeInt(ownTableConstraintIndex++);
+          break;
+        default:
+          break;
+      }
+    }
+
+    final List<Column> referencingColumns = new ArrayList<>();
+    for (final Column column : table.getColumns()) {
+      if (column.getReferencedColumn() != null) {
+        referencingColumns.add(column);
+      }
+    }
+    for (final Column column : table.getHiddenColumns()) {
+      if (column.getReferencedColumn() != null) {
+        referencingColumns.add(column);
+      }
+    }
+    out.writeInt(referencingColumns.size());
+    for (final Column column : referencingColumns) {
+      out.writeInt(columnId(column));
+      out.writeInt(columnId(column.getReferencedColumn()));
+    }
+
+    if (table instanceof View) {
+      final Collection<Table> tableUsage = ((View) table).getTableUsage();
+      out.writeInt(tableUsage.size());
+      for (final Table usedTable : tableUsage) {
+        out.writeInt(tableId(usedTable));
+      }
+    }
+  }
+
+  private void writeTableReferences() throws IOException {
+    out.writeInt(foreignKeys.size());
+    for (int foreignKeyId = 0; foreignKeyId < foreignKeys.size(); foreignKeyId++) {
+      writeForeignKey(foreignKeys.get(foreignKeyId));
+    }
+    out.writeInt(weakAssociations.size());
+    for (int weakAssociationId = 0;
+        weakAssociationId < weakAssociations.size();
+        weakAssociationId++) {
+      writeWeakAssociation(weakAssociations.get(weakAssociationId));
+    }
+  }
+
+  private void writeTables() throws IOException {
+    out.writeInt(catalogTableCount);
+    int columnId = 0;
+    for (int tableId = 0; tableId < catalogTableCount; tableId++) {
+      columnId = writeTable(tableId, columnId);
+    }
+  }
+
+  private void writeWeakAssociation(final WeakAssociation weakAssociation) throws IOException {
+    out.writeString(weakAssociation.getName());
+    writeDescribed(weakAssociation);
+    writeColumnReferences(weakAssociation);
+  }
+
+  private int constraintKind(final int tableId, final TableConstraint tableConstraint) {
+    if (tableConstraint == tables.get(tableId).getPrimaryKey()) {
+      return CONSTRAINT_PRIMARY_KEY;
+    }
+    if (tableConstraint instanceof ForeignKey) {
+      return CONSTRAINT_FOREIGN_KEY;
+    }
+    if (indexOf(alternateKeys.get(tableId), tableConstraint) >= 0) {
+      return CONSTRAINT_ALTERNATE_KEY;
+    }
+    return CONSTRAINT_OWN;
+  }
+
+  private int indexOf(final List<PrimaryKey> alternateKeys, final TableConstraint constraint) {
+    for (int i = 0; i < alternateKeys.size(); i++) {
+      if (alternateKeys.get(i) == constraint) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,134 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Compact, immutable map of attributes, held in arrays of keys and values sorted by key, and
+ * looked up by binary search. Used for the attributes of named objects in a frozen catalog.
+ */
+final class CompactAttributes extends AbstractMap<String, Object> implements Serializable {
+
+  private static final long serialVersionUID = 5829414735367618302L;
+
+  private final String[] keys;
+  private final Object[] values;
+
+  CompactAttributes(final Map<String, Object> attributes) {
+    keys = attributes.keySet().toArray(new String[0]);
+    Arrays.sort(keys);
+    values = new Object[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      values[i] = attributes.get(keys[i]);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean containsKey(final Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return new AbstractSet<Entry<String, Object>>() {
+
+      @Override
+      public Iterator<Entry<String, Object>> iterator() {
+        return new Iterator<Entry<String, Object>>() {
+
+          private int position;
+
+          @Override
+          public boolean hasNext() {
+            return position < keys.length;
+          }
+
+          @Override
+          public Entry<String, Object> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            final Entry<String, Object> entry =
+                new SimpleImmutableEntry<>(keys[position], values[position]);
+            position++;
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return keys.length;
+      }
+    };
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object get(final Object key) {
+    final int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+    return values[index];
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object getOrDefault(final Object key, final Object defaultValue) {
+    final int index = indexOf(key);
+    if (index < 0) {
+      return defaultValue;
+    }
+    return values[index];
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int size() {
+    return keys.length;
+  }
+
+  private int indexOf(final Object key) {
+    if (!(key instanceof String)) {
+      return -1;
+    }
+    return Arrays.binarySearch(keys, key);
+  }
+}
@@ -33,15 +33,18 @@ import static schemacrawler.schemacrawler.InformationSchemaKey.FOREIGN_KEYS;
 import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
 import static us.fatehi.utility.Utility.isBlank;
 
-import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 
 import java.util.logging.Logger;
+import schemacrawler.crawl.MetadataRetrievalWorkers.MetadataResults;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ForeignKeyDeferrability;
 import schemacrawler.schema.ForeignKeyUpdateRule;
@@ -135,7 +138,7 @@ final class ForeignKeyRetriever extends AbstractRetriever {
       }
 
       final NamedObjectKey fkLookupKey =
-          new NamedObjectKey(fkTableCatalogName, fkTableSchemaName, specificName);
+          schemaKey(fkTableCatalogName, fkTableSchemaName).with(specificName);
 
       final Optional<MutableForeignKey> foreignKeyOptional =
           Optional.ofNullable(foreignKeys.get(fkLookupKey));
@@ -205,21 +208,45 @@ final class ForeignKeyRetriever extends AbstractRetriever {
 
   private void retrieveForeignKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
       throws SchemaCrawlerSQLException {
-    final Map<NamedObjectKey, MutableForeignKey> foreignKeys = new HashMap<>();
+    final List<MutableTable> tables = new ArrayList<>();
     for (final MutableTable table : allTables) {
       if (table instanceof View) {
         continue;
       }
+      tables.add(table);
+    }
 
-      final DatabaseMetaData metaData = getMetaData();
+    final RetrieverConnection retrieverConnection = getRetrieverConnection();
+    final Iterator<MetadataResults<MutableTable>> importedKeys =
+        retrieverConnection
+            .fetchMetadata(
+                tables,
+                (metaData, table) ->
+                    metaData.getImportedKeys(
+                        table.getSchema().getCatalogName(),
+                        table.getSchema().getName(),
+                        table.getName()))
+            .iterator();
+    final Iterator<MetadataResults<MutableTable>> exportedKeys =
+        retrieverConnection
+            .fetchMetadata(
+                tables,
+                (metaData, table) ->
+                    metaData.getExportedKeys(
+                        table.getSchema().getCatalogName(),
+                        table.getSchema().getName(),
+                        table.getName()))
+            .iterator();
+
+    final Map<NamedObjectKey, MutableForeignKey> foreignKeys = new HashMap<>();
+    while (importedKeys.hasNext() && exportedKeys.hasNext()) {
+      final MetadataResults<MutableTable> importedKeysResults = importedKeys.next();
+      final MetadataResults<MutableTable> exportedKeysResults = exportedKeys.next();
+      final MutableTable table = importedKeysResults.getDatabaseObject();
 
       // Get imported foreign keys
       try (final MetadataResultSet results =
-          new MetadataResultSet(
-              metaData.getImportedKeys(
-                  table.getSchema().getCatalogName(),
-                  table.getSchema().getName(),
-                  table.getName()))) {
+          new MetadataResultSet(importedKeysResults.getResults())) {
         createForeignKeys(results, foreignKeys);
       } catch (final SQLException e) {
         throw new SchemaCrawlerSQLException(
@@ -230,11 +257,7 @@ final class ForeignKeyRetriever extends AbstractRetriever {
       // table is selected, we have not retrieved it's keys that are
       // imported by other tables.
       try (final MetadataResultSet results =
-          new MetadataResultSet(
-              metaData.getExportedKeys(
-                  table.getSchema().getCatalogName(),
-                  table.getSchema().getName(),
-                  table.getName()))) {
+          new MetadataResultSet(exportedKeysResults.getResults())) {
         createForeignKeys(results, foreignKeys);
       } catch (final SQLException e) {
         // Since not all database drivers may support exported keys, log a warning instead of
@@ -38,14 +38,16 @@ import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 
 import java.util.logging.Logger;
+import schemacrawler.crawl.MetadataRetrievalWorkers.MetadataResults;
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.FunctionParameter;
-import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.ParameterModeType;
 import schemacrawler.schema.RoutineType;
 import schemacrawler.schemacrawler.InformationSchemaViews;
@@ -129,7 +131,7 @@ final class FunctionParameterRetriever extends AbstractRetriever {
 
     final Optional<MutableRoutine> optionalRoutine =
         allRoutines.lookup(
-            new NamedObjectKey(columnCatalogName, schemaName, functionName, specificName));
+            schemaKey(columnCatalogName, schemaName).with(functionName).with(specificName));
     if (!optionalRoutine.isPresent()) {
       return;
     }
@@ -217,21 +219,29 @@ final class FunctionParameterRetriever extends AbstractRetriever {
   private void retrieveFunctionParametersFromMetadata(
       final NamedObjectList<MutableRoutine> allRoutines,
       final InclusionRuleFilter<FunctionParameter> parameterFilter) {
+    final List<MutableFunction> functions = new ArrayList<>();
     for (final MutableRoutine routine : allRoutines) {
       if (routine.getRoutineType() != RoutineType.function) {
         continue;
       }
-      final MutableFunction function = (MutableFunction) routine;
+      functions.add((MutableFunction) routine);
+    }
 
+    final Iterable<MetadataResults<MutableFunction>> allResults =
+        getRetrieverConnection()
+            .fetchMetadata(
+                functions,
+                (metaData, function) ->
+                    metaData.getFunctionColumns(
+                        function.getSchema().getCatalogName(),
+                        function.getSchema().getName(),
+                        function.getName(),
+                        null));
+    for (final MetadataResults<MutableFunction> functionResults : allResults) {
+      final MutableFunction function = functionResults.getDatabaseObject();
       LOGGER.log(Level.FINE, "Retrieving function parameters for " + function);
       try (final MetadataResultSet results =
-          new MetadataResultSet(
-              getMetaData()
-                  .getFunctionColumns(
-                      function.getSchema().getCatalogName(),
-                      function.getSchema().getName(),
-                      function.getName(),
-                      null))) {
+          new MetadataResultSet(functionResults.getResults())) {
         while (results.next()) {
           createFunctionParameter(results, allRoutines, parameterFilter);
         }
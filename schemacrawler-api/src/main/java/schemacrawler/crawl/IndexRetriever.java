@@ -35,10 +35,14 @@ import static us.fatehi.utility.Utility.isBlank;
 
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 
 import java.util.logging.Logger;
+import schemacrawler.crawl.MetadataRetrievalWorkers.MetadataCall;
+import schemacrawler.crawl.MetadataRetrievalWorkers.MetadataResults;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.IndexColumnSortSequence;
 import schemacrawler.schema.IndexType;
@@ -198,25 +202,33 @@ final class IndexRetriever extends AbstractRetriever {
 
   private void retrieveIndexesFromMetadata(final NamedObjectList<MutableTable> allTables)
       throws SQLException {
-    for (final MutableTable table : allTables) {
-      retrieveTableIndexesFromMetadata(table, false);
-      retrieveTableIndexesFromMetadata(table, true);
+    final List<MutableTable> tables = allTables.values();
+    final Iterator<MetadataResults<MutableTable>> allIndexes =
+        getRetrieverConnection().fetchMetadata(tables, indexInfo(false)).iterator();
+    final Iterator<MetadataResults<MutableTable>> uniqueIndexes =
+        getRetrieverConnection().fetchMetadata(tables, indexInfo(true)).iterator();
+    while (allIndexes.hasNext() && uniqueIndexes.hasNext()) {
+      retrieveTableIndexesFromMetadata(allIndexes.next());
+      retrieveTableIndexesFromMetadata(uniqueIndexes.next());
     }
   }
 
-  private void retrieveTableIndexesFromMetadata(final MutableTable table, final boolean unique)
-      throws SQLException {
+  private MetadataCall<MutableTable> indexInfo(final boolean unique) {
+    return (metaData, table) -> {
+      final Schema tableSchema = table.getSchema();
+      return metaData.getIndexInfo(
+          tableSchema.getCatalogName(),
+          tableSchema.getName(),
+          table.getName(),
+          unique,
+          true /* approximate */);
+    };
+  }
 
-    final Schema tableSchema = table.getSchema();
-    try (final MetadataResultSet results =
-        new MetadataResultSet(
-            getMetaData()
-                .getIndexInfo(
-                    tableSchema.getCatalogName(),
-                    tableSchema.getName(),
-                    table.getName(),
-                    unique,
-                    true /* approximate */))) {
+  private void retrieveTableIndexesFromMetadata(final MetadataResults<MutableTable> tableResults)
+      throws SQLException {
+    final MutableTable table = tableResults.getDatabaseObject();
+    try (final MetadataResultSet results = new MetadataResultSet(tableResults.getResults())) {
       createIndexes(table, results);
     } catch (final SQLException e) {
       throw new SchemaCrawlerSQLException("Could not retrieve indexes for table " + table, e);
@@ -36,6 +36,7 @@ import static java.sql.Types.LONGVARCHAR;
 import static java.sql.Types.NCLOB;
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.schemacrawler.QueryUtility.executeAgainstSchema;
+import static schemacrawler.utility.CrawlEvents.startMetadataResultsEvent;
 import static schemacrawler.utility.EnumUtility.enumValue;
 import static schemacrawler.utility.EnumUtility.enumValueFromId;
 import static us.fatehi.utility.DatabaseUtility.logSQLWarnings;
@@ -48,23 +49,27 @@ import java.math.BigInteger;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
 import java.util.logging.Level;
-
 import java.util.logging.Logger;
+
+import javax.sql.RowSet;
+
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.IdentifiedEnum;
 import schemacrawler.schema.ResultsColumn;
 import schemacrawler.schema.ResultsColumns;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.utility.BinaryData;
+import schemacrawler.utility.CrawlEvents.TimedEvent;
 import us.fatehi.utility.string.StringFormat;
 
 /**
@@ -82,9 +87,11 @@ public final class MetadataResultSet implements AutoCloseable {
   private static final int FETCHSIZE = 20;
 
   private final ResultsColumns resultsColumns;
+  private final Map<String, ResultsColumn> columnLookup;
   private final ResultSet results;
   private String description;
-  private Set<ResultsColumn> readColumns;
+  private final BitSet readColumns;
+  private final TimedEvent event;
   private int rowCount;
   private boolean showLobs;
 
@@ -97,14 +104,20 @@ public final class MetadataResultSet implements AutoCloseable {
 
   public MetadataResultSet(final ResultSet resultSet) throws SQLException {
     results = requireNonNull(resultSet, "Cannot use null results");
-    try {
-      results.setFetchSize(FETCHSIZE);
-    } catch (final NullPointerException | SQLException e) {
-      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+    // Disconnected row sets have already read all their rows
+    if (!(results instanceof RowSet)) {
+      try {
+        results.setFetchSize(FETCHSIZE);
+      } catch (final NullPointerException | SQLException e) {
+        LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+      }
     }
 
+    event = startMetadataResultsEvent(() -> description, () -> rowCount);
+
     resultsColumns = new ResultsCrawler(results).crawl();
-    readColumns = new HashSet<>();
+    columnLookup = buildColumnLookup(resultsColumns);
+    readColumns = new BitSet();
     showLobs = true;
   }
 
@@ -117,6 +130,8 @@ public final class MetadataResultSet implements AutoCloseable {
   @Override
   public void close() throws SQLException {
     results.close();
+    event.end();
+    MutableRetrievalMetrics.countStatement(rowCount);
 
     if (LOGGER.isLoggable(Level.INFO) && !isBlank(description)) {
       LOGGER.log(Level.INFO, new StringFormat("Processed %d rows for <%s>", rowCount, description));
@@ -125,14 +140,17 @@ public final class MetadataResultSet implements AutoCloseable {
 
   /**
    * Gets unread (and therefore unmapped) columns from the database metadata resultset, and makes
-   * them available as addiiotnal attributes.
+   * them available as addiiotnal attributes. The map is only created if there are unread columns.
    *
    * @return Map of additional attributes to the database object
    */
   public Map<String, Object> getAttributes() {
-    final Map<String, Object> attributes = new HashMap<>();
+    Map<String, Object> attributes = null;
     for (final ResultsColumn resultsColumn : resultsColumns) {
-      if (!readColumns.contains(resultsColumn)) {
+      if (!readColumns.get(resultsColumn.getOrdinalPosition())) {
+        if (attributes == null) {
+          attributes = new HashMap<>();
+        }
         try {
           final String key = resultsColumn.getLabel().toUpperCase();
           final Object value = getColumnData(resultsColumn);
@@ -152,9 +170,35 @@ public final class MetadataResultSet implements AutoCloseable {
         }
       }
     }
+    if (attributes == null) {
+      // All columns were read, so there are no additional attributes
+      return Collections.emptyMap();
+    }
     return attributes;
   }
 
+  /**
+   * Resolves column names, full names and labels to columns once for the result set, so that
+   * values can be read by column index. If more than one column has the same name, the first one
+   * is used.
+   */
+  private static Map<String, ResultsColumn> buildColumnLookup(
+      final ResultsColumns resultsColumns) {
+    final Map<String, ResultsColumn> columnLookup = new HashMap<>();
+    for (final ResultsColumn resultsColumn : resultsColumns) {
+      for (final String name :
+          new String[] {
+            resultsColumn.getLabel(), resultsColumn.getFullName(), resultsColumn.getName()
+          }) {
+        if (name != null) {
+          columnLookup.putIfAbsent(name, resultsColumn);
+          columnLookup.putIfAbsent(name.toUpperCase(Locale.ENGLISH), resultsColumn);
+        }
+      }
+    }
+    return columnLookup;
+  }
+
   public BigInteger getBigInteger(final String columnName) {
     String stringBigInteger = getString(columnName);
     if (isBlank(stringBigInteger)) {
@@ -178,9 +222,10 @@ public final class MetadataResultSet implements AutoCloseable {
    * @return Whether the string evaluates to true
    */
   public boolean getBoolean(final String columnName) {
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        final Object booleanValue = results.getObject(columnName);
+        final Object booleanValue = results.getObject(columnIndex);
         final String stringBooleanValue;
         if (results.wasNull() || booleanValue == null) {
           LOGGER.log(
@@ -266,9 +311,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public int getInt(final String columnName, final int defaultValue) {
     int value = defaultValue;
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        value = results.getInt(columnName);
+        value = results.getInt(columnIndex);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -296,9 +342,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public long getLong(final String columnName, final long defaultValue) {
     long value = defaultValue;
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        value = results.getLong(columnName);
+        value = results.getLong(columnIndex);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -327,9 +374,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public short getShort(final String columnName, final short defaultValue) {
     short value = defaultValue;
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        value = results.getShort(columnName);
+        value = results.getShort(columnIndex);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -356,9 +404,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public String getString(final String columnName) {
     String value = null;
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        value = results.getString(columnName);
+        value = results.getString(columnIndex);
         if (results.wasNull()) {
           value = null;
         }
@@ -376,6 +425,31 @@ public final class MetadataResultSet implements AutoCloseable {
     return value;
   }
 
+  /**
+   * Reads the value of a column from the result set as an instant in time.
+   *
+   * @param columnName Column name
+   * @return Instant value of the column, or null if not available
+   */
+  public Instant getTimestamp(final String columnName) {
+    Instant value = null;
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
+      try {
+        final Timestamp timestamp = results.getTimestamp(columnIndex);
+        if (!results.wasNull() && timestamp != null) {
+          value = timestamp.toInstant();
+        }
+      } catch (final SQLException e) {
+        LOGGER.log(
+            Level.WARNING,
+            e,
+            new StringFormat("Could not read timestamp value for column <%s>", columnName));
+      }
+    }
+    return value;
+  }
+
   /**
    * Moves the cursor down one row from its current position. A <code>ResultSet</code> cursor is
    * initially positioned before the first row; the first call to the method <code>next</code> makes
@@ -386,7 +460,7 @@ public final class MetadataResultSet implements AutoCloseable {
    * @throws SQLException On a database access error
    */
   public boolean next() throws SQLException {
-    readColumns = new HashSet<>();
+    readColumns.clear();
 
     final boolean next = results.next();
     logSQLWarnings(results);
@@ -465,9 +539,25 @@ public final class MetadataResultSet implements AutoCloseable {
     return new BinaryData();
   }
 
-  private boolean useColumn(final String columnName) {
-    final Optional<ResultsColumn> optionalResultsColumn = resultsColumns.lookupColumn(columnName);
-    optionalResultsColumn.ifPresent(readColumns::add);
-    return optionalResultsColumn.isPresent();
+  /**
+   * Looks up a column by name, full name or label, and marks it as read for the current row.
+   *
+   * @param columnName Column name
+   * @return Column index, or 0 if the column is not in the results
+   */
+  private int useColumn(final String columnName) {
+    if (columnName == null) {
+      return 0;
+    }
+    ResultsColumn resultsColumn = columnLookup.get(columnName);
+    if (resultsColumn == null) {
+      resultsColumn = columnLookup.get(columnName.toUpperCase(Locale.ENGLISH));
+    }
+    if (resultsColumn == null) {
+      return 0;
+    }
+    final int columnIndex = resultsColumn.getOrdinalPosition();
+    readColumns.set(columnIndex);
+    return columnIndex;
   }
 }
@@ -0,0 +1,286 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetProvider;
+
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Spreads per-object database metadata calls, such as a call to get the indexes for each table,
+ * across a bounded pool of connections. Results are read fully on the worker connections, and are
+ * handed back in the same order as the database objects, so that the catalog is only ever modified
+ * on the crawling thread. Worker connections are obtained from the connection source when they are
+ * first needed, and closed when the workers are closed.
+ *
+ * @author Sualeh Fatehi
+ */
+final class MetadataRetrievalWorkers implements AutoCloseable {
+
+  /** A metadata call for a single database object. */
+  @FunctionalInterface
+  interface MetadataCall<D> {
+    ResultSet call(DatabaseMetaData metaData, D dbObject) throws SQLException;
+  }
+
+  /** Results of a metadata call for a single database object. */
+  interface MetadataResults<D> {
+
+    D getDatabaseObject();
+
+    /**
+     * Gets the results of the metadata call.
+     *
+     * @return Results of the metadata call
+     * @throws SQLException If the metadata call failed
+     */
+    ResultSet getResults() throws SQLException;
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(MetadataRetrievalWorkers.class.getName());
+
+  /**
+   * Runs metadata calls one at a time on the provided database metadata, as they are needed.
+   *
+   * @param metaData Database metadata to use for the calls
+   * @param dbObjects Database objects, in the order that results are needed
+   * @param call Metadata call for each database object
+   * @return Results for each database object, in order
+   */
+  static <D> Iterable<MetadataResults<D>> fetchSequentially(
+      final DatabaseMetaData metaData,
+      final Collection<D> dbObjects,
+      final MetadataCall<D> call) {
+    requireNonNull(metaData, "No database metadata provided");
+    requireNonNull(dbObjects, "No database objects provided");
+    requireNonNull(call, "No metadata call provided");
+
+    return () -> {
+      final Iterator<D> iterator = dbObjects.iterator();
+      return new Iterator<MetadataResults<D>>() {
+
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public MetadataResults<D> next() {
+          final D dbObject = iterator.next();
+          return new MetadataResults<D>() {
+
+            @Override
+            public D getDatabaseObject() {
+              return dbObject;
+            }
+
+            @Override
+            public ResultSet getResults() throws SQLException {
+              return call.call(metaData, dbObject);
+            }
+          };
+        }
+      };
+    };
+  }
+
+  private final Supplier<Connection> connectionSource;
+  private final int concurrency;
+  private final List<Connection> connections;
+  private final BlockingQueue<Connection> idleConnections;
+  private ExecutorService executorService;
+
+  MetadataRetrievalWorkers(final Supplier<Connection> connectionSource, final int concurrency) {
+    this.connectionSource = requireNonNull(connectionSource, "No connection source provided");
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("Bad concurrency level, " + concurrency);
+    }
+    this.concurrency = concurrency;
+    connections = new ArrayList<>();
+    idleConnections = new LinkedBlockingQueue<>();
+  }
+
+  /** Stops all workers, and closes all worker connections. */
+  @Override
+  public synchronized void close() {
+    if (executorService != null) {
+      executorService.shutdownNow();
+      executorService = null;
+    }
+    for (final Connection connection : connections) {
+      try {
+        connection.close();
+      } catch (final SQLException e) {
+        LOGGER.log(Level.WARNING, "Could not close worker connection", e);
+      }
+    }
+    connections.clear();
+    idleConnections.clear();
+  }
+
+  /**
+   * Runs metadata calls concurrently on the worker connections. Only a bounded number of calls are
+   * run ahead of the results being consumed, so that memory use stays bounded.
+   *
+   * @param dbObjects Database objects, in the order that results are needed
+   * @param call Metadata call for each database object
+   * @return Results for each database object, in order
+   */
+  <D> Iterable<MetadataResults<D>> fetch(
+      final Collection<D> dbObjects, final MetadataCall<D> call) {
+    requireNonNull(dbObjects, "No database objects provided");
+    requireNonNull(call, "No metadata call provided");
+
+    LOGGER.log(
+        Level.FINE,
+        new StringFormat(
+            "Retrieving metadata for %d objects, using %d connections",
+            dbObjects.size(), concurrency));
+
+    return () -> {
+      final Iterator<D> iterator = dbObjects.iterator();
+      final Deque<MetadataResults<D>> pending = new ArrayDeque<>();
+      return new Iterator<MetadataResults<D>>() {
+
+        @Override
+        public boolean hasNext() {
+          fill();
+          return !pending.isEmpty();
+        }
+
+        @Override
+        public MetadataResults<D> next() {
+          fill();
+          if (pending.isEmpty()) {
+            throw new NoSuchElementException();
+          }
+          return pending.removeFirst();
+        }
+
+        private void fill() {
+          while (pending.size() < concurrency * 2 && iterator.hasNext()) {
+            pending.addLast(submit(iterator.next(), call));
+          }
+        }
+      };
+    };
+  }
+
+  private Connection checkOutConnection() throws SQLException {
+    final Connection idleConnection = idleConnections.poll();
+    if (idleConnection != null) {
+      return idleConnection;
+    }
+    final Connection connection =
+        requireNonNull(connectionSource.get(), "No worker connection provided");
+    synchronized (this) {
+      connections.add(connection);
+    }
+    return connection;
+  }
+
+  private synchronized ExecutorService getExecutorService() {
+    if (executorService == null) {
+      executorService =
+          Executors.newFixedThreadPool(
+              concurrency,
+              runnable -> {
+                final Thread thread = new Thread(runnable, "schemacrawler-metadata");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    return executorService;
+  }
+
+  private <D> MetadataResults<D> submit(final D dbObject, final MetadataCall<D> call) {
+    final Future<CachedRowSet> future =
+        getExecutorService()
+            .submit(
+                () -> {
+                  final Connection connection = checkOutConnection();
+                  try (final ResultSet results = call.call(connection.getMetaData(), dbObject)) {
+                    final CachedRowSet cachedResults =
+                        RowSetProvider.newFactory().createCachedRowSet();
+                    cachedResults.populate(results);
+                    return cachedResults;
+                  } finally {
+                    idleConnections.offer(connection);
+                  }
+                });
+
+    return new MetadataResults<D>() {
+
+      @Override
+      public D getDatabaseObject() {
+        return dbObject;
+      }
+
+      @Override
+      public ResultSet getResults() throws SQLException {
+        try {
+          return future.get();
+        } catch (final ExecutionException e) {
+          final Throwable cause = e.getCause();
+          if (cause instanceof SQLException) {
+            throw (SQLException) cause;
+          }
+          throw new SQLException("Could not retrieve metadata for " + dbObject, cause);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new SQLException("Interrupted retrieving metadata for " + dbObject, e);
+        }
+      }
+    };
+  }
+}
@@ -31,15 +31,19 @@ package schemacrawler.crawl;
 import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.isBlank;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnDataType;
-import schemacrawler.schema.CrawlInfo;
 import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.DatabaseUser;
 import schemacrawler.schema.NamedObject;
@@ -50,6 +54,7 @@ import schemacrawler.schema.Schema;
 import schemacrawler.schema.Sequence;
 import schemacrawler.schema.Synonym;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
 import schemacrawler.schemacrawler.SchemaReference;
 
 /**
@@ -85,7 +90,8 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   private final NamedObjectList<MutableSynonym> synonyms = new NamedObjectList<>();
   private final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
   private final NamedObjectList<ImmutableDatabaseUser> databaseUsers = new NamedObjectList<>();
-  private final MutableCrawlInfo crawlInfo;
+  private MutableCrawlInfo crawlInfo;
+  private transient Map<String, Map<String, NamedObjectKey>> schemaKeys;
 
   MutableCatalog(final String name) {
     super(name);
@@ -94,6 +100,28 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
     crawlInfo = new MutableCrawlInfo();
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public synchronized void freeze() {
+    for (final MutableTable table : tables) {
+      table.freeze();
+    }
+    for (final MutableRoutine routine : routines) {
+      routine.freeze();
+    }
+
+    columnDataTypes.freeze();
+    routines.freeze();
+    schemas.freeze();
+    sequences.freeze();
+    synonyms.freeze();
+    tables.freeze();
+    databaseUsers.freeze();
+
+    // Schema keys are only needed while the catalog is being crawled
+    schemaKeys = null;
+  }
+
   /** {@inheritDoc} */
   @Override
   public Collection<ColumnDataType> getColumnDataTypes() {
@@ -114,7 +142,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   }
 
   @Override
-  public CrawlInfo getCrawlInfo() {
+  public MutableCrawlInfo getCrawlInfo() {
     return crawlInfo;
   }
 
@@ -380,10 +408,59 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
     }
   }
 
+  /**
+   * Makes a deep copy of this catalog, with new crawl information, so that the copy can be updated
+   * without changing this catalog. The catalog is copied by writing and reading a catalog snapshot,
+   * which walks the catalog iteratively, rather than following references between objects.
+   *
+   * @return Copy of the catalog
+   */
+  MutableCatalog copy() {
+    try {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      new CatalogSnapshotWriter(this).write(bytes);
+      final MutableCatalog copy =
+          (MutableCatalog)
+              new CatalogSnapshotReader(new ByteArrayInputStream(bytes.toByteArray())).read();
+      copy.crawlInfo = new MutableCrawlInfo();
+      copy.setCrawlInfo();
+      return copy;
+    } catch (final IOException e) {
+      throw new SchemaCrawlerRuntimeException("Could not copy catalog", e);
+    }
+  }
+
   Optional<MutableRoutine> lookupRoutine(final NamedObjectKey routineLookupKey) {
     return routines.lookup(routineLookupKey);
   }
 
+  /**
+   * Looks up the key of a schema in the catalog, so that lookup keys for objects in the schema can
+   * share the catalog and schema names, rather than create new copies for every object. Keys of
+   * schemas that are found are cached for the life of the catalog.
+   *
+   * @param catalogName Catalog name
+   * @param schemaName Schema name
+   * @return Key of the schema in the catalog, or a new key if the schema is not found
+   */
+  synchronized NamedObjectKey lookupSchemaKey(final String catalogName, final String schemaName) {
+    if (schemaKeys == null) {
+      schemaKeys = new HashMap<>();
+    }
+    final Map<String, NamedObjectKey> catalogSchemaKeys =
+        schemaKeys.computeIfAbsent(catalogName, name -> new HashMap<>());
+    NamedObjectKey schemaKey = catalogSchemaKeys.get(schemaName);
+    if (schemaKey == null) {
+      schemaKey = new NamedObjectKey(catalogName, schemaName);
+      final Optional<SchemaReference> optionalSchema = schemas.lookup(schemaKey);
+      if (optionalSchema.isPresent()) {
+        schemaKey = optionalSchema.get().key();
+        catalogSchemaKeys.put(schemaName, schemaKey);
+      }
+    }
+    return schemaKey;
+  }
+
   Optional<MutableTable> lookupTable(final NamedObjectKey tableLookupKey) {
     return tables.lookup(tableLookupKey);
   }
@@ -391,4 +468,9 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   void setCrawlInfo() {
     crawlInfo.setDatabaseInfo(jdbcDriverInfo, databaseInfo);
   }
+
+  void setCrawlInfo(final MutableCrawlInfo crawlInfo) {
+    this.crawlInfo = requireNonNull(crawlInfo, "No crawl information provided");
+    setCrawlInfo();
+  }
 }
@@ -129,6 +129,10 @@ final class MutableColumn extends AbstractColumn<Table> implements Column {
     privileges.add(privilege);
   }
 
+  void freeze() {
+    privileges.freeze();
+  }
+
   void markAsPartOfIndex() {
     isPartOfIndex = true;
   }
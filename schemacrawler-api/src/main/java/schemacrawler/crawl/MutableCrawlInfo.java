@@ -33,6 +33,8 @@ import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_TIME;
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -68,6 +70,7 @@ final class MutableCrawlInfo implements CrawlInfo {
             .toFormatter();
   }
 
+  private MutableCrawlMetrics crawlMetrics;
   private final Instant crawlTimestamp;
   private final ProductVersion jvmVersion;
   private final ProductVersion operatingSystemVersion;
@@ -83,6 +86,33 @@ final class MutableCrawlInfo implements CrawlInfo {
 
     crawlTimestamp = Instant.now();
     runId = UUID.randomUUID();
+    crawlMetrics = new MutableCrawlMetrics();
+  }
+
+  MutableCrawlInfo(
+      final ProductVersion schemaCrawlerVersion,
+      final ProductVersion operatingSystemVersion,
+      final ProductVersion jvmVersion,
+      final Instant crawlTimestamp,
+      final UUID runId,
+      final MutableCrawlMetrics crawlMetrics) {
+    this.schemaCrawlerVersion = requireNonNull(schemaCrawlerVersion, "No version provided");
+    this.operatingSystemVersion =
+        requireNonNull(operatingSystemVersion, "No operating system provided");
+    this.jvmVersion = requireNonNull(jvmVersion, "No JVM provided");
+    this.crawlTimestamp = requireNonNull(crawlTimestamp, "No crawl timestamp provided");
+    this.runId = requireNonNull(runId, "No run id provided");
+    if (crawlMetrics == null) {
+      this.crawlMetrics = new MutableCrawlMetrics();
+    } else {
+      this.crawlMetrics = crawlMetrics;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public MutableCrawlMetrics getCrawlMetrics() {
+    return crawlMetrics;
   }
 
   @Override
@@ -155,4 +185,12 @@ final class MutableCrawlInfo implements CrawlInfo {
     requireNonNull(databaseInfo, "No database information provided");
     this.databaseVersion = new BaseProductVersion(databaseInfo);
   }
+
+  /** Catalogs that were serialized before crawl metrics were measured have no crawl metrics. */
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    if (crawlMetrics == null) {
+      crawlMetrics = new MutableCrawlMetrics();
+    }
+  }
 }
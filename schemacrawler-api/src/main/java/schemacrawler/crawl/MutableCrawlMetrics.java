@@ -0,0 +1,116 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import schemacrawler.schema.CrawlMetrics;
+import schemacrawler.schema.RetrievalMetrics;
+
+/** Measurements for all the retrieval steps of a crawl. Steps may be added from any thread. */
+final class MutableCrawlMetrics implements CrawlMetrics {
+
+  private static final long serialVersionUID = 6316455187722187429L;
+
+  private static void appendJsonString(final StringBuilder buffer, final String value) {
+    buffer.append('"');
+    for (final char ch : value.toCharArray()) {
+      if (ch == '"' || ch == '\\') {
+        buffer.append('\\').append(ch);
+      } else if (ch < ' ') {
+        buffer.append(String.format("\\u%04x", (int) ch));
+      } else {
+        buffer.append(ch);
+      }
+    }
+    buffer.append('"');
+  }
+
+  private final List<RetrievalMetrics> retrievalMetrics = new ArrayList<>();
+
+  @Override
+  public synchronized List<RetrievalMetrics> getRetrievalMetrics() {
+    return new ArrayList<>(retrievalMetrics);
+  }
+
+  @Override
+  public synchronized Duration getTotalElapsedTime() {
+    Duration totalElapsedTime = Duration.ZERO;
+    for (final RetrievalMetrics retrieval : retrievalMetrics) {
+      totalElapsedTime = totalElapsedTime.plus(retrieval.getElapsedTime());
+    }
+    return totalElapsedTime;
+  }
+
+  /**
+   * Exports measurements as JSON. Elapsed times are in milliseconds.
+   *
+   * <pre>
+   * {"total-elapsed-millis":10,"retrievals":[{"phase":"crawlTables","name":"retrieveTables",
+   * "elapsed-millis":10,"statements":1,"rows":20,"objects":20}]}
+   * </pre>
+   */
+  @Override
+  public String toJson() {
+    final StringBuilder buffer = new StringBuilder(1024);
+    buffer.append("{\"total-elapsed-millis\":").append(getTotalElapsedTime().toMillis());
+    buffer.append(",\"retrievals\":[");
+    boolean first = true;
+    for (final RetrievalMetrics retrieval : getRetrievalMetrics()) {
+      if (!first) {
+        buffer.append(',');
+      }
+      first = false;
+      buffer.append("{\"phase\":");
+      appendJsonString(buffer, retrieval.getPhase());
+      buffer.append(",\"name\":");
+      appendJsonString(buffer, retrieval.getName());
+      buffer.append(",\"elapsed-millis\":").append(retrieval.getElapsedTime().toMillis());
+      buffer.append(",\"statements\":").append(retrieval.getStatementCount());
+      buffer.append(",\"rows\":").append(retrieval.getRowCount());
+      buffer.append(",\"objects\":").append(retrieval.getObjectCount());
+      buffer.append('}');
+    }
+    buffer.append("]}");
+    return buffer.toString();
+  }
+
+  @Override
+  public String toString() {
+    return toJson();
+  }
+
+  synchronized void addRetrievalMetrics(final RetrievalMetrics retrieval) {
+    if (retrieval != null) {
+      retrievalMetrics.add(retrieval);
+    }
+  }
+}
@@ -85,6 +85,11 @@ final class MutableFunction extends MutableRoutine implements Function {
     columns.add(column);
   }
 
+  @Override
+  void freeze() {
+    columns.freeze();
+  }
+
   void setReturnType(final FunctionReturnType returnType) {
     this.returnType = requireNonNull(returnType, "Null function return type");
   }
@@ -84,6 +84,11 @@ final class MutableProcedure extends MutableRoutine implements Procedure {
     columns.add(column);
   }
 
+  @Override
+  void freeze() {
+    columns.freeze();
+  }
+
   void setReturnType(final ProcedureReturnType returnType) {
     this.returnType = requireNonNull(returnType, "Null procedure return type");
   }
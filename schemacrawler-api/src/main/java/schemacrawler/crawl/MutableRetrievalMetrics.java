@@ -0,0 +1,151 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import schemacrawler.schema.RetrievalMetrics;
+import us.fatehi.utility.StopWatch.Function;
+
+/**
+ * Measurements for a retrieval step. Work done on the thread that runs the step is counted against
+ * that step.
+ */
+final class MutableRetrievalMetrics implements RetrievalMetrics {
+
+  private static final long serialVersionUID = -2390452383386717416L;
+
+  private static final ThreadLocal<MutableRetrievalMetrics> currentRetrieval = new ThreadLocal<>();
+
+  /** Counts a schema object created by the retrieval step running on the current thread. */
+  static void countObject() {
+    final MutableRetrievalMetrics retrievalMetrics = currentRetrieval.get();
+    if (retrievalMetrics != null) {
+      retrievalMetrics.objectCount++;
+    }
+  }
+
+  /**
+   * Counts a metadata call or query issued by the retrieval step running on the current thread.
+   *
+   * @param rowCount Number of rows processed from the results
+   */
+  static void countStatement(final long rowCount) {
+    final MutableRetrievalMetrics retrievalMetrics = currentRetrieval.get();
+    if (retrievalMetrics != null) {
+      retrievalMetrics.statementCount++;
+      retrievalMetrics.rowCount += rowCount;
+    }
+  }
+
+  private final String phase;
+  private final String name;
+  private Duration elapsedTime;
+  private long objectCount;
+  private long rowCount;
+  private long statementCount;
+
+  MutableRetrievalMetrics(final String phase, final String name) {
+    this.phase = requireNonNull(phase, "No crawl phase provided");
+    this.name = requireNonNull(name, "No retrieval name provided");
+    elapsedTime = Duration.ZERO;
+  }
+
+  MutableRetrievalMetrics(
+      final String phase,
+      final String name,
+      final Duration elapsedTime,
+      final long statementCount,
+      final long rowCount,
+      final long objectCount) {
+    this(phase, name);
+    this.elapsedTime = requireNonNull(elapsedTime, "No elapsed time provided");
+    this.statementCount = statementCount;
+    this.rowCount = rowCount;
+    this.objectCount = objectCount;
+  }
+
+  @Override
+  public Duration getElapsedTime() {
+    return elapsedTime;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public long getObjectCount() {
+    return objectCount;
+  }
+
+  @Override
+  public String getPhase() {
+    return phase;
+  }
+
+  @Override
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  @Override
+  public long getStatementCount() {
+    return statementCount;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s.%s: %s, %d statements, %d rows, %d objects",
+        phase, name, elapsedTime, statementCount, rowCount, objectCount);
+  }
+
+  /**
+   * Runs the retrieval step on the current thread, and measures it.
+   *
+   * @param function Retrieval step
+   * @throws Exception On an exception from the retrieval step
+   */
+  void measure(final Function function) throws Exception {
+    final MutableRetrievalMetrics outerRetrieval = currentRetrieval.get();
+    currentRetrieval.set(this);
+    final Instant start = Instant.now();
+    try {
+      function.call();
+    } finally {
+      elapsedTime = Duration.between(start, Instant.now());
+      currentRetrieval.set(outerRetrieval);
+    }
+  }
+}
@@ -138,6 +138,9 @@ abstract class MutableRoutine extends AbstractDatabaseObject implements Routine
     }
   }
 
+  /** Compacts the routine, with its parameters, once it is fully built. */
+  abstract void freeze();
+
   final void setRoutineBodyType(final RoutineBodyType routineBodyType) {
     this.routineBodyType = routineBodyType;
   }
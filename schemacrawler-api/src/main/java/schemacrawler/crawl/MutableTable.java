@@ -338,14 +338,82 @@ class MutableTable extends AbstractDatabaseObject implements Table {
     }
   }
 
+  /** Compacts the table, with its columns, keys and indexes, once it is fully built. */
+  void freeze() {
+    for (final MutableColumn column : columns) {
+      column.freeze();
+    }
+    for (final MutableColumn column : hiddenColumns) {
+      column.freeze();
+    }
+    for (final TableConstraint constraint : constraints) {
+      if (constraint instanceof MutableTableConstraint) {
+        ((MutableTableConstraint) constraint).freeze();
+      }
+    }
+    for (final MutablePrimaryKey alternateKey : alternateKeys) {
+      alternateKey.freeze();
+    }
+    for (final MutableIndex index : indexes) {
+      index.freeze();
+    }
+    if (primaryKey != null) {
+      primaryKey.freeze();
+    }
+
+    columns.freeze();
+    constraints.freeze();
+    foreignKeys.freeze();
+    weakAssociations.freeze();
+    hiddenColumns.freeze();
+    alternateKeys.freeze();
+    indexes.freeze();
+    privileges.freeze();
+    triggers.freeze();
+  }
+
   NamedObjectList<MutableColumn> getAllColumns() {
     return columns;
   }
 
+  int getSortIndex() {
+    return sortIndex;
+  }
+
   void removeTableConstraint(final TableConstraint tableConstraint) {
     constraints.remove(tableConstraint);
   }
 
+  /**
+   * Removes foreign keys and weak associations that refer to any of the provided tables, along with
+   * column references to those tables.
+   *
+   * @param tables Tables that are no longer in the catalog
+   * @return Whether any foreign keys were removed
+   */
+  boolean removeTableReferences(final Set<? extends Table> tables) {
+    boolean removedForeignKeys = false;
+    for (final MutableForeignKey foreignKey : foreignKeys.values()) {
+      if (refersToAny(foreignKey, tables)) {
+        foreignKeys.remove(foreignKey);
+        constraints.remove(foreignKey);
+        removedForeignKeys = true;
+      }
+    }
+    for (final MutableWeakAssociation weakAssociation : weakAssociations.values()) {
+      if (refersToAny(weakAssociation, tables)) {
+        weakAssociations.remove(weakAssociation);
+      }
+    }
+    for (final MutableColumn column : columns) {
+      final Column referencedColumn = column.getReferencedColumn();
+      if (referencedColumn != null && tables.contains(referencedColumn.getParent())) {
+        column.setReferencedColumn(null);
+      }
+    }
+    return removedForeignKeys;
+  }
+
   final void setPrimaryKey(final MutablePrimaryKey primaryKey) {
     if (primaryKey == null) {
       return;
@@ -412,4 +480,15 @@ class MutableTable extends AbstractDatabaseObject implements Table {
 
     return foreignKeysList;
   }
+
+  private boolean refersToAny(
+      final TableReference tableReference, final Set<? extends Table> tables) {
+    for (final ColumnReference columnReference : tableReference) {
+      if (tables.contains(columnReference.getPrimaryKeyColumn().getParent())
+          || tables.contains(columnReference.getForeignKeyColumn().getParent())) {
+        return true;
+      }
+    }
+    return false;
+  }
 }
@@ -105,6 +105,10 @@ class MutableTableConstraint extends AbstractDependantObject<Table> implements T
     }
   }
 
+  final void freeze() {
+    columns.freeze();
+  }
+
   void setDeferrable(final boolean deferrable) {
     this.deferrable = deferrable;
   }
@@ -83,6 +83,12 @@ class MutableView extends MutableTable implements View {
     }
   }
 
+  @Override
+  void freeze() {
+    super.freeze();
+    tableUsage.freeze();
+  }
+
   void setCheckOption(final CheckOptionType checkOption) {
     this.checkOption = checkOption;
   }
@@ -90,4 +96,9 @@ class MutableView extends MutableTable implements View {
   void setUpdatable(final boolean updatable) {
     this.updatable = updatable;
   }
+
+  /** Sorts the tables used by the view again, after table sort indexes change. */
+  void tableSortOrderChanged() {
+    tableUsage.sortOrderChanged();
+  }
 }
@@ -28,11 +28,14 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Comparator.naturalOrder;
 import static java.util.Objects.requireNonNull;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -52,12 +55,93 @@ import us.fatehi.utility.ObjectToString;
  * Ordered list of named objects, that can be searched associatively. NamedObjectList has the
  * ability to look up by dependent object which is not created yet. That is, by NamedObject +
  * String. Returns values sorted in natural sort order, and is iterable. The iterator does not allow
- * modifications to the underlying data structure.
+ * modifications to the underlying data structure. The sorted values are cached, and sorted again
+ * only after the list is modified, or after the list is told that the sort order of its named
+ * objects has changed. Reading a list never changes it, so frozen lists can be read from more than
+ * one thread.
  */
 final class NamedObjectList<N extends NamedObject> implements Serializable, ReducibleCollection<N> {
 
+  /**
+   * Named objects in a frozen list, in sorted order, with an index of their positions ordered by
+   * key hash code, for lookups by binary search.
+   */
+  private static final class FrozenObjects implements Serializable {
+
+    private static final long serialVersionUID = -3580466829393271590L;
+
+    private final int[] index;
+    private final NamedObject[] objects;
+
+    FrozenObjects(final NamedObject[] objects) {
+      this.objects = objects;
+      // Sort positions by key hash code, by packing the hash code and position into a long
+      final long[] hashedPositions = new long[objects.length];
+      for (int i = 0; i < objects.length; i++) {
+        hashedPositions[i] = (long) keyHash(objects[i]) << 32 | i;
+      }
+      Arrays.sort(hashedPositions);
+      index = new int[objects.length];
+      for (int i = 0; i < index.length; i++) {
+        index[i] = (int) hashedPositions[i];
+      }
+    }
+
+    NamedObject lookup(final NamedObjectKey key) {
+      final int hash = key.hashCode();
+      int low = 0;
+      int high = index.length - 1;
+      while (low <= high) {
+        final int middle = (low + high) >>> 1;
+        final int middleHash = keyHash(objects[index[middle]]);
+        if (middleHash < hash) {
+          low = middle + 1;
+        } else if (middleHash > hash) {
+          high = middle - 1;
+        } else {
+          // Look through all named objects with the same key hash code
+          int position = middle;
+          while (position > 0 && keyHash(objects[index[position - 1]]) == hash) {
+            position--;
+          }
+          for (; position < index.length; position++) {
+            final NamedObject namedObject = objects[index[position]];
+            final NamedObjectKey namedObjectKey = namedObject.key();
+            if (namedObjectKey.hashCode() != hash) {
+              break;
+            }
+            if (key.equals(namedObjectKey)) {
+              return namedObject;
+            }
+          }
+          return null;
+        }
+      }
+      return null;
+    }
+  }
+
+  private static final class SortedValues<N> {
+
+    private final int modificationCount;
+    private final List<N> values;
+
+    SortedValues(final List<N> values, final int modificationCount) {
+      this.values = unmodifiableList(values);
+      this.modificationCount = modificationCount;
+    }
+
+    boolean isCurrent(final int modificationCount) {
+      return this.modificationCount == modificationCount;
+    }
+  }
+
   private static final long serialVersionUID = 3257847666804142128L;
 
+  private static int keyHash(final NamedObject namedObject) {
+    return namedObject.key().hashCode();
+  }
+
   private static NamedObjectKey makeLookupKey(final NamedObject namedObject) {
     final NamedObjectKey key;
     if (namedObject == null) {
@@ -76,7 +160,12 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
     return key;
   }
 
-  private final Map<NamedObjectKey, N> objects = new HashMap<>();
+  // Named objects are held in a map while the list is being built, and in sorted arrays once the
+  // list is frozen - the map is created only when the first named object is added
+  private Map<NamedObjectKey, N> objects;
+  private FrozenObjects frozenObjects;
+  private transient int modificationCount;
+  private transient volatile SortedValues<N> sortedValues;
 
   @Override
   public void filter(final Predicate<? super N> predicate) {
@@ -84,6 +173,26 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
       return;
     }
 
+    if (frozenObjects != null) {
+      final List<NamedObject> retained = new ArrayList<>();
+      for (final NamedObject object : frozenObjects.objects) {
+        final N namedObject = (N) object;
+        if (predicate.test(namedObject)) {
+          retained.add(namedObject);
+        } else {
+          filteredOut(namedObject);
+        }
+      }
+      if (retained.size() < frozenObjects.objects.length) {
+        frozenObjects = new FrozenObjects(retained.toArray(new NamedObject[0]));
+        modificationCount++;
+      }
+      return;
+    }
+    if (objects == null) {
+      return;
+    }
+
     final Set<Entry<NamedObjectKey, N>> entrySet = objects.entrySet();
     for (final Iterator<Entry<NamedObjectKey, N>> iterator = entrySet.iterator();
         iterator.hasNext(); ) {
@@ -91,10 +200,8 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
       final N namedObject = entry.getValue();
       if (!predicate.test(namedObject)) {
         iterator.remove();
-        if (namedObject instanceof AttributedObject) {
-          final AttributedObject attributedObject = (AttributedObject) namedObject;
-          attributedObject.setAttribute("schemacrawler.filtered_out", true);
-        }
+        modificationCount++;
+        filteredOut(namedObject);
       }
     }
   }
@@ -102,30 +209,7 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   /** {@inheritDoc} */
   @Override
   public Iterator<N> iterator() {
-    final class UnmodifiableIterator implements Iterator<N> {
-
-      private final Iterator<N> iterator;
-
-      UnmodifiableIterator(final Iterator<N> iterator) {
-        this.iterator = iterator;
-      }
-
-      @Override
-      public boolean hasNext() {
-        return iterator.hasNext();
-      }
-
-      @Override
-      public N next() {
-        return iterator.next();
-      }
-
-      @Override
-      public void remove() {
-        throw new UnsupportedOperationException();
-      }
-    }
-    return new UnmodifiableIterator(values().iterator());
+    return values().iterator();
   }
 
   /** {@inheritDoc} */
@@ -142,16 +226,45 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   boolean add(final N namedObject) {
     requireNonNull(namedObject, "Cannot add a null object to the list");
     final NamedObjectKey key = makeLookupKey(namedObject);
-    objects.put(key, namedObject);
+    modifiableObjects().put(key, namedObject);
+    modificationCount++;
     return true;
   }
 
   boolean contains(final NamedObject namedObject) {
-    return objects.containsKey(makeLookupKey(namedObject));
+    return internalGet(makeLookupKey(namedObject)).isPresent();
+  }
+
+  /**
+   * Compacts the list once it is fully built. Named objects are held in an array in sorted order,
+   * rather than in a map, and are looked up by a binary search on key hash codes. Any later
+   * additions or removals expand the list back into a map. Attributes of the named objects are
+   * compacted as well.
+   */
+  void freeze() {
+    if (frozenObjects != null) {
+      return;
+    }
+    if (size() == 0) {
+      // Empty lists are already compact
+      objects = null;
+      sortedValues = null;
+      return;
+    }
+    final List<N> values = values();
+    for (final N namedObject : values) {
+      if (namedObject instanceof AbstractNamedObjectWithAttributes) {
+        ((AbstractNamedObjectWithAttributes) namedObject).freezeAttributes();
+      }
+    }
+    // Sorted values are now held by the frozen list itself
+    frozenObjects = new FrozenObjects(values.toArray(new NamedObject[0]));
+    objects = null;
+    sortedValues = null;
   }
 
   boolean isEmpty() {
-    return objects.isEmpty();
+    return size() == 0;
   }
 
   Optional<N> lookup(final NamedObject namedObject, final String name) {
@@ -170,7 +283,26 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   }
 
   N remove(final N namedObject) {
-    return objects.remove(makeLookupKey(namedObject));
+    if (!contains(namedObject)) {
+      return null;
+    }
+    modificationCount++;
+    return modifiableObjects().remove(makeLookupKey(namedObject));
+  }
+
+  /**
+   * Sorts the list again, since named objects in the list have changed in a way that affects their
+   * natural sort order, such as a new table sort index. Frozen lists are sorted into a new array
+   * right away, so that later reads do not change the list.
+   */
+  void sortOrderChanged() {
+    if (frozenObjects != null) {
+      final NamedObject[] sortedObjects = frozenObjects.objects.clone();
+      Arrays.sort(sortedObjects);
+      frozenObjects = new FrozenObjects(sortedObjects);
+    } else {
+      modificationCount++;
+    }
   }
 
   /**
@@ -179,21 +311,73 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
    * @return Number of elements in this list.
    */
   int size() {
+    if (frozenObjects != null) {
+      return frozenObjects.objects.length;
+    }
+    if (objects == null) {
+      return 0;
+    }
     return objects.size();
   }
 
   /**
-   * Gets all named objects in the list, in sorted order.
+   * Gets all named objects in the list, in sorted order. The returned list cannot be modified.
    *
    * @return All named objects
    */
   List<N> values() {
-    final List<N> all = new ArrayList<>(objects.values());
-    all.sort(naturalOrder());
-    return all;
+    if (size() == 0) {
+      return emptyList();
+    }
+    final FrozenObjects frozenObjects = this.frozenObjects;
+    if (frozenObjects != null) {
+      // Frozen objects are kept in sorted order
+      return unmodifiableList(Arrays.asList((N[]) frozenObjects.objects));
+    }
+
+    SortedValues<N> sortedValues = this.sortedValues;
+    if (sortedValues == null || !sortedValues.isCurrent(modificationCount)) {
+      final List<N> all = new ArrayList<>(objects.values());
+      all.sort(naturalOrder());
+      sortedValues = new SortedValues<>(all, modificationCount);
+      this.sortedValues = sortedValues;
+    }
+    return sortedValues.values;
+  }
+
+  private void filteredOut(final N namedObject) {
+    if (namedObject instanceof AttributedObject) {
+      final AttributedObject attributedObject = (AttributedObject) namedObject;
+      attributedObject.setAttribute("schemacrawler.filtered_out", true);
+    }
   }
 
   private Optional<N> internalGet(final NamedObjectKey key) {
+    if (key == null) {
+      return Optional.empty();
+    }
+    final FrozenObjects frozenObjects = this.frozenObjects;
+    if (frozenObjects != null) {
+      return Optional.ofNullable((N) frozenObjects.lookup(key));
+    }
+    if (objects == null) {
+      return Optional.empty();
+    }
     return Optional.ofNullable(objects.get(key));
   }
+
+  /** Gets the map of named objects, expanding a frozen list back into a map if needed. */
+  private Map<NamedObjectKey, N> modifiableObjects() {
+    if (frozenObjects != null) {
+      objects = new HashMap<>();
+      for (final NamedObject object : frozenObjects.objects) {
+        final N namedObject = (N) object;
+        objects.put(namedObject.key(), namedObject);
+      }
+      frozenObjects = null;
+    } else if (objects == null) {
+      objects = new HashMap<>();
+    }
+    return objects;
+  }
 }
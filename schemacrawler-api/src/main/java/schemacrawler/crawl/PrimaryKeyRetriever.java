@@ -34,10 +34,13 @@ import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.pr
 
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 
 import java.util.logging.Logger;
+import schemacrawler.crawl.MetadataRetrievalWorkers.MetadataResults;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.View;
 import schemacrawler.schemacrawler.InformationSchemaViews;
@@ -149,16 +152,26 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
 
   private void retrievePrimaryKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
       throws SQLException {
+    final List<MutableTable> tables = new ArrayList<>();
     for (final MutableTable table : allTables) {
       if (table instanceof View) {
         continue;
       }
-      final Schema tableSchema = table.getSchema();
-      try (final MetadataResultSet results =
-          new MetadataResultSet(
-              getMetaData()
-                  .getPrimaryKeys(
-                      tableSchema.getCatalogName(), tableSchema.getName(), table.getName()))) {
+      tables.add(table);
+    }
+
+    final Iterable<MetadataResults<MutableTable>> allResults =
+        getRetrieverConnection()
+            .fetchMetadata(
+                tables,
+                (metaData, table) -> {
+                  final Schema tableSchema = table.getSchema();
+                  return metaData.getPrimaryKeys(
+                      tableSchema.getCatalogName(), tableSchema.getName(), table.getName());
+                });
+    for (final MetadataResults<MutableTable> tableResults : allResults) {
+      final MutableTable table = tableResults.getDatabaseObject();
+      try (final MetadataResultSet results = new MetadataResultSet(tableResults.getResults())) {
         while (results.next()) {
           createPrimaryKeyForTable(table, results);
         }
@@ -37,13 +37,15 @@ import static us.fatehi.utility.Utility.isBlank;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 
 import java.util.logging.Logger;
+import schemacrawler.crawl.MetadataRetrievalWorkers.MetadataResults;
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.inclusionrule.InclusionRule;
-import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.ParameterModeType;
 import schemacrawler.schema.ProcedureParameter;
 import schemacrawler.schema.RoutineType;
@@ -128,7 +130,7 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
 
     final Optional<MutableRoutine> optionalRoutine =
         allRoutines.lookup(
-            new NamedObjectKey(columnCatalogName, schemaName, procedureName, specificName));
+            schemaKey(columnCatalogName, schemaName).with(procedureName).with(specificName));
     if (!optionalRoutine.isPresent()) {
       return;
     }
@@ -218,21 +220,29 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
       final NamedObjectList<MutableRoutine> allRoutines,
       final InclusionRuleFilter<ProcedureParameter> parameterFilter)
       throws SchemaCrawlerSQLException {
+    final List<MutableProcedure> procedures = new ArrayList<>();
     for (final MutableRoutine routine : allRoutines) {
       if (routine.getRoutineType() != RoutineType.procedure) {
         continue;
       }
+      procedures.add((MutableProcedure) routine);
+    }
 
-      final MutableProcedure procedure = (MutableProcedure) routine;
+    final Iterable<MetadataResults<MutableProcedure>> allResults =
+        getRetrieverConnection()
+            .fetchMetadata(
+                procedures,
+                (metaData, procedure) ->
+                    metaData.getProcedureColumns(
+                        procedure.getSchema().getCatalogName(),
+                        procedure.getSchema().getName(),
+                        procedure.getName(),
+                        null));
+    for (final MetadataResults<MutableProcedure> procedureResults : allResults) {
+      final MutableProcedure procedure = procedureResults.getDatabaseObject();
       LOGGER.log(Level.FINE, "Retrieving procedure parameters for " + procedure);
       try (final MetadataResultSet results =
-          new MetadataResultSet(
-              getMetaData()
-                  .getProcedureColumns(
-                      procedure.getSchema().getCatalogName(),
-                      procedure.getSchema().getName(),
-                      procedure.getName(),
-                      null))) {
+          new MetadataResultSet(procedureResults.getResults())) {
         while (results.next()) {
           createProcedureParameter(results, allRoutines, parameterFilter);
         }
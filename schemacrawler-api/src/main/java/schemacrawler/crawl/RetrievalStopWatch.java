@@ -28,13 +28,27 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
-
+import static schemacrawler.utility.CrawlEvents.startRetrievalEvent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 import java.util.logging.Level;
-
 import java.util.logging.Logger;
+
 import schemacrawler.schemacrawler.SchemaInfoLevel;
 import schemacrawler.schemacrawler.SchemaInfoRetrieval;
+import schemacrawler.utility.CrawlEvents.TimedEvent;
 import us.fatehi.utility.StopWatch;
 import us.fatehi.utility.StopWatch.Function;
 
@@ -43,15 +57,31 @@ public final class RetrievalStopWatch {
   private static final Logger LOGGER =
       Logger.getLogger(RetrievalStopWatch.class.getName());
 
+  private static final DateTimeFormatter df = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
   private StopWatch stopWatch;
+  private String crawl;
   private final SchemaInfoLevel infoLevel;
+  private final MutableCrawlMetrics crawlMetrics;
 
   public RetrievalStopWatch(final SchemaInfoLevel infoLevel) {
+    this(infoLevel, null);
+  }
+
+  /**
+   * Stop-watch that also records measurements for each retrieval step that is run.
+   *
+   * @param infoLevel Schema info-level, which determines the retrieval steps that are run
+   * @param crawlMetrics Crawl metrics to add measurements to, or null to not record them
+   */
+  RetrievalStopWatch(final SchemaInfoLevel infoLevel, final MutableCrawlMetrics crawlMetrics) {
     this.infoLevel = requireNonNull(infoLevel, "No info-level provided");
+    this.crawlMetrics = crawlMetrics;
     reset("none");
   }
 
   public void reset(final String crawl) {
+    this.crawl = crawl;
     stopWatch = new StopWatch(crawl);
     LOGGER.log(Level.INFO, "Running " + crawl);
   }
@@ -69,6 +99,67 @@ public final class RetrievalStopWatch {
     return stringify;
   }
 
+  /**
+   * Runs crawl phases at the same time, and waits for all of them to complete. The wall-clock time
+   * for each phase is logged, along with the elapsed time for all the phases together, and the
+   * time saved by overlapping them.
+   *
+   * @param crawl Name of the concurrent crawl
+   * @param executorService Executor to run the phases on
+   * @param phases Phases to run, by name
+   * @throws Exception The first exception thrown by any phase
+   */
+  public void timeConcurrently(
+      final String crawl,
+      final ExecutorService executorService,
+      final Map<String, Function> phases)
+      throws Exception {
+    requireNonNull(executorService, "No executor provided");
+    requireNonNull(phases, "No crawl phases provided");
+
+    LOGGER.log(Level.INFO, "Running " + crawl);
+
+    final Instant start = Instant.now();
+    final Map<String, Future<Duration>> futures = new LinkedHashMap<>();
+    for (final Entry<String, Function> phase : phases.entrySet()) {
+      final Function function = phase.getValue();
+      futures.put(
+          phase.getKey(),
+          executorService.submit(
+              () -> {
+                final Instant phaseStart = Instant.now();
+                function.call();
+                return Duration.between(phaseStart, Instant.now());
+              }));
+    }
+
+    final Map<String, Duration> phaseDurations = new LinkedHashMap<>();
+    final List<Exception> exceptions = new ArrayList<>();
+    for (final Entry<String, Future<Duration>> future : futures.entrySet()) {
+      try {
+        phaseDurations.put(future.getKey(), future.getValue().get());
+      } catch (final ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof Exception) {
+          exceptions.add((Exception) cause);
+        } else {
+          exceptions.add(e);
+        }
+      }
+    }
+    final Duration wallClock = Duration.between(start, Instant.now());
+
+    LOGGER.log(Level.INFO, stringify(crawl, wallClock, phaseDurations));
+
+    if (!exceptions.isEmpty()) {
+      final Exception exception = exceptions.get(0);
+      for (int i = 1; i < exceptions.size(); i++) {
+        exception.addSuppressed(exceptions.get(i));
+      }
+      throw exception;
+    }
+  }
+
   public void time(
       final SchemaInfoRetrieval retrieval,
       final Function function,
@@ -87,6 +178,36 @@ public final class RetrievalStopWatch {
     time(retrievalName, run, function);
   }
 
+  private Supplier<String> stringify(
+      final String crawl, final Duration wallClock, final Map<String, Duration> phaseDurations) {
+    return () -> {
+      Duration totalDuration = Duration.ZERO;
+      for (final Duration duration : phaseDurations.values()) {
+        totalDuration = totalDuration.plus(duration);
+      }
+      Duration overlap = totalDuration.minus(wallClock);
+      if (overlap.isNegative()) {
+        overlap = Duration.ZERO;
+      }
+
+      final StringBuilder buffer = new StringBuilder(1024);
+      buffer.append(
+          String.format(
+              "Total time taken for <%s> - %s hours, with %s hours of overlap%n",
+              crawl, format(wallClock), format(overlap)));
+      for (final Entry<String, Duration> phaseDuration : phaseDurations.entrySet()) {
+        buffer.append(
+            String.format(
+                "- %s - <%s>%n", format(phaseDuration.getValue()), phaseDuration.getKey()));
+      }
+      return buffer.toString();
+    };
+  }
+
+  private String format(final Duration duration) {
+    return LocalTime.ofNanoOfDay(duration.toNanos()).format(df);
+  }
+
   private boolean run(final SchemaInfoRetrieval... additionalRetrievals) {
     boolean run = true;
     if (additionalRetrievals != null && additionalRetrievals.length > 0) {
@@ -104,7 +225,22 @@ public final class RetrievalStopWatch {
         () -> {
           if (run) {
             LOGGER.log(Level.INFO, "Running " + retrievalName);
-            function.call();
+            final TimedEvent event = startRetrievalEvent(crawl, retrievalName);
+            try {
+              if (crawlMetrics == null) {
+                function.call();
+              } else {
+                final MutableRetrievalMetrics retrievalMetrics =
+                    new MutableRetrievalMetrics(crawl, retrievalName);
+                try {
+                  retrievalMetrics.measure(function);
+                } finally {
+                  crawlMetrics.addRetrievalMetrics(retrievalMetrics);
+                }
+              }
+            } finally {
+              event.end();
+            }
           } else {
             LOGGER.log(Level.INFO, retrievalName + " not requested");
           }
@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.MetadataRetrievalWorkers.fetchSequentially;
 import static us.fatehi.utility.DatabaseUtility.checkConnection;
 import static us.fatehi.utility.Utility.isBlank;
 
@@ -37,9 +38,12 @@ import java.sql.DatabaseMetaData;
 import java.sql.Driver;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import schemacrawler.crawl.MetadataRetrievalWorkers.MetadataCall;
+import schemacrawler.crawl.MetadataRetrievalWorkers.MetadataResults;
 import schemacrawler.plugin.EnumDataTypeHelper;
 import schemacrawler.schema.TableTypes;
 import schemacrawler.schemacrawler.InformationSchemaViews;
@@ -64,10 +68,19 @@ final class RetrieverConnection {
   private final DatabaseMetaData metaData;
   private final SchemaRetrievalOptions schemaRetrievalOptions;
   private final TableTypes tableTypes;
+  private final MetadataRetrievalWorkers metadataRetrievalWorkers;
 
   RetrieverConnection(
       final Connection connection, final SchemaRetrievalOptions schemaRetrievalOptions)
       throws SQLException {
+    this(connection, schemaRetrievalOptions, null);
+  }
+
+  RetrieverConnection(
+      final Connection connection,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final MetadataRetrievalWorkers metadataRetrievalWorkers)
+      throws SQLException {
 
     this.connection = checkConnection(connection);
     metaData = requireNonNull(connection.getMetaData(), "No database metadata obtained");
@@ -78,6 +91,7 @@ final class RetrieverConnection {
     LOGGER.log(Level.CONFIG, new StringFormat("Supported table types are <%s>", tableTypes));
 
     javaSqlTypes = new JavaSqlTypes();
+    this.metadataRetrievalWorkers = metadataRetrievalWorkers;
   }
 
   public MetadataRetrievalStrategy get(
@@ -111,6 +125,23 @@ final class RetrieverConnection {
     return jdbcDriver;
   }
 
+  /**
+   * Runs a metadata call for each database object, on worker connections if they are available, or
+   * else one at a time on this connection.
+   *
+   * @param dbObjects Database objects, in the order that results are needed
+   * @param call Metadata call for each database object
+   * @return Results for each database object, in order
+   */
+  <D> Iterable<MetadataResults<D>> fetchMetadata(
+      final Collection<D> dbObjects, final MetadataCall<D> call) {
+    if (metadataRetrievalWorkers == null) {
+      return fetchSequentially(metaData, dbObjects, call);
+    } else {
+      return metadataRetrievalWorkers.fetch(dbObjects, call);
+    }
+  }
+
   Connection getConnection() {
     return connection;
   }
@@ -94,13 +94,19 @@ public final class RetrieverUtility {
    * added to the schema. This is prevent foreign key relationships from having a null pointer.
    */
   static Column lookupOrCreateColumn(
-      final Catalog catalog,
+      final MutableCatalog catalog,
       final String catalogName,
       final String schemaName,
       final String tableName,
       final String columnName) {
-    return lookupOrCreateColumn(
-        catalog, new SchemaReference(catalogName, schemaName), tableName, columnName);
+    requireNonNull(catalog, "No catalog provided");
+    // Use the schema in the catalog, if there is one, so that catalog and schema names are shared
+    final Schema schema =
+        catalog
+            .getAllSchemas()
+            .lookup(catalog.lookupSchemaKey(catalogName, schemaName))
+            .orElseGet(() -> new SchemaReference(catalogName, schemaName));
+    return lookupOrCreateColumn(catalog, schema, tableName, columnName);
   }
 
   private RetrieverUtility() {
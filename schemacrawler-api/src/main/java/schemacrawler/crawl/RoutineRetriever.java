@@ -47,7 +47,6 @@ import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Function;
 import schemacrawler.schema.FunctionReturnType;
-import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Procedure;
 import schemacrawler.schema.ProcedureReturnType;
 import schemacrawler.schema.RoutineType;
@@ -114,7 +113,7 @@ final class RoutineRetriever extends AbstractRetriever {
     final String specificName = results.getString("SPECIFIC_NAME");
 
     final Optional<SchemaReference> optionalSchema =
-        schemas.lookup(new NamedObjectKey(catalogName, schemaName));
+        schemas.lookup(schemaKey(catalogName, schemaName));
     if (!optionalSchema.isPresent()) {
       return;
     }
@@ -150,7 +149,7 @@ final class RoutineRetriever extends AbstractRetriever {
     final String specificName = results.getString("SPECIFIC_NAME");
 
     final Optional<SchemaReference> optionalSchema =
-        schemas.lookup(new NamedObjectKey(catalogName, schemaName));
+        schemas.lookup(schemaKey(catalogName, schemaName));
     if (!optionalSchema.isPresent()) {
       return;
     }
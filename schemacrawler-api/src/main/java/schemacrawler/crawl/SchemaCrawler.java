@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.SchemaFingerprinter.SCHEMA_FINGERPRINT;
 import static schemacrawler.filter.ReducerFactory.getRoutineReducer;
 import static schemacrawler.filter.ReducerFactory.getSchemaReducer;
 import static schemacrawler.filter.ReducerFactory.getSequenceReducer;
@@ -41,6 +42,7 @@ import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleFor
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSequenceInclusion;
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSynonymInclusion;
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_DDL_TIMESTAMPS;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveAdditionalColumnAttributes;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveAdditionalColumnMetadata;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveAdditionalDatabaseInfo;
@@ -73,17 +75,31 @@ import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveViewTableU
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Routine;
 import schemacrawler.schema.RoutineType;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Sequence;
 import schemacrawler.schema.Synonym;
 import schemacrawler.schema.Table;
+import schemacrawler.schema.View;
 import schemacrawler.schemacrawler.LimitOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -91,6 +107,7 @@ import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
 import schemacrawler.schemacrawler.SchemaInfoLevel;
 import schemacrawler.schemacrawler.SchemaReference;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import us.fatehi.utility.StopWatch.Function;
 import us.fatehi.utility.string.StringFormat;
 
 /**
@@ -100,12 +117,33 @@ import us.fatehi.utility.string.StringFormat;
  */
 public final class SchemaCrawler {
 
+  @FunctionalInterface
+  private interface CrawlPhase {
+    void crawl(RetrieverConnection retrieverConnection, RetrievalStopWatch stopWatch)
+        throws Exception;
+  }
+
   private static final Logger LOGGER = Logger.getLogger(SchemaCrawler.class.getName());
 
+  /**
+   * Catalog attribute for the time on the database server when the table DDL change times were
+   * retrieved, which is the baseline for the next incremental crawl.
+   */
+  static final String TABLE_DDL_BASELINE = "schemacrawler.table_ddl_baseline";
+
+  /**
+   * Table DDL change times that are this close to the baseline are treated as changed, to allow
+   * for transactions that were in flight, and for the precision of data dictionary times.
+   */
+  private static final Duration DDL_TIME_SAFETY_MARGIN = Duration.ofMinutes(1);
+
   private final SchemaCrawlerOptions options;
+  private final SchemaRetrievalOptions schemaRetrievalOptions;
+  private final Supplier<Connection> connectionSource;
+  private final MetadataRetrievalWorkers metadataRetrievalWorkers;
   private final RetrieverConnection retrieverConnection;
   private final SchemaInfoLevel infoLevel;
-  private final RetrievalStopWatch stopWatch;
+  private RetrievalStopWatch stopWatch;
   private MutableCatalog catalog;
 
   /**
@@ -121,11 +159,39 @@ public final class SchemaCrawler {
       final SchemaRetrievalOptions schemaRetrievalOptions,
       final SchemaCrawlerOptions options)
       throws SchemaCrawlerException {
+    this(connection, null, schemaRetrievalOptions, options);
+  }
+
+  /**
+   * Constructs a SchemaCrawler object, from a connection, that crawls tables, routines and
+   * sequences at the same time. Tables are crawled on the provided connection, and routines and
+   * sequences are each crawled on their own connection, obtained from the connection source. These
+   * additional connections are closed once they are no longer needed. If the schema retrieval
+   * options allow for a metadata retrieval concurrency of more than one, per-table and per-routine
+   * metadata calls are also spread across that many more connections from the connection source.
+   *
+   * @param connection An database connection.
+   * @param connectionSource Source of additional connections to the same database, or null to
+   *     crawl on a single connection
+   * @param schemaRetrievalOptions Database-specific schema retrieval overrides
+   * @param options SchemaCrawler options
+   * @throws SQLException
+   */
+  public SchemaCrawler(
+      final Connection connection,
+      final Supplier<Connection> connectionSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions options)
+      throws SchemaCrawlerException {
     try {
-      retrieverConnection = new RetrieverConnection(connection, schemaRetrievalOptions);
+      metadataRetrievalWorkers =
+          newMetadataRetrievalWorkers(connectionSource, schemaRetrievalOptions);
+      retrieverConnection =
+          new RetrieverConnection(connection, schemaRetrievalOptions, metadataRetrievalWorkers);
+      this.schemaRetrievalOptions = schemaRetrievalOptions;
+      this.connectionSource = connectionSource;
       this.options = requireNonNull(options, "No SchemaCrawler options provided");
       infoLevel = options.getLoadOptions().getSchemaInfoLevel();
-      stopWatch = new RetrievalStopWatch(infoLevel);
     } catch (final SQLException e) {
       throw new SchemaCrawlerException(e.getMessage(), e);
     }
@@ -139,17 +205,87 @@ public final class SchemaCrawler {
    */
   public Catalog crawl() throws SchemaCrawlerException {
     catalog = new MutableCatalog("catalog");
+    stopWatch = newStopWatch();
     try {
 
       crawlDatabaseInfo();
       LOGGER.log(Level.INFO, String.format("%n%s", catalog.getCrawlInfo()));
 
+      crawlSchemaFingerprint();
+      crawlTableDdlBaseline();
       crawlSchemas();
       crawlColumnDataTypes();
-      crawlTables();
-      crawlRoutines();
+      if (connectionSource == null) {
+        crawlTables(retrieverConnection, stopWatch);
+        crawlRoutines(retrieverConnection, stopWatch);
+        crawlSynonyms();
+        crawlSequences(retrieverConnection, stopWatch);
+      } else {
+        crawlConcurrently();
+        // Synonyms refer to tables and routines, so they are crawled last
+        crawlSynonyms();
+      }
+
+      return catalog;
+    } catch (final SchemaCrawlerSQLException e) {
+      throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+    } catch (final SchemaCrawlerException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new SchemaCrawlerException(e.getMessage(), e);
+    } finally {
+      if (metadataRetrievalWorkers != null) {
+        metadataRetrievalWorkers.close();
+      }
+    }
+  }
+
+  /**
+   * Crawls the database again, starting from a catalog that was obtained by crawling the same
+   * database with the same options. Details are only retrieved for tables that have been created or
+   * altered since the earlier crawl, based on the time of the last DDL change for each table from
+   * the data dictionary, and tables that have been dropped are removed. DDL change times are
+   * compared with the time on the database server when the earlier catalog was crawled, if the data
+   * dictionary provides it, otherwise with the time of the earlier crawl on this machine. Tables
+   * that have not changed, database information and column data types are carried over from the
+   * earlier catalog, which is itself not modified. Routines, synonyms and sequences are crawled in
+   * full.
+   * If the data dictionary does not provide DDL change times, the database is crawled in full.
+   *
+   * @param previousCatalog Catalog from an earlier crawl
+   * @return Database metadata
+   * @throws SchemaCrawlerException On an exception
+   */
+  public Catalog crawl(final Catalog previousCatalog) throws SchemaCrawlerException {
+    requireNonNull(previousCatalog, "No previous catalog provided");
+    if (!(previousCatalog instanceof MutableCatalog) || !infoLevel.is(retrieveTables)) {
+      LOGGER.log(Level.INFO, "Cannot crawl incrementally, so crawling the database in full");
+      return crawl();
+    }
+    if (!retrieverConnection.getInformationSchemaViews().hasQuery(EXT_TABLE_DDL_TIMESTAMPS)) {
+      LOGGER.log(
+          Level.INFO,
+          "Table DDL timestamps SQL statement was not provided, so crawling the database in full");
+      return crawl();
+    }
+
+    catalog = ((MutableCatalog) previousCatalog).copy();
+    stopWatch = newStopWatch();
+    try {
+
+      LOGGER.log(Level.INFO, String.format("%n%s", catalog.getCrawlInfo()));
+
+      crawlSchemaFingerprint();
+      crawlSchemas();
+      crawlTablesIncrementally(getTableDdlBaseline(previousCatalog));
+
+      // Routines, synonyms and sequences are retrieved again in full
+      catalog.reduce(Routine.class, routines -> routines.filter(routine -> false));
+      catalog.reduce(Synonym.class, synonyms -> synonyms.filter(synonym -> false));
+      catalog.reduce(Sequence.class, sequences -> sequences.filter(sequence -> false));
+      crawlRoutines(retrieverConnection, stopWatch);
       crawlSynonyms();
-      crawlSequences();
+      crawlSequences(retrieverConnection, stopWatch);
 
       return catalog;
     } catch (final SchemaCrawlerSQLException e) {
@@ -158,10 +294,15 @@ public final class SchemaCrawler {
       throw e;
     } catch (final Exception e) {
       throw new SchemaCrawlerException(e.getMessage(), e);
+    } finally {
+      if (metadataRetrievalWorkers != null) {
+        metadataRetrievalWorkers.close();
+      }
     }
   }
 
-  private void crawlAdditionalTableColumnInformation(final TableExtRetriever retrieverExtra)
+  private void crawlAdditionalTableColumnInformation(
+      final RetrievalStopWatch stopWatch, final TableExtRetriever retrieverExtra)
       throws Exception {
     LOGGER.log(Level.INFO, "Retrieving additional table column information");
     stopWatch.time(
@@ -179,7 +320,9 @@ public final class SchemaCrawler {
   }
 
   private void crawlAdditionalTableInformation(
-      final TableConstraintRetriever constraintRetriever, final TableExtRetriever retrieverExtra)
+      final RetrievalStopWatch stopWatch,
+      final TableConstraintRetriever constraintRetriever,
+      final TableExtRetriever retrieverExtra)
       throws Exception {
     stopWatch.time(
         retrieveTableConstraintDefinitions,
@@ -212,6 +355,27 @@ public final class SchemaCrawler {
     stopWatch.stopAndLogTime();
   }
 
+  /**
+   * Crawls tables, routines and sequences at the same time. Each of these phases adds objects to
+   * its own list in the catalog, and column data types are shared safely between them.
+   *
+   * @throws Exception On an exception
+   */
+  private void crawlConcurrently() throws Exception {
+    final Map<String, Function> phases = new LinkedHashMap<>();
+    phases.put(
+        "crawlTables", () -> crawlTables(retrieverConnection, newStopWatch()));
+    phases.put("crawlRoutines", onNewConnection(this::crawlRoutines));
+    phases.put("crawlSequences", onNewConnection(this::crawlSequences));
+
+    final ExecutorService executorService = Executors.newFixedThreadPool(phases.size());
+    try {
+      stopWatch.timeConcurrently("crawlConcurrently", executorService, phases);
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
   private void crawlDatabaseInfo() throws Exception {
 
     if (!infoLevel.is(retrieveDatabaseInfo)) {
@@ -238,7 +402,9 @@ public final class SchemaCrawler {
     stopWatch.stopAndLogTime();
   }
 
-  private void crawlRoutines() throws Exception {
+  private void crawlRoutines(
+      final RetrieverConnection retrieverConnection, final RetrievalStopWatch stopWatch)
+      throws Exception {
 
     final LimitOptions limitOptions = options.getLimitOptions();
     if (!(infoLevel.is(retrieveRoutines) && !limitOptions.isExcludeAll(ruleForRoutineInclusion))) {
@@ -290,6 +456,8 @@ public final class SchemaCrawler {
         () -> {
           // Filter the list of routines based on grep criteria
           catalog.reduce(Routine.class, getRoutineReducer(options));
+          // Routines with the same name are sorted by their parameters
+          allRoutines.sortOrderChanged();
         });
 
     stopWatch.time(retrieveRoutineInformation, retrieverExtra::retrieveRoutineInformation);
@@ -297,6 +465,44 @@ public final class SchemaCrawler {
     stopWatch.stopAndLogTime();
   }
 
+  /**
+   * Stamps the catalog with a fingerprint of the database structure, taken before anything else is
+   * retrieved, so that a change made during the crawl shows up as a change later. The crawl does
+   * not fail if the fingerprint cannot be retrieved. The fingerprint costs an extra query, so it
+   * is only retrieved if it was requested.
+   */
+  private void crawlSchemaFingerprint() throws Exception {
+
+    // A fingerprint carried over from an earlier crawl no longer matches the catalog
+    catalog.removeAttribute(SCHEMA_FINGERPRINT);
+
+    if (!options.getLoadOptions().isSchemaFingerprint()) {
+      LOGGER.log(Level.INFO, "Not retrieving schema fingerprint, since it was not requested");
+      return;
+    }
+    if (!infoLevel.is(retrieveTables)) {
+      LOGGER.log(Level.INFO, "Not retrieving schema fingerprint, since tables were not requested");
+      return;
+    }
+
+    stopWatch.reset("crawlSchemaFingerprint");
+
+    final SchemaFingerprintRetriever retriever =
+        new SchemaFingerprintRetriever(retrieverConnection, catalog, options);
+
+    stopWatch.time(
+        "retrieveSchemaFingerprint",
+        () -> {
+          try {
+            catalog.setAttribute(SCHEMA_FINGERPRINT, retriever.retrieveSchemaFingerprint());
+          } catch (final SQLException e) {
+            LOGGER.log(Level.WARNING, "Could not retrieve schema fingerprint", e);
+          }
+        });
+
+    stopWatch.stopAndLogTime();
+  }
+
   private void crawlSchemas() throws Exception {
 
     stopWatch.reset("crawlSchemas");
@@ -319,7 +525,9 @@ public final class SchemaCrawler {
     LOGGER.log(Level.INFO, new StringFormat("Retrieved %d schemas", schemas.size()));
   }
 
-  private void crawlSequences() throws Exception {
+  private void crawlSequences(
+      final RetrieverConnection retrieverConnection, final RetrievalStopWatch stopWatch)
+      throws Exception {
 
     final LimitOptions limitOptions = options.getLimitOptions();
     if (!(infoLevel.is(retrieveSequenceInformation)
@@ -369,17 +577,50 @@ public final class SchemaCrawler {
     stopWatch.stopAndLogTime();
   }
 
-  private void crawlTables() throws Exception {
-
-    final LimitOptions limitOptions = options.getLimitOptions();
-    if (!(infoLevel.is(retrieveTables) && !limitOptions.isExcludeAll(ruleForTableInclusion))) {
-      LOGGER.log(Level.INFO, "Not retrieving tables, since this was not requested");
+  /**
+   * Stamps the catalog with the time on the database server before tables are retrieved, so that
+   * the catalog can later be crawled again incrementally. The baseline is only available if the
+   * data dictionary provides table DDL change times, and the crawl does not fail without it. The
+   * baseline costs a query over the data dictionary, so it is only retrieved if it was requested.
+   */
+  private void crawlTableDdlBaseline() throws Exception {
+    if (!options.getLoadOptions().isTableDdlBaseline()) {
+      LOGGER.log(Level.INFO, "Not retrieving table DDL baseline, since it was not requested");
+      return;
+    }
+    if (!infoLevel.is(retrieveTables)
+        || !retrieverConnection.getInformationSchemaViews().hasQuery(EXT_TABLE_DDL_TIMESTAMPS)) {
       return;
     }
 
-    stopWatch.reset("crawlTables");
+    stopWatch.reset("crawlTableDdlBaseline");
+
+    final TableChangesRetriever retriever =
+        new TableChangesRetriever(retrieverConnection, catalog, options);
+
+    stopWatch.time(
+        "retrieveTableDdlBaseline",
+        () -> {
+          try {
+            retriever.retrieveTableDdlTimestamps();
+            setTableDdlBaseline(retriever.getDatabaseTimestamp());
+          } catch (final SQLException e) {
+            LOGGER.log(Level.WARNING, "Could not retrieve table DDL baseline", e);
+          }
+        });
+
+    stopWatch.stopAndLogTime();
+  }
+
+  private void crawlTableDetails(
+      final RetrieverConnection retrieverConnection,
+      final RetrievalStopWatch stopWatch,
+      final NamedObjectList<MutableTable> tables,
+      final boolean limitToTables)
+      throws Exception {
+
+    final LimitOptions limitOptions = options.getLimitOptions();
 
-    final TableRetriever retriever = new TableRetriever(retrieverConnection, catalog, options);
     final TableColumnRetriever columnRetriever =
         new TableColumnRetriever(retrieverConnection, catalog, options);
     final PrimaryKeyRetriever pkRetriever =
@@ -391,56 +632,53 @@ public final class SchemaCrawler {
     final TableExtRetriever retrieverExtra =
         new TableExtRetriever(retrieverConnection, catalog, options);
     final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection, catalog, options);
-
-    stopWatch.time(
-        retrieveTables,
-        () -> {
-          LOGGER.log(Level.INFO, "Retrieving table names");
-          retriever.retrieveTables(
-              limitOptions.getTableNamePattern(),
-              limitOptions.getTableTypes(),
-              limitOptions.get(ruleForTableInclusion));
-        });
-
-    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
-    LOGGER.log(Level.INFO, new StringFormat("Retrieved %d tables", allTables.size()));
-    if (allTables.isEmpty()) {
-      return;
+    if (limitToTables) {
+      for (final AbstractRetriever retriever :
+          new AbstractRetriever[] {
+            columnRetriever,
+            pkRetriever,
+            fkRetriever,
+            constraintRetriever,
+            retrieverExtra,
+            indexRetriever
+          }) {
+        retriever.limitToTables(tables);
+      }
     }
 
     stopWatch.time(
         retrieveTableColumns,
         () -> {
           if (!limitOptions.isExcludeAll(ruleForColumnInclusion)) {
-            columnRetriever.retrieveTableColumns(
-                allTables, limitOptions.get(ruleForColumnInclusion));
+            columnRetriever.retrieveTableColumns(tables, limitOptions.get(ruleForColumnInclusion));
           }
         });
 
     stopWatch.time(
-        retrievePrimaryKeys,
-        () -> pkRetriever.retrievePrimaryKeys(allTables),
-        retrieveTableColumns);
+        retrievePrimaryKeys, () -> pkRetriever.retrievePrimaryKeys(tables), retrieveTableColumns);
 
     stopWatch.time(
-        retrieveForeignKeys,
-        () -> fkRetriever.retrieveForeignKeys(allTables),
-        retrieveTableColumns);
+        retrieveForeignKeys, () -> fkRetriever.retrieveForeignKeys(tables), retrieveTableColumns);
 
     stopWatch.time(
         "filterAndSortTables",
         () -> {
           // Filter the list of tables based on grep criteria, and
           // parent-child relationships
+          final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
           catalog.reduce(Table.class, getTableReducer(options));
+          if (limitToTables) {
+            tables.filter(allTables::contains);
+          }
 
           // Sort the remaining tables
           final TablesGraph tablesGraph = new TablesGraph(allTables);
           tablesGraph.setTablesSortIndexes();
+          tables.sortOrderChanged();
         });
 
     stopWatch.time(
-        retrieveIndexes, () -> indexRetriever.retrieveIndexes(allTables), retrieveTableColumns);
+        retrieveIndexes, () -> indexRetriever.retrieveIndexes(tables), retrieveTableColumns);
 
     LOGGER.log(Level.INFO, "Retrieving additional table information");
     stopWatch.time(
@@ -449,14 +687,211 @@ public final class SchemaCrawler {
     // Required step: Match all constraints such as primary keys and foreign keys
     stopWatch.time(
         "matchTableConstraints",
-        () -> constraintRetriever.matchTableConstraints(allTables),
+        () -> constraintRetriever.matchTableConstraints(tables),
         retrieveTableColumns);
 
     stopWatch.time(retrieveTriggerInformation, retrieverExtra::retrieveTriggerInformation);
 
-    crawlAdditionalTableInformation(constraintRetriever, retrieverExtra);
-    crawlAdditionalTableColumnInformation(retrieverExtra);
+    crawlAdditionalTableInformation(stopWatch, constraintRetriever, retrieverExtra);
+    crawlAdditionalTableColumnInformation(stopWatch, retrieverExtra);
+  }
+
+  private void crawlTables(
+      final RetrieverConnection retrieverConnection, final RetrievalStopWatch stopWatch)
+      throws Exception {
+
+    final LimitOptions limitOptions = options.getLimitOptions();
+    if (!(infoLevel.is(retrieveTables) && !limitOptions.isExcludeAll(ruleForTableInclusion))) {
+      LOGGER.log(Level.INFO, "Not retrieving tables, since this was not requested");
+      return;
+    }
+
+    stopWatch.reset("crawlTables");
+
+    final TableRetriever retriever = new TableRetriever(retrieverConnection, catalog, options);
+
+    stopWatch.time(
+        retrieveTables,
+        () -> {
+          LOGGER.log(Level.INFO, "Retrieving table names");
+          retriever.retrieveTables(
+              limitOptions.getTableNamePattern(),
+              limitOptions.getTableTypes(),
+              limitOptions.get(ruleForTableInclusion));
+        });
+
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+    LOGGER.log(Level.INFO, new StringFormat("Retrieved %d tables", allTables.size()));
+    if (allTables.isEmpty()) {
+      return;
+    }
+
+    crawlTableDetails(retrieverConnection, stopWatch, allTables, false);
+
+    stopWatch.stopAndLogTime();
+  }
+
+  /**
+   * Removes tables that have been dropped or altered since the previous crawl from the catalog,
+   * along with views that use them, and then retrieves all details for tables that are not in the
+   * catalog. Tables that have not changed are left as they are.
+   *
+   * @param baseline Time on the database server when the previous crawl was done
+   * @throws Exception On an exception
+   */
+  private void crawlTablesIncrementally(final Instant baseline) throws Exception {
+
+    final LimitOptions limitOptions = options.getLimitOptions();
+    if (limitOptions.isExcludeAll(ruleForTableInclusion)) {
+      LOGGER.log(Level.INFO, "Not retrieving tables, since this was not requested");
+      return;
+    }
+
+    stopWatch.reset("crawlTablesIncrementally");
+
+    final TableChangesRetriever changesRetriever =
+        new TableChangesRetriever(retrieverConnection, catalog, options);
+    final TableRetriever retriever = new TableRetriever(retrieverConnection, catalog, options);
+
+    final Map<NamedObjectKey, Instant> tableDdlTimestamps = new HashMap<>();
+    stopWatch.time(
+        "retrieveTableDdlTimestamps",
+        () -> {
+          tableDdlTimestamps.putAll(changesRetriever.retrieveTableDdlTimestamps());
+          setTableDdlBaseline(changesRetriever.getDatabaseTimestamp());
+        });
+
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+    final NamedObjectList<MutableTable> affectedTables = new NamedObjectList<>();
+    stopWatch.time(
+        "removeChangedTables",
+        () -> {
+          final Set<MutableTable> removedTables = new HashSet<>();
+          for (final MutableTable table : allTables) {
+            final NamedObjectKey tableKey = table.key();
+            if (!tableDdlTimestamps.containsKey(tableKey)
+                || isChangedSince(tableDdlTimestamps.get(tableKey), baseline)) {
+              removedTables.add(table);
+            }
+          }
+          // Views that use removed tables need to be retrieved again too
+          boolean foundDependentViews;
+          do {
+            foundDependentViews = false;
+            for (final MutableTable table : allTables) {
+              if (table instanceof View
+                  && !removedTables.contains(table)
+                  && !Collections.disjoint(((View) table).getTableUsage(), removedTables)) {
+                removedTables.add(table);
+                foundDependentViews = true;
+              }
+            }
+          } while (foundDependentViews);
+
+          for (final MutableTable table : removedTables) {
+            allTables.remove(table);
+          }
+          for (final MutableTable table : allTables) {
+            if (table.removeTableReferences(removedTables)) {
+              affectedTables.add(table);
+            }
+          }
+          LOGGER.log(
+              Level.INFO,
+              new StringFormat("Removed %d dropped or changed tables", removedTables.size()));
+        });
+
+    final Set<String> unchangedTableNames = new HashSet<>();
+    for (final MutableTable table : allTables) {
+      unchangedTableNames.add(table.getFullName());
+    }
+    final InclusionRule tableInclusionRule = limitOptions.get(ruleForTableInclusion);
+    stopWatch.time(
+        retrieveTables,
+        () -> {
+          LOGGER.log(Level.INFO, "Retrieving names of new and changed tables");
+          retriever.retrieveTables(
+              limitOptions.getTableNamePattern(),
+              limitOptions.getTableTypes(),
+              tableName ->
+                  !unchangedTableNames.contains(tableName) && tableInclusionRule.test(tableName));
+        });
+
+    final NamedObjectList<MutableTable> changedTables = new NamedObjectList<>();
+    for (final MutableTable table : allTables) {
+      if (!unchangedTableNames.contains(table.getFullName())) {
+        changedTables.add(table);
+      }
+    }
+    LOGGER.log(
+        Level.INFO, new StringFormat("Retrieved %d new and changed tables", changedTables.size()));
+
+    if (!changedTables.isEmpty()) {
+      crawlTableDetails(retrieverConnection, stopWatch, changedTables, true);
+    }
+
+    // Foreign keys from unchanged tables to changed tables were retrieved again
+    final TableConstraintRetriever constraintRetriever =
+        new TableConstraintRetriever(retrieverConnection, catalog, options);
+    stopWatch.time(
+        "matchTableConstraints",
+        () -> constraintRetriever.matchTableConstraints(affectedTables),
+        retrieveTableColumns);
 
     stopWatch.stopAndLogTime();
   }
+
+  private Instant getTableDdlBaseline(final Catalog previousCatalog) {
+    final Object baseline = previousCatalog.getAttribute(TABLE_DDL_BASELINE);
+    if (baseline instanceof Instant) {
+      return (Instant) baseline;
+    }
+    LOGGER.log(
+        Level.INFO,
+        "Database server time of the previous crawl is not known, "
+            + "so comparing table DDL change times with the time of the previous crawl; "
+            + "crawl with the table DDL baseline load option to use the database server time");
+    return previousCatalog.getCrawlInfo().getCrawlTimestampInstant();
+  }
+
+  private boolean isChangedSince(final Instant lastDdlTime, final Instant baseline) {
+    return lastDdlTime == null || !lastDdlTime.isBefore(baseline.minus(DDL_TIME_SAFETY_MARGIN));
+  }
+
+  private MetadataRetrievalWorkers newMetadataRetrievalWorkers(
+      final Supplier<Connection> connectionSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions) {
+    if (connectionSource == null
+        || schemaRetrievalOptions == null
+        || schemaRetrievalOptions.getMetadataRetrievalConcurrency() <= 1) {
+      return null;
+    }
+    return new MetadataRetrievalWorkers(
+        connectionSource, schemaRetrievalOptions.getMetadataRetrievalConcurrency());
+  }
+
+  /**
+   * Creates a stop-watch that records the measurements for each retrieval step in the crawl
+   * information of the catalog being crawled.
+   */
+  private RetrievalStopWatch newStopWatch() {
+    return new RetrievalStopWatch(infoLevel, catalog.getCrawlInfo().getCrawlMetrics());
+  }
+
+  private Function onNewConnection(final CrawlPhase crawlPhase) {
+    return () -> {
+      try (final Connection connection =
+          requireNonNull(connectionSource.get(), "No connection provided")) {
+        final RetrieverConnection phaseConnection =
+            new RetrieverConnection(connection, schemaRetrievalOptions, metadataRetrievalWorkers);
+        crawlPhase.crawl(phaseConnection, newStopWatch());
+      }
+    };
+  }
+
+  private void setTableDdlBaseline(final Instant databaseTimestamp) {
+    if (databaseTimestamp != null) {
+      catalog.setAttribute(TABLE_DDL_BASELINE, databaseTimestamp);
+    }
+  }
 }
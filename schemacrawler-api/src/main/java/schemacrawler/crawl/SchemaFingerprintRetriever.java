@@ -0,0 +1,146 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_SCHEMA_FINGERPRINT;
+import static us.fatehi.utility.Utility.sha256Digest;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
+import schemacrawler.schemacrawler.SchemaReference;
+
+/**
+ * A retriever that computes a digest of the database structure, which changes when tables are
+ * created or dropped. If the data dictionary provides an aggregate query, such as counts of objects
+ * and the time of the last DDL change, the digest is computed from its results, and also changes
+ * when tables are altered. If not, the digest is computed from the names and types of all tables.
+ *
+ * @author Sualeh Fatehi
+ */
+final class SchemaFingerprintRetriever extends AbstractRetriever {
+
+  private static final Logger LOGGER =
+      Logger.getLogger(SchemaFingerprintRetriever.class.getName());
+
+  SchemaFingerprintRetriever(
+      final RetrieverConnection retrieverConnection,
+      final MutableCatalog catalog,
+      final SchemaCrawlerOptions options) {
+    super(retrieverConnection, catalog, options);
+  }
+
+  /**
+   * Computes a digest of the structure of the schemas that are included for crawling. The digest
+   * is the same for as long as the database structure does not change.
+   *
+   * @return Hex encoded digest
+   * @throws SQLException On a SQL exception
+   */
+  String retrieveSchemaFingerprint() throws SQLException {
+    final List<String> values;
+    final InformationSchemaViews informationSchemaViews =
+        getRetrieverConnection().getInformationSchemaViews();
+    if (informationSchemaViews.hasQuery(EXT_SCHEMA_FINGERPRINT)) {
+      values = retrieveFingerprintFromDataDictionary(informationSchemaViews);
+    } else {
+      values = retrieveFingerprintFromTables();
+    }
+    // Databases do not all return rows in the same order
+    values.sort(null);
+    return sha256Digest(values);
+  }
+
+  private List<String> retrieveFingerprintFromDataDictionary(
+      final InformationSchemaViews informationSchemaViews) throws SQLException {
+    LOGGER.log(Level.INFO, "Retrieving schema fingerprint from the data dictionary");
+
+    final InclusionRule schemaInclusionRule = getSchemaInclusionRule();
+    final List<String> values = new ArrayList<>();
+    final Query schemaFingerprintSql = informationSchemaViews.getQuery(EXT_SCHEMA_FINGERPRINT);
+    try (final Statement statement = createStatement();
+        final MetadataResultSet results =
+            new MetadataResultSet(schemaFingerprintSql, statement, schemaInclusionRule)) {
+      while (results.next()) {
+        final String row = String.valueOf(results.row());
+        // Not every database can filter schemas by a regular expression in SQL,
+        // so rows for schemas that are not included are skipped here
+        final String schemaName = results.getString("TABLE_SCHEMA");
+        if (schemaName != null) {
+          final SchemaReference schema =
+              new SchemaReference(
+                  normalizeCatalogName(results.getString("TABLE_CATALOG")),
+                  normalizeSchemaName(schemaName));
+          if (!schemaInclusionRule.test(schema.getFullName())) {
+            continue;
+          }
+        }
+        values.add(row);
+      }
+    } catch (final SQLException e) {
+      throw new SchemaCrawlerSQLException(
+          "Could not retrieve schema fingerprint from SQL:\n" + schemaFingerprintSql, e);
+    }
+    return values;
+  }
+
+  private List<String> retrieveFingerprintFromTables() throws SQLException {
+    LOGGER.log(Level.INFO, "Retrieving schema fingerprint from table names");
+
+    final InclusionRule schemaInclusionRule = getSchemaInclusionRule();
+    final List<String> values = new ArrayList<>();
+    try (final ResultSet results = getMetaData().getTables(null, null, "%", null)) {
+      while (results.next()) {
+        final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
+        final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
+        final SchemaReference schema = new SchemaReference(catalogName, schemaName);
+        if (!schemaInclusionRule.test(schema.getFullName())) {
+          continue;
+        }
+        values.add(
+            String.format(
+                "%s.%s.%s",
+                schema.getFullName(),
+                results.getString("TABLE_NAME"),
+                results.getString("TABLE_TYPE")));
+      }
+    }
+    return values;
+  }
+}
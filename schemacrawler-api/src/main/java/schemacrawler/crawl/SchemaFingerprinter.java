@@ -0,0 +1,115 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+
+/**
+ * Computes a cheap fingerprint of the database structure, to find out whether anything has changed
+ * since a catalog was crawled, without crawling the database again. The fingerprint comes from a
+ * single aggregate query on the data dictionary if one is provided, or else from the names of all
+ * tables. Catalogs are stamped with the fingerprint of the database when they are crawled.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class SchemaFingerprinter {
+
+  /** Catalog attribute that holds the fingerprint of the database when it was crawled. */
+  public static final String SCHEMA_FINGERPRINT = "schemacrawler.schema_fingerprint";
+
+  private final RetrieverConnection retrieverConnection;
+  private final SchemaCrawlerOptions options;
+
+  /**
+   * Constructs a fingerprinter for a database connection. The same schema retrieval options and
+   * SchemaCrawler options that were used to crawl a catalog should be used to check it.
+   *
+   * @param connection An database connection.
+   * @param schemaRetrievalOptions Database-specific schema retrieval overrides
+   * @param options SchemaCrawler options
+   * @throws SchemaCrawlerException On an exception
+   */
+  public SchemaFingerprinter(
+      final Connection connection,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions options)
+      throws SchemaCrawlerException {
+    try {
+      retrieverConnection = new RetrieverConnection(connection, schemaRetrievalOptions);
+      this.options = requireNonNull(options, "No SchemaCrawler options provided");
+    } catch (final SQLException e) {
+      throw new SchemaCrawlerException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Computes the fingerprint of the database structure.
+   *
+   * @return Hex encoded digest, which is the same for as long as the database structure does not
+   *     change
+   * @throws SchemaCrawlerException On an exception
+   */
+  public String fingerprint() throws SchemaCrawlerException {
+    try {
+      return new SchemaFingerprintRetriever(
+              retrieverConnection, new MutableCatalog("catalog"), options)
+          .retrieveSchemaFingerprint();
+    } catch (final SchemaCrawlerSQLException e) {
+      throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+    } catch (final SQLException e) {
+      throw new SchemaCrawlerException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Checks whether the database structure has changed since the catalog was crawled. Catalogs
+   * without a fingerprint are always treated as changed.
+   *
+   * @param catalog Catalog from an earlier crawl
+   * @return Whether the database structure has changed
+   * @throws SchemaCrawlerException On an exception
+   */
+  public boolean isChanged(final Catalog catalog) throws SchemaCrawlerException {
+    requireNonNull(catalog, "No catalog provided");
+    final Object catalogFingerprint = catalog.getAttribute(SCHEMA_FINGERPRINT);
+    if (catalogFingerprint == null) {
+      return true;
+    }
+    return !catalogFingerprint.equals(fingerprint());
+  }
+}
@@ -39,7 +39,6 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.inclusionrule.InclusionRule;
-import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Sequence;
 import schemacrawler.schemacrawler.InformationSchemaViews;
@@ -106,7 +105,7 @@ final class SequenceRetriever extends AbstractRetriever {
         final boolean cycle = results.getBoolean("CYCLE_OPTION");
 
         final Optional<SchemaReference> optionalSchema =
-            schemas.lookup(new NamedObjectKey(catalogName, schemaName));
+            schemas.lookup(schemaKey(catalogName, schemaName));
         if (!optionalSchema.isPresent()) {
           continue;
         }
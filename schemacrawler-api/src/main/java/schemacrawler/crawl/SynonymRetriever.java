@@ -55,7 +55,7 @@ import us.fatehi.utility.string.StringFormat;
  */
 final class SynonymRetriever extends AbstractRetriever {
 
-  private static final class UnknownDatabaseObject extends AbstractDatabaseObject {
+  static final class UnknownDatabaseObject extends AbstractDatabaseObject {
 
     private static final long serialVersionUID = -2212843304418302122L;
 
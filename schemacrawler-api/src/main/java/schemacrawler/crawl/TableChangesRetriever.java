@@ -0,0 +1,129 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_DDL_TIMESTAMPS;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
+import schemacrawler.schemacrawler.SchemaReference;
+
+/**
+ * A retriever that uses the data dictionary to find out when the structure of each table was last
+ * changed, so that only changed tables need to be crawled again. The current time on the database
+ * server is retrieved with the same query, so that DDL change times are only ever compared with
+ * times from the database server clock.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableChangesRetriever extends AbstractRetriever {
+
+  private static final Logger LOGGER = Logger.getLogger(TableChangesRetriever.class.getName());
+
+  private Instant databaseTimestamp;
+
+  TableChangesRetriever(
+      final RetrieverConnection retrieverConnection,
+      final MutableCatalog catalog,
+      final SchemaCrawlerOptions options) {
+    super(retrieverConnection, catalog, options);
+  }
+
+  /**
+   * Gets the time on the database server when the table DDL timestamps were retrieved.
+   *
+   * @return Database server time, or null if the data dictionary query does not provide it
+   */
+  Instant getDatabaseTimestamp() {
+    return databaseTimestamp;
+  }
+
+  /**
+   * Retrieves the time of the last DDL change for every table and view in the included schemas.
+   * Tables that are not in the results no longer exist. Tables with an unknown DDL change time are mapped to
+   * null.
+   *
+   * @return Map of table lookup keys to the time of the last DDL change
+   * @throws SQLException On a SQL exception
+   */
+  Map<NamedObjectKey, Instant> retrieveTableDdlTimestamps() throws SQLException {
+    final InformationSchemaViews informationSchemaViews =
+        getRetrieverConnection().getInformationSchemaViews();
+    if (!informationSchemaViews.hasQuery(EXT_TABLE_DDL_TIMESTAMPS)) {
+      throw new SchemaCrawlerSQLException("No table DDL timestamps SQL provided", null);
+    }
+
+    LOGGER.log(Level.INFO, "Retrieving table DDL timestamps");
+
+    databaseTimestamp = null;
+    final InclusionRule schemaInclusionRule = getSchemaInclusionRule();
+    final Map<NamedObjectKey, Instant> tableDdlTimestamps = new HashMap<>();
+    final Query tableDdlTimestampsSql = informationSchemaViews.getQuery(EXT_TABLE_DDL_TIMESTAMPS);
+    try (final Statement statement = createStatement();
+        final MetadataResultSet results =
+            new MetadataResultSet(tableDdlTimestampsSql, statement, schemaInclusionRule)) {
+      while (results.next()) {
+        final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
+        final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEMA"));
+        final String tableName = results.getString("TABLE_NAME");
+        final Instant lastDdlTime = results.getTimestamp("LAST_DDL_TIME");
+        final Instant rowDatabaseTimestamp = results.getTimestamp("DATABASE_TIMESTAMP");
+        if (rowDatabaseTimestamp != null
+            && (databaseTimestamp == null || rowDatabaseTimestamp.isBefore(databaseTimestamp))) {
+          databaseTimestamp = rowDatabaseTimestamp;
+        }
+
+        // Not every database can filter schemas by a regular expression in SQL,
+        // so rows for schemas that are not included are skipped here
+        if (!schemaInclusionRule.test(
+            new SchemaReference(catalogName, schemaName).getFullName())) {
+          continue;
+        }
+        tableDdlTimestamps.put(schemaKey(catalogName, schemaName).with(tableName), lastDdlTime);
+      }
+    } catch (final SQLException e) {
+      throw new SchemaCrawlerSQLException(
+          "Could not retrieve table DDL timestamps from SQL:\n" + tableDdlTimestampsSql, e);
+    }
+
+    return tableDdlTimestamps;
+  }
+}
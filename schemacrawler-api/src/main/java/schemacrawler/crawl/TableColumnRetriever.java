@@ -49,7 +49,6 @@ import java.util.logging.Logger;
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Column;
-import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -132,7 +131,7 @@ final class TableColumnRetriever extends AbstractRetriever {
     }
 
     final Optional<MutableTable> optionalTable =
-        allTables.lookup(new NamedObjectKey(columnCatalogName, schemaName, tableName));
+        allTables.lookup(schemaKey(columnCatalogName, schemaName).with(tableName));
     if (!optionalTable.isPresent()) {
       return;
     }
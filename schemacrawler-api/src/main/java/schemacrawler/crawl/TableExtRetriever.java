@@ -132,7 +132,7 @@ final class TableExtRetriever extends AbstractRetriever {
   void retrieveAdditionalColumnMetadata() {
     final EnumDataTypeHelper enumDataTypeHelper = getRetrieverConnection().getEnumDataTypeHelper();
 
-    final NamedObjectList<MutableTable> tables = catalog.getAllTables();
+    final NamedObjectList<MutableTable> tables = getTablesInScope();
     for (final MutableTable table : tables) {
       final NamedObjectList<MutableColumn> columns = table.getAllColumns();
       for (final MutableColumn column : columns) {
@@ -510,8 +510,9 @@ final class TableExtRetriever extends AbstractRetriever {
         final String tableSchemaName = normalizeSchemaName(results.getString("TABLE_SCHEMA"));
         final String tableName = results.getString("TABLE_NAME");
 
+        // Used tables may not be in scope, so look them up in the catalog
         final Optional<MutableTable> tableOptional =
-            lookupTable(tableCatalogName, tableSchemaName, tableName);
+            catalog.lookupTable(schemaKey(tableCatalogName, tableSchemaName).with(tableName));
         if (!tableOptional.isPresent()) {
           LOGGER.log(
               Level.FINE,
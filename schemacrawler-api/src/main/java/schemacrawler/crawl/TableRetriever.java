@@ -40,7 +40,6 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.inclusionrule.InclusionRule;
-import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.TableType;
@@ -118,7 +117,7 @@ final class TableRetriever extends AbstractRetriever {
     final String remarks = results.getString("REMARKS");
 
     final Optional<SchemaReference> optionalSchema =
-        schemas.lookup(new NamedObjectKey(catalogName, schemaName));
+        schemas.lookup(schemaKey(catalogName, schemaName));
     if (!optionalSchema.isPresent()) {
       return;
     }
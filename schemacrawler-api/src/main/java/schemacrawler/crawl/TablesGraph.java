@@ -45,9 +45,12 @@ final class TablesGraph extends DirectedGraph<Table> {
   private static final Logger LOGGER =
       Logger.getLogger(TablesGraph.class.getName());
 
+  private final NamedObjectList<MutableTable> tables;
+
   TablesGraph(final NamedObjectList<MutableTable> tables) {
     super("catalog");
 
+    this.tables = tables;
     if (tables == null) {
       return;
     }
@@ -84,6 +87,16 @@ final class TablesGraph extends DirectedGraph<Table> {
           sortIndex++;
         }
       }
+
+      // Sorted lists do not track table sort indexes, so sort the affected lists again
+      if (tables != null) {
+        tables.sortOrderChanged();
+      }
+      for (final View view : sortedViews) {
+        if (view instanceof MutableView) {
+          ((MutableView) view).tableSortOrderChanged();
+        }
+      }
     } catch (final GraphException e) {
       LOGGER.log(Level.CONFIG, e.getMessage());
     }
@@ -38,6 +38,15 @@ import java.util.Optional;
  */
 public interface Catalog extends NamedObject, AttributedObject, DescribedObject, Reducible {
 
+  /**
+   * Compacts the catalog once it is fully loaded, so that it takes less memory. Lookups, iteration
+   * and reducing the catalog work just as before. Adding or removing objects afterwards expands the
+   * affected parts of the catalog again. Catalogs that cannot be compacted do nothing.
+   */
+  default void freeze() {
+    // No-op
+  }
+
   /**
    * Gets the column data types
    *
@@ -34,6 +34,15 @@ import schemacrawler.ProductVersion;
 
 public interface CrawlInfo extends Serializable {
 
+  /**
+   * Gets measurements of the work done in each retrieval step of the crawl.
+   *
+   * @return Crawl metrics, which are empty if retrieval steps were not measured
+   */
+  default CrawlMetrics getCrawlMetrics() {
+    return new EmptyCrawlMetrics();
+  }
+
   /**
    * Gets the timestamp of when the database was crawled, in UTC, in ISO 8501 format, with precision
    * to the second.
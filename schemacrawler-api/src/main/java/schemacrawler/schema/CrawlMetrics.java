@@ -0,0 +1,59 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.schema;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.List;
+
+/** Measurements of the work done in each retrieval step of a crawl. */
+public interface CrawlMetrics extends Serializable {
+
+  /**
+   * Gets measurements for each retrieval step that was run, in the order that the steps completed.
+   *
+   * @return Measurements for each retrieval step
+   */
+  List<RetrievalMetrics> getRetrievalMetrics();
+
+  /**
+   * Gets the total elapsed time for all retrieval steps. If steps were run at the same time, this
+   * is more than the wall-clock time for the crawl.
+   *
+   * @return Total elapsed time
+   */
+  Duration getTotalElapsedTime();
+
+  /**
+   * Exports measurements as JSON, so that crawl performance can be compared across runs.
+   *
+   * @return Measurements as a JSON string
+   */
+  String toJson();
+}
@@ -0,0 +1,59 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.schema;
+
+import static java.util.Collections.emptyList;
+
+import java.time.Duration;
+import java.util.List;
+
+/** Crawl metrics for crawl information that does not measure retrieval steps. */
+final class EmptyCrawlMetrics implements CrawlMetrics {
+
+  private static final long serialVersionUID = -3520839117429871453L;
+
+  @Override
+  public List<RetrievalMetrics> getRetrievalMetrics() {
+    return emptyList();
+  }
+
+  @Override
+  public Duration getTotalElapsedTime() {
+    return Duration.ZERO;
+  }
+
+  @Override
+  public String toJson() {
+    return "{\"total-elapsed-millis\":0,\"retrievals\":[]}";
+  }
+
+  @Override
+  public String toString() {
+    return toJson();
+  }
+}
@@ -25,23 +25,91 @@ http://www.gnu.org/licenses/
 
 ========================================================================
 */
+
 package schemacrawler.schema;
 
 import java.io.Serializable;
-import java.util.Arrays;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * Lookup key for a named object. A key is a path of names, such as catalog, schema, table and
+ * column names. Keys for dependent objects share the key of their parent, so the catalog and schema
+ * names are not copied for every object, and the hash code is computed only once. Keys are ordered
+ * name by name from the top of the path, with null names first, and a key sorts just before the
+ * keys of its dependent objects.
+ */
+public final class NamedObjectKey implements Serializable, Comparable<NamedObjectKey> {
 
-public final class NamedObjectKey implements Serializable {
+  private static final long serialVersionUID = -5008609072012459038L;
 
-  private static final long serialVersionUID = -5008609072012459037L;
+  private static final NamedObjectKey EMPTY = new NamedObjectKey();
+
+  private static int compareNames(final String name, final String otherName) {
+    if (name == null || otherName == null) {
+      return Boolean.compare(name != null, otherName != null);
+    }
+    return name.compareTo(otherName);
+  }
+
+  private static NamedObjectKey parentKey(final String[] key) {
+    NamedObjectKey parent = EMPTY;
+    for (int i = 0; i < key.length - 1; i++) {
+      parent = new NamedObjectKey(parent, key[i]);
+    }
+    return parent;
+  }
 
-  private final String[] key;
+  private final int hash;
+  private final String name;
+  private final NamedObjectKey parent;
 
   public NamedObjectKey(final String... key) {
     if (key == null || key.length == 0) {
-      this.key = new String[0];
+      parent = null;
+      name = null;
     } else {
-      this.key = Arrays.copyOf(key, key.length);
+      parent = parentKey(key);
+      name = key[key.length - 1];
     }
+    hash = calculateHashCode();
+  }
+
+  private NamedObjectKey(final NamedObjectKey parent, final String name) {
+    this.parent = parent;
+    this.name = name;
+    hash = calculateHashCode();
+  }
+
+  @Override
+  public int compareTo(final NamedObjectKey other) {
+    NamedObjectKey key = this;
+    NamedObjectKey otherKey = other;
+    int depth = key.depth();
+    int otherDepth = otherKey.depth();
+
+    // A key sorts before the keys of its dependent objects
+    int comparison = 0;
+    for (; depth > otherDepth; depth--) {
+      key = key.parent;
+      comparison = 1;
+    }
+    for (; otherDepth > depth; otherDepth--) {
+      otherKey = otherKey.parent;
+      comparison = -1;
+    }
+    // Walk up both keys, until a shared parent is found, so that the names
+    // nearest the top of the path decide the order
+    while (key != otherKey && key.parent != null) {
+      final int nameComparison = compareNames(key.name, otherKey.name);
+      if (nameComparison != 0) {
+        comparison = nameComparison;
+      }
+      key = key.parent;
+      otherKey = otherKey.parent;
+    }
+    return comparison;
   }
 
   @Override
@@ -52,24 +120,53 @@ public final class NamedObjectKey implements Serializable {
     if (!(obj instanceof NamedObjectKey)) {
       return false;
     }
-    final NamedObjectKey other = (NamedObjectKey) obj;
-    return Arrays.equals(key, other.key);
+    NamedObjectKey key = this;
+    NamedObjectKey other = (NamedObjectKey) obj;
+    if (key.hash != other.hash) {
+      return false;
+    }
+    // Walk up both keys, until a shared parent is found
+    while (key != other) {
+      if (key == null || other == null || !Objects.equals(key.name, other.name)) {
+        return false;
+      }
+      key = key.parent;
+      other = other.parent;
+    }
+    return true;
   }
 
+  /** Hash code is the same as that of an array of the names in the key. */
   @Override
   public int hashCode() {
-    return Arrays.hashCode(key);
+    return hash;
   }
 
   @Override
   public String toString() {
-    return "{\"key\": \"" + String.join("/", key) + "\"}";
+    final Deque<String> names = new ArrayDeque<>();
+    for (NamedObjectKey key = this; key.parent != null; key = key.parent) {
+      names.addFirst(String.valueOf(key.name));
+    }
+    return "{\"key\": \"" + String.join("/", names) + "\"}";
   }
 
   public NamedObjectKey with(final String name) {
-    final int currentLength = key.length;
-    final String[] newKey = Arrays.copyOf(key, currentLength + 1);
-    newKey[currentLength] = name;
-    return new NamedObjectKey(newKey);
+    return new NamedObjectKey(this, name);
+  }
+
+  private int depth() {
+    int depth = 0;
+    for (NamedObjectKey key = this; key.parent != null; key = key.parent) {
+      depth++;
+    }
+    return depth;
+  }
+
+  private int calculateHashCode() {
+    if (parent == null) {
+      return 1;
+    }
+    return 31 * parent.hash + Objects.hashCode(name);
   }
 }
@@ -0,0 +1,79 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.schema;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/** Measurements of the work done in a single retrieval step of a crawl. */
+public interface RetrievalMetrics extends Serializable {
+
+  /**
+   * Gets the time taken by the retrieval step.
+   *
+   * @return Elapsed time
+   */
+  Duration getElapsedTime();
+
+  /**
+   * Gets the name of the retrieval step, usually the name of a schema info retrieval.
+   *
+   * @return Name of the retrieval step
+   */
+  String getName();
+
+  /**
+   * Gets the number of schema objects, such as tables and columns, that were created by the
+   * retrieval step.
+   *
+   * @return Number of objects created
+   */
+  long getObjectCount();
+
+  /**
+   * Gets the name of the crawl phase that the retrieval step is part of, such as "crawlTables".
+   *
+   * @return Name of the crawl phase
+   */
+  String getPhase();
+
+  /**
+   * Gets the number of rows processed from metadata result sets.
+   *
+   * @return Number of rows processed
+   */
+  long getRowCount();
+
+  /**
+   * Gets the number of metadata calls and SQL queries issued.
+   *
+   * @return Number of metadata calls and SQL queries
+   */
+  long getStatementCount();
+}
@@ -34,9 +34,16 @@ import us.fatehi.utility.ObjectToString;
 public final class LoadOptions implements Options {
 
   private final SchemaInfoLevel schemaInfoLevel;
+  private final boolean schemaFingerprint;
+  private final boolean tableDdlBaseline;
 
-  LoadOptions(final SchemaInfoLevel schemaInfoLevel) {
+  LoadOptions(
+      final SchemaInfoLevel schemaInfoLevel,
+      final boolean schemaFingerprint,
+      final boolean tableDdlBaseline) {
     this.schemaInfoLevel = requireNonNull(schemaInfoLevel, "No schema info level provided");
+    this.schemaFingerprint = schemaFingerprint;
+    this.tableDdlBaseline = tableDdlBaseline;
   }
 
   /**
@@ -48,6 +55,27 @@ public final class LoadOptions implements Options {
     return schemaInfoLevel;
   }
 
+  /**
+   * Whether the catalog should be stamped with a fingerprint of the database structure when it is
+   * crawled. This costs an extra query on every crawl.
+   *
+   * @return Whether to retrieve the schema fingerprint
+   */
+  public boolean isSchemaFingerprint() {
+    return schemaFingerprint;
+  }
+
+  /**
+   * Whether the catalog should be stamped with the time on the database server when it is crawled,
+   * so that it can later be crawled again incrementally. This costs an extra data dictionary query
+   * on every crawl.
+   *
+   * @return Whether to retrieve the table DDL baseline
+   */
+  public boolean isTableDdlBaseline() {
+    return tableDdlBaseline;
+  }
+
   /** {@inheritDoc} */
   @Override
   public String toString() {
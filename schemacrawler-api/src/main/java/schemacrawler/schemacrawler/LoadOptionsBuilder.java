@@ -39,10 +39,14 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
   }
 
   private SchemaInfoLevel schemaInfoLevel;
+  private boolean schemaFingerprint;
+  private boolean tableDdlBaseline;
 
   /** Default options. */
   private LoadOptionsBuilder() {
     schemaInfoLevel = SchemaInfoLevelBuilder.standard();
+    schemaFingerprint = false;
+    tableDdlBaseline = false;
   }
 
   @Override
@@ -52,13 +56,15 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
     }
 
     schemaInfoLevel = options.getSchemaInfoLevel();
+    schemaFingerprint = options.isSchemaFingerprint();
+    tableDdlBaseline = options.isTableDdlBaseline();
 
     return this;
   }
 
   @Override
   public LoadOptions toOptions() {
-    return new LoadOptions(schemaInfoLevel);
+    return new LoadOptions(schemaInfoLevel, schemaFingerprint, tableDdlBaseline);
   }
 
   public LoadOptionsBuilder withInfoLevel(final InfoLevel infoLevel) {
@@ -68,6 +74,19 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
     return this;
   }
 
+  /**
+   * Stamps crawled catalogs with a fingerprint of the database structure, so that they can be
+   * checked for changes later without crawling again. Off by default, since it costs an extra
+   * query on every crawl.
+   *
+   * @param schemaFingerprint Whether to retrieve the schema fingerprint
+   * @return This builder
+   */
+  public LoadOptionsBuilder withSchemaFingerprint(final boolean schemaFingerprint) {
+    this.schemaFingerprint = schemaFingerprint;
+    return this;
+  }
+
   public LoadOptionsBuilder withSchemaInfoLevel(final SchemaInfoLevel schemaInfoLevel) {
     if (schemaInfoLevel != null) {
       this.schemaInfoLevel = schemaInfoLevel;
@@ -82,4 +101,17 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
     }
     return this;
   }
+
+  /**
+   * Stamps crawled catalogs with the time on the database server, so that they can be crawled
+   * again incrementally with only the tables that changed since. Off by default, since it costs an
+   * extra data dictionary query on every crawl.
+   *
+   * @param tableDdlBaseline Whether to retrieve the table DDL baseline
+   * @return This builder
+   */
+  public LoadOptionsBuilder withTableDdlBaseline(final boolean tableDdlBaseline) {
+    this.tableDdlBaseline = tableDdlBaseline;
+    return this;
+  }
 }
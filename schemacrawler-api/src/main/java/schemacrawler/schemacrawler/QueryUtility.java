@@ -28,6 +28,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.schemacrawler;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.utility.CrawlEvents.startQueryEvent;
 import static us.fatehi.utility.DatabaseUtility.executeSql;
 import static us.fatehi.utility.DatabaseUtility.executeSqlForLong;
 import static us.fatehi.utility.DatabaseUtility.executeSqlForScalar;
@@ -49,6 +50,7 @@ import schemacrawler.inclusionrule.InclusionRuleWithRegularExpression;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
+import schemacrawler.utility.CrawlEvents.TimedEvent;
 import schemacrawler.utility.MetaDataUtility;
 import schemacrawler.utility.NamedObjectSort;
 import us.fatehi.utility.UtilityMarker;
@@ -66,7 +68,7 @@ public final class QueryUtility {
     requireNonNull(query, "No query provided");
     final String sql = getQuery(query, schemaInclusionRule);
     LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), sql));
-    return executeSql(statement, sql);
+    return executeQuery(query, statement, sql);
   }
 
   public static ResultSet executeAgainstTable(
@@ -81,7 +83,7 @@ public final class QueryUtility {
 
     final String sql = getQuery(query, table, isAlphabeticalSortForTableColumns, identifiers);
     LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), sql));
-    return executeSql(statement, sql);
+    return executeQuery(query, statement, sql);
   }
 
   public static long executeForLong(
@@ -116,6 +118,49 @@ public final class QueryUtility {
     return executeSqlForScalar(connection, sql);
   }
 
+  /**
+   * Executes a query that returns a single value, using a statement that can be reused for more
+   * queries, for example, with a query timeout already set.
+   *
+   * @param query Query template
+   * @param statement Statement to execute the query with
+   * @return Scalar value, or null if no rows of data were returned
+   * @throws SQLException On an exception
+   */
+  public static Object executeForScalar(final Query query, final Statement statement)
+      throws SQLException {
+    requireNonNull(query, "No query provided");
+    final String sql = getQuery(query);
+    LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), sql));
+    return executeSqlForScalar(statement, sql);
+  }
+
+  /**
+   * Gets the query with table parameters substituted, so that it can be executed more than once,
+   * or on another connection.
+   *
+   * @param query Query template
+   * @param table Table to substitute parameters for
+   * @param identifiers Identifiers for quoting table and column names
+   * @return Ready-to-execute query
+   */
+  public static String getQuery(
+      final Query query, final Table table, final Identifiers identifiers) {
+    requireNonNull(query, "No query provided");
+    requireNonNull(identifiers, "No identifiers provided");
+    return getQuery(query, table, true, identifiers);
+  }
+
+  private static ResultSet executeQuery(
+      final Query query, final Statement statement, final String sql) throws SQLException {
+    final TimedEvent event = startQueryEvent(query.getName(), sql);
+    try {
+      return executeSql(statement, sql);
+    } finally {
+      event.end();
+    }
+  }
+
   private static String getQuery(final Query query) {
     return expandTemplate(query.getQuery());
   }
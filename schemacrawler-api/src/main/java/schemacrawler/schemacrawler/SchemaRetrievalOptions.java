@@ -54,6 +54,7 @@ public final class SchemaRetrievalOptions implements Options {
   private final boolean supportsSchemas;
   private final TypeMap typeMap;
   private final EnumDataTypeHelper enumDataTypeHelper;
+  private final int metadataRetrievalConcurrency;
   EnumMap<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy>
       metadataRetrievalStrategyMap;
 
@@ -69,6 +70,7 @@ public final class SchemaRetrievalOptions implements Options {
     typeMap = bldr.overridesTypeMap.orElse(new TypeMap());
     enumDataTypeHelper = bldr.enumDataTypeHelper;
     metadataRetrievalStrategyMap = new EnumMap<>(bldr.metadataRetrievalStrategyMap);
+    metadataRetrievalConcurrency = bldr.metadataRetrievalConcurrency;
   }
 
   public MetadataRetrievalStrategy get(
@@ -101,6 +103,16 @@ public final class SchemaRetrievalOptions implements Options {
     return informationSchemaViews;
   }
 
+  /**
+   * Number of connections to spread per-table and per-routine database metadata calls across, when
+   * additional connections are available.
+   *
+   * @return Metadata retrieval concurrency level
+   */
+  public int getMetadataRetrievalConcurrency() {
+    return metadataRetrievalConcurrency;
+  }
+
   public TypeMap getTypeMap() {
     return typeMap;
   }
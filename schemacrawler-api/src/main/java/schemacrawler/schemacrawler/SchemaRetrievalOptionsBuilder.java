@@ -66,6 +66,7 @@ public final class SchemaRetrievalOptionsBuilder
   boolean supportsCatalogs;
   boolean supportsSchemas;
   EnumDataTypeHelper enumDataTypeHelper;
+  int metadataRetrievalConcurrency;
   Map<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy> metadataRetrievalStrategyMap;
 
   private SchemaRetrievalOptionsBuilder() {
@@ -79,6 +80,7 @@ public final class SchemaRetrievalOptionsBuilder
     identifiers = Identifiers.STANDARD;
     overridesTypeMap = Optional.empty();
     enumDataTypeHelper = NO_OP_ENUM_DATA_TYPE_HELPER;
+    metadataRetrievalConcurrency = 1;
 
     metadataRetrievalStrategyMap = new EnumMap<>(SchemaInfoMetadataRetrievalStrategy.class);
     for (final SchemaInfoMetadataRetrievalStrategy key :
@@ -133,6 +135,7 @@ public final class SchemaRetrievalOptionsBuilder
     identifiers = options.getIdentifiers();
     overridesTypeMap = Optional.empty();
     metadataRetrievalStrategyMap = options.getMetadataRetrievalStrategyMap();
+    metadataRetrievalConcurrency = options.getMetadataRetrievalConcurrency();
 
     return this;
   }
@@ -230,6 +233,24 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the number of connections to spread per-table and per-routine database metadata calls
+   * across. Additional connections are only used if SchemaCrawler is provided with a connection
+   * source.
+   *
+   * @param metadataRetrievalConcurrency Number of connections, or 1 to make all metadata calls on a
+   *     single connection
+   */
+  public SchemaRetrievalOptionsBuilder withMetadataRetrievalConcurrency(
+      final int metadataRetrievalConcurrency) {
+    if (metadataRetrievalConcurrency < 1) {
+      this.metadataRetrievalConcurrency = 1;
+    } else {
+      this.metadataRetrievalConcurrency = metadataRetrievalConcurrency;
+    }
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withoutIdentifierQuoteString() {
     identifierQuoteString = "";
     return this;
@@ -0,0 +1,117 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.utility;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import us.fatehi.utility.UtilityMarker;
+
+/**
+ * Emits Java Flight Recorder events for retrieval steps, metadata result sets and queries, so that
+ * crawls show up in flight recordings. Events are only created if the JVM supports the flight
+ * recorder, and they are only timed and recorded while a recording that enables them is running.
+ */
+@UtilityMarker
+public final class CrawlEvents {
+
+  /** An event that is timed from when it is started until it is ended. */
+  @FunctionalInterface
+  public interface TimedEvent {
+
+    /** Ends the event, and records it if a recording is running. */
+    void end();
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(CrawlEvents.class.getName());
+
+  static final TimedEvent NO_EVENT = () -> {};
+
+  private static final boolean isFlightRecorderAvailable = isFlightRecorderAvailable();
+
+  /**
+   * Starts an event for processing a database metadata result set. The description and row count
+   * are only obtained when the event is recorded.
+   *
+   * @param description Supplier for the description of the metadata result set
+   * @param rowCount Supplier for the number of rows processed
+   * @return Event to end when the result set is closed
+   */
+  public static TimedEvent startMetadataResultsEvent(
+      final Supplier<String> description, final LongSupplier rowCount) {
+    if (!isFlightRecorderAvailable) {
+      return NO_EVENT;
+    }
+    return FlightRecorderEvents.startMetadataResultsEvent(description, rowCount);
+  }
+
+  /**
+   * Starts an event for executing a SchemaCrawler query.
+   *
+   * @param queryName Name of the query
+   * @param sql SQL that is executed
+   * @return Event to end once the query has executed
+   */
+  public static TimedEvent startQueryEvent(final String queryName, final String sql) {
+    if (!isFlightRecorderAvailable) {
+      return NO_EVENT;
+    }
+    return FlightRecorderEvents.startQueryEvent(queryName, sql);
+  }
+
+  /**
+   * Starts an event for a retrieval step.
+   *
+   * @param phase Name of the crawl phase that the retrieval step is part of
+   * @param retrievalName Name of the retrieval step
+   * @return Event to end once the retrieval step completes
+   */
+  public static TimedEvent startRetrievalEvent(final String phase, final String retrievalName) {
+    if (!isFlightRecorderAvailable) {
+      return NO_EVENT;
+    }
+    return FlightRecorderEvents.startRetrievalEvent(phase, retrievalName);
+  }
+
+  private static boolean isFlightRecorderAvailable() {
+    try {
+      Class.forName("jdk.jfr.Event");
+      return true;
+    } catch (final ClassNotFoundException | LinkageError e) {
+      LOGGER.log(Level.CONFIG, "Flight recorder events are not supported by this JVM");
+      return false;
+    }
+  }
+
+  private CrawlEvents() {
+    // Prevent instantiation
+  }
+}
@@ -0,0 +1,145 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.utility;
+
+import static schemacrawler.utility.CrawlEvents.NO_EVENT;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import schemacrawler.utility.CrawlEvents.TimedEvent;
+
+/**
+ * Flight recorder event types. This class is only loaded if the JVM supports the flight recorder.
+ * Events are checked to see if they are enabled before they are timed, so there is very little
+ * overhead when no recording is running.
+ */
+final class FlightRecorderEvents {
+
+  @Name("schemacrawler.MetadataResults")
+  @Label("Metadata Results")
+  @Description("Processing of a database metadata result set")
+  @Category("SchemaCrawler")
+  @StackTrace(false)
+  static final class MetadataResultsEvent extends Event {
+
+    @Label("Description")
+    String description;
+
+    @Label("Row Count")
+    long rowCount;
+  }
+
+  @Name("schemacrawler.Query")
+  @Label("Query")
+  @Description("Execution of a SchemaCrawler query")
+  @Category("SchemaCrawler")
+  @StackTrace(false)
+  static final class QueryEvent extends Event {
+
+    @Label("Query Name")
+    String queryName;
+
+    @Label("SQL")
+    String sql;
+  }
+
+  @Name("schemacrawler.Retrieval")
+  @Label("Retrieval")
+  @Description("Retrieval step of a crawl")
+  @Category("SchemaCrawler")
+  @StackTrace(false)
+  static final class RetrievalEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Retrieval Name")
+    String retrievalName;
+  }
+
+  static TimedEvent startMetadataResultsEvent(
+      final Supplier<String> description, final LongSupplier rowCount) {
+    final MetadataResultsEvent event = new MetadataResultsEvent();
+    if (!event.isEnabled()) {
+      return NO_EVENT;
+    }
+    event.begin();
+    return () -> {
+      event.end();
+      if (event.shouldCommit()) {
+        event.description = description.get();
+        event.rowCount = rowCount.getAsLong();
+        event.commit();
+      }
+    };
+  }
+
+  static TimedEvent startQueryEvent(final String queryName, final String sql) {
+    final QueryEvent event = new QueryEvent();
+    if (!event.isEnabled()) {
+      return NO_EVENT;
+    }
+    event.begin();
+    return () -> {
+      event.end();
+      if (event.shouldCommit()) {
+        event.queryName = queryName;
+        event.sql = sql;
+        event.commit();
+      }
+    };
+  }
+
+  static TimedEvent startRetrievalEvent(final String phase, final String retrievalName) {
+    final RetrievalEvent event = new RetrievalEvent();
+    if (!event.isEnabled()) {
+      return NO_EVENT;
+    }
+    event.begin();
+    return () -> {
+      event.end();
+      if (event.shouldCommit()) {
+        event.phase = phase;
+        event.retrievalName = retrievalName;
+        event.commit();
+      }
+    };
+  }
+
+  private FlightRecorderEvents() {
+    // Prevent instantiation
+  }
+}
@@ -0,0 +1,116 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.JvmSystemInfo;
+import schemacrawler.OperatingSystemInfo;
+import schemacrawler.SchemaCrawlerInfo;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CrawlMetrics;
+import schemacrawler.schema.RetrievalMetrics;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class CrawlMetricsTest {
+
+  @Test
+  public void crawlMetrics(final Connection connection) throws Exception {
+
+    final Catalog catalog =
+        new SchemaCrawler(
+                connection,
+                SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+                schemaCrawlerOptionsWithMaximumSchemaInfoLevel)
+            .crawl();
+
+    final CrawlMetrics crawlMetrics = catalog.getCrawlInfo().getCrawlMetrics();
+    assertThat(crawlMetrics.getRetrievalMetrics(), is(not(empty())));
+
+    RetrievalMetrics retrieveTables = null;
+    Duration totalElapsedTime = Duration.ZERO;
+    for (final RetrievalMetrics retrievalMetrics : crawlMetrics.getRetrievalMetrics()) {
+      totalElapsedTime = totalElapsedTime.plus(retrievalMetrics.getElapsedTime());
+      if (retrievalMetrics.getName().equals("retrieveTables")) {
+        retrieveTables = retrievalMetrics;
+      }
+    }
+    assertThat(crawlMetrics.getTotalElapsedTime(), is(totalElapsedTime));
+
+    assertThat(retrieveTables, is(not((RetrievalMetrics) null)));
+    assertThat(retrieveTables.getPhase(), is("crawlTables"));
+    assertThat(retrieveTables.getStatementCount(), is(greaterThan(0L)));
+    assertThat(retrieveTables.getRowCount(), is(greaterThan(0L)));
+    assertThat(
+        retrieveTables.getObjectCount(),
+        is(greaterThan((long) catalog.getTables().size() - 1)));
+
+    final String json = crawlMetrics.toJson();
+    assertThat(json, startsWith("{\"total-elapsed-millis\":"));
+    assertThat(
+        json, containsString("{\"phase\":\"crawlTables\",\"name\":\"retrieveTables\","));
+    assertThat(json, endsWith("}]}"));
+  }
+
+  @Test
+  public void crawlMetricsNotMeasured() {
+    // Crawl information read from catalogs that were saved before crawl metrics were measured
+    final MutableCrawlInfo crawlInfo =
+        new MutableCrawlInfo(
+            new SchemaCrawlerInfo(),
+            new OperatingSystemInfo(),
+            new JvmSystemInfo(),
+            Instant.now(),
+            UUID.randomUUID(),
+            null);
+
+    final CrawlMetrics crawlMetrics = crawlInfo.getCrawlMetrics();
+    assertThat(crawlMetrics.getRetrievalMetrics(), is(empty()));
+    assertThat(crawlMetrics.getTotalElapsedTime(), is(Duration.ZERO));
+    assertThat(crawlMetrics.toJson(), is("{\"total-elapsed-millis\":0,\"retrievals\":[]}"));
+  }
+}
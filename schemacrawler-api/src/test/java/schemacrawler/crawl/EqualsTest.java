@@ -46,6 +46,9 @@ import us.fatehi.utility.graph.Vertex;
 
 public class EqualsTest {
 
+  private static final NamedObjectKey KEY1 = new NamedObjectKey("key1");
+  private static final NamedObjectKey KEY2 = new NamedObjectKey("key2");
+
   @Test
   public void baseProductVersion() {
     EqualsVerifier.forClass(BaseProductVersion.class).verify();
@@ -71,6 +74,7 @@ public class EqualsTest {
     }
 
     EqualsVerifier.forClass(TestDatabaseObject.class)
+        .withPrefabValues(NamedObjectKey.class, KEY1, KEY2)
         .suppress(Warning.STRICT_INHERITANCE)
         .withIgnoredFields("key", "attributeMap", "remarks")
         .verify();
@@ -105,6 +109,7 @@ public class EqualsTest {
   @Test
   public void namedObject() {
     EqualsVerifier.forClass(AbstractNamedObject.class)
+        .withPrefabValues(NamedObjectKey.class, KEY1, KEY2)
         .withIgnoredFields("key")
         .suppress(Warning.STRICT_INHERITANCE)
         .verify();
@@ -112,12 +117,16 @@ public class EqualsTest {
 
   @Test
   public void namedObjectKey() {
-    EqualsVerifier.forClass(NamedObjectKey.class).withNonnullFields("key").verify();
+    EqualsVerifier.forClass(NamedObjectKey.class)
+        .withPrefabValues(NamedObjectKey.class, KEY1, KEY2)
+        .withCachedHashCode("hash", "calculateHashCode", new NamedObjectKey("catalog", "schema"))
+        .verify();
   }
 
   @Test
   public void namedObjectWithAttributes() {
     EqualsVerifier.forClass(AbstractNamedObjectWithAttributes.class)
+        .withPrefabValues(NamedObjectKey.class, KEY1, KEY2)
         .withIgnoredFields("key", "attributeMap", "remarks")
         .suppress(Warning.STRICT_INHERITANCE)
         .verify();
@@ -129,6 +138,7 @@ public class EqualsTest {
     final Table table2 = new MutableTable(new SchemaReference("catalog", "schema"), "table2");
 
     EqualsVerifier.forClass(MutablePrivilege.class)
+        .withPrefabValues(NamedObjectKey.class, KEY1, KEY2)
         .withIgnoredFields("key", "grants", "parent", "attributeMap", "remarks")
         .withPrefabValues(
             DatabaseObjectReference.class, new TablePointer(table1), new TablePointer(table2))
@@ -149,6 +159,7 @@ public class EqualsTest {
   @Test
   public void schemaReference() {
     EqualsVerifier.forClass(SchemaReference.class)
+        .withPrefabValues(NamedObjectKey.class, KEY1, KEY2)
         .withIgnoredFields("key", "attributeMap")
         .verify();
   }
@@ -166,6 +177,7 @@ public class EqualsTest {
   @Test
   public void weakAssociation() {
     EqualsVerifier.forClass(MutableWeakAssociation.class)
+        .withPrefabValues(NamedObjectKey.class, KEY1, KEY2)
         .withNonnullFields("columnReferences")
         .withOnlyTheseFields("columnReferences")
         .verify();
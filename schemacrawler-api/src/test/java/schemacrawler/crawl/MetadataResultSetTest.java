@@ -45,6 +45,7 @@ import java.sql.Statement;
 import java.time.DayOfWeek;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 
 import org.junit.jupiter.api.DisplayName;
@@ -64,6 +65,34 @@ import us.fatehi.utility.DatabaseUtility;
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class MetadataResultSetTest {
 
+  @Test
+  @DisplayName("Retrieve unread columns as attributes, with case-insensitive column lookup")
+  public void attributes(final Connection connection) throws Exception {
+
+    try (final Statement statement = connection.createStatement(); ) {
+
+      final String sql = "SELECT 'A' AS COLUMN1, 2 AS COLUMN2 FROM (VALUES(0), (1))";
+      try (final MetadataResultSet results =
+          new MetadataResultSet(DatabaseUtility.executeSql(statement, sql))) {
+
+        assertThat(results.next(), is(true));
+        assertThat(results.getString("column1"), is("A"));
+        final Map<String, Object> attributes = results.getAttributes();
+        assertThat(attributes.size(), is(1));
+        assertThat(attributes.get("COLUMN2"), is(2));
+
+        // Read columns are reset for every row
+        assertThat(results.next(), is(true));
+        assertThat(results.getAttributes().size(), is(2));
+        assertThat(results.getString("COLUMN1"), is("A"));
+        assertThat(results.getInt("Column2", 0), is(2));
+        assertThat(results.getAttributes().isEmpty(), is(true));
+
+        assertThat(results.getString("NO_COLUMN"), is(nullValue()));
+      }
+    }
+  }
+
   @Test
   @DisplayName("Retrieve bad values from results")
   public void badValues(final Connection connection) throws Exception {
@@ -0,0 +1,178 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableType;
+import schemacrawler.schemacrawler.SchemaReference;
+
+public class NamedObjectListTest {
+
+  private static List<String> names(final Iterable<? extends Table> tables) {
+    final List<String> names = new ArrayList<>();
+    for (final Table table : tables) {
+      names.add(table.getName());
+    }
+    return names;
+  }
+
+  private MutableTable tableA;
+  private MutableTable tableB;
+  private MutableTable tableC;
+  private NamedObjectList<MutableTable> tables;
+
+  @Test
+  public void add() {
+    final List<MutableTable> values = tables.values();
+    assertThat(tables.values(), is(sameInstance(values)));
+
+    final MutableTable tableD = newTable("D");
+    tables.add(tableD);
+    assertThat(tables.values(), is(not(sameInstance(values))));
+    assertThat(names(tables), contains("A", "B", "C", "D"));
+  }
+
+  @Test
+  public void filter() {
+    final List<MutableTable> values = tables.values();
+
+    tables.filter(table -> true);
+    assertThat(tables.values(), is(sameInstance(values)));
+
+    tables.filter(table -> !table.getName().equals("A"));
+    assertThat(names(tables), contains("B", "C"));
+    tables.filter(table -> false);
+    assertThat(tables.values(), is(empty()));
+  }
+
+  @Test
+  public void freeze() {
+    tables.freeze();
+
+    final List<MutableTable> values = tables.values();
+    assertThat(names(values), contains("A", "B", "C"));
+    assertThat(tables.values(), is(equalTo(values)));
+    assertThat(tables.size(), is(3));
+    assertThat(tables.lookup(tableB.key()).get(), is(sameInstance(tableB)));
+    assertThat(tables.lookup(tableA.getSchema(), "C").get(), is(sameInstance(tableC)));
+    assertThat(tables.lookup(tableA.getSchema(), "D").isPresent(), is(false));
+    assertThat(tables.contains(newTable("A")), is(true));
+    assertThat(tables.remove(newTable("D")), is(nullValue()));
+    assertThat(tables.values(), is(equalTo(values)));
+
+    tables.filter(table -> !table.getName().equals("B"));
+    assertThat(names(tables), contains("A", "C"));
+    assertThat(tables.lookup(tableB.key()).isPresent(), is(false));
+
+    tables.add(newTable("D"));
+    assertThat(names(tables), contains("A", "C", "D"));
+    assertThat(tables.remove(tableA), is(sameInstance(tableA)));
+    assertThat(names(tables), contains("C", "D"));
+    tables.freeze();
+    assertThat(tables.lookup(tableC.key()).get(), is(sameInstance(tableC)));
+
+    tableC.setSortIndex(1);
+    // Reading a frozen list does not sort it again
+    assertThat(names(tables), contains("C", "D"));
+    tables.sortOrderChanged();
+    assertThat(names(tables), contains("D", "C"));
+    assertThat(tables.lookup(tableC.key()).get(), is(sameInstance(tableC)));
+
+    tables.filter(table -> false);
+    assertThat(tables.isEmpty(), is(true));
+    assertThat(tables.lookup(tableC.key()).isPresent(), is(false));
+  }
+
+  @Test
+  public void remove() {
+    final List<MutableTable> values = tables.values();
+
+    tables.remove(newTable("D"));
+    assertThat(tables.values(), is(sameInstance(values)));
+
+    tables.remove(tableB);
+    assertThat(names(tables), contains("A", "C"));
+  }
+
+  @BeforeEach
+  public void setUp() {
+    tables = new NamedObjectList<>();
+    tableC = newTable("C");
+    tableA = newTable("A");
+    tableB = newTable("B");
+    tables.add(tableC);
+    tables.add(tableA);
+    tables.add(tableB);
+  }
+
+  @Test
+  public void sortIndex() {
+    assertThat(names(tables), contains("A", "B", "C"));
+
+    tableA.setSortIndex(3);
+    tableB.setSortIndex(2);
+    tableC.setSortIndex(1);
+    tables.sortOrderChanged();
+    assertThat(names(tables), contains("C", "B", "A"));
+  }
+
+  @Test
+  public void unmodifiable() {
+    assertThrows(UnsupportedOperationException.class, () -> tables.values().add(tableA));
+
+    final Iterator<MutableTable> iterator = tables.iterator();
+    iterator.next();
+    assertThrows(UnsupportedOperationException.class, () -> iterator.remove());
+  }
+
+  private MutableTable newTable(final String name) {
+    final Schema schema = new SchemaReference("CATALOG", "SCHEMA");
+    final MutableTable table = new MutableTable(schema, name);
+    table.setTableType(new TableType("TABLE"));
+    return table;
+  }
+}
@@ -0,0 +1,195 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class SchemaCrawlerConcurrentTest {
+
+  private static List<String> fullNames(final Iterable<? extends NamedObject> namedObjects) {
+    final List<String> fullNames = new ArrayList<>();
+    for (final NamedObject namedObject : namedObjects) {
+      fullNames.add(namedObject.getFullName());
+    }
+    return fullNames;
+  }
+
+  @Test
+  public void crawlConcurrently(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo)
+      throws Exception {
+
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions();
+
+    final Catalog expectedCatalog =
+        new SchemaCrawler(
+                connection,
+                schemaRetrievalOptions,
+                schemaCrawlerOptionsWithMaximumSchemaInfoLevel)
+            .crawl();
+
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSource =
+        () -> {
+          connectionCount.incrementAndGet();
+          try {
+            return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new SchemaCrawlerRuntimeException("Could not connect", e);
+          }
+        };
+    final Catalog catalog =
+        new SchemaCrawler(
+                connection,
+                connectionSource,
+                schemaRetrievalOptions,
+                schemaCrawlerOptionsWithMaximumSchemaInfoLevel)
+            .crawl();
+
+    assertThat(connectionCount.get(), is(2));
+    assertThat(catalog.getTables(), hasSize(expectedCatalog.getTables().size()));
+    assertThat(fullNames(catalog.getTables()), equalTo(fullNames(expectedCatalog.getTables())));
+    assertThat(
+        fullNames(catalog.getRoutines()), equalTo(fullNames(expectedCatalog.getRoutines())));
+    assertThat(
+        fullNames(catalog.getSequences()), equalTo(fullNames(expectedCatalog.getSequences())));
+    assertThat(
+        fullNames(catalog.getSynonyms()), equalTo(fullNames(expectedCatalog.getSynonyms())));
+    assertThat(
+        fullNames(catalog.getColumnDataTypes()),
+        equalTo(fullNames(expectedCatalog.getColumnDataTypes())));
+  }
+
+  @Test
+  public void crawlWithMetadataRetrievalWorkers(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo)
+      throws Exception {
+
+    final Catalog expectedCatalog =
+        new SchemaCrawler(
+                connection,
+                SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+                schemaCrawlerOptionsWithMaximumSchemaInfoLevel)
+            .crawl();
+
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSource =
+        () -> {
+          connectionCount.incrementAndGet();
+          try {
+            return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new SchemaCrawlerRuntimeException("Could not connect", e);
+          }
+        };
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder().withMetadataRetrievalConcurrency(3).toOptions();
+    final Catalog catalog =
+        new SchemaCrawler(
+                connection,
+                connectionSource,
+                schemaRetrievalOptions,
+                schemaCrawlerOptionsWithMaximumSchemaInfoLevel)
+            .crawl();
+
+    // Two connections for the concurrent crawl phases, and at most three worker connections
+    assertThat(connectionCount.get(), is(lessThanOrEqualTo(5)));
+
+    final List<Table> expectedTables = new ArrayList<>(expectedCatalog.getTables());
+    final List<Table> tables = new ArrayList<>(catalog.getTables());
+    assertThat(fullNames(tables), equalTo(fullNames(expectedTables)));
+    for (int i = 0; i < tables.size(); i++) {
+      final Table table = tables.get(i);
+      final Table expectedTable = expectedTables.get(i);
+      assertThat(fullNames(table.getIndexes()), equalTo(fullNames(expectedTable.getIndexes())));
+      assertThat(
+          fullNames(table.getForeignKeys()), equalTo(fullNames(expectedTable.getForeignKeys())));
+      assertThat(table.hasPrimaryKey(), is(expectedTable.hasPrimaryKey()));
+    }
+
+    final List<Routine> expectedRoutines = new ArrayList<>(expectedCatalog.getRoutines());
+    final List<Routine> routines = new ArrayList<>(catalog.getRoutines());
+    assertThat(fullNames(routines), equalTo(fullNames(expectedRoutines)));
+    for (int i = 0; i < routines.size(); i++) {
+      assertThat(
+          fullNames(routines.get(i).getParameters()),
+          equalTo(fullNames(expectedRoutines.get(i).getParameters())));
+    }
+  }
+
+  @Test
+  public void crawlConcurrentlyWithBadConnectionSource(final Connection connection)
+      throws Exception {
+
+    final Supplier<Connection> connectionSource =
+        () -> {
+          throw new SchemaCrawlerRuntimeException("Cannot connect");
+        };
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            connection,
+            connectionSource,
+            SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+            schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+
+    final SchemaCrawlerException exception =
+        assertThrows(SchemaCrawlerException.class, () -> schemaCrawler.crawl());
+    assertThat(exception.getMessage(), startsWith("Cannot connect"));
+  }
+}
@@ -0,0 +1,307 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_DDL_TIMESTAMPS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.VIEW_TABLE_USAGE;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class SchemaCrawlerIncrementalTest {
+
+  private static List<String> fullNames(final Iterable<? extends NamedObject> namedObjects) {
+    final List<String> fullNames = new ArrayList<>();
+    for (final NamedObject namedObject : namedObjects) {
+      fullNames.add(namedObject.getFullName());
+    }
+    return fullNames;
+  }
+
+  @Test
+  public void crawlIncrementally(final Connection connection) throws Exception {
+
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .withSql(
+                EXT_TABLE_DDL_TIMESTAMPS,
+                "SELECT TABLES.TABLE_CAT AS TABLE_CATALOG, TABLES.TABLE_SCHEM AS TABLE_SCHEMA, "
+                    + "TABLES.TABLE_NAME, DDL_LOG.LAST_DDL_TIME "
+                    + "FROM INFORMATION_SCHEMA.SYSTEM_TABLES TABLES "
+                    + "LEFT OUTER JOIN INCREMENTAL.DDL_LOG DDL_LOG "
+                    + "ON TABLES.TABLE_NAME = DDL_LOG.TABLE_NAME "
+                    + "WHERE TABLES.TABLE_SCHEM = 'INCREMENTAL'")
+            .withSql(
+                VIEW_TABLE_USAGE,
+                "SELECT "
+                    + "VIEW_CATALOG, VIEW_SCHEMA, VIEW_NAME, "
+                    + "TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME "
+                    + "FROM INFORMATION_SCHEMA.VIEW_TABLE_USAGE")
+            .toOptions();
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .withInformationSchemaViews(informationSchemaViews)
+            .toOptions();
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeSchemas(new RegularExpressionInclusionRule(".*\\.INCREMENTAL"))
+                    .toOptions())
+            .withLoadOptions(
+                LoadOptionsBuilder.builder()
+                    .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+                    .toOptions());
+
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute("CREATE SCHEMA INCREMENTAL");
+      statement.execute(
+          "CREATE TABLE INCREMENTAL.DDL_LOG(TABLE_NAME VARCHAR(100), LAST_DDL_TIME TIMESTAMP)");
+      statement.execute("CREATE TABLE INCREMENTAL.PARENT(ID INTEGER PRIMARY KEY)");
+      statement.execute(
+          "CREATE TABLE INCREMENTAL.CHILD(ID INTEGER PRIMARY KEY, PARENT_ID INTEGER, "
+              + "CONSTRAINT FK_CHILD_PARENT FOREIGN KEY (PARENT_ID) "
+              + "REFERENCES INCREMENTAL.PARENT(ID))");
+      statement.execute("CREATE TABLE INCREMENTAL.ALTERED(ID INTEGER PRIMARY KEY)");
+      statement.execute(
+          "CREATE VIEW INCREMENTAL.ALTERED_VIEW AS SELECT ID FROM INCREMENTAL.ALTERED");
+      statement.execute(
+          "INSERT INTO INCREMENTAL.DDL_LOG "
+              + "SELECT TABLE_NAME, TIMESTAMP '2000-01-01 00:00:00' "
+              + "FROM INFORMATION_SCHEMA.SYSTEM_TABLES WHERE TABLE_SCHEM = 'INCREMENTAL'");
+
+      final Catalog previousCatalog =
+          new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions).crawl();
+      assertThat(
+          fullNames(previousCatalog.getTables()),
+          containsInAnyOrder(
+              "PUBLIC.INCREMENTAL.ALTERED",
+              "PUBLIC.INCREMENTAL.ALTERED_VIEW",
+              "PUBLIC.INCREMENTAL.CHILD",
+              "PUBLIC.INCREMENTAL.DDL_LOG",
+              "PUBLIC.INCREMENTAL.PARENT"));
+      assertThat(
+          ((View) lookupTable(previousCatalog, "ALTERED_VIEW")).getTableUsage(), hasSize(1));
+      final Table previousParent = lookupTable(previousCatalog, "PARENT");
+      previousParent.setAttribute("unchanged", true);
+
+      statement.execute("DROP TABLE INCREMENTAL.CHILD");
+      statement.execute("ALTER TABLE INCREMENTAL.ALTERED ADD COLUMN NAME VARCHAR(10)");
+      statement.execute("CREATE TABLE INCREMENTAL.ADDED(ID INTEGER PRIMARY KEY)");
+      statement.execute(
+          "UPDATE INCREMENTAL.DDL_LOG SET LAST_DDL_TIME = CURRENT_TIMESTAMP "
+              + "WHERE TABLE_NAME = 'ALTERED'");
+
+      final Catalog catalog =
+          new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions)
+              .crawl(previousCatalog);
+      final Catalog expectedCatalog =
+          new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions).crawl();
+
+      assertThat(
+          fullNames(catalog.getTables()), equalTo(fullNames(expectedCatalog.getTables())));
+      for (final Table expectedTable : expectedCatalog.getTables()) {
+        final Table table = lookupTable(catalog, expectedTable.getName());
+        assertThat(fullNames(table.getColumns()), equalTo(fullNames(expectedTable.getColumns())));
+        assertThat(
+            fullNames(table.getForeignKeys()), equalTo(fullNames(expectedTable.getForeignKeys())));
+        assertThat(fullNames(table.getIndexes()), equalTo(fullNames(expectedTable.getIndexes())));
+        assertThat(
+            fullNames(table.getTableConstraints()),
+            equalTo(fullNames(expectedTable.getTableConstraints())));
+      }
+
+      // Unchanged tables are carried over, and no longer refer to dropped tables
+      final Table parent = lookupTable(catalog, "PARENT");
+      assertThat(parent.getAttribute("unchanged"), is(true));
+      assertThat(parent.getForeignKeys(), is(empty()));
+      // Changed tables, and views that use them, are retrieved again
+      final Table altered = lookupTable(catalog, "ALTERED");
+      assertThat(altered.hasAttribute("unchanged"), is(false));
+      assertThat(altered.getColumns(), hasSize(2));
+      final View alteredView = (View) lookupTable(catalog, "ALTERED_VIEW");
+      assertThat(alteredView.getTableUsage(), hasSize(1));
+      assertThat(alteredView.getTableUsage().iterator().next(), is(sameInstance(altered)));
+
+      // Previous catalog is not changed
+      assertThat(previousCatalog.getTables(), hasSize(5));
+      assertThat(lookupTable(previousCatalog, "ALTERED").getColumns(), hasSize(1));
+      assertThat(previousParent.getForeignKeys(), hasSize(1));
+    } finally {
+      try (final Statement statement = connection.createStatement()) {
+        statement.execute("DROP SCHEMA IF EXISTS INCREMENTAL CASCADE");
+      }
+    }
+  }
+
+  @Test
+  public void crawlIncrementallyWithDatabaseServerTime(final Connection connection)
+      throws Exception {
+
+    // The database server clock is far behind the client clock, so table changes are only found
+    // by comparing DDL change times with the database server time of the earlier crawl
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .withSql(
+                EXT_TABLE_DDL_TIMESTAMPS,
+                "SELECT TABLES.TABLE_CAT AS TABLE_CATALOG, TABLES.TABLE_SCHEM AS TABLE_SCHEMA, "
+                    + "TABLES.TABLE_NAME, DDL_LOG.LAST_DDL_TIME, "
+                    + "(SELECT DATABASE_TIMESTAMP FROM INCREMENTAL.SERVER_CLOCK) "
+                    + "AS DATABASE_TIMESTAMP "
+                    + "FROM INFORMATION_SCHEMA.SYSTEM_TABLES TABLES "
+                    + "LEFT OUTER JOIN INCREMENTAL.DDL_LOG DDL_LOG "
+                    + "ON TABLES.TABLE_NAME = DDL_LOG.TABLE_NAME "
+                    + "WHERE TABLES.TABLE_SCHEM = 'INCREMENTAL'")
+            .toOptions();
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .withInformationSchemaViews(informationSchemaViews)
+            .toOptions();
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeSchemas(new RegularExpressionInclusionRule(".*\\.INCREMENTAL"))
+                    .toOptions())
+            .withLoadOptions(
+                LoadOptionsBuilder.builder()
+                    .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+                    .withTableDdlBaseline(true)
+                    .toOptions());
+
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute("CREATE SCHEMA INCREMENTAL");
+      statement.execute(
+          "CREATE TABLE INCREMENTAL.DDL_LOG(TABLE_NAME VARCHAR(100), LAST_DDL_TIME TIMESTAMP)");
+      statement.execute("CREATE TABLE INCREMENTAL.SERVER_CLOCK(DATABASE_TIMESTAMP TIMESTAMP)");
+      statement.execute("CREATE TABLE INCREMENTAL.UNCHANGED(ID INTEGER PRIMARY KEY)");
+      statement.execute("CREATE TABLE INCREMENTAL.IN_FLIGHT(ID INTEGER PRIMARY KEY)");
+      statement.execute("CREATE TABLE INCREMENTAL.ALTERED(ID INTEGER PRIMARY KEY)");
+      statement.execute(
+          "INSERT INTO INCREMENTAL.DDL_LOG "
+              + "SELECT TABLE_NAME, TIMESTAMP '2000-01-01 00:00:00' "
+              + "FROM INFORMATION_SCHEMA.SYSTEM_TABLES WHERE TABLE_SCHEM = 'INCREMENTAL'");
+      // Changed just before the earlier crawl, within the safety margin
+      statement.execute(
+          "UPDATE INCREMENTAL.DDL_LOG SET LAST_DDL_TIME = TIMESTAMP '2000-01-01 00:59:30' "
+              + "WHERE TABLE_NAME = 'IN_FLIGHT'");
+      statement.execute(
+          "INSERT INTO INCREMENTAL.SERVER_CLOCK VALUES (TIMESTAMP '2000-01-01 01:00:00')");
+
+      // The baseline costs an extra query, so it is only retrieved if it was requested
+      final SchemaCrawlerOptions noBaselineOptions =
+          schemaCrawlerOptions.withLoadOptions(
+              LoadOptionsBuilder.builder()
+                  .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+                  .toOptions());
+      final Catalog noBaselineCatalog =
+          new SchemaCrawler(connection, schemaRetrievalOptions, noBaselineOptions).crawl();
+      assertThat(noBaselineCatalog.hasAttribute(SchemaCrawler.TABLE_DDL_BASELINE), is(false));
+
+      final Catalog previousCatalog =
+          new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions).crawl();
+      assertThat(
+          previousCatalog.getAttribute(SchemaCrawler.TABLE_DDL_BASELINE),
+          is(Timestamp.valueOf("2000-01-01 01:00:00").toInstant()));
+      for (final Table table : previousCatalog.getTables()) {
+        table.setAttribute("unchanged", true);
+      }
+
+      statement.execute("ALTER TABLE INCREMENTAL.ALTERED ADD COLUMN NAME VARCHAR(10)");
+      statement.execute(
+          "UPDATE INCREMENTAL.DDL_LOG SET LAST_DDL_TIME = TIMESTAMP '2000-01-01 02:00:00' "
+              + "WHERE TABLE_NAME = 'ALTERED'");
+      statement.execute(
+          "UPDATE INCREMENTAL.SERVER_CLOCK "
+              + "SET DATABASE_TIMESTAMP = TIMESTAMP '2000-01-01 03:00:00'");
+
+      final Catalog catalog =
+          new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions)
+              .crawl(previousCatalog);
+      assertThat(
+          catalog.getAttribute(SchemaCrawler.TABLE_DDL_BASELINE),
+          is(Timestamp.valueOf("2000-01-01 03:00:00").toInstant()));
+
+      assertThat(lookupTable(catalog, "UNCHANGED").hasAttribute("unchanged"), is(true));
+      assertThat(lookupTable(catalog, "IN_FLIGHT").hasAttribute("unchanged"), is(false));
+      final Table altered = lookupTable(catalog, "ALTERED");
+      assertThat(altered.hasAttribute("unchanged"), is(false));
+      assertThat(altered.getColumns(), hasSize(2));
+
+      // Previous catalog is not changed
+      assertThat(
+          previousCatalog.getAttribute(SchemaCrawler.TABLE_DDL_BASELINE),
+          is(Timestamp.valueOf("2000-01-01 01:00:00").toInstant()));
+      assertThat(lookupTable(previousCatalog, "ALTERED").getColumns(), hasSize(1));
+    } finally {
+      try (final Statement statement = connection.createStatement()) {
+        statement.execute("DROP SCHEMA IF EXISTS INCREMENTAL CASCADE");
+      }
+    }
+  }
+
+  private Table lookupTable(final Catalog catalog, final String tableName) {
+    for (final Table table : catalog.getTables()) {
+      if (table.getName().equals(tableName)) {
+        return table;
+      }
+    }
+    throw new AssertionError("Table not found, " + tableName);
+  }
+}
@@ -142,6 +142,24 @@ public class SchemaRetrievalOptionsBuilderTest {
     assertThat(builder.identifierQuoteString, is(""));
   }
 
+  @Test
+  public void metadataRetrievalConcurrency() {
+    final SchemaRetrievalOptionsBuilder builder = SchemaRetrievalOptionsBuilder.builder();
+
+    assertThat(builder.toOptions().getMetadataRetrievalConcurrency(), is(1));
+
+    builder.withMetadataRetrievalConcurrency(4);
+    assertThat(builder.toOptions().getMetadataRetrievalConcurrency(), is(4));
+    assertThat(
+        SchemaRetrievalOptionsBuilder.builder(builder.toOptions())
+            .toOptions()
+            .getMetadataRetrievalConcurrency(),
+        is(4));
+
+    builder.withMetadataRetrievalConcurrency(0);
+    assertThat(builder.toOptions().getMetadataRetrievalConcurrency(), is(1));
+  }
+
   @Test
   public void dbServerType() {
     final SchemaRetrievalOptionsBuilder builder = SchemaRetrievalOptionsBuilder.builder();
@@ -0,0 +1,174 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.crawl.CatalogDigest;
+import schemacrawler.crawl.CatalogSnapshotReader;
+import schemacrawler.crawl.CatalogSnapshotWriter;
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import us.fatehi.utility.IOUtility;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class CatalogDigestTest {
+
+  private static final SchemaCrawlerOptions schemaCrawlerOptions =
+      DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel.withLimitOptions(
+          LimitOptionsBuilder.builder()
+              .includeSchemas(new RegularExpressionInclusionRule(".*\\.DIGEST.*"))
+              .toOptions());
+
+  private static Catalog crawl(final Connection connection) throws Exception {
+    return new SchemaCrawler(
+            connection,
+            SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+            schemaCrawlerOptions)
+        .crawl();
+  }
+
+  @Test
+  public void digest(final Connection connection) throws Exception {
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute("CREATE SCHEMA DIGEST");
+      statement.execute("CREATE SCHEMA DIGEST_OTHER");
+      statement.execute("CREATE TABLE DIGEST.FIRST(ID INTEGER PRIMARY KEY)");
+      statement.execute("CREATE TABLE DIGEST.SECOND(ID INTEGER PRIMARY KEY)");
+      statement.execute("CREATE TABLE DIGEST_OTHER.OTHER(ID INTEGER PRIMARY KEY)");
+
+      final Catalog catalog = crawl(connection);
+      final CatalogDigest digest = CatalogDigest.from(catalog);
+      assertThat(digest.toString(), matchesPattern("\\p{XDigit}{32}"));
+
+      final CatalogDigest sameDigest = CatalogDigest.from(crawl(connection));
+      assertThat(sameDigest.toString(), is(digest.toString()));
+      assertThat(digest.isUnchanged(sameDigest), is(true));
+      assertThat(digest.changedTables(sameDigest), is(empty()));
+
+      statement.execute("ALTER TABLE DIGEST.SECOND ADD COLUMN NAME VARCHAR(20)");
+      final Catalog changedCatalog = crawl(connection);
+      final CatalogDigest changedDigest = CatalogDigest.from(changedCatalog);
+      assertThat(digest.isUnchanged(changedDigest), is(false));
+
+      final Schema schema = changedCatalog.lookupSchema("PUBLIC.DIGEST").get();
+      final Schema otherSchema = changedCatalog.lookupSchema("PUBLIC.DIGEST_OTHER").get();
+      assertThat(digest.isUnchanged(changedDigest, schema), is(false));
+      assertThat(digest.isUnchanged(changedDigest, otherSchema), is(true));
+
+      final Table first = changedCatalog.lookupTable(schema, "FIRST").get();
+      final Table second = changedCatalog.lookupTable(schema, "SECOND").get();
+      assertThat(digest.isUnchanged(changedDigest, first), is(true));
+      assertThat(digest.isUnchanged(changedDigest, second), is(false));
+      assertThat(digest.changedTables(changedDigest), contains(second.key()));
+
+      statement.execute("CREATE TABLE DIGEST.THIRD(ID INTEGER PRIMARY KEY)");
+      final Catalog addedCatalog = crawl(connection);
+      final Table third =
+          addedCatalog.lookupTable(addedCatalog.lookupSchema("PUBLIC.DIGEST").get(), "THIRD").get();
+      final CatalogDigest addedDigest = CatalogDigest.from(addedCatalog);
+      assertThat(changedDigest.changedTables(addedDigest), contains(third.key()));
+      assertThat(addedDigest.changedTables(changedDigest), contains(third.key()));
+      assertThat(changedDigest.isUnchanged(addedDigest, third), is(false));
+    } finally {
+      try (final Statement statement = connection.createStatement()) {
+        statement.execute("DROP SCHEMA IF EXISTS DIGEST CASCADE");
+        statement.execute("DROP SCHEMA IF EXISTS DIGEST_OTHER CASCADE");
+      }
+    }
+  }
+
+  @Test
+  public void snapshotDigest(final Connection connection) throws Exception {
+    final Catalog catalog =
+        DatabaseTestUtility.getCatalog(
+            connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    final CatalogDigest digest = CatalogDigest.from(catalog);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new CatalogSnapshotWriter(catalog).write(out);
+    assertThat(
+        new CatalogSnapshotReader(new ByteArrayInputStream(out.toByteArray()))
+            .readDigest()
+            .isPresent(),
+        is(false));
+
+    for (final boolean compressed : new boolean[] {false, true}) {
+      final ByteArrayOutputStream digestedOut = new ByteArrayOutputStream();
+      new CatalogSnapshotWriter(catalog)
+          .withCompression(compressed)
+          .withDigest(true)
+          .write(digestedOut);
+      final CatalogDigest readDigest =
+          new CatalogSnapshotReader(new ByteArrayInputStream(digestedOut.toByteArray()))
+              .readDigest()
+              .get();
+      assertThat(readDigest.toString(), is(digest.toString()));
+      assertThat(readDigest.changedTables(digest), is(empty()));
+
+      final Catalog readCatalog =
+          new CatalogSnapshotReader(new ByteArrayInputStream(digestedOut.toByteArray())).read();
+      assertThat(CatalogDigest.from(readCatalog).toString(), is(digest.toString()));
+    }
+
+    // An indexed snapshot file is memory-mapped after the digest
+    final Path snapshotFile = IOUtility.createTempFilePath("catalog", "snapshot");
+    final ByteArrayOutputStream indexedOut = new ByteArrayOutputStream();
+    new CatalogSnapshotWriter(catalog).withIndex(true).withDigest(true).write(indexedOut);
+    Files.write(snapshotFile, indexedOut.toByteArray());
+    assertThat(
+        new CatalogSnapshotReader(snapshotFile).readDigest().get().toString(),
+        is(digest.toString()));
+    assertThat(
+        CatalogDigest.from(new CatalogSnapshotReader(snapshotFile).read()).toString(),
+        is(digest.toString()));
+  }
+}
@@ -0,0 +1,145 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.Trigger;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class CatalogFreezeTest {
+
+  private static List<String> describe(final Catalog catalog) {
+    final List<String> description = new ArrayList<>();
+    for (final Schema schema : catalog.getSchemas()) {
+      description.add(schema.getFullName());
+    }
+    for (final ColumnDataType columnDataType : catalog.getColumnDataTypes()) {
+      description.add(columnDataType.getFullName());
+    }
+    for (final Table table : catalog.getTables()) {
+      description.add(table.getFullName());
+      for (final Column column : table.getColumns()) {
+        description.add(column.getFullName() + " " + column.getPrivileges());
+      }
+      for (final Index index : table.getIndexes()) {
+        description.add(index.getFullName() + " " + index.getColumns());
+      }
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        description.add(foreignKey.getFullName() + " " + foreignKey.getColumnReferences());
+      }
+      for (final TableConstraint tableConstraint : table.getTableConstraints()) {
+        description.add(
+            tableConstraint.getFullName() + " " + tableConstraint.getConstrainedColumns());
+      }
+      for (final Trigger trigger : table.getTriggers()) {
+        description.add(trigger.getFullName());
+      }
+      description.add(String.valueOf(table.getPrimaryKey()));
+      description.add(String.valueOf(table.getPrivileges()));
+      description.add(String.valueOf(table.getWeakAssociations()));
+    }
+    for (final Routine routine : catalog.getRoutines()) {
+      description.add(routine.getFullName());
+      for (final RoutineParameter<?> parameter : routine.getParameters()) {
+        description.add(parameter.getFullName());
+      }
+    }
+    for (final Sequence sequence : catalog.getSequences()) {
+      description.add(sequence.getFullName());
+    }
+    for (final Synonym synonym : catalog.getSynonyms()) {
+      description.add(synonym.getFullName());
+    }
+    return description;
+  }
+
+  @Test
+  public void freeze(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    final List<String> description = describe(catalog);
+    final Schema schema = catalog.lookupSchema("PUBLIC.BOOKS").get();
+    final Table table = catalog.lookupTable(schema, "AUTHORS").get();
+    final Column column = table.lookupColumn("FIRSTNAME").get();
+    final Map<String, Object> attributes = new HashMap<>(column.getAttributes());
+    assertThat(attributes.isEmpty(), is(false));
+
+    catalog.freeze();
+
+    assertThat(describe(catalog), is(equalTo(description)));
+    assertThat(catalog.lookupSchema("PUBLIC.BOOKS").get(), is(sameInstance(schema)));
+    assertThat(catalog.lookupTable(schema, "AUTHORS").get(), is(sameInstance(table)));
+    assertThat(
+        catalog.lookupColumn(schema, "AUTHORS", "FIRSTNAME").get(), is(sameInstance(column)));
+    assertThat(catalog.lookupTable(schema, "NOT_A_TABLE").isPresent(), is(false));
+    assertThat(catalog.getTables(schema), hasSize(10));
+
+    // Attributes are compacted, and can still be changed on a frozen catalog
+    assertThat(column.getAttributes(), is(equalTo(attributes)));
+    final String attributeName = attributes.keySet().iterator().next();
+    assertThat(column.getAttribute(attributeName), is(attributes.get(attributeName)));
+    column.removeAttribute(attributeName);
+    assertThat(column.hasAttribute(attributeName), is(false));
+    table.setAttribute("frozen", true);
+    assertThat(table.getAttribute("frozen"), is(true));
+
+    final Catalog clonedCatalog = SerializationUtils.clone(catalog);
+    assertThat(describe(clonedCatalog), is(equalTo(description)));
+  }
+}
@@ -0,0 +1,334 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.crawl.CatalogSnapshotReader;
+import schemacrawler.crawl.CatalogSnapshotWriter;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.PartialDatabaseObject;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.FilterOptionsBuilder;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import us.fatehi.utility.IOUtility;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class CatalogSnapshotTest {
+
+  private static List<String> describe(final Catalog catalog) {
+    final List<String> description = new ArrayList<>();
+    description.add(catalog.getCrawlInfo().toString());
+    description.add(catalog.getDatabaseInfo().toString());
+    description.add(catalog.getJdbcDriverInfo().toString());
+    description.add(String.valueOf(catalog.getDatabaseUsers()));
+    for (final Schema schema : catalog.getSchemas()) {
+      description.add(schema.getFullName() + " " + schema.getRemarks());
+    }
+    for (final ColumnDataType columnDataType : catalog.getColumnDataTypes()) {
+      description.add(
+          String.format(
+              "%s %s %s %s %d %s",
+              columnDataType.getFullName(),
+              columnDataType.getJavaSqlType(),
+              columnDataType.getTypeMappedClass(),
+              columnDataType.getBaseType(),
+              columnDataType.getPrecision(),
+              columnDataType.getEnumValues()));
+    }
+    for (final Table table : catalog.getTables()) {
+      description.add(
+          String.format(
+              "%s %s %s %s %s",
+              table.getFullName(),
+              table.getTableType(),
+              table.getRemarks(),
+              table.getDefinition(),
+              new TreeMap<>(table.getAttributes())));
+      for (final Column column : table.getColumns()) {
+        description.add(
+            String.format(
+                "%s %s %s %b %s %s %s %s",
+                column.getFullName(),
+                column.getColumnDataType(),
+                column.getWidth(),
+                column.isNullable(),
+                column.getDefaultValue(),
+                column.getReferencedColumn(),
+                column.getPrivileges(),
+                new TreeMap<>(column.getAttributes())));
+      }
+      description.add(String.valueOf(table.getHiddenColumns()));
+      for (final Index index : table.getIndexes()) {
+        description.add(index.getFullName() + " " + index.getIndexType() + " " + index.isUnique());
+        for (final IndexColumn indexColumn : index.getColumns()) {
+          description.add(indexColumn.getFullName() + " " + indexColumn.getSortSequence());
+        }
+      }
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        description.add(
+            String.format(
+                "%s %s %s %s",
+                foreignKey.getFullName(),
+                foreignKey.getColumnReferences(),
+                foreignKey.getUpdateRule(),
+                foreignKey.getDeleteRule()));
+      }
+      // Primary keys and foreign keys do not have a consistent sort order with respect to each
+      // other, so table constraints are compared without regard to their order
+      final List<String> tableConstraints = new ArrayList<>();
+      for (final TableConstraint tableConstraint : table.getTableConstraints()) {
+        tableConstraints.add(
+            String.format(
+                "%s %s %s %s",
+                tableConstraint.getFullName(),
+                tableConstraint.getType(),
+                tableConstraint.getConstrainedColumns(),
+                tableConstraint.getDefinition()));
+      }
+      Collections.sort(tableConstraints);
+      description.addAll(tableConstraints);
+      for (final Trigger trigger : table.getTriggers()) {
+        description.add(trigger.getFullName() + " " + trigger.getActionStatement());
+      }
+      description.add(String.valueOf(table.getPrimaryKey()));
+      description.add(String.valueOf(table.getAlternateKeys()));
+      description.add(String.valueOf(table.getPrivileges()));
+      description.add(String.valueOf(table.getWeakAssociations()));
+      if (table instanceof View) {
+        description.add(String.valueOf(((View) table).getTableUsage()));
+      }
+    }
+    for (final Routine routine : catalog.getRoutines()) {
+      description.add(
+          String.format(
+              "%s %s %s %s",
+              routine.getFullName(),
+              routine.getSpecificName(),
+              routine.getReturnType(),
+              routine.getDefinition()));
+      for (final RoutineParameter<?> parameter : routine.getParameters()) {
+        description.add(
+            String.format(
+                "%s %s %s",
+                parameter.getFullName(),
+                parameter.getParameterMode(),
+                parameter.getColumnDataType()));
+      }
+    }
+    for (final Sequence sequence : catalog.getSequences()) {
+      description.add(
+          String.format(
+              "%s %d %s %s",
+              sequence.getFullName(),
+              sequence.getIncrement(),
+              sequence.getMinimumValue(),
+              sequence.getMaximumValue()));
+    }
+    for (final Synonym synonym : catalog.getSynonyms()) {
+      description.add(synonym.getFullName() + " " + synonym.getReferencedObject());
+    }
+    return description;
+  }
+
+  private static Catalog roundTrip(final Catalog catalog, final boolean compressed)
+      throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new CatalogSnapshotWriter(catalog).withCompression(compressed).write(out);
+    return new CatalogSnapshotReader(new ByteArrayInputStream(out.toByteArray())).read();
+  }
+
+  private static int snapshotSize(final Catalog catalog, final boolean compressed)
+      throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new CatalogSnapshotWriter(catalog).withCompression(compressed).write(out);
+    return out.size();
+  }
+
+  @Test
+  public void badSnapshot() throws Exception {
+    final byte[] notSnapshot = {(byte) 0xAC, (byte) 0xED, 0, 5, 0, 0, 0, 0};
+    final BufferedInputStream in =
+        new BufferedInputStream(new ByteArrayInputStream(notSnapshot));
+    assertThat(CatalogSnapshotReader.isCatalogSnapshot(in), is(false));
+    assertThat(in.read(), is(0xAC));
+    assertThrows(IOException.class, () -> new CatalogSnapshotReader(in).read());
+  }
+
+  @Test
+  public void indexedSnapshot(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    final List<String> description = describe(catalog);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new CatalogSnapshotWriter(catalog).withIndex(true).write(out);
+    final Catalog readCatalog =
+        new CatalogSnapshotReader(new ByteArrayInputStream(out.toByteArray())).read();
+    assertThat(describe(readCatalog), is(equalTo(description)));
+
+    final Path snapshotFile = IOUtility.createTempFilePath("catalog", "snapshot");
+    Files.write(snapshotFile, out.toByteArray());
+    assertThat(describe(new CatalogSnapshotReader(snapshotFile).read()), is(equalTo(description)));
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            new CatalogSnapshotWriter(catalog)
+                .withIndex(true)
+                .withCompression(true)
+                .write(new ByteArrayOutputStream()));
+  }
+
+  @Test
+  public void indexedSnapshotSelection(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    final Path snapshotFile = IOUtility.createTempFilePath("catalog", "snapshot");
+    try (final OutputStream out = Files.newOutputStream(snapshotFile)) {
+      new CatalogSnapshotWriter(catalog).withIndex(true).write(out);
+    }
+
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel.withLimitOptions(
+            LimitOptionsBuilder.builder()
+                .includeTables(new RegularExpressionInclusionRule(".*\\.BOOKAUTHORS"))
+                .toOptions());
+    final Catalog readCatalog =
+        new CatalogSnapshotReader(snapshotFile)
+            .withSchemaCrawlerOptions(schemaCrawlerOptions)
+            .read();
+
+    final Schema schema = readCatalog.lookupSchema("PUBLIC.BOOKS").orElse(null);
+    assertThat("Could not obtain schema", schema, notNullValue());
+    assertThat(readCatalog.getTables(), hasSize(1));
+    assertThat(readCatalog.getSchemas(), hasSize(catalog.getSchemas().size()));
+    assertThat(readCatalog.getRoutines(), hasSize(catalog.getRoutines().size()));
+    assertThat(readCatalog.getSynonyms(), hasSize(catalog.getSynonyms().size()));
+
+    final Table table = readCatalog.lookupTable(schema, "BOOKAUTHORS").get();
+    final Table fullTable = catalog.lookupTable(schema, "BOOKAUTHORS").get();
+    assertThat(table.getColumns().toString(), is(fullTable.getColumns().toString()));
+    assertThat(table.getIndexes().toString(), is(fullTable.getIndexes().toString()));
+    assertThat(table.getForeignKeys(), hasSize(2));
+    for (final ForeignKey foreignKey : table.getForeignKeys()) {
+      final Table referencedTable = foreignKey.getPrimaryKeyTable();
+      assertThat(referencedTable, instanceOf(PartialDatabaseObject.class));
+      assertThat(readCatalog.lookupTable(schema, referencedTable.getName()).isPresent(), is(false));
+      assertThat(
+          foreignKey.getColumnReferences().toString(),
+          is(
+              fullTable
+                  .getForeignKeys()
+                  .stream()
+                  .filter(fk -> fk.getName().equals(foreignKey.getName()))
+                  .findFirst()
+                  .get()
+                  .getColumnReferences()
+                  .toString()));
+    }
+
+    // All tables are read when related tables are to be included
+    final Catalog relatedCatalog =
+        new CatalogSnapshotReader(snapshotFile)
+            .withSchemaCrawlerOptions(
+                schemaCrawlerOptions.withFilterOptions(
+                    FilterOptionsBuilder.builder().childTableFilterDepth(1).toOptions()))
+            .read();
+    assertThat(relatedCatalog.getTables(), hasSize(catalog.getTables().size()));
+  }
+
+  @Test
+  public void snapshot(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    final List<String> description = describe(catalog);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new CatalogSnapshotWriter(catalog).write(out);
+    final BufferedInputStream in =
+        new BufferedInputStream(new ByteArrayInputStream(out.toByteArray()));
+    assertThat(CatalogSnapshotReader.isCatalogSnapshot(in), is(true));
+    final Catalog readCatalog = new CatalogSnapshotReader(in).read();
+    assertThat(describe(readCatalog), is(equalTo(description)));
+
+    final Schema schema = readCatalog.lookupSchema("PUBLIC.BOOKS").orElse(null);
+    assertThat("Could not obtain schema", schema, notNullValue());
+    assertThat(readCatalog.getTables(schema), hasSize(10));
+    assertThat(readCatalog.getCrawlInfo().getRunId(), is(catalog.getCrawlInfo().getRunId()));
+
+    assertThat(describe(roundTrip(catalog, true)), is(equalTo(description)));
+    assertThat(snapshotSize(catalog, true), is(lessThan(snapshotSize(catalog, false))));
+
+    // A frozen catalog, and a catalog read from a snapshot, can be written again
+    readCatalog.freeze();
+    assertThat(describe(roundTrip(readCatalog, true)), is(equalTo(description)));
+  }
+}
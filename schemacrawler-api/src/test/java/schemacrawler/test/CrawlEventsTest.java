@@ -0,0 +1,89 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class CrawlEventsTest {
+
+  @Test
+  public void flightRecorderEvents(final Connection connection) throws Exception {
+
+    final Path recordingFile = Files.createTempFile("schemacrawler", ".jfr");
+    try (final Recording recording = new Recording()) {
+      recording.enable("schemacrawler.Retrieval");
+      recording.enable("schemacrawler.MetadataResults");
+      recording.enable("schemacrawler.Query");
+      recording.start();
+
+      new SchemaCrawler(
+              connection,
+              SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+              schemaCrawlerOptionsWithMaximumSchemaInfoLevel)
+          .crawl();
+
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+
+    final Set<String> eventTypes = new HashSet<>();
+    final Set<String> retrievalNames = new HashSet<>();
+    for (final RecordedEvent event : RecordingFile.readAllEvents(recordingFile)) {
+      final String eventType = event.getEventType().getName();
+      eventTypes.add(eventType);
+      if (eventType.equals("schemacrawler.Retrieval")) {
+        retrievalNames.add(event.getString("retrievalName"));
+      }
+    }
+    Files.delete(recordingFile);
+
+    assertThat(eventTypes, hasItems("schemacrawler.Retrieval", "schemacrawler.MetadataResults"));
+    assertThat(retrievalNames, hasItem("retrieveTables"));
+  }
+}
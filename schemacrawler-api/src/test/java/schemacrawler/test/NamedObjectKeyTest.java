@@ -0,0 +1,110 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schema.NamedObjectKey;
+
+public class NamedObjectKeyTest {
+
+  @Test
+  public void compareKeys() {
+    final NamedObjectKey schemaKey = new NamedObjectKey("CATALOG", "SCHEMA");
+    final NamedObjectKey tableKey = schemaKey.with("TABLE");
+    final NamedObjectKey columnKey = tableKey.with("COLUMN");
+    final NamedObjectKey otherTableKey = new NamedObjectKey("CATALOG", "SCHEMA", "OTHER_TABLE");
+    final NamedObjectKey nullSchemaKey = new NamedObjectKey("CATALOG", null, "TABLE");
+
+    assertThat(tableKey.compareTo(new NamedObjectKey("CATALOG", "SCHEMA", "TABLE")), is(0));
+    assertThat(new NamedObjectKey().compareTo(new NamedObjectKey()), is(0));
+    assertThat(schemaKey.compareTo(tableKey), is(lessThan(0)));
+    assertThat(columnKey.compareTo(tableKey), is(greaterThan(0)));
+    assertThat(otherTableKey.compareTo(columnKey), is(lessThan(0)));
+    assertThat(columnKey.compareTo(otherTableKey), is(greaterThan(0)));
+    assertThat(nullSchemaKey.compareTo(tableKey), is(lessThan(0)));
+    assertThat(new NamedObjectKey().compareTo(schemaKey), is(lessThan(0)));
+
+    final List<NamedObjectKey> keys =
+        new ArrayList<>(
+            Arrays.asList(columnKey, otherTableKey, tableKey, nullSchemaKey, schemaKey));
+    keys.sort(null);
+    assertThat(keys, contains(nullSchemaKey, schemaKey, otherTableKey, tableKey, columnKey));
+  }
+
+  @Test
+  public void emptyKey() {
+    final NamedObjectKey emptyKey = new NamedObjectKey();
+
+    assertThat(emptyKey, is(new NamedObjectKey((String[]) null)));
+    assertThat(emptyKey.hashCode(), is(Arrays.hashCode(new String[0])));
+    assertThat(emptyKey.toString(), is("{\"key\": \"\"}"));
+    assertThat(emptyKey, is(not(new NamedObjectKey((String) null))));
+  }
+
+  @Test
+  public void keyWithName() {
+    final NamedObjectKey schemaKey = new NamedObjectKey("CATALOG", "SCHEMA");
+    final NamedObjectKey tableKey = schemaKey.with("TABLE");
+    final NamedObjectKey columnKey = tableKey.with("COLUMN");
+
+    assertThat(tableKey, is(new NamedObjectKey("CATALOG", "SCHEMA", "TABLE")));
+    assertThat(columnKey, is(new NamedObjectKey("CATALOG", "SCHEMA", "TABLE", "COLUMN")));
+    assertThat(columnKey, is(not(tableKey)));
+    assertThat(tableKey, is(not(schemaKey.with("OTHER_TABLE"))));
+    assertThat(tableKey, is(not(new NamedObjectKey("SCHEMA", "TABLE"))));
+    assertThat(new NamedObjectKey().with("TABLE"), is(new NamedObjectKey("TABLE")));
+
+    assertThat(
+        columnKey.hashCode(),
+        is(Arrays.hashCode(new String[] {"CATALOG", "SCHEMA", "TABLE", "COLUMN"})));
+    assertThat(columnKey.toString(), is("{\"key\": \"CATALOG/SCHEMA/TABLE/COLUMN\"}"));
+  }
+
+  @Test
+  public void keyWithNullNames() {
+    final NamedObjectKey key = new NamedObjectKey(null, "SCHEMA", "TABLE");
+
+    assertThat(key, is(new NamedObjectKey((String) null).with("SCHEMA").with("TABLE")));
+    assertThat(key, is(not(new NamedObjectKey("SCHEMA", "TABLE"))));
+    assertThat(key.hashCode(), is(Arrays.hashCode(new String[] {null, "SCHEMA", "TABLE"})));
+    assertThat(key.toString(), is("{\"key\": \"null/SCHEMA/TABLE\"}"));
+  }
+}
@@ -0,0 +1,148 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static schemacrawler.crawl.SchemaFingerprinter.SCHEMA_FINGERPRINT;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_SCHEMA_FINGERPRINT;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.crawl.SchemaFingerprinter;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class SchemaFingerprinterTest {
+
+  private static final SchemaCrawlerOptions schemaCrawlerOptions =
+      SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+          .withLimitOptions(
+              LimitOptionsBuilder.builder()
+                  .includeSchemas(new RegularExpressionInclusionRule(".*\\.FINGERPRINT"))
+                  .toOptions())
+          .withLoadOptions(LoadOptionsBuilder.builder().withSchemaFingerprint(true).toOptions());
+
+  @Test
+  public void fingerprintFromDataDictionary(final Connection connection) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .withInformationSchemaViews(
+                InformationSchemaViewsBuilder.builder()
+                    .withSql(
+                        EXT_SCHEMA_FINGERPRINT,
+                        "SELECT TABLE_CAT AS TABLE_CATALOG, TABLE_SCHEM AS TABLE_SCHEMA, "
+                            + "COUNT(*) AS OBJECT_COUNT "
+                            + "FROM INFORMATION_SCHEMA.SYSTEM_TABLES "
+                            + "GROUP BY TABLE_CAT, TABLE_SCHEM")
+                    .toOptions())
+            .toOptions();
+    final String tablesFingerprint =
+        new SchemaFingerprinter(
+                connection,
+                SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+                schemaCrawlerOptions)
+            .fingerprint();
+
+    assertFingerprint(connection, schemaRetrievalOptions, tablesFingerprint);
+  }
+
+  @Test
+  public void fingerprintFromTables(final Connection connection) throws Exception {
+    assertFingerprint(connection, SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(), "");
+  }
+
+  private void assertFingerprint(
+      final Connection connection,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final String otherFingerprint)
+      throws Exception {
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute("CREATE SCHEMA FINGERPRINT");
+      statement.execute("CREATE TABLE FINGERPRINT.FIRST(ID INTEGER PRIMARY KEY)");
+
+      final SchemaFingerprinter fingerprinter =
+          new SchemaFingerprinter(connection, schemaRetrievalOptions, schemaCrawlerOptions);
+      final String fingerprint = fingerprinter.fingerprint();
+      assertThat(fingerprint, matchesPattern("\\p{XDigit}{64}"));
+      assertThat(fingerprint, is(not(otherFingerprint)));
+      assertThat(fingerprinter.fingerprint(), is(fingerprint));
+
+      final Catalog catalog =
+          new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions).crawl();
+      assertThat(catalog.getAttribute(SCHEMA_FINGERPRINT), is(equalTo(fingerprint)));
+      assertThat(fingerprinter.isChanged(catalog), is(false));
+
+      // Catalogs are only stamped with a fingerprint if it was requested
+      final SchemaCrawlerOptions noFingerprintOptions =
+          schemaCrawlerOptions.withLoadOptions(LoadOptionsBuilder.newLoadOptions());
+      final Catalog noFingerprintCatalog =
+          new SchemaCrawler(connection, schemaRetrievalOptions, noFingerprintOptions).crawl();
+      assertThat(noFingerprintCatalog.getAttribute(SCHEMA_FINGERPRINT), is(nullValue()));
+
+      // Changes outside the included schemas do not change the fingerprint
+      statement.execute("CREATE SCHEMA FINGERPRINT_OTHER");
+      statement.execute("CREATE TABLE FINGERPRINT_OTHER.OTHER(ID INTEGER PRIMARY KEY)");
+      assertThat(fingerprinter.isChanged(catalog), is(false));
+
+      statement.execute("CREATE TABLE FINGERPRINT.SECOND(ID INTEGER PRIMARY KEY)");
+      assertThat(fingerprinter.isChanged(catalog), is(true));
+      assertThat(fingerprinter.fingerprint(), is(not(fingerprint)));
+
+      // Catalogs without a fingerprint are always treated as changed
+      catalog.removeAttribute(SCHEMA_FINGERPRINT);
+      statement.execute("DROP TABLE FINGERPRINT.SECOND");
+      assertThat(fingerprinter.fingerprint(), is(fingerprint));
+      assertThat(fingerprinter.isChanged(catalog), is(true));
+    } finally {
+      try (final Statement statement = connection.createStatement()) {
+        statement.execute("DROP SCHEMA IF EXISTS FINGERPRINT CASCADE");
+        statement.execute("DROP SCHEMA IF EXISTS FINGERPRINT_OTHER CASCADE");
+      }
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.Collection;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.testdb.SyntheticSchemaCreator;
+
+public class SyntheticSchemaTest {
+
+  @Test
+  public void syntheticSchema() throws Exception {
+    try (final Connection connection =
+        DriverManager.getConnection("jdbc:hsqldb:mem:synthetic", "sa", "")) {
+
+      new SyntheticSchemaCreator(connection)
+          .withSchemas(2)
+          .withTablesPerSchema(20)
+          .withColumnsPerTable(5)
+          .withForeignKeysPerTable(2)
+          .withIndexesPerTable(2)
+          .withViewsPerSchema(3)
+          .withRoutinesPerSchema(4)
+          .withRemarksLength(200)
+          .run();
+
+      final SchemaCrawlerOptions schemaCrawlerOptions =
+          schemaCrawlerOptionsWithMaximumSchemaInfoLevel.withLimitOptions(
+              LimitOptionsBuilder.builder()
+                  .includeSchemas(new RegularExpressionInclusionRule(".*\\.SYNTHETIC_.*"))
+                  .includeAllRoutines()
+                  .toOptions());
+      final Catalog catalog =
+          new SchemaCrawler(
+                  connection,
+                  SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+                  schemaCrawlerOptions)
+              .crawl();
+
+      final Collection<Schema> schemas = catalog.getSchemas();
+      assertThat(schemas, hasSize(2));
+      for (final Schema schema : schemas) {
+        assertThat(catalog.getTables(schema), hasSize(23));
+        assertThat(catalog.getRoutines(schema), hasSize(4));
+
+        int viewCount = 0;
+        int foreignKeyCount = 0;
+        for (final Table table : catalog.getTables(schema)) {
+          if (table instanceof View) {
+            viewCount++;
+            continue;
+          }
+          foreignKeyCount += table.getImportedForeignKeys().size();
+          assertThat(table.getIndexes(), hasSize(2 + 1 + table.getImportedForeignKeys().size()));
+          assertThat(table.getRemarks().length(), is(200));
+          for (final Column column : table.getColumns()) {
+            if (column.getName().startsWith("COLUMN_")) {
+              assertThat(column.getRemarks().length(), is(200));
+            }
+          }
+        }
+        assertThat(viewCount, is(3));
+        // The first table in each schema has no foreign keys
+        assertThat(foreignKeyCount, is(19 * 2));
+      }
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import schemacrawler.testdb.TestDatabase;
+
+/**
+ * Embedded test database, with a connection that is shared by all benchmark iterations in a
+ * trial.
+ */
+@State(Scope.Benchmark)
+public class TestDatabaseState {
+
+  private Connection connection;
+
+  public Connection getConnection() {
+    return connection;
+  }
+
+  @Setup(Level.Trial)
+  public void startDatabase() throws SQLException {
+    final TestDatabase testDatabase = TestDatabase.initialize();
+    connection = testDatabase.getConnection();
+  }
+
+  /** The database server is stopped by a shutdown hook, when the forked JVM exits. */
+  @TearDown(Level.Trial)
+  public void closeConnection() throws SQLException {
+    connection.close();
+  }
+}
@@ -0,0 +1,133 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.loader.weakassociations.ProposedWeakAssociation;
+import schemacrawler.loader.weakassociations.WeakAssociationsAnalyzer;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+
+/**
+ * Finds weak associations in catalogs of increasing size. Each table has a primary key, and a
+ * column that is named after the previous table, but without a foreign key, so that every table
+ * but the first has a weak association.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WeakAssociationsAnalyzerBenchmark {
+
+  @Param({"500", "2000", "10000"})
+  public int tableCount;
+
+  private Collection<Table> tables;
+
+  @Benchmark
+  public Collection<ProposedWeakAssociation> analyzeTables() {
+    return new WeakAssociationsAnalyzer(tables).analyzeTables();
+  }
+
+  @Setup
+  public void crawlCatalog() throws SQLException, SchemaCrawlerException {
+    try (final Connection connection =
+        DriverManager.getConnection(
+            String.format("jdbc:hsqldb:mem:weakassociations_%d", tableCount), "sa", "")) {
+      try (final Statement statement = connection.createStatement()) {
+        statement.addBatch("CREATE SCHEMA WEAK_ASSOCIATIONS");
+        for (int tableNumber = 0; tableNumber < tableCount; tableNumber++) {
+          final String previousTableColumn;
+          if (tableNumber == 0) {
+            previousTableColumn = "";
+          } else {
+            previousTableColumn = String.format(", ENTITY_%05d_ID INTEGER", tableNumber - 1);
+          }
+          statement.addBatch(
+              String.format(
+                  "CREATE TABLE WEAK_ASSOCIATIONS.ENTITY_%05d "
+                      + "(ID INTEGER PRIMARY KEY, NAME VARCHAR(20)%s)",
+                  tableNumber, previousTableColumn));
+        }
+        statement.executeBatch();
+      }
+
+      final SchemaCrawlerOptions schemaCrawlerOptions =
+          SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+              .withLimitOptions(
+                  LimitOptionsBuilder.builder()
+                      .includeSchemas(new RegularExpressionInclusionRule(".*\\.WEAK_ASSOCIATIONS"))
+                      .toOptions())
+              .withLoadOptions(
+                  LoadOptionsBuilder.builder()
+                      .withSchemaInfoLevel(SchemaInfoLevelBuilder.standard())
+                      .toOptions());
+      tables =
+          new SchemaCrawler(
+                  connection,
+                  SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+                  schemaCrawlerOptions)
+              .crawl()
+              .getTables();
+
+      try (final Statement statement = connection.createStatement()) {
+        statement.execute("DROP SCHEMA WEAK_ASSOCIATIONS CASCADE");
+      }
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.benchmarks.TestDatabaseState;
+import schemacrawler.filter.ReducerFactory;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.GrepOptionsBuilder;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+
+/**
+ * Reduces a fully crawled catalog of the test database. The catalog is crawled once, and a copy is
+ * reduced on each invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CatalogReducerBenchmark {
+
+  private MutableCatalog crawledCatalog;
+  private MutableCatalog catalog;
+  private SchemaCrawlerOptions reduceOptions;
+
+  @Setup(Level.Invocation)
+  public void copyCatalog() {
+    catalog = crawledCatalog.copy();
+  }
+
+  @Setup(Level.Trial)
+  public void crawlCatalog(final TestDatabaseState testDatabase) throws SchemaCrawlerException {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLoadOptions(
+                LoadOptionsBuilder.builder()
+                    .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+                    .toOptions());
+    crawledCatalog =
+        (MutableCatalog)
+            new SchemaCrawler(
+                    testDatabase.getConnection(),
+                    SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+                    schemaCrawlerOptions)
+                .crawl();
+
+    reduceOptions =
+        schemaCrawlerOptions
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeSchemas(new RegularExpressionInclusionRule(".*\\.BOOKS"))
+                    .toOptions())
+            .withGrepOptions(
+                GrepOptionsBuilder.builder()
+                    .includeGreppedColumns(new RegularExpressionInclusionRule(".*\\.ID"))
+                    .toOptions());
+  }
+
+  @Benchmark
+  public MutableCatalog reduceAll() {
+    catalog.reduce(Schema.class, ReducerFactory.getSchemaReducer(reduceOptions));
+    catalog.reduce(Table.class, ReducerFactory.getTableReducer(reduceOptions));
+    catalog.reduce(Routine.class, ReducerFactory.getRoutineReducer(reduceOptions));
+    catalog.reduce(Synonym.class, ReducerFactory.getSynonymReducer(reduceOptions));
+    catalog.reduce(Sequence.class, ReducerFactory.getSequenceReducer(reduceOptions));
+    return catalog;
+  }
+
+  @Benchmark
+  public MutableCatalog reduceTables() {
+    catalog.reduce(Table.class, ReducerFactory.getTableReducer(reduceOptions));
+    return catalog;
+  }
+}
@@ -0,0 +1,155 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import schemacrawler.benchmarks.TestDatabaseState;
+
+/**
+ * Reads the table columns metadata of the test database, the way the table column retriever does.
+ * Values are read by name from a metadata result set, which resolves names to column indexes once
+ * for the result set, and compared with reading them from the JDBC result set by name, and by
+ * column indexes that are resolved up front. The rows are held in a disconnected row set, so only
+ * reading values is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MetadataResultSetBenchmark {
+
+  /** Table columns metadata rows, with the indexes of the columns that are read. */
+  @State(Scope.Thread)
+  public static class TableColumnsRows {
+
+    CachedRowSet rows;
+    int[] stringColumnIndexes;
+    int[] intColumnIndexes;
+
+    @Setup(Level.Trial)
+    public void readRows(final TestDatabaseState testDatabase) throws SQLException {
+      rows = RowSetProvider.newFactory().createCachedRowSet();
+      try (final ResultSet results =
+          testDatabase.getConnection().getMetaData().getColumns(null, null, "%", "%")) {
+        rows.populate(results);
+      }
+
+      stringColumnIndexes = new int[STRING_COLUMNS.length];
+      for (int i = 0; i < STRING_COLUMNS.length; i++) {
+        stringColumnIndexes[i] = rows.findColumn(STRING_COLUMNS[i]);
+      }
+      intColumnIndexes = new int[INT_COLUMNS.length];
+      for (int i = 0; i < INT_COLUMNS.length; i++) {
+        intColumnIndexes[i] = rows.findColumn(INT_COLUMNS[i]);
+      }
+    }
+  }
+
+  private static final String[] STRING_COLUMNS = {
+    "TABLE_CAT",
+    "TABLE_SCHEM",
+    "TABLE_NAME",
+    "COLUMN_NAME",
+    "TYPE_NAME",
+    "REMARKS",
+    "COLUMN_DEF",
+    "IS_NULLABLE",
+    "IS_AUTOINCREMENT",
+    "IS_GENERATEDCOLUMN"
+  };
+  private static final String[] INT_COLUMNS = {
+    "DATA_TYPE", "COLUMN_SIZE", "DECIMAL_DIGITS", "NULLABLE", "ORDINAL_POSITION"
+  };
+
+  @Benchmark
+  public void readByColumnIndex(final TableColumnsRows state, final Blackhole blackhole)
+      throws SQLException {
+    final CachedRowSet rows = state.rows;
+    rows.beforeFirst();
+    while (rows.next()) {
+      for (final int columnIndex : state.stringColumnIndexes) {
+        blackhole.consume(rows.getString(columnIndex));
+      }
+      for (final int columnIndex : state.intColumnIndexes) {
+        blackhole.consume(rows.getInt(columnIndex));
+      }
+    }
+  }
+
+  @Benchmark
+  public void readByColumnName(final TableColumnsRows state, final Blackhole blackhole)
+      throws SQLException {
+    final CachedRowSet rows = state.rows;
+    rows.beforeFirst();
+    while (rows.next()) {
+      for (final String columnName : STRING_COLUMNS) {
+        blackhole.consume(rows.getString(columnName));
+      }
+      for (final String columnName : INT_COLUMNS) {
+        blackhole.consume(rows.getInt(columnName));
+      }
+    }
+  }
+
+  @Benchmark
+  public void readWithMetadataResultSet(final TableColumnsRows state, final Blackhole blackhole)
+      throws SQLException {
+    state.rows.beforeFirst();
+    // Not closed, since that would release the rows that are shared by all invocations
+    final MetadataResultSet results = new MetadataResultSet(state.rows);
+    while (results.next()) {
+      for (final String columnName : STRING_COLUMNS) {
+        blackhole.consume(results.getString(columnName));
+      }
+      for (final String columnName : INT_COLUMNS) {
+        blackhole.consume(results.getInt(columnName, 0));
+      }
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaReference;
+
+/** Operations on named object lists of tables, which back most of the catalog. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class NamedObjectListBenchmark {
+
+  @Param({"100", "1000", "10000", "50000"})
+  public int size;
+
+  private List<MutableTable> tables;
+  private NamedObjectList<MutableTable> namedObjectList;
+  private NamedObjectList<MutableTable> namedObjectListToFilter;
+  private Schema schema;
+
+  @Benchmark
+  public NamedObjectList<MutableTable> add() {
+    final NamedObjectList<MutableTable> namedObjectList = new NamedObjectList<>();
+    for (final MutableTable table : tables) {
+      namedObjectList.add(table);
+    }
+    return namedObjectList;
+  }
+
+  @Benchmark
+  public NamedObjectList<MutableTable> filter() {
+    namedObjectListToFilter.filter(table -> table.getName().hashCode() % 2 == 0);
+    return namedObjectListToFilter;
+  }
+
+  @Benchmark
+  public void iterate(final Blackhole blackhole) {
+    for (final Table table : namedObjectList) {
+      blackhole.consume(table);
+    }
+  }
+
+  @Benchmark
+  public void lookup(final Blackhole blackhole) {
+    for (final MutableTable table : tables) {
+      final Optional<MutableTable> lookedUpTable = namedObjectList.lookup(schema, table.getName());
+      blackhole.consume(lookedUpTable);
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void createNamedObjectListToFilter() {
+    namedObjectListToFilter = add();
+  }
+
+  @Setup(Level.Trial)
+  public void createTables() {
+    schema = new SchemaReference("CATALOG", "SCHEMA");
+    tables = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      final MutableTable table = new MutableTable(schema, String.format("TABLE_%05d", i));
+      table.setSortIndex(size - i);
+      tables.add(table);
+    }
+    namedObjectList = add();
+  }
+
+  @Benchmark
+  public List<MutableTable> values() {
+    return namedObjectList.values();
+  }
+}
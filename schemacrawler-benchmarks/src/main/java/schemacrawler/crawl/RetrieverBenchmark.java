@@ -0,0 +1,200 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.sql.SQLException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.benchmarks.TestDatabaseState;
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+
+/**
+ * Runs each retriever in isolation against the test database. Before each invocation, a catalog is
+ * crawled with just the schema objects that the retriever needs, so only the retriever itself is
+ * measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RetrieverBenchmark {
+
+  /** Catalog with schemas only. */
+  @State(Scope.Thread)
+  public static class CatalogWithSchemas {
+
+    MutableCatalog catalog;
+
+    @Setup(Level.Invocation)
+    public void crawlCatalog(final TestDatabaseState testDatabase)
+        throws SchemaCrawlerException {
+      catalog = crawl(testDatabase, SchemaInfoLevelBuilder.builder());
+    }
+  }
+
+  /** Catalog with schemas and tables, but no table details. */
+  @State(Scope.Thread)
+  public static class CatalogWithTables {
+
+    MutableCatalog catalog;
+
+    @Setup(Level.Invocation)
+    public void crawlCatalog(final TestDatabaseState testDatabase)
+        throws SchemaCrawlerException {
+      catalog = crawl(testDatabase, SchemaInfoLevelBuilder.builder().setRetrieveTables(true));
+    }
+  }
+
+  /** Catalog with schemas, tables and table columns. */
+  @State(Scope.Thread)
+  public static class CatalogWithTableColumns {
+
+    MutableCatalog catalog;
+
+    @Setup(Level.Invocation)
+    public void crawlCatalog(final TestDatabaseState testDatabase)
+        throws SchemaCrawlerException {
+      catalog =
+          crawl(
+              testDatabase,
+              SchemaInfoLevelBuilder.builder()
+                  .setRetrieveTables(true)
+                  .setRetrieveColumnDataTypes(true)
+                  .setRetrieveTableColumns(true));
+    }
+  }
+
+  private static final SchemaRetrievalOptions schemaRetrievalOptions =
+      SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions();
+  private static final SchemaCrawlerOptions schemaCrawlerOptions =
+      SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+  private static MutableCatalog crawl(
+      final TestDatabaseState testDatabase, final SchemaInfoLevelBuilder schemaInfoLevelBuilder)
+      throws SchemaCrawlerException {
+    final SchemaCrawlerOptions options =
+        schemaCrawlerOptions.withLoadOptions(
+            LoadOptionsBuilder.builder()
+                .withSchemaInfoLevel(schemaInfoLevelBuilder.toOptions())
+                .toOptions());
+    return (MutableCatalog)
+        new SchemaCrawler(testDatabase.getConnection(), schemaRetrievalOptions, options).crawl();
+  }
+
+  @Benchmark
+  public MutableCatalog retrieveForeignKeys(
+      final TestDatabaseState testDatabase, final CatalogWithTableColumns state)
+      throws SQLException {
+    final ForeignKeyRetriever retriever =
+        new ForeignKeyRetriever(
+            retrieverConnection(testDatabase), state.catalog, schemaCrawlerOptions);
+    retriever.retrieveForeignKeys(state.catalog.getAllTables());
+    return state.catalog;
+  }
+
+  @Benchmark
+  public MutableCatalog retrieveIndexes(
+      final TestDatabaseState testDatabase, final CatalogWithTableColumns state)
+      throws SQLException {
+    final IndexRetriever retriever =
+        new IndexRetriever(retrieverConnection(testDatabase), state.catalog, schemaCrawlerOptions);
+    retriever.retrieveIndexes(state.catalog.getAllTables());
+    return state.catalog;
+  }
+
+  @Benchmark
+  public MutableCatalog retrievePrimaryKeys(
+      final TestDatabaseState testDatabase, final CatalogWithTableColumns state)
+      throws SQLException {
+    final PrimaryKeyRetriever retriever =
+        new PrimaryKeyRetriever(
+            retrieverConnection(testDatabase), state.catalog, schemaCrawlerOptions);
+    retriever.retrievePrimaryKeys(state.catalog.getAllTables());
+    return state.catalog;
+  }
+
+  @Benchmark
+  public MutableCatalog retrieveSchemas(final TestDatabaseState testDatabase)
+      throws SQLException {
+    final MutableCatalog catalog = new MutableCatalog("catalog");
+    final SchemaRetriever retriever =
+        new SchemaRetriever(retrieverConnection(testDatabase), catalog, schemaCrawlerOptions);
+    retriever.retrieveSchemas(new IncludeAll());
+    return catalog;
+  }
+
+  @Benchmark
+  public MutableCatalog retrieveTableColumns(
+      final TestDatabaseState testDatabase, final CatalogWithTables state) throws SQLException {
+    final TableColumnRetriever retriever =
+        new TableColumnRetriever(
+            retrieverConnection(testDatabase), state.catalog, schemaCrawlerOptions);
+    retriever.retrieveTableColumns(state.catalog.getAllTables(), new IncludeAll());
+    return state.catalog;
+  }
+
+  @Benchmark
+  public MutableCatalog retrieveTables(
+      final TestDatabaseState testDatabase, final CatalogWithSchemas state) throws SQLException {
+    final LimitOptions limitOptions = schemaCrawlerOptions.getLimitOptions();
+    final TableRetriever retriever =
+        new TableRetriever(
+            retrieverConnection(testDatabase), state.catalog, schemaCrawlerOptions);
+    retriever.retrieveTables(
+        limitOptions.getTableNamePattern(), limitOptions.getTableTypes(), new IncludeAll());
+    return state.catalog;
+  }
+
+  private RetrieverConnection retrieverConnection(final TestDatabaseState testDatabase)
+      throws SQLException {
+    return new RetrieverConnection(testDatabase.getConnection(), schemaRetrievalOptions);
+  }
+}
@@ -135,7 +135,11 @@ public class LoadCommand extends BaseStateHolder implements Runnable {
       final Config additionalConfig = state.getConfig();
 
       return SchemaCrawlerUtility.getCatalog(
-          connection, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+          connection,
+          state.getDataSource(),
+          schemaRetrievalOptions,
+          schemaCrawlerOptions,
+          additionalConfig);
 
     } catch (final Exception e) {
       throw new ExecutionException(spec.commandLine(), "Cannot load catalog", e);
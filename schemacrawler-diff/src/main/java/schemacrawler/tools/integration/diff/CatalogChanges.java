@@ -0,0 +1,183 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.integration.diff;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Changes between two catalogs, in the order of the lookup keys of the changed objects, so that
+ * changes to dependent objects follow the change to their parent. Changes can be written as text,
+ * with one line per change, followed by indented lines for the changed fields, or as JSON.
+ */
+public final class CatalogChanges implements Iterable<Change>, Serializable {
+
+  private static final long serialVersionUID = 5361578095137420633L;
+
+  private static void writeJsonString(final Writer writer, final String value)
+      throws IOException {
+    if (value == null) {
+      writer.write("null");
+      return;
+    }
+    writer.write('"');
+    for (final char ch : value.toCharArray()) {
+      if (ch == '"' || ch == '\\') {
+        writer.write('\\');
+        writer.write(ch);
+      } else if (ch < ' ') {
+        writer.write(String.format("\\u%04x", (int) ch));
+      } else {
+        writer.write(ch);
+      }
+    }
+    writer.write('"');
+  }
+
+  private final List<Change> changes;
+
+  CatalogChanges(final List<Change> changes) {
+    this.changes = requireNonNull(changes, "No changes provided");
+  }
+
+  /**
+   * Whether the catalogs are the same.
+   *
+   * @return True if there are no changes
+   */
+  public boolean isEmpty() {
+    return changes.isEmpty();
+  }
+
+  @Override
+  public Iterator<Change> iterator() {
+    return new ArrayList<>(changes).iterator();
+  }
+
+  /**
+   * Number of changed objects.
+   *
+   * @return Number of changes
+   */
+  public int size() {
+    return changes.size();
+  }
+
+  @Override
+  public String toString() {
+    final StringWriter writer = new StringWriter();
+    try {
+      writeText(writer);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return writer.toString();
+  }
+
+  /**
+   * Writes changes as JSON, with one change on each line.
+   *
+   * <pre>
+   * {"changes":[
+   * {"change":"MODIFIED","object-type":"column","name":"BOOKS.PRICE",
+   * "fields":[{"field":"data-type","from":"INTEGER","to":"DECIMAL"}]}
+   * ]}
+   * </pre>
+   *
+   * @param writer Writer to write to, which is not closed
+   * @throws IOException On an exception writing changes
+   */
+  public void writeJson(final Writer writer) throws IOException {
+    requireNonNull(writer, "No writer provided");
+    writer.write("{\"changes\":[");
+    boolean firstChange = true;
+    for (final Change change : changes) {
+      writer.write(firstChange ? "\n" : ",\n");
+      firstChange = false;
+      writer.write("{\"change\":");
+      writeJsonString(writer, change.getChangeType().name());
+      writer.write(",\"object-type\":");
+      writeJsonString(writer, change.getObjectType());
+      writer.write(",\"name\":");
+      writeJsonString(writer, change.getFullName());
+      writer.write(",\"fields\":[");
+      boolean firstField = true;
+      for (final FieldChange fieldChange : change.getFieldChanges()) {
+        if (!firstField) {
+          writer.write(',');
+        }
+        firstField = false;
+        writer.write("{\"field\":");
+        writeJsonString(writer, fieldChange.getName());
+        writer.write(",\"from\":");
+        writeJsonString(writer, fieldChange.getFromValue());
+        writer.write(",\"to\":");
+        writeJsonString(writer, fieldChange.getToValue());
+        writer.write('}');
+      }
+      writer.write("]}");
+    }
+    writer.write("\n]}\n");
+    writer.flush();
+  }
+
+  /**
+   * Writes changes as text, with one line for each change, followed by an indented line for each
+   * changed field.
+   *
+   * <pre>
+   * MODIFIED column BOOKS.PRICE
+   *   data-type: INTEGER -&gt; DECIMAL
+   * </pre>
+   *
+   * @param writer Writer to write to, which is not closed
+   * @throws IOException On an exception writing changes
+   */
+  public void writeText(final Writer writer) throws IOException {
+    requireNonNull(writer, "No writer provided");
+    for (final Change change : changes) {
+      writer.write(change.toString());
+      writer.write(System.lineSeparator());
+      for (final FieldChange fieldChange : change.getFieldChanges()) {
+        writer.write("  ");
+        writer.write(fieldChange.toString());
+        writer.write(System.lineSeparator());
+      }
+    }
+    writer.flush();
+  }
+}
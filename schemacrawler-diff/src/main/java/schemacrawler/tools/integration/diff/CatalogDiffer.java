@@ -0,0 +1,530 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.integration.diff;
+
+import static java.util.Comparator.comparing;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import schemacrawler.crawl.CatalogDigest;
+import schemacrawler.schema.BaseColumn;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableConstraintColumn;
+import schemacrawler.schema.Trigger;
+
+/**
+ * Finds the structural differences between two catalogs. Database objects are matched by their
+ * lookup keys, so that objects with the same name in the same schema are compared with each other.
+ * Each collection of objects is sorted by key, and both catalogs are then walked together in a
+ * single pass, comparing the fields of matched objects directly. Objects that are only in one of
+ * the catalogs are reported as added or removed, without their dependent objects.
+ *
+ * <p>If digests of the catalogs are provided, such as digests read from catalog snapshots, only
+ * the schemas and tables with different hashes are compared.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CatalogDiffer {
+
+  /** Compares the fields of two matched objects. */
+  @FunctionalInterface
+  private interface FieldComparison<N> {
+    void compare(N fromObject, N toObject, Fields fields);
+  }
+
+  /** Collects the fields that differ between two matched objects. */
+  private static final class Fields {
+
+    private final List<FieldChange> fieldChanges = new ArrayList<>();
+
+    Fields compare(final String name, final Object fromValue, final Object toValue) {
+      final String fromString = fromValue == null ? null : String.valueOf(fromValue);
+      final String toString = toValue == null ? null : String.valueOf(toValue);
+      if (!Objects.equals(fromString, toString)) {
+        fieldChanges.add(new FieldChange(name, fromString, toString));
+      }
+      return this;
+    }
+  }
+
+  private static String columnReferences(final ForeignKey foreignKey) {
+    final List<String> columnReferences = new ArrayList<>();
+    for (final ColumnReference columnReference : foreignKey.getColumnReferences()) {
+      columnReferences.add(
+          columnReference.getForeignKeyColumn().getFullName()
+              + " -> "
+              + columnReference.getPrimaryKeyColumn().getFullName());
+    }
+    return String.join(", ", columnReferences);
+  }
+
+  private static void compareBaseColumnFields(
+      final BaseColumn<?> fromColumn, final BaseColumn<?> toColumn, final Fields fields) {
+    fields
+        .compare("data-type", dataTypeName(fromColumn), dataTypeName(toColumn))
+        .compare("size", fromColumn.getSize(), toColumn.getSize())
+        .compare("decimal-digits", fromColumn.getDecimalDigits(), toColumn.getDecimalDigits())
+        .compare("nullable", fromColumn.isNullable(), toColumn.isNullable())
+        .compare("ordinal-position", fromColumn.getOrdinalPosition(), toColumn.getOrdinalPosition())
+        .compare("remarks", fromColumn.getRemarks(), toColumn.getRemarks());
+  }
+
+  private static String dataTypeName(final BaseColumn<?> column) {
+    final ColumnDataType columnDataType = column.getColumnDataType();
+    if (columnDataType == null) {
+      return null;
+    }
+    return columnDataType.getDatabaseSpecificTypeName();
+  }
+
+  private static String indexColumns(final Index index) {
+    final List<String> columns = new ArrayList<>();
+    for (final IndexColumn indexColumn : index.getColumns()) {
+      columns.add(indexColumn.getName() + " " + indexColumn.getSortSequence());
+    }
+    return String.join(", ", columns);
+  }
+
+  /** Primary keys and foreign keys are compared separately, with more detail. */
+  private static Collection<TableConstraint> otherTableConstraints(final Table table) {
+    final List<TableConstraint> tableConstraints = new ArrayList<>();
+    for (final TableConstraint tableConstraint : table.getTableConstraints()) {
+      if (!(tableConstraint instanceof PrimaryKey) && !(tableConstraint instanceof ForeignKey)) {
+        tableConstraints.add(tableConstraint);
+      }
+    }
+    return tableConstraints;
+  }
+
+  private static <N> Collection<N> singleton(final N object) {
+    if (object == null) {
+      return Collections.emptyList();
+    }
+    return Collections.singletonList(object);
+  }
+
+  private static <N extends NamedObject> List<N> sortedByKey(
+      final Collection<? extends N> namedObjects) {
+    final List<N> sortedObjects = new ArrayList<>(namedObjects);
+    // Catalog collections are usually in key order already, so this is close to a linear pass
+    sortedObjects.sort(comparing(NamedObject::key));
+    return sortedObjects;
+  }
+
+  private static String tableConstraintColumns(final TableConstraint tableConstraint) {
+    final List<String> columns = new ArrayList<>();
+    for (final TableConstraintColumn column : tableConstraint.getConstrainedColumns()) {
+      columns.add(column.getName());
+    }
+    return String.join(", ", columns);
+  }
+
+  private final Catalog fromCatalog;
+  private final Catalog toCatalog;
+  private CatalogDigest fromDigest;
+  private CatalogDigest toDigest;
+  private List<Change> changes;
+
+  /**
+   * Sets up a differ for two catalogs.
+   *
+   * @param fromCatalog Catalog that is compared from, such as an earlier crawl
+   * @param toCatalog Catalog that is compared to, such as a later crawl
+   */
+  public CatalogDiffer(final Catalog fromCatalog, final Catalog toCatalog) {
+    this.fromCatalog = requireNonNull(fromCatalog, "No catalog to compare from provided");
+    this.toCatalog = requireNonNull(toCatalog, "No catalog to compare to provided");
+  }
+
+  /**
+   * Finds the structural differences between the two catalogs.
+   *
+   * @return Changes from the first catalog to the second
+   */
+  public CatalogChanges diff() {
+    if (fromDigest != null && fromDigest.isUnchanged(toDigest)) {
+      return new CatalogChanges(Collections.emptyList());
+    }
+
+    changes = new ArrayList<>();
+
+    diffObjects("schema", fromCatalog.getSchemas(), toCatalog.getSchemas(), null, null);
+    diffObjects(
+        "column-data-type",
+        fromCatalog.getColumnDataTypes(),
+        toCatalog.getColumnDataTypes(),
+        this::compareColumnDataTypeFields,
+        null);
+    diffObjects(
+        "system-column-data-type",
+        fromCatalog.getSystemColumnDataTypes(),
+        toCatalog.getSystemColumnDataTypes(),
+        this::compareColumnDataTypeFields,
+        null);
+    diffObjects(
+        "table",
+        changedTables(fromCatalog.getTables()),
+        changedTables(toCatalog.getTables()),
+        this::compareTableFields,
+        this::diffTableDependents);
+    diffObjects(
+        "routine",
+        inChangedSchemas(fromCatalog.getRoutines()),
+        inChangedSchemas(toCatalog.getRoutines()),
+        this::compareRoutineFields,
+        this::diffRoutineDependents);
+    diffObjects(
+        "sequence",
+        inChangedSchemas(fromCatalog.getSequences()),
+        inChangedSchemas(toCatalog.getSequences()),
+        this::compareSequenceFields,
+        null);
+    diffObjects(
+        "synonym",
+        inChangedSchemas(fromCatalog.getSynonyms()),
+        inChangedSchemas(toCatalog.getSynonyms()),
+        this::compareSynonymFields,
+        null);
+
+    final CatalogChanges catalogChanges = new CatalogChanges(changes);
+    changes = null;
+    return catalogChanges;
+  }
+
+  /**
+   * Uses digests of the two catalogs to skip the comparison of schemas and tables that have not
+   * changed.
+   *
+   * @param fromDigest Digest of the catalog that is compared from
+   * @param toDigest Digest of the catalog that is compared to
+   * @return This differ
+   */
+  public CatalogDiffer withDigests(final CatalogDigest fromDigest, final CatalogDigest toDigest) {
+    this.fromDigest = requireNonNull(fromDigest, "No digest to compare from provided");
+    this.toDigest = requireNonNull(toDigest, "No digest to compare to provided");
+    return this;
+  }
+
+  private void addChange(
+      final ChangeType changeType,
+      final String objectType,
+      final NamedObject namedObject,
+      final Fields fields) {
+    changes.add(
+        new Change(
+            changeType,
+            objectType,
+            namedObject.key(),
+            namedObject.getFullName(),
+            fields.fieldChanges));
+  }
+
+  /** Tables with the same hash in both catalogs are the same, so they are not compared. */
+  private Collection<Table> changedTables(final Collection<Table> tables) {
+    if (fromDigest == null) {
+      return tables;
+    }
+    final List<Table> changedTables = new ArrayList<>();
+    for (final Table table : tables) {
+      if (!fromDigest.isUnchanged(toDigest, table)) {
+        changedTables.add(table);
+      }
+    }
+    return changedTables;
+  }
+
+  private void compareColumnDataTypeFields(
+      final ColumnDataType fromDataType, final ColumnDataType toDataType, final Fields fields) {
+    fields
+        .compare(
+            "database-specific-type-name",
+            fromDataType.getDatabaseSpecificTypeName(),
+            toDataType.getDatabaseSpecificTypeName())
+        .compare("java-sql-type", fromDataType.getJavaSqlType(), toDataType.getJavaSqlType())
+        .compare("precision", fromDataType.getPrecision(), toDataType.getPrecision())
+        .compare("base-type", fromDataType.getBaseType(), toDataType.getBaseType())
+        .compare("enum-values", fromDataType.getEnumValues(), toDataType.getEnumValues());
+  }
+
+  private void compareColumnFields(
+      final Column fromColumn, final Column toColumn, final Fields fields) {
+    compareBaseColumnFields(fromColumn, toColumn, fields);
+    fields
+        .compare("default-value", fromColumn.getDefaultValue(), toColumn.getDefaultValue())
+        .compare(
+            "auto-incremented", fromColumn.isAutoIncremented(), toColumn.isAutoIncremented())
+        .compare("generated", fromColumn.isGenerated(), toColumn.isGenerated())
+        .compare("hidden", fromColumn.isHidden(), toColumn.isHidden());
+  }
+
+  private void compareForeignKeyFields(
+      final ForeignKey fromForeignKey, final ForeignKey toForeignKey, final Fields fields) {
+    fields
+        .compare(
+            "column-references", columnReferences(fromForeignKey), columnReferences(toForeignKey))
+        .compare("update-rule", fromForeignKey.getUpdateRule(), toForeignKey.getUpdateRule())
+        .compare("delete-rule", fromForeignKey.getDeleteRule(), toForeignKey.getDeleteRule())
+        .compare(
+            "deferrability", fromForeignKey.getDeferrability(), toForeignKey.getDeferrability());
+  }
+
+  private void compareIndexFields(
+      final Index fromIndex, final Index toIndex, final Fields fields) {
+    fields
+        .compare("columns", indexColumns(fromIndex), indexColumns(toIndex))
+        .compare("unique", fromIndex.isUnique(), toIndex.isUnique())
+        .compare("index-type", fromIndex.getIndexType(), toIndex.getIndexType())
+        .compare("definition", fromIndex.getDefinition(), toIndex.getDefinition());
+  }
+
+  private void comparePrimaryKeyFields(
+      final PrimaryKey fromPrimaryKey, final PrimaryKey toPrimaryKey, final Fields fields) {
+    fields
+        .compare(
+            "columns", tableConstraintColumns(fromPrimaryKey), tableConstraintColumns(toPrimaryKey))
+        .compare("definition", fromPrimaryKey.getDefinition(), toPrimaryKey.getDefinition());
+  }
+
+  private void compareRoutineFields(
+      final Routine fromRoutine, final Routine toRoutine, final Fields fields) {
+    fields
+        .compare("routine-type", fromRoutine.getRoutineType(), toRoutine.getRoutineType())
+        .compare("return-type", fromRoutine.getReturnType(), toRoutine.getReturnType())
+        .compare(
+            "routine-body-type", fromRoutine.getRoutineBodyType(), toRoutine.getRoutineBodyType())
+        .compare("definition", fromRoutine.getDefinition(), toRoutine.getDefinition())
+        .compare("remarks", fromRoutine.getRemarks(), toRoutine.getRemarks());
+  }
+
+  private void compareRoutineParameterFields(
+      final RoutineParameter<?> fromParameter,
+      final RoutineParameter<?> toParameter,
+      final Fields fields) {
+    compareBaseColumnFields(fromParameter, toParameter, fields);
+    fields.compare(
+        "parameter-mode", fromParameter.getParameterMode(), toParameter.getParameterMode());
+  }
+
+  private void compareSequenceFields(
+      final Sequence fromSequence, final Sequence toSequence, final Fields fields) {
+    fields
+        .compare("start-value", fromSequence.getStartValue(), toSequence.getStartValue())
+        .compare("increment", fromSequence.getIncrement(), toSequence.getIncrement())
+        .compare("minimum-value", fromSequence.getMinimumValue(), toSequence.getMinimumValue())
+        .compare("maximum-value", fromSequence.getMaximumValue(), toSequence.getMaximumValue())
+        .compare("cycle", fromSequence.isCycle(), toSequence.isCycle())
+        .compare("remarks", fromSequence.getRemarks(), toSequence.getRemarks());
+  }
+
+  private void compareSynonymFields(
+      final Synonym fromSynonym, final Synonym toSynonym, final Fields fields) {
+    fields
+        .compare(
+            "referenced-object",
+            fromSynonym.getReferencedObject().getFullName(),
+            toSynonym.getReferencedObject().getFullName())
+        .compare("remarks", fromSynonym.getRemarks(), toSynonym.getRemarks());
+  }
+
+  private void compareTableConstraintFields(
+      final TableConstraint fromConstraint,
+      final TableConstraint toConstraint,
+      final Fields fields) {
+    fields
+        .compare("constraint-type", fromConstraint.getType(), toConstraint.getType())
+        .compare(
+            "columns",
+            tableConstraintColumns(fromConstraint),
+            tableConstraintColumns(toConstraint))
+        .compare("definition", fromConstraint.getDefinition(), toConstraint.getDefinition());
+  }
+
+  private void compareTableFields(
+      final Table fromTable, final Table toTable, final Fields fields) {
+    fields
+        .compare("table-type", fromTable.getTableType(), toTable.getTableType())
+        .compare("definition", fromTable.getDefinition(), toTable.getDefinition())
+        .compare("remarks", fromTable.getRemarks(), toTable.getRemarks());
+  }
+
+  private void compareTriggerFields(
+      final Trigger fromTrigger, final Trigger toTrigger, final Fields fields) {
+    fields
+        .compare(
+            "event-manipulation-type",
+            fromTrigger.getEventManipulationType(),
+            toTrigger.getEventManipulationType())
+        .compare(
+            "condition-timing", fromTrigger.getConditionTiming(), toTrigger.getConditionTiming())
+        .compare(
+            "action-orientation",
+            fromTrigger.getActionOrientation(),
+            toTrigger.getActionOrientation())
+        .compare("action-order", fromTrigger.getActionOrder(), toTrigger.getActionOrder())
+        .compare(
+            "action-condition", fromTrigger.getActionCondition(), toTrigger.getActionCondition())
+        .compare(
+            "action-statement", fromTrigger.getActionStatement(), toTrigger.getActionStatement());
+  }
+
+  /**
+   * Walks two collections of objects together, in key order. Objects with the same key are
+   * compared field by field, and then the objects that depend on them are compared.
+   */
+  private <N extends NamedObject> void diffObjects(
+      final String objectType,
+      final Collection<? extends N> fromObjects,
+      final Collection<? extends N> toObjects,
+      final FieldComparison<? super N> fieldComparison,
+      final BiConsumer<? super N, ? super N> dependentsComparison) {
+    final List<N> sortedFromObjects = sortedByKey(fromObjects);
+    final List<N> sortedToObjects = sortedByKey(toObjects);
+
+    int fromIndex = 0;
+    int toIndex = 0;
+    while (fromIndex < sortedFromObjects.size() || toIndex < sortedToObjects.size()) {
+      final int order;
+      if (fromIndex == sortedFromObjects.size()) {
+        order = 1;
+      } else if (toIndex == sortedToObjects.size()) {
+        order = -1;
+      } else {
+        order =
+            sortedFromObjects.get(fromIndex).key().compareTo(sortedToObjects.get(toIndex).key());
+      }
+
+      if (order < 0) {
+        addChange(ChangeType.REMOVED, objectType, sortedFromObjects.get(fromIndex), new Fields());
+        fromIndex++;
+      } else if (order > 0) {
+        addChange(ChangeType.ADDED, objectType, sortedToObjects.get(toIndex), new Fields());
+        toIndex++;
+      } else {
+        final N fromObject = sortedFromObjects.get(fromIndex);
+        final N toObject = sortedToObjects.get(toIndex);
+        if (fieldComparison != null) {
+          final Fields fields = new Fields();
+          fieldComparison.compare(fromObject, toObject, fields);
+          if (!fields.fieldChanges.isEmpty()) {
+            addChange(ChangeType.MODIFIED, objectType, toObject, fields);
+          }
+        }
+        if (dependentsComparison != null) {
+          dependentsComparison.accept(fromObject, toObject);
+        }
+        fromIndex++;
+        toIndex++;
+      }
+    }
+  }
+
+  private void diffRoutineDependents(final Routine fromRoutine, final Routine toRoutine) {
+    diffObjects(
+        "parameter",
+        fromRoutine.getParameters(),
+        toRoutine.getParameters(),
+        this::compareRoutineParameterFields,
+        null);
+  }
+
+  private void diffTableDependents(final Table fromTable, final Table toTable) {
+    diffObjects(
+        "column",
+        fromTable.getColumns(),
+        toTable.getColumns(),
+        this::compareColumnFields,
+        null);
+    diffObjects(
+        "primary-key",
+        singleton(fromTable.getPrimaryKey()),
+        singleton(toTable.getPrimaryKey()),
+        this::comparePrimaryKeyFields,
+        null);
+    diffObjects(
+        "index",
+        fromTable.getIndexes(),
+        toTable.getIndexes(),
+        this::compareIndexFields,
+        null);
+    diffObjects(
+        "foreign-key",
+        fromTable.getImportedForeignKeys(),
+        toTable.getImportedForeignKeys(),
+        this::compareForeignKeyFields,
+        null);
+    diffObjects(
+        "table-constraint",
+        otherTableConstraints(fromTable),
+        otherTableConstraints(toTable),
+        this::compareTableConstraintFields,
+        null);
+    diffObjects(
+        "trigger",
+        fromTable.getTriggers(),
+        toTable.getTriggers(),
+        this::compareTriggerFields,
+        null);
+  }
+
+  private <D extends DatabaseObject> Collection<D> inChangedSchemas(
+      final Collection<D> databaseObjects) {
+    if (fromDigest == null) {
+      return databaseObjects;
+    }
+    final List<D> changedObjects = new ArrayList<>();
+    for (final D databaseObject : databaseObjects) {
+      if (!fromDigest.isUnchanged(toDigest, databaseObject.getSchema())) {
+        changedObjects.add(databaseObject);
+      }
+    }
+    return changedObjects;
+  }
+
+}
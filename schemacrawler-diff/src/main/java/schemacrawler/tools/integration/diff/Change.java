@@ -0,0 +1,115 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.integration.diff;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import schemacrawler.schema.NamedObjectKey;
+
+/**
+ * A database object that was added, removed or modified. Modified objects carry the fields that
+ * changed. Changes to dependent objects, such as the columns of a table, are separate changes.
+ */
+public final class Change implements Serializable {
+
+  private static final long serialVersionUID = -2556010873960389460L;
+
+  private final ChangeType changeType;
+  private final String objectType;
+  private final NamedObjectKey key;
+  private final String fullName;
+  private final List<FieldChange> fieldChanges;
+
+  Change(
+      final ChangeType changeType,
+      final String objectType,
+      final NamedObjectKey key,
+      final String fullName,
+      final List<FieldChange> fieldChanges) {
+    this.changeType = requireNonNull(changeType, "No change type provided");
+    this.objectType = requireNonNull(objectType, "No object type provided");
+    this.key = requireNonNull(key, "No object key provided");
+    this.fullName = requireNonNull(fullName, "No object name provided");
+    this.fieldChanges = requireNonNull(fieldChanges, "No field changes provided");
+  }
+
+  /**
+   * Kind of change.
+   *
+   * @return Change type
+   */
+  public ChangeType getChangeType() {
+    return changeType;
+  }
+
+  /**
+   * Fields that changed, for modified objects.
+   *
+   * @return Field changes, which are empty for added and removed objects
+   */
+  public List<FieldChange> getFieldChanges() {
+    return new ArrayList<>(fieldChanges);
+  }
+
+  /**
+   * Full name of the database object.
+   *
+   * @return Full name
+   */
+  public String getFullName() {
+    return fullName;
+  }
+
+  /**
+   * Lookup key of the database object, which is the same in both catalogs.
+   *
+   * @return Lookup key
+   */
+  public NamedObjectKey getKey() {
+    return key;
+  }
+
+  /**
+   * Type of database object, such as table or column.
+   *
+   * @return Object type
+   */
+  public String getObjectType() {
+    return objectType;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s %s %s", changeType, objectType, fullName);
+  }
+}
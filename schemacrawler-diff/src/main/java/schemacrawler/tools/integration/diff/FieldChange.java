@@ -0,0 +1,89 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.integration.diff;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+
+/** A change to a single field of a database object, with the values before and after. */
+public final class FieldChange implements Serializable {
+
+  private static final long serialVersionUID = 2403286213740327846L;
+
+  /** Keeps a value on one line, so that each field change is one line of text. */
+  private static String oneLine(final String value) {
+    if (value == null) {
+      return null;
+    }
+    return value.replace("\r", "").replace("\n", "\\n");
+  }
+
+  private final String name;
+  private final String fromValue;
+  private final String toValue;
+
+  FieldChange(final String name, final String fromValue, final String toValue) {
+    this.name = requireNonNull(name, "No field name provided");
+    this.fromValue = fromValue;
+    this.toValue = toValue;
+  }
+
+  /**
+   * Value in the catalog that is compared from.
+   *
+   * @return Value, or null if the field had no value
+   */
+  public String getFromValue() {
+    return fromValue;
+  }
+
+  /**
+   * Name of the field.
+   *
+   * @return Field name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Value in the catalog that is compared to.
+   *
+   * @return Value, or null if the field has no value
+   */
+  public String getToValue() {
+    return toValue;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: %s -> %s", name, oneLine(fromValue), oneLine(toValue));
+  }
+}
@@ -31,6 +31,13 @@ import de.danielbechler.diff.ObjectDiffer;
 import de.danielbechler.diff.ObjectDifferBuilder;
 import de.danielbechler.diff.node.DiffNode.State;
 
+/**
+ * Builds a reflection based differ for catalogs, using java-object-diff.
+ *
+ * @deprecated Use {@link schemacrawler.tools.integration.diff.CatalogDiffer}, which compares
+ *     catalogs directly, in much less time and memory
+ */
+@Deprecated
 public class SchemaCrawlerDifferBuilder {
 
   final ObjectDifferBuilder objectDifferBuilder;
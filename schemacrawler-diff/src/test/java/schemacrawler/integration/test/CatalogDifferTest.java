@@ -0,0 +1,163 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.integration.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.test.utility.FileHasContent.classpathResource;
+import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
+import static schemacrawler.test.utility.FileHasContent.outputOf;
+import static schemacrawler.test.utility.TestUtility.copyResourceToTempFile;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.crawl.CatalogDigest;
+import schemacrawler.schema.Catalog;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.TestContext;
+import schemacrawler.test.utility.TestContextParameterResolver;
+import schemacrawler.test.utility.TestLoggingExtension;
+import schemacrawler.test.utility.TestWriter;
+import schemacrawler.tools.databaseconnector.DatabaseConnectionSource;
+import schemacrawler.tools.integration.diff.CatalogChanges;
+import schemacrawler.tools.integration.diff.CatalogDiffer;
+import schemacrawler.tools.integration.diff.Change;
+import schemacrawler.tools.integration.diff.ChangeType;
+import schemacrawler.tools.sqlite.EmbeddedSQLiteWrapper;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+
+@ExtendWith(TestLoggingExtension.class)
+@ExtendWith(TestContextParameterResolver.class)
+public class CatalogDifferTest {
+
+  private static Catalog catalog1;
+  private static Catalog catalog2;
+
+  private static Catalog getCatalog(final String database) throws Exception {
+    final Path sqliteDbFile = copyResourceToTempFile(database);
+
+    final EmbeddedSQLiteWrapper sqLiteDatabaseLoader = new EmbeddedSQLiteWrapper();
+    sqLiteDatabaseLoader.loadDatabaseFile(sqliteDbFile);
+
+    final DatabaseConnectionSource connectionOptions =
+        sqLiteDatabaseLoader.createDatabaseConnectionSource();
+
+    return SchemaCrawlerUtility.getCatalog(
+        connectionOptions.get(),
+        DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+  }
+
+  @BeforeAll
+  public static void loadCatalogs() throws Exception {
+    catalog1 = getCatalog("/test1.db");
+    catalog2 = getCatalog("/test2.db");
+  }
+
+  @Test
+  public void diffCatalogJson(final TestContext testContext) throws Exception {
+    final CatalogChanges changes = new CatalogDiffer(catalog1, catalog2).diff();
+
+    final TestWriter testout = new TestWriter();
+    try (final TestWriter out = testout) {
+      changes.writeJson(out);
+    }
+    assertThat(
+        outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
+  }
+
+  @Test
+  public void diffCatalogReversed() throws Exception {
+    final CatalogChanges changes = new CatalogDiffer(catalog1, catalog2).diff();
+    final CatalogChanges reversedChanges = new CatalogDiffer(catalog2, catalog1).diff();
+
+    assertThat(reversedChanges.size(), is(changes.size()));
+    int added = 0;
+    int removed = 0;
+    for (final Change change : changes) {
+      if (change.getChangeType() == ChangeType.ADDED) {
+        added++;
+      } else if (change.getChangeType() == ChangeType.REMOVED) {
+        removed++;
+      }
+    }
+    for (final Change change : reversedChanges) {
+      if (change.getChangeType() == ChangeType.ADDED) {
+        removed--;
+      } else if (change.getChangeType() == ChangeType.REMOVED) {
+        added--;
+      }
+    }
+    assertThat(added, is(0));
+    assertThat(removed, is(0));
+  }
+
+  @Test
+  public void diffCatalogText(final TestContext testContext) throws Exception {
+    final CatalogChanges changes = new CatalogDiffer(catalog1, catalog2).diff();
+
+    final TestWriter testout = new TestWriter();
+    try (final TestWriter out = testout) {
+      changes.writeText(out);
+    }
+    assertThat(
+        outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
+  }
+
+  @Test
+  public void diffCatalogWithDigests() throws Exception {
+    final CatalogDigest digest1 = CatalogDigest.from(catalog1);
+    final CatalogDigest digest2 = CatalogDigest.from(catalog2);
+
+    final CatalogChanges changes = new CatalogDiffer(catalog1, catalog2).diff();
+    final CatalogChanges digestChanges =
+        new CatalogDiffer(catalog1, catalog2).withDigests(digest1, digest2).diff();
+    assertThat(digestChanges.toString(), is(changes.toString()));
+
+    final Catalog catalog1Again = getCatalog("/test1.db");
+    assertThat(
+        new CatalogDiffer(catalog1, catalog1Again)
+            .withDigests(digest1, CatalogDigest.from(catalog1Again))
+            .diff()
+            .isEmpty(),
+        is(true));
+  }
+
+  @Test
+  public void diffSameCatalog() throws Exception {
+    final CatalogChanges changes = new CatalogDiffer(catalog1, catalog1).diff();
+    assertThat(changes.isEmpty(), is(true));
+
+    final Catalog catalog1Again = getCatalog("/test1.db");
+    assertThat(new CatalogDiffer(catalog1, catalog1Again).diff().isEmpty(), is(true));
+  }
+}
@@ -71,6 +71,9 @@ public class LintCommand extends BaseSchemaCrawlerCommand<LintOptions> {
     final LinterConfigs linterConfigs = readLinterConfigs(commandOptions);
     LOGGER.log(Level.FINEST, new ObjectToStringFormat(linterConfigs));
     final Linters linters = new Linters(linterConfigs, commandOptions.isRunAllLinters());
+    linters.setFusedExecution(commandOptions.isFusedExecution());
+    linters.setConcurrency(commandOptions.getConcurrency());
+    linters.setConnectionSource(connectionSource);
     linters.lint(catalog, connection);
 
     // Produce the lint report
@@ -63,6 +63,19 @@ public class LintCommandProvider extends BaseCommandProvider {
                 },
             new LinterHelp());
     pluginCommand
+        .addOption(
+            "fused-execution",
+            boolean.class,
+            "Whether to run all linters in a single pass over the tables, "
+                + "instead of having each linter visit all the tables in turn%n"
+                + "Optional, defaults to false%n"
+                + "Corresponds to the configuration file setting: schemacrawler.lint.fused-execution")
+        .addOption(
+            "lint-concurrency",
+            Integer.class,
+            "Number of linters to run at the same time, on separate threads%n"
+                + "Optional, defaults to 1%n"
+                + "Corresponds to the configuration file setting: schemacrawler.lint.lint-concurrency")
         .addOption(
             "linter-configs", Path.class, "Path to the SchemaCrawler linter configuration file")
         .addOption(
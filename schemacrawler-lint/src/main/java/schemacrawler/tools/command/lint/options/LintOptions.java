@@ -38,6 +38,8 @@ public class LintOptions extends BaseTextOptions {
   private final String linterConfigs;
   private final LintDispatch lintDispatch;
   private final boolean runAllLinters;
+  private final boolean fusedExecution;
+  private final int concurrency;
   private final Config config;
 
   public LintOptions(final LintOptionsBuilder builder) {
@@ -45,10 +47,21 @@ public class LintOptions extends BaseTextOptions {
     linterConfigs = builder.linterConfigs;
     lintDispatch = requireNonNull(builder.lintDispatch, "No dispatch provided");
     runAllLinters = builder.runAllLinters;
+    fusedExecution = builder.fusedExecution;
+    concurrency = builder.concurrency;
     requireNonNull(builder.config, "No properties provided");
     this.config = new Config(builder.config);
   }
 
+  /**
+   * Gets the number of linters to run at the same time.
+   *
+   * @return Number of worker threads.
+   */
+  public int getConcurrency() {
+    return concurrency;
+  }
+
   /**
    * Get properties.
    *
@@ -76,6 +89,15 @@ public class LintOptions extends BaseTextOptions {
     return linterConfigs;
   }
 
+  /**
+   * Whether to run all linters in a single pass over the tables in the catalog.
+   *
+   * @return Whether to use fused execution.
+   */
+  public boolean isFusedExecution() {
+    return fusedExecution;
+  }
+
   /**
    * Whether to run all linters, including the ones that are not explicitly configured.
    *
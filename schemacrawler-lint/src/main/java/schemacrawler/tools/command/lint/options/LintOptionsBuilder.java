@@ -36,10 +36,14 @@ import schemacrawler.tools.text.options.BaseTextOptionsBuilder;
 public final class LintOptionsBuilder
     extends BaseTextOptionsBuilder<LintOptionsBuilder, LintOptions> {
 
+  private static final String CLI_FUSED_EXECUTION = "fused-execution";
+  private static final String CLI_LINT_CONCURRENCY = "lint-concurrency";
   private static final String CLI_LINTER_CONFIGS = "linter-configs";
   private static final String CLI_LINT_DISPATCH = "lint-dispatch";
   private static final String CLI_RUN_ALL_LINTERS = "run-all-linters";
   private static final String SCHEMACRAWLER_LINT_PREFIX = "schemacrawler.lint.";
+  private static final String FUSED_EXECUTION = SCHEMACRAWLER_LINT_PREFIX + CLI_FUSED_EXECUTION;
+  private static final String LINT_CONCURRENCY = SCHEMACRAWLER_LINT_PREFIX + CLI_LINT_CONCURRENCY;
   private static final String LINTER_CONFIGS = SCHEMACRAWLER_LINT_PREFIX + CLI_LINTER_CONFIGS;
   private static final String LINT_DISPATCH = SCHEMACRAWLER_LINT_PREFIX + CLI_LINT_DISPATCH;
   private static final String RUN_ALL_LINTERS = SCHEMACRAWLER_LINT_PREFIX + CLI_RUN_ALL_LINTERS;
@@ -55,12 +59,16 @@ public final class LintOptionsBuilder
   LintDispatch lintDispatch;
   String linterConfigs;
   boolean runAllLinters;
+  boolean fusedExecution;
+  int concurrency;
   Config config;
 
   private LintOptionsBuilder() {
     linterConfigs = "";
     lintDispatch = LintDispatch.none;
     runAllLinters = true;
+    fusedExecution = false;
+    concurrency = 1;
     config = new Config();
   }
 
@@ -101,6 +109,26 @@ public final class LintOptionsBuilder
     }
     runAllLinters = config.getBooleanValue(runAllLintersKey, true);
 
+    final String fusedExecutionKey;
+    if (config.containsKey(CLI_FUSED_EXECUTION)) {
+      // Honor command-line option first
+      fusedExecutionKey = CLI_FUSED_EXECUTION;
+    } else {
+      // Otherwise, take option from SchemaCrawler configuration file
+      fusedExecutionKey = FUSED_EXECUTION;
+    }
+    fusedExecution = config.getBooleanValue(fusedExecutionKey, false);
+
+    final String concurrencyKey;
+    if (config.containsKey(CLI_LINT_CONCURRENCY)) {
+      // Honor command-line option first
+      concurrencyKey = CLI_LINT_CONCURRENCY;
+    } else {
+      // Otherwise, take option from SchemaCrawler configuration file
+      concurrencyKey = LINT_CONCURRENCY;
+    }
+    withConcurrency(config.getIntegerValue(concurrencyKey, 1));
+
     // Save config
     this.config.merge(config);
 
@@ -117,6 +145,15 @@ public final class LintOptionsBuilder
     linterConfigs = options.getLinterConfigs();
     lintDispatch = options.getLintDispatch();
     runAllLinters = options.isRunAllLinters();
+    fusedExecution = options.isFusedExecution();
+    concurrency = options.getConcurrency();
+
+    return this;
+  }
+
+  /** With value for running all linters in a single pass over the tables. */
+  public LintOptionsBuilder fusedExecution(final boolean fusedExecution) {
+    this.fusedExecution = fusedExecution;
 
     return this;
   }
@@ -134,6 +171,8 @@ public final class LintOptionsBuilder
     config.put(LINTER_CONFIGS, linterConfigs);
     config.put(LINT_DISPATCH, lintDispatch);
     config.put(RUN_ALL_LINTERS, runAllLinters);
+    config.put(FUSED_EXECUTION, fusedExecution);
+    config.put(LINT_CONCURRENCY, concurrency);
     // Lint report output format is not written to the config
     return config;
   }
@@ -143,6 +182,12 @@ public final class LintOptionsBuilder
     return new LintOptions(this);
   }
 
+  /** With the number of linters to run at the same time. */
+  public LintOptionsBuilder withConcurrency(final int concurrency) {
+    this.concurrency = Math.max(concurrency, 1);
+    return this;
+  }
+
   /** With a lint dispatch strategy. */
   public LintOptionsBuilder withLintDispatch(final LintDispatch lintDispatch) {
     if (lintDispatch == null) {
@@ -144,23 +144,53 @@ public abstract class BaseLinter extends Linter {
     }
   }
 
+  /**
+   * Finishes a lint run, after all tables have been visited.
+   *
+   * @param connection Database connection.
+   */
+  final void endLint(final Connection connection) throws SchemaCrawlerException {
+    end(connection);
+    catalog = null;
+  }
+
   @Override
   final void lint(final Catalog catalog, final Connection connection)
       throws SchemaCrawlerException {
-    this.catalog = requireNonNull(catalog, "No catalog provided");
-
-    start(connection);
+    startLint(catalog, connection);
     for (final Table table : catalog.getTables()) {
-      if (tableInclusionRule.test(table.getFullName()) && tableTypesFilter.test(table)) {
-        lint(table, connection);
-      } else {
-        LOGGER.log(
-            Level.FINE,
-            new StringFormat("Excluding table <%s> for lint <%s>", table, getLinterId()));
-      }
+      lintTable(table, connection);
     }
-    end(connection);
-    this.catalog = null;
+    endLint(connection);
+  }
+
+  /**
+   * Lints a single table, if it is applicable to this linter, as determined by the table inclusion
+   * rule and the table types filter.
+   *
+   * @param table Table to lint.
+   * @param connection Database connection.
+   */
+  final void lintTable(final Table table, final Connection connection)
+      throws SchemaCrawlerException {
+    if (tableInclusionRule.test(table.getFullName()) && tableTypesFilter.test(table)) {
+      lint(table, connection);
+    } else {
+      LOGGER.log(
+          Level.FINE, new StringFormat("Excluding table <%s> for lint <%s>", table, getLinterId()));
+    }
+  }
+
+  /**
+   * Starts a lint run, before any tables are visited.
+   *
+   * @param catalog Catalog to lint.
+   * @param connection Database connection.
+   */
+  final void startLint(final Catalog catalog, final Connection connection)
+      throws SchemaCrawlerException {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    start(connection);
   }
 
   private final void setColumnInclusionRule(final InclusionRule columnInclusionRule) {
@@ -32,19 +32,33 @@ import static java.util.Comparator.naturalOrder;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import schemacrawler.schema.AttributedObject;
 import schemacrawler.schema.NamedObject;
 
+/**
+ * Collects lints from linters, which may be running concurrently. Lints are kept separately for
+ * each linter, in the order in which the linters were registered, so that the collected lints are
+ * always in the same order as when linters are run one after the other. While linters are running
+ * concurrently, lints are only attached to the linted objects once all the linters are done, so
+ * that the catalog is not changed while it is being read on other threads.
+ */
 public final class LintCollector {
 
   private static final String LINT_KEY = "schemacrawler.lint";
 
-  private final List<Lint<? extends Serializable>> lints;
+  private final List<String> linterInstanceIds;
+  private final Map<String, List<Lint<? extends Serializable>>> lintsByLinter;
+  private volatile Map<String, List<Runnable>> deferredObjectLints;
 
   public LintCollector() {
-    lints = new ArrayList<>();
+    linterInstanceIds = new CopyOnWriteArrayList<>();
+    lintsByLinter = new ConcurrentHashMap<>();
   }
 
   public <N extends NamedObject & AttributedObject> void addLint(
@@ -52,20 +66,99 @@ public final class LintCollector {
     if (namedObject != null
         && lint != null
         && namedObject.getFullName().equals(lint.getObjectName())) {
-      lints.add(lint);
-
-      final Collection<Lint<?>> columnLints = namedObject.getAttribute(LINT_KEY, new ArrayList<>());
-      columnLints.add(lint);
-      namedObject.setAttribute(LINT_KEY, columnLints);
+      final String linterInstanceId = lint.getLinterInstanceId();
+      lintsFor(linterInstanceId).add(lint);
+
+      final Map<String, List<Runnable>> deferredObjectLints = this.deferredObjectLints;
+      if (deferredObjectLints == null) {
+        attachLint(namedObject, lint);
+      } else {
+        deferredObjectLints
+            .computeIfAbsent(
+                linterInstanceId, key -> Collections.synchronizedList(new ArrayList<>()))
+            .add(() -> attachLint(namedObject, lint));
+      }
     }
   }
 
   public Collection<Lint<? extends Serializable>> getLints() {
+    final List<Lint<? extends Serializable>> lints = new ArrayList<>();
+    for (final String linterInstanceId : linterInstanceIds) {
+      lints.addAll(lintsFor(linterInstanceId));
+    }
     lints.sort(naturalOrder());
-    return new ArrayList<>(lints);
+    return lints;
   }
 
   public int size() {
-    return lints.size();
+    int size = 0;
+    for (final List<Lint<? extends Serializable>> lints : lintsByLinter.values()) {
+      size = size + lints.size();
+    }
+    return size;
+  }
+
+  /**
+   * Attaches lints that were collected since {@link #deferObjectLints()} was called to the linted
+   * objects, in linter order, and attaches lints to objects as they are collected from now on.
+   */
+  void attachDeferredObjectLints() {
+    final Map<String, List<Runnable>> deferredObjectLints = this.deferredObjectLints;
+    this.deferredObjectLints = null;
+    if (deferredObjectLints == null) {
+      return;
+    }
+    for (final String linterInstanceId : linterInstanceIds) {
+      final List<Runnable> objectLints = deferredObjectLints.get(linterInstanceId);
+      if (objectLints != null) {
+        objectLints.forEach(Runnable::run);
+      }
+    }
+  }
+
+  /**
+   * Holds back lints from being attached to the linted objects, until {@link
+   * #attachDeferredObjectLints()} is called. Lints are still collected as they are found.
+   */
+  void deferObjectLints() {
+    deferredObjectLints = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Registers a linter, so that its lints are ordered after the lints of the linters that were
+   * registered before it.
+   *
+   * @param linterInstanceId Linter instance id.
+   */
+  void registerLinter(final String linterInstanceId) {
+    lintsFor(linterInstanceId);
+  }
+
+  private <N extends NamedObject & AttributedObject> void attachLint(
+      final N namedObject, final Lint<?> lint) {
+    // Keep the lints for an object in linter order, whatever order
+    // the linters are run in
+    final List<Lint<?>> objectLints =
+        new ArrayList<>(namedObject.getAttribute(LINT_KEY, new ArrayList<>()));
+    final int linterOrder = linterOrder(lint);
+    int position = objectLints.size();
+    while (position > 0 && linterOrder(objectLints.get(position - 1)) > linterOrder) {
+      position--;
+    }
+    objectLints.add(position, lint);
+    namedObject.setAttribute(LINT_KEY, objectLints);
+  }
+
+  private int linterOrder(final Lint<?> lint) {
+    return linterInstanceIds.indexOf(lint.getLinterInstanceId());
+  }
+
+  private List<Lint<? extends Serializable>> lintsFor(final String linterInstanceId) {
+    return lintsByLinter.computeIfAbsent(
+        linterInstanceId,
+        key -> {
+          linterInstanceIds.add(key);
+          return Collections.synchronizedList(new ArrayList<>());
+        });
   }
 }
@@ -31,6 +31,7 @@ import static us.fatehi.utility.IOUtility.readResourceFully;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import java.util.logging.Logger;
@@ -57,6 +58,7 @@ public abstract class Linter {
   private LintSeverity severity;
   private int threshold;
   private int lintCount;
+  private Supplier<Connection> connectionSource;
 
   protected Linter() {
     severity = LintSeverity.medium; // default value
@@ -161,6 +163,16 @@ public abstract class Linter {
     // To be overridden by subclass if they need custom parameters
   }
 
+  /**
+   * Source of additional connections to the same database, for linters that can run SQL on more
+   * than one connection at a time. Connections that are obtained need to be closed by the linter.
+   *
+   * @return Connection source, or null if only the provided connection can be used
+   */
+  protected final Supplier<Connection> getConnectionSource() {
+    return connectionSource;
+  }
+
   /**
    * Set the severity of the lints created by this linter.
    *
@@ -182,8 +194,15 @@ public abstract class Linter {
 
   abstract void lint(Catalog catalog, Connection connection) throws SchemaCrawlerException;
 
+  final void setConnectionSource(final Supplier<Connection> connectionSource) {
+    this.connectionSource = connectionSource;
+  }
+
   final void setLintCollector(final LintCollector lintCollector) {
     collector = lintCollector;
+    if (collector != null) {
+      collector.registerLinter(getLinterInstanceId());
+    }
   }
 
   private void setThreshold(final int threshold) {
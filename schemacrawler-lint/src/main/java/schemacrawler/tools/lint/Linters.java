@@ -31,14 +31,25 @@ import static java.util.Objects.requireNonNull;
 
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import java.util.logging.Logger;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.lint.config.LinterConfig;
 import schemacrawler.tools.lint.config.LinterConfigs;
@@ -52,6 +63,9 @@ public final class Linters implements Iterable<Linter> {
   private final List<Linter> linters;
   private final LintCollector collector;
   private final LinterRegistry registry;
+  private boolean fusedExecution;
+  private int concurrency;
+  private Supplier<Connection> connectionSource;
 
   public Linters(final LinterConfigs linterConfigs, final boolean runAllLinters)
       throws SchemaCrawlerException {
@@ -60,6 +74,7 @@ public final class Linters implements Iterable<Linter> {
     linters = new ArrayList<>();
     collector = new LintCollector();
     registry = new LinterRegistry();
+    concurrency = 1;
 
     final Set<String> registeredLinters = registry.allRegisteredLinters();
 
@@ -112,6 +127,15 @@ public final class Linters implements Iterable<Linter> {
     return collector;
   }
 
+  /**
+   * Number of linters that are run at the same time.
+   *
+   * @return Number of worker threads
+   */
+  public int getConcurrency() {
+    return concurrency;
+  }
+
   public String getLintSummary() {
     final class LinterComparator implements Comparator<Linter> {
       @Override
@@ -170,14 +194,76 @@ public final class Linters implements Iterable<Linter> {
     return linters.iterator();
   }
 
+  /**
+   * Whether linters are run in a single pass over the tables of the catalog.
+   *
+   * @return Whether fused execution is used.
+   */
+  public boolean isFusedExecution() {
+    return fusedExecution;
+  }
+
   public void lint(final Catalog catalog, final Connection connection)
       throws SchemaCrawlerException {
+    if (concurrency > 1 && linters.size() > 1) {
+      if (connectionSource != null) {
+        lintConcurrently(catalog, connection);
+        return;
+      }
+      LOGGER.log(
+          Level.INFO,
+          "Running linters one after the other, since there is no connection source for workers");
+    }
+    if (fusedExecution) {
+      lintFused(catalog, connection);
+      return;
+    }
+
     for (final Linter linter : linters) {
       LOGGER.log(Level.FINE, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
       linter.lint(catalog, connection);
     }
   }
 
+  /**
+   * Sets the number of linters that are run at the same time, on a pool of worker threads. Each
+   * worker runs linters one after the other, on its own connection from the connection source, so
+   * linters do not need to be thread-safe, and never share a connection. Linters are run one after
+   * the other on the calling thread if there is no connection source. Lints are collected in the
+   * same order as when linters are run one after the other. Fused execution does not apply when
+   * more than one worker thread is used, but the tables of the catalog are still obtained only
+   * once.
+   *
+   * @param concurrency Number of worker threads, or 1 to run linters one after the other
+   */
+  public void setConcurrency(final int concurrency) {
+    this.concurrency = Math.max(concurrency, 1);
+  }
+
+  /**
+   * Sets a source of additional connections to the same database, for worker threads when linters
+   * are run at the same time, and for linters that can run SQL on more than one connection at a
+   * time.
+   *
+   * @param connectionSource Connection source, or null if only the provided connection can be used
+   */
+  public void setConnectionSource(final Supplier<Connection> connectionSource) {
+    this.connectionSource = connectionSource;
+    for (final Linter linter : linters) {
+      linter.setConnectionSource(connectionSource);
+    }
+  }
+
+  /**
+   * Sets whether to run all linters in a single pass over the tables of the catalog, instead of
+   * having each linter visit all the tables in turn.
+   *
+   * @param fusedExecution Whether to use fused execution.
+   */
+  public void setFusedExecution(final boolean fusedExecution) {
+    this.fusedExecution = fusedExecution;
+  }
+
   /**
    * Number of linters configured to run
    *
@@ -192,6 +278,147 @@ public final class Linters implements Iterable<Linter> {
     return linters.toString();
   }
 
+  /** Runs linters from the queue one after the other, until the queue is empty. */
+  private void lint(
+      final Queue<Linter> pendingLinters,
+      final Catalog catalog,
+      final Collection<Table> tables,
+      final Connection connection,
+      final Map<Linter, Exception> failures) {
+    Linter linter;
+    while ((linter = pendingLinters.poll()) != null) {
+      LOGGER.log(Level.FINE, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
+      try {
+        if (linter instanceof BaseLinter) {
+          final BaseLinter tableLinter = (BaseLinter) linter;
+          tableLinter.startLint(catalog, connection);
+          for (final Table table : tables) {
+            tableLinter.lintTable(table, connection);
+          }
+          tableLinter.endLint(connection);
+        } else {
+          linter.lint(catalog, connection);
+        }
+      } catch (final Exception e) {
+        failures.put(linter, e);
+      }
+    }
+  }
+
+  /**
+   * Runs linters on a pool of worker threads. Each worker takes linters from a queue, and runs them
+   * on its own connection from the connection source. Linters that are left, because connections
+   * could not be obtained, are run on the provided connection. The tables of the catalog are
+   * obtained once, and shared by all the linters. Lints are attached to the linted objects once all
+   * the linters are done, so that the catalog is only read while linters are running.
+   */
+  private void lintConcurrently(final Catalog catalog, final Connection connection)
+      throws SchemaCrawlerException {
+    requireNonNull(catalog, "No catalog provided");
+
+    final Collection<Table> tables = catalog.getTables();
+    final Queue<Linter> pendingLinters = new ConcurrentLinkedQueue<>(linters);
+    final Map<Linter, Exception> failures = new ConcurrentHashMap<>();
+
+    collector.deferObjectLints();
+    try {
+      final int workers = Math.min(concurrency, linters.size());
+      final ExecutorService executorService =
+          Executors.newFixedThreadPool(
+              workers,
+              runnable -> {
+                final Thread thread = new Thread(runnable, "schemacrawler-lint");
+                thread.setDaemon(true);
+                return thread;
+              });
+      try {
+        final List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+          futures.add(
+              executorService.submit(
+                  () -> {
+                    try (final Connection workerConnection =
+                        requireNonNull(connectionSource.get(), "No worker connection provided")) {
+                      lint(pendingLinters, catalog, tables, workerConnection, failures);
+                    }
+                    return null;
+                  }));
+        }
+
+        for (final Future<Void> future : futures) {
+          try {
+            future.get();
+          } catch (final ExecutionException e) {
+            LOGGER.log(Level.WARNING, "Could not lint on a worker connection", e.getCause());
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SchemaCrawlerException("Interrupted while linting", e);
+          }
+        }
+      } finally {
+        executorService.shutdownNow();
+      }
+
+      // Run any remaining linters on the provided connection
+      lint(pendingLinters, catalog, tables, connection, failures);
+    } finally {
+      collector.attachDeferredObjectLints();
+    }
+
+    for (final Linter linter : linters) {
+      final Exception cause = failures.get(linter);
+      if (cause == null) {
+        continue;
+      }
+      if (cause instanceof SchemaCrawlerException) {
+        throw (SchemaCrawlerException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new SchemaCrawlerException(
+          String.format("Could not lint with <%s>", linter.getLinterInstanceId()), cause);
+    }
+  }
+
+  /**
+   * Visits the tables of the catalog once, and dispatches each table to every linter. Linters still
+   * get their start and end hooks, so that they can work with the whole catalog. Linters that do
+   * not visit tables are run on their own.
+   */
+  private void lintFused(final Catalog catalog, final Connection connection)
+      throws SchemaCrawlerException {
+    requireNonNull(catalog, "No catalog provided");
+
+    final List<BaseLinter> tableLinters = new ArrayList<>();
+    for (final Linter linter : linters) {
+      if (linter instanceof BaseLinter) {
+        final BaseLinter tableLinter = (BaseLinter) linter;
+        LOGGER.log(
+            Level.FINE, new StringFormat("Starting lint with <%s>", linter.getLinterInstanceId()));
+        tableLinter.startLint(catalog, connection);
+        tableLinters.add(tableLinter);
+      } else {
+        LOGGER.log(
+            Level.FINE, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
+        linter.lint(catalog, connection);
+      }
+    }
+
+    for (final Table table : catalog.getTables()) {
+      for (final BaseLinter tableLinter : tableLinters) {
+        tableLinter.lintTable(table, connection);
+      }
+    }
+
+    for (final BaseLinter tableLinter : tableLinters) {
+      LOGGER.log(
+          Level.FINE,
+          new StringFormat("Ending lint with <%s>", tableLinter.getLinterInstanceId()));
+      tableLinter.endLint(connection);
+    }
+  }
+
   private Linter newLinter(final String linterId) {
     final Linter linter = registry.newLinter(linterId);
     if (linter != null) {
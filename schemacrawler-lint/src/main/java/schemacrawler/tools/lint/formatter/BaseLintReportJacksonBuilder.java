@@ -20,6 +20,8 @@ import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.CrawlMetrics;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.lint.Lint;
 import schemacrawler.tools.lint.LintReport;
@@ -61,6 +63,14 @@ abstract class BaseLintReportJacksonBuilder implements LintReportBuilder {
       public abstract Object getValueAsString();
     }
 
+    // Crawl metrics are timings for a single run, and do not belong in a lint report
+    @JsonPropertyOrder(alphabetic = true)
+    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+    abstract class CrawlInfoMixIn {
+      @JsonIgnore
+      public abstract CrawlMetrics getCrawlMetrics();
+    }
+
     final JavaTimeModule timeModule = new JavaTimeModule();
     timeModule.addSerializer(
         LocalDateTime.class,
@@ -74,6 +84,7 @@ abstract class BaseLintReportJacksonBuilder implements LintReportBuilder {
         WRITE_ENUMS_USING_TO_STRING);
     mapper.addMixIn(Object.class, JacksonAnnotationMixIn.class);
     mapper.addMixIn(Lint.class, JacksonAnnotationMixIn.class);
+    mapper.addMixIn(CrawlInfo.class, CrawlInfoMixIn.class);
     mapper.registerModule(timeModule);
     return mapper;
   }
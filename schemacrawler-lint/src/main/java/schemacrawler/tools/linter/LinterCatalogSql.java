@@ -29,11 +29,13 @@ package schemacrawler.tools.linter;
 
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.schemacrawler.QueryUtility.executeForScalar;
+import static us.fatehi.utility.DatabaseUtility.createStatement;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.requireNotBlank;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Query;
@@ -45,6 +47,7 @@ public class LinterCatalogSql extends BaseLinter {
 
   private String message;
   private String sql;
+  private int queryTimeout;
 
   @Override
   public String getSummary() {
@@ -65,6 +68,8 @@ public class LinterCatalogSql extends BaseLinter {
 
     sql = config.getStringValue("sql", "");
     requireNotBlank(sql, "No SQL provided");
+
+    queryTimeout = Math.max(config.getIntegerValue("query-timeout", 0), 0);
   }
 
   @Override
@@ -83,9 +88,11 @@ public class LinterCatalogSql extends BaseLinter {
 
     requireNonNull(connection, "No connection provided");
 
-    try {
+    try (final Statement statement = createStatement(connection)) {
+      statement.setQueryTimeout(queryTimeout);
+
       final Query query = new Query(message, sql);
-      final Object queryResult = executeForScalar(query, connection);
+      final Object queryResult = executeForScalar(query, statement);
       if (queryResult != null) {
         addCatalogLint(getSummary() + " " + queryResult, true);
       }
@@ -28,22 +28,43 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.linter;
 
 import static java.util.Objects.requireNonNull;
-import static schemacrawler.schemacrawler.QueryUtility.executeForScalar;
+import static schemacrawler.schemacrawler.QueryUtility.getQuery;
+import static us.fatehi.utility.DatabaseUtility.createStatement;
+import static us.fatehi.utility.DatabaseUtility.executeSqlForScalar;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.requireNotBlank;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import java.util.logging.Logger;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.lint.BaseLinter;
 import schemacrawler.tools.options.Config;
 import us.fatehi.utility.string.StringFormat;
 
+/**
+ * Runs SQL against each table. Queries are expanded for each table as the tables are visited, and
+ * are run at the end, on the provided connection, or across a bounded number of connections from
+ * the connection source, if a concurrency of more than one is configured.
+ */
 public class LinterTableSql extends BaseLinter {
 
   private static final Logger LOGGER =
@@ -51,6 +72,11 @@ public class LinterTableSql extends BaseLinter {
 
   private String message;
   private String sql;
+  private int concurrency;
+  private int queryTimeout;
+  private Query query;
+  private Identifiers identifiers;
+  private Map<Table, String> tableQueries;
 
   @Override
   public String getSummary() {
@@ -71,6 +97,43 @@ public class LinterTableSql extends BaseLinter {
 
     sql = config.getStringValue("sql", "");
     requireNotBlank(sql, "No SQL provided");
+
+    concurrency = Math.max(config.getIntegerValue("concurrency", 1), 1);
+    queryTimeout = Math.max(config.getIntegerValue("query-timeout", 0), 0);
+  }
+
+  @Override
+  protected void end(final Connection connection) throws SchemaCrawlerException {
+    if (tableQueries != null && !tableQueries.isEmpty()) {
+      final Map<Table, Object> queryResults = new ConcurrentHashMap<>();
+      final Queue<Table> tables = new ConcurrentLinkedQueue<>(tableQueries.keySet());
+
+      final Supplier<Connection> connectionSource = getConnectionSource();
+      if (connectionSource != null && concurrency > 1 && tables.size() > 1) {
+        executeConcurrently(connectionSource, tables, queryResults);
+      }
+      // Run any remaining queries on the provided connection
+      if (!tables.isEmpty()) {
+        try {
+          execute(connection, tables, queryResults);
+        } catch (final SQLException e) {
+          LOGGER.log(Level.WARNING, "Could not execute SQL for table lints", e);
+        }
+      }
+
+      for (final Table table : tableQueries.keySet()) {
+        final Object queryResult = queryResults.get(table);
+        if (queryResult != null) {
+          addTableLint(table, getSummary() + " " + queryResult);
+        }
+      }
+    }
+
+    query = null;
+    identifiers = null;
+    tableQueries = null;
+
+    super.end(connection);
   }
 
   @Override
@@ -80,20 +143,98 @@ public class LinterTableSql extends BaseLinter {
     }
 
     requireNonNull(table, "No table provided");
+
+    tableQueries.put(table, getQuery(query, table, identifiers));
+  }
+
+  @Override
+  protected void start(final Connection connection) throws SchemaCrawlerException {
+    super.start(connection);
+
+    if (isBlank(sql)) {
+      return;
+    }
+
     requireNonNull(connection, "No connection provided");
 
-    final Query query = new Query(message, sql);
+    query = new Query(message, sql);
     try {
-      final Identifiers identifiers = Identifiers.identifiers().withConnection(connection).build();
-      final Object queryResult = executeForScalar(query, connection, table, identifiers);
-      if (queryResult != null) {
-        addTableLint(table, getSummary() + " " + queryResult);
-      }
+      identifiers = Identifiers.identifiers().withConnection(connection).build();
     } catch (final SQLException e) {
-      LOGGER.log(
-          Level.WARNING,
-          e,
-          new StringFormat("Could not execute SQL for table lints, for table", table));
+      throw new SchemaCrawlerException("Could not obtain identifiers for table lints", e);
+    }
+    tableQueries = new LinkedHashMap<>();
+  }
+
+  /**
+   * Runs queries for tables from the queue until it is empty, reusing a single statement with the
+   * query timeout set.
+   */
+  private void execute(
+      final Connection connection, final Queue<Table> tables, final Map<Table, Object> queryResults)
+      throws SQLException {
+    try (final Statement statement = createStatement(connection)) {
+      statement.setQueryTimeout(queryTimeout);
+
+      Table table;
+      while ((table = tables.poll()) != null) {
+        final String tableQuery = tableQueries.get(table);
+        LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), tableQuery));
+        try {
+          final Object queryResult = executeSqlForScalar(statement, tableQuery);
+          if (queryResult != null) {
+            queryResults.put(table, queryResult);
+          }
+        } catch (final SQLException e) {
+          LOGGER.log(
+              Level.WARNING,
+              e,
+              new StringFormat("Could not execute SQL for table lints, for table <%s>", table));
+        }
+      }
+    }
+  }
+
+  private void executeConcurrently(
+      final Supplier<Connection> connectionSource,
+      final Queue<Table> tables,
+      final Map<Table, Object> queryResults) {
+    final int workers = Math.min(concurrency, tables.size());
+    final ExecutorService executorService =
+        Executors.newFixedThreadPool(
+            workers,
+            runnable -> {
+              final Thread thread = new Thread(runnable, "schemacrawler-lint-sql");
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < workers; i++) {
+        futures.add(
+            executorService.submit(
+                () -> {
+                  try (final Connection workerConnection =
+                      requireNonNull(connectionSource.get(), "No worker connection provided")) {
+                    execute(workerConnection, tables, queryResults);
+                  }
+                  return null;
+                }));
+      }
+
+      for (final Future<Void> future : futures) {
+        try {
+          future.get();
+        } catch (final ExecutionException e) {
+          LOGGER.log(Level.WARNING, "Could not execute SQL for table lints", e.getCause());
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          LOGGER.log(Level.WARNING, "Interrupted while executing SQL for table lints", e);
+          break;
+        }
+      }
+    } finally {
+      executorService.shutdownNow();
     }
   }
 }
@@ -97,6 +97,37 @@ public class LintOutputTest {
                     }));
   }
 
+  @Test
+  public void commandlineLintReportOutputConcurrent(final DatabaseConnectionInfo connectionInfo)
+      throws Exception {
+    clean(TEXT_OUTPUT);
+
+    final Map<String, String> argsMap = new HashMap<>();
+    argsMap.put("--schemas", ".*FOR_LINT");
+    argsMap.put("--lint-concurrency", "4");
+
+    assertAll(
+        Arrays.stream(
+                new OutputFormat[] {
+                  TextOutputFormat.text,
+                  TextOutputFormat.html,
+                  LintReportOutputFormat.json,
+                  LintReportOutputFormat.yaml
+                })
+            .map(
+                outputFormat ->
+                    () -> {
+                      final String referenceFile = "lint." + outputFormat.getFormat();
+
+                      executeLintCommandLine(
+                          connectionInfo,
+                          outputFormat,
+                          null,
+                          argsMap,
+                          TEXT_OUTPUT + referenceFile);
+                    }));
+  }
+
   @Test
   public void executableLintReportOutput(final Connection connection) throws Exception {
     clean(TEXT_OUTPUT);
@@ -28,16 +28,34 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.test.utility.ExecutableTestUtility.executableExecution;
+import static schemacrawler.test.utility.FileHasContent.classpathResource;
+import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
+import static schemacrawler.test.utility.FileHasContent.outputOf;
 import static schemacrawler.test.utility.LintTestUtility.executableLint;
+import static schemacrawler.test.utility.TestUtility.copyResourceToTempFile;
 
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
 import schemacrawler.test.utility.TestAssertNoSystemErrOutput;
 import schemacrawler.test.utility.TestAssertNoSystemOutOutput;
 import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.command.lint.options.LintOptionsBuilder;
+import schemacrawler.tools.databaseconnector.DatabaseConnectionSource;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.Config;
+import schemacrawler.tools.databaseconnector.SingleUseUserCredentials;
 
 @ExtendWith(TestDatabaseConnectionParameterResolver.class)
 @ExtendWith(TestAssertNoSystemErrOutput.class)
@@ -49,4 +67,73 @@ public class LintSqlTest {
     executableLint(
         connection, "/schemacrawler-linter-configs-sql.yaml", null, "executableLintSQLReport");
   }
+
+  @Test
+  public void executableLintSQLReportConcurrent(
+      final DatabaseConnectionInfo connectionInfo, final Connection connection) throws Exception {
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSource =
+        () -> {
+          connectionCount.incrementAndGet();
+          final DatabaseConnectionSource databaseConnectionSource =
+              new DatabaseConnectionSource(connectionInfo.getConnectionUrl());
+          databaseConnectionSource.setUserCredentials(new SingleUseUserCredentials("sa", ""));
+          return databaseConnectionSource.get();
+        };
+
+    executableLintSQLReportConcurrent(connection, connectionSource, 1);
+    assertThat(connectionCount.get(), is(greaterThan(0)));
+  }
+
+  @Test
+  public void executableLintSQLReportConcurrentLinters(
+      final DatabaseConnectionInfo connectionInfo, final Connection connection) throws Exception {
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSource =
+        () -> {
+          connectionCount.incrementAndGet();
+          final DatabaseConnectionSource databaseConnectionSource =
+              new DatabaseConnectionSource(connectionInfo.getConnectionUrl());
+          databaseConnectionSource.setUserCredentials(new SingleUseUserCredentials("sa", ""));
+          return databaseConnectionSource.get();
+        };
+
+    // SQL linters run on worker connections, and run their queries on more connections
+    executableLintSQLReportConcurrent(connection, connectionSource, 4);
+    assertThat(connectionCount.get(), is(greaterThan(4)));
+  }
+
+  @Test
+  public void executableLintSQLReportConcurrentWithBadConnectionSource(
+      final Connection connection) throws Exception {
+    final Supplier<Connection> connectionSource =
+        () -> {
+          throw new SchemaCrawlerRuntimeException("Cannot connect");
+        };
+
+    // Linters and queries run on the provided connection instead
+    executableLintSQLReportConcurrent(connection, connectionSource, 4);
+  }
+
+  private void executableLintSQLReportConcurrent(
+      final Connection connection,
+      final Supplier<Connection> connectionSource,
+      final int lintConcurrency)
+      throws Exception {
+    final Path linterConfigsFile =
+        copyResourceToTempFile("/schemacrawler-linter-configs-sql-concurrent.yaml");
+    final Config config =
+        LintOptionsBuilder.builder()
+            .withLinterConfigs(linterConfigsFile.toString())
+            .withConcurrency(lintConcurrency)
+            .toConfig();
+
+    final SchemaCrawlerExecutable lintExecutable = new SchemaCrawlerExecutable("lint");
+    lintExecutable.setAdditionalConfiguration(config);
+    lintExecutable.setConnectionSource(connectionSource);
+
+    assertThat(
+        outputOf(executableExecution(connection, lintExecutable)),
+        hasSameContentAs(classpathResource("executableLintSQLReport.txt")));
+  }
 }
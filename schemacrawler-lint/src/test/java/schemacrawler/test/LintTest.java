@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
@@ -43,6 +44,8 @@ import java.sql.Connection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -54,10 +57,13 @@ import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
 import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
 import schemacrawler.test.utility.TestWriter;
 import schemacrawler.tools.command.lint.options.LintOptions;
 import schemacrawler.tools.command.lint.options.LintOptionsBuilder;
+import schemacrawler.tools.databaseconnector.DatabaseConnectionSource;
+import schemacrawler.tools.databaseconnector.SingleUseUserCredentials;
 import schemacrawler.tools.lint.Lint;
 import schemacrawler.tools.lint.LintCollector;
 import schemacrawler.tools.lint.LintSeverity;
@@ -130,6 +136,134 @@ public class LintTest {
         hasSameContentAs(classpathResource(LINTS_OUTPUT + "schemacrawler.lints.summary.txt")));
   }
 
+  @Test
+  public void lintsConcurrent(
+      final DatabaseConnectionInfo connectionInfo, final Connection connection) throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .tableTypes("TABLE", "VIEW", "GLOBAL TEMPORARY")
+            .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+    assertThat(catalog, notNullValue());
+
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+
+    final Map<String, Object> config = new HashMap<>();
+    config.put("bad-column-names", ".*\\.COUNTRY");
+    final LinterConfig linterConfig =
+        new LinterConfig(
+            "schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns",
+            true,
+            LintSeverity.medium,
+            0,
+            null,
+            null,
+            null,
+            null,
+            config);
+
+    linterConfigs.add(linterConfig);
+
+    // Workers run linters that use SQL, such as the empty table linter, on their own connections
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSource =
+        () -> {
+          connectionCount.incrementAndGet();
+          final DatabaseConnectionSource databaseConnectionSource =
+              new DatabaseConnectionSource(connectionInfo.getConnectionUrl());
+          databaseConnectionSource.setUserCredentials(new SingleUseUserCredentials("sa", ""));
+          return databaseConnectionSource.get();
+        };
+
+    final Linters linters = new Linters(linterConfigs, true);
+    linters.setConcurrency(4);
+    linters.setConnectionSource(connectionSource);
+    assertThat(linters.getConcurrency(), is(4));
+    linters.lint(catalog, connection);
+    assertThat(connectionCount.get(), is(4));
+    final LintCollector lintCollector = linters.getCollector();
+    assertThat(lintCollector.size(), is(51));
+
+    final TestWriter testout1 = new TestWriter();
+    try (final TestWriter out = testout1) {
+      for (final Lint<?> lint : lintCollector.getLints()) {
+        out.println(lint);
+      }
+    }
+    assertThat(
+        outputOf(testout1),
+        hasSameContentAs(classpathResource(LINTS_OUTPUT + "schemacrawler.lints.txt")));
+
+    final TestWriter testout2 = new TestWriter();
+    try (final TestWriter out = testout2) {
+      out.println(linters.getLintSummary());
+    }
+    assertThat(
+        outputOf(testout2),
+        hasSameContentAs(classpathResource(LINTS_OUTPUT + "schemacrawler.lints.summary.txt")));
+  }
+
+  @Test
+  public void lintsFused(final Connection connection) throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .tableTypes("TABLE", "VIEW", "GLOBAL TEMPORARY")
+            .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+    assertThat(catalog, notNullValue());
+
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+
+    final Map<String, Object> config = new HashMap<>();
+    config.put("bad-column-names", ".*\\.COUNTRY");
+    final LinterConfig linterConfig =
+        new LinterConfig(
+            "schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns",
+            true,
+            LintSeverity.medium,
+            0,
+            null,
+            null,
+            null,
+            null,
+            config);
+
+    linterConfigs.add(linterConfig);
+
+    final Linters linters = new Linters(linterConfigs, true);
+    linters.setFusedExecution(true);
+    assertThat(linters.isFusedExecution(), is(true));
+    linters.lint(catalog, connection);
+    final LintCollector lintCollector = linters.getCollector();
+    assertThat(lintCollector.size(), is(51));
+
+    final TestWriter testout1 = new TestWriter();
+    try (final TestWriter out = testout1) {
+      for (final Lint<?> lint : lintCollector.getLints()) {
+        out.println(lint);
+      }
+    }
+    assertThat(
+        outputOf(testout1),
+        hasSameContentAs(classpathResource(LINTS_OUTPUT + "schemacrawler.lints.txt")));
+
+    final TestWriter testout2 = new TestWriter();
+    try (final TestWriter out = testout2) {
+      out.println(linters.getLintSummary());
+    }
+    assertThat(
+        outputOf(testout2),
+        hasSameContentAs(classpathResource(LINTS_OUTPUT + "schemacrawler.lints.summary.txt")));
+  }
+
   @Test
   public void lintsWithExcludedColumns(final Connection connection) throws Exception {
     final LimitOptionsBuilder limitOptionsBuilder =
@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.loader.counts;
 
 import static schemacrawler.filter.ReducerFactory.getTableReducer;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
 
 import java.util.logging.Level;
 
@@ -49,6 +50,10 @@ public class TableRowCountsCatalogLoader extends BaseCatalogLoader {
 
   private static final String OPTION_NO_EMPTY_TABLES = "no-empty-tables";
   private static final String OPTION_LOAD_ROW_COUNTS = "load-row-counts";
+  private static final String OPTION_ROW_COUNTS_BATCH_SIZE = "row-counts-batch-size";
+  private static final String OPTION_ROW_COUNTS_CONCURRENCY = "row-counts-concurrency";
+  private static final String OPTION_ROW_COUNTS_ESTIMATED = "row-counts-estimated";
+  private static final String OPTION_ROW_COUNTS_TIMEOUT = "row-counts-timeout";
 
   public TableRowCountsCatalogLoader() {
     super(new CommandDescription("countsloader", "Loader for table row counts"), 2);
@@ -72,7 +77,31 @@ public class TableRowCountsCatalogLoader extends BaseCatalogLoader {
             Boolean.class,
             "Includes only tables that have rows of data",
             "Requires table row counts to be loaded",
-            "Optional, default is false");
+            "Optional, default is false")
+        .addOption(
+            OPTION_ROW_COUNTS_BATCH_SIZE,
+            Integer.class,
+            "Number of tables to count rows for with a single query",
+            "Requires table row counts to be loaded",
+            "Optional, defaults to 1")
+        .addOption(
+            OPTION_ROW_COUNTS_CONCURRENCY,
+            Integer.class,
+            "Number of connections to count table rows on at the same time",
+            "Requires table row counts to be loaded",
+            "Optional, defaults to 1")
+        .addOption(
+            OPTION_ROW_COUNTS_ESTIMATED,
+            Boolean.class,
+            "Uses row count estimates from database statistics, where available",
+            "Tables without statistics are counted exactly",
+            "Optional, defaults to false")
+        .addOption(
+            OPTION_ROW_COUNTS_TIMEOUT,
+            Integer.class,
+            "Time limit in seconds for counting the rows of each table",
+            "Tables that take longer are skipped",
+            "Optional, defaults to no limit");
     return pluginCommand;
   }
 
@@ -86,9 +115,18 @@ public class TableRowCountsCatalogLoader extends BaseCatalogLoader {
     final StopWatch stopWatch = new StopWatch("loadTableRowCounts");
     try {
       final Catalog catalog = getCatalog();
-      final TableRowCountsRetriever rowCountsRetriever =
-          new TableRowCountsRetriever(getConnection(), catalog);
       final Config config = getAdditionalConfiguration();
+      final TableRowCountsRetriever rowCountsRetriever =
+          new TableRowCountsRetriever(getConnection(), catalog)
+              .withConnectionSource(getConnectionSource())
+              .withBatchSize(config.getIntegerValue(OPTION_ROW_COUNTS_BATCH_SIZE, 1))
+              .withConcurrency(config.getIntegerValue(OPTION_ROW_COUNTS_CONCURRENCY, 1))
+              .withQueryTimeout(config.getIntegerValue(OPTION_ROW_COUNTS_TIMEOUT, 0))
+              .withEstimatedCounts(config.getBooleanValue(OPTION_ROW_COUNTS_ESTIMATED, false))
+              .withInformationSchemaViews(
+                  getSchemaRetrievalOptions().getInformationSchemaViews())
+              .withSchemaInclusionRule(
+                  getSchemaCrawlerOptions().getLimitOptions().get(ruleForSchemaInclusion));
       stopWatch.time(
           "retrieveTableRowCounts",
           () -> {
@@ -27,38 +27,151 @@ http://www.gnu.org/licenses/
 */
 package schemacrawler.loader.counts;
 
+import static java.util.Comparator.comparingLong;
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.loader.counts.TableRowCountsUtility.addEstimatedRowCountToTable;
 import static schemacrawler.loader.counts.TableRowCountsUtility.addRowCountToTable;
-import static schemacrawler.schemacrawler.QueryUtility.executeForLong;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_ROW_COUNTS;
+import static schemacrawler.schemacrawler.QueryUtility.getQuery;
 import static us.fatehi.utility.DatabaseUtility.checkConnection;
+import static us.fatehi.utility.Utility.isBlank;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Level;
-
 import java.util.logging.Logger;
+
+import schemacrawler.crawl.MetadataResultSet;
+import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Identifiers;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.Retriever;
+import schemacrawler.schemacrawler.SchemaReference;
 import us.fatehi.utility.string.StringFormat;
 
+/**
+ * Counts the rows in each table of the catalog. Counts run one table at a time on the provided
+ * connection, unless a connection source and a concurrency of more than one are provided, in which
+ * case counts run on a bounded pool of connections from the connection source. Counts that fail or
+ * time out are logged and skipped, so the counts of all other tables are kept.
+ *
+ * <p>If a batch size of more than one is provided, the rows of a batch of tables are counted with
+ * a single <code>UNION ALL</code> query, to cut down on round trips to the database. If a batch
+ * query fails because one of its tables cannot be queried, the rows of the tables in that batch are
+ * counted one table at a time. If a batch query times out, all the tables in the batch are skipped.
+ *
+ * <p>If estimated counts are requested, row counts for all tables are first obtained from database
+ * statistics with a single data dictionary query, and only tables without statistics are counted.
+ */
 @Retriever
 public final class TableRowCountsRetriever {
 
+  /**
+   * Tables to count rows for with a single query, with the SQL to count them. The SQL is expanded
+   * on the calling thread, so that worker threads never read or sort the tables in the catalog.
+   */
+  private static final class TableCountsBatch {
+
+    private final List<Table> tables;
+    private final List<String> tableSqls;
+    private final String batchSql;
+
+    TableCountsBatch(
+        final List<Table> tables, final List<String> tableSqls, final String batchSql) {
+      this.tables = tables;
+      this.tableSqls = tableSqls;
+      this.batchSql = batchSql;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "batch of %d tables, starting with <%s>", tables.size(), tables.get(0).getFullName());
+    }
+  }
+
+  /**
+   * Result of counting the rows of a single table. If the table was counted with a batch query,
+   * the elapsed time is the time taken by the whole batch.
+   */
+  private static final class TableRowCount {
+
+    private final Table table;
+    private final long count;
+    private final long elapsedNanos;
+    private final boolean timedOut;
+    private final TableCountsBatch batch;
+
+    TableRowCount(
+        final Table table,
+        final long count,
+        final long elapsedNanos,
+        final boolean timedOut,
+        final TableCountsBatch batch) {
+      this.table = table;
+      this.count = count;
+      this.elapsedNanos = elapsedNanos;
+      this.timedOut = timedOut;
+      this.batch = batch;
+    }
+
+    boolean isCounted() {
+      return count >= 0;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "%s (%d ms)", table.getFullName(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+  }
+
   private static final Logger LOGGER =
       Logger.getLogger(TableRowCountsRetriever.class.getName());
 
+  private static final int SLOWEST_TABLES_COUNT = 5;
+  private static final int SLOWEST_BATCHES_COUNT = 5;
+
   private final Connection connection;
   private final Catalog catalog;
+  private Supplier<Connection> connectionSource;
+  private int batchSize;
+  private int concurrency;
+  private int queryTimeout;
+  private boolean estimatedCounts;
+  private InformationSchemaViews informationSchemaViews;
+  private InclusionRule schemaInclusionRule;
 
   public TableRowCountsRetriever(final Connection connection, final Catalog catalog)
       throws SQLException {
     this.connection = checkConnection(connection);
     this.catalog = requireNonNull(catalog, "No catalog provided");
+    batchSize = 1;
+    concurrency = 1;
   }
 
   public void retrieveTableRowCounts() {
@@ -78,14 +191,449 @@ public final class TableRowCountsRetriever {
 
     final Query query =
         new Query("schemacrawler.table.row_counts", "SELECT COUNT(*) FROM ${table}");
-    final List<Table> allTables = new ArrayList<>(catalog.getTables());
-    for (final Table table : allTables) {
-      try {
-        final long count = executeForLong(query, connection, table, identifiers);
-        addRowCountToTable(table, count);
-      } catch (final SQLException e) {
-        LOGGER.log(Level.WARNING, e, new StringFormat("Could not get count for table <%s>", table));
+    final List<Table> tablesToCount = new ArrayList<>(catalog.getTables());
+
+    final long startTime = System.nanoTime();
+    if (estimatedCounts) {
+      final Map<Table, Long> estimatedRowCounts = retrieveEstimatedRowCounts(tablesToCount);
+      for (final Map.Entry<Table, Long> estimatedRowCount : estimatedRowCounts.entrySet()) {
+        addEstimatedRowCountToTable(estimatedRowCount.getKey(), estimatedRowCount.getValue());
+      }
+      tablesToCount.removeIf(estimatedRowCounts::containsKey);
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Retrieved estimated row counts for %d tables in %d ms, and counting %d tables",
+              estimatedRowCounts.size(),
+              TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime),
+              tablesToCount.size()));
+    }
+
+    final List<TableCountsBatch> batches = new ArrayList<>();
+    for (int i = 0; i < tablesToCount.size(); i = i + batchSize) {
+      final List<Table> batch =
+          tablesToCount.subList(i, Math.min(i + batchSize, tablesToCount.size()));
+      batches.add(makeBatch(query, batch, identifiers));
+    }
+
+    final List<TableRowCount> rowCounts;
+    if (connectionSource != null && concurrency > 1) {
+      rowCounts = countConcurrently(batches);
+    } else {
+      rowCounts = new ArrayList<>();
+      for (final TableCountsBatch batch : batches) {
+        rowCounts.addAll(countBatch(connection, batch));
+      }
+    }
+    // Counts are added on this thread, so that tables are only modified by one thread
+    for (final TableRowCount rowCount : rowCounts) {
+      if (rowCount.isCounted()) {
+        addRowCountToTable(rowCount.table, rowCount.count);
+      }
+    }
+
+    logSummary(rowCounts, System.nanoTime() - startTime);
+  }
+
+  /**
+   * Number of tables to count rows for with a single query. Each query counts the rows of all the
+   * tables in the batch, and the query timeout applies to the batch query as a whole.
+   *
+   * @param batchSize Number of tables in a batch, or 1 to count rows one table at a time
+   * @return This retriever
+   */
+  public TableRowCountsRetriever withBatchSize(final int batchSize) {
+    this.batchSize = Math.max(batchSize, 1);
+    return this;
+  }
+
+  /**
+   * Number of connections to count rows on at the same time. Additional connections are obtained
+   * from the connection source, and closed once all the counts are done.
+   *
+   * @param concurrency Number of connections, or 1 to count rows one table at a time
+   * @return This retriever
+   */
+  public TableRowCountsRetriever withConcurrency(final int concurrency) {
+    this.concurrency = Math.max(concurrency, 1);
+    return this;
+  }
+
+  /**
+   * Source of additional connections to the same database, which are needed to count rows on
+   * more than one connection at a time.
+   *
+   * @param connectionSource Source of connections, or null to count rows on a single connection
+   * @return This retriever
+   */
+  public TableRowCountsRetriever withConnectionSource(
+      final Supplier<Connection> connectionSource) {
+    this.connectionSource = connectionSource;
+    return this;
+  }
+
+  /**
+   * Whether to use row count estimates from database statistics, where they are available. The
+   * estimates are obtained from the data dictionary query provided with the information schema
+   * views, and tables without statistics are counted exactly.
+   *
+   * @param estimatedCounts True to use estimated row counts
+   * @return This retriever
+   */
+  public TableRowCountsRetriever withEstimatedCounts(final boolean estimatedCounts) {
+    this.estimatedCounts = estimatedCounts;
+    return this;
+  }
+
+  /**
+   * Information schema views, which may provide a data dictionary query for estimated row counts.
+   *
+   * @param informationSchemaViews Information schema views for the database
+   * @return This retriever
+   */
+  public TableRowCountsRetriever withInformationSchemaViews(
+      final InformationSchemaViews informationSchemaViews) {
+    this.informationSchemaViews = informationSchemaViews;
+    return this;
+  }
+
+  /**
+   * Time limit for counting the rows of each table. Tables that take longer are skipped.
+   *
+   * @param queryTimeout Time limit in seconds, or 0 for no limit
+   * @return This retriever
+   */
+  public TableRowCountsRetriever withQueryTimeout(final int queryTimeout) {
+    this.queryTimeout = Math.max(queryTimeout, 0);
+    return this;
+  }
+
+  /**
+   * Schema inclusion rule, which limits the schemas that the data dictionary query for estimated
+   * row counts looks at.
+   *
+   * @param schemaInclusionRule Schema inclusion rule, or null to look at all schemas
+   * @return This retriever
+   */
+  public TableRowCountsRetriever withSchemaInclusionRule(
+      final InclusionRule schemaInclusionRule) {
+    this.schemaInclusionRule = schemaInclusionRule;
+    return this;
+  }
+
+  private TableRowCount count(final Connection connection, final Table table, final String sql) {
+    final long startTime = System.nanoTime();
+    try (final Statement statement = connection.createStatement()) {
+      if (queryTimeout > 0) {
+        statement.setQueryTimeout(queryTimeout);
+      }
+      LOGGER.log(Level.FINE, new StringFormat("Executing row count: %n%s", sql));
+      try (final ResultSet results = statement.executeQuery(sql)) {
+        final long count = results.next() ? results.getLong(1) : -1;
+        return new TableRowCount(table, count, System.nanoTime() - startTime, false, null);
+      }
+    } catch (final SQLTimeoutException e) {
+      LOGGER.log(
+          Level.WARNING,
+          new StringFormat(
+              "Timed out getting count for table <%s>, after %d seconds", table, queryTimeout));
+      return new TableRowCount(table, -1, System.nanoTime() - startTime, true, null);
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, e, new StringFormat("Could not get count for table <%s>", table));
+      return new TableRowCount(table, -1, System.nanoTime() - startTime, false, null);
+    }
+  }
+
+  private List<TableRowCount> countBatch(
+      final Connection connection, final TableCountsBatch tableCountsBatch) {
+    final List<Table> batch = tableCountsBatch.tables;
+    if (tableCountsBatch.batchSql == null) {
+      final List<TableRowCount> rowCounts = new ArrayList<>();
+      for (int i = 0; i < batch.size(); i++) {
+        rowCounts.add(count(connection, batch.get(i), tableCountsBatch.tableSqls.get(i)));
       }
+      return rowCounts;
     }
+
+    final String batchSql = tableCountsBatch.batchSql;
+    final long startTime = System.nanoTime();
+    final long[] counts = new long[batch.size()];
+    Arrays.fill(counts, -1);
+    try (final Statement statement = connection.createStatement()) {
+      if (queryTimeout > 0) {
+        statement.setQueryTimeout(queryTimeout);
+      }
+      LOGGER.log(Level.FINE, new StringFormat("Executing batch row count: %n%s", batchSql));
+      try (final ResultSet results = statement.executeQuery(batchSql)) {
+        while (results.next()) {
+          final int tableIndex = results.getInt("TABLE_INDEX");
+          if (tableIndex >= 0 && tableIndex < counts.length) {
+            counts[tableIndex] = results.getLong("ROW_COUNT");
+          }
+        }
+      }
+    } catch (final SQLTimeoutException e) {
+      // Counting one table at a time would only time out again, table after table
+      LOGGER.log(
+          Level.WARNING,
+          new StringFormat(
+              "Timed out getting counts for a batch of %d tables, starting with table <%s>, "
+                  + "after %d seconds",
+              batch.size(), batch.get(0), queryTimeout));
+      return skipBatch(tableCountsBatch, System.nanoTime() - startTime, true);
+    } catch (final SQLException e) {
+      if (!isSyntaxOrAccessError(e)) {
+        LOGGER.log(
+            Level.WARNING,
+            e,
+            new StringFormat(
+                "Could not get counts for a batch of %d tables, starting with table <%s>",
+                batch.size(), batch.get(0)));
+        return skipBatch(tableCountsBatch, System.nanoTime() - startTime, false);
+      }
+      // One table that cannot be queried fails the whole batch
+      LOGGER.log(
+          Level.WARNING,
+          e,
+          new StringFormat(
+              "Could not get counts for a batch of %d tables, starting with table <%s>, "
+                  + "so counting one table at a time",
+              batch.size(), batch.get(0)));
+      final List<TableRowCount> rowCounts = new ArrayList<>();
+      for (int i = 0; i < batch.size(); i++) {
+        rowCounts.add(count(connection, batch.get(i), tableCountsBatch.tableSqls.get(i)));
+      }
+      return rowCounts;
+    }
+
+    // Tables in a batch are not timed one by one, so each carries the time of the batch query
+    final long elapsedNanos = System.nanoTime() - startTime;
+    final List<TableRowCount> rowCounts = new ArrayList<>();
+    for (int i = 0; i < batch.size(); i++) {
+      rowCounts.add(
+          new TableRowCount(batch.get(i), counts[i], elapsedNanos, false, tableCountsBatch));
+    }
+    return rowCounts;
+  }
+
+  private List<TableRowCount> countConcurrently(final List<TableCountsBatch> batches) {
+    final List<Connection> connections = Collections.synchronizedList(new ArrayList<>());
+    final BlockingQueue<Connection> idleConnections = new LinkedBlockingQueue<>();
+    final ExecutorService executorService =
+        Executors.newFixedThreadPool(
+            concurrency,
+            runnable -> {
+              final Thread thread = new Thread(runnable, "schemacrawler-row-counts");
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      final List<Future<List<TableRowCount>>> futures = new ArrayList<>();
+      for (final TableCountsBatch batch : batches) {
+        futures.add(
+            executorService.submit(
+                () -> {
+                  Connection workerConnection = idleConnections.poll();
+                  if (workerConnection == null) {
+                    workerConnection =
+                        requireNonNull(connectionSource.get(), "No worker connection provided");
+                    connections.add(workerConnection);
+                  }
+                  try {
+                    return countBatch(workerConnection, batch);
+                  } finally {
+                    idleConnections.offer(workerConnection);
+                  }
+                }));
+      }
+
+      final List<TableRowCount> rowCounts = new ArrayList<>();
+      for (int i = 0; i < futures.size(); i++) {
+        final List<Table> batch = batches.get(i).tables;
+        try {
+          rowCounts.addAll(futures.get(i).get());
+        } catch (final ExecutionException e) {
+          for (final Table table : batch) {
+            LOGGER.log(
+                Level.WARNING,
+                e.getCause(),
+                new StringFormat("Could not get count for table <%s>", table));
+            rowCounts.add(new TableRowCount(table, -1, 0, false, null));
+          }
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          LOGGER.log(Level.WARNING, "Interrupted while getting table row counts", e);
+          break;
+        }
+      }
+      return rowCounts;
+    } finally {
+      executorService.shutdownNow();
+      for (final Connection workerConnection : connections) {
+        try {
+          workerConnection.close();
+        } catch (final SQLException e) {
+          LOGGER.log(Level.WARNING, "Could not close worker connection", e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Whether the query failed because of the SQL itself, such as a table that does not exist or
+   * cannot be read, rather than because of the connection or the database server. SQL state class
+   * 42 covers both syntax errors and access rule violations.
+   */
+  private boolean isSyntaxOrAccessError(final SQLException e) {
+    final String sqlState = e.getSQLState();
+    return e instanceof SQLSyntaxErrorException || sqlState != null && sqlState.startsWith("42");
+  }
+
+  private void logSummary(final List<TableRowCount> rowCounts, final long elapsedNanos) {
+    int countedTables = 0;
+    int timedOutTables = 0;
+    for (final TableRowCount rowCount : rowCounts) {
+      if (rowCount.isCounted()) {
+        countedTables++;
+      } else if (rowCount.timedOut) {
+        timedOutTables++;
+      }
+    }
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Retrieved row counts for %d of %d tables in %d ms, with %d timed out",
+            countedTables,
+            rowCounts.size(),
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+            timedOutTables));
+
+    // Tables counted in a batch only have the time of the whole batch,
+    // so batches are ranked separately from tables that were counted on their own
+    final List<TableRowCount> slowestTables = new ArrayList<>();
+    final Map<TableCountsBatch, Long> batchElapsedNanos = new LinkedHashMap<>();
+    for (final TableRowCount rowCount : rowCounts) {
+      if (rowCount.batch == null) {
+        slowestTables.add(rowCount);
+      } else {
+        batchElapsedNanos.put(rowCount.batch, rowCount.elapsedNanos);
+      }
+    }
+
+    if (!slowestTables.isEmpty()) {
+      slowestTables.sort(
+          comparingLong((TableRowCount rowCount) -> rowCount.elapsedNanos).reversed());
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Slowest table row counts: %s",
+              slowestTables.subList(0, Math.min(SLOWEST_TABLES_COUNT, slowestTables.size()))));
+    }
+
+    if (!batchElapsedNanos.isEmpty()) {
+      final List<Map.Entry<TableCountsBatch, Long>> slowestBatches =
+          new ArrayList<>(batchElapsedNanos.entrySet());
+      slowestBatches.sort(Map.Entry.<TableCountsBatch, Long>comparingByValue().reversed());
+      final StringJoiner slowestBatchesList = new StringJoiner(", ", "[", "]");
+      for (final Map.Entry<TableCountsBatch, Long> slowestBatch :
+          slowestBatches.subList(0, Math.min(SLOWEST_BATCHES_COUNT, slowestBatches.size()))) {
+        slowestBatchesList.add(
+            String.format(
+                "%s (%d ms)",
+                slowestBatch.getKey(), TimeUnit.NANOSECONDS.toMillis(slowestBatch.getValue())));
+      }
+      LOGGER.log(
+          Level.INFO, new StringFormat("Slowest batch row counts: %s", slowestBatchesList));
+    }
+  }
+
+  /**
+   * Expands the SQL to count the rows of each table in the batch, and, for batches of more than
+   * one table, a single query that counts the rows of all of them.
+   */
+  private TableCountsBatch makeBatch(
+      final Query query, final List<Table> batch, final Identifiers identifiers) {
+    final List<String> tableSqls = new ArrayList<>();
+    for (final Table table : batch) {
+      tableSqls.add(getQuery(query, table, identifiers));
+    }
+    if (batch.size() == 1) {
+      return new TableCountsBatch(batch, tableSqls, null);
+    }
+
+    // Label each count with the position of the table in the batch,
+    // so that counts can be matched to tables no matter what order they come back in
+    final StringJoiner batchSql = new StringJoiner(System.lineSeparator() + "UNION ALL ");
+    for (int i = 0; i < batch.size(); i++) {
+      batchSql.add(
+          String.format(
+              "SELECT %d AS TABLE_INDEX, COUNT(*) AS ROW_COUNT FROM %s",
+              i, identifiers.quoteFullName(batch.get(i))));
+    }
+    return new TableCountsBatch(batch, tableSqls, batchSql.toString());
+  }
+
+  private Map<Table, Long> retrieveEstimatedRowCounts(final List<Table> tables) {
+    final Map<Table, Long> estimatedRowCounts = new HashMap<>();
+    if (informationSchemaViews == null || !informationSchemaViews.hasQuery(EXT_TABLE_ROW_COUNTS)) {
+      LOGGER.log(
+          Level.INFO, "No estimated table row counts SQL provided, so counting rows in all tables");
+      return estimatedRowCounts;
+    }
+
+    final Map<NamedObjectKey, Table> tablesLookup = new HashMap<>();
+    for (final Table table : tables) {
+      tablesLookup.put(table.key(), table);
+    }
+
+    final Query estimatedRowCountsSql = informationSchemaViews.getQuery(EXT_TABLE_ROW_COUNTS);
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results =
+            new MetadataResultSet(estimatedRowCountsSql, statement, schemaInclusionRule)) {
+      while (results.next()) {
+        final String catalogName = results.getString("TABLE_CATALOG");
+        final String schemaName = results.getString("TABLE_SCHEMA");
+        final String tableName = results.getString("TABLE_NAME");
+        final long rowCount = results.getLong("ROW_COUNT", -1);
+        if (rowCount < 0) {
+          continue;
+        }
+
+        Table table = tablesLookup.get(tableKey(catalogName, schemaName, tableName));
+        if (table == null) {
+          // Some databases do not support catalogs, even though
+          // the data dictionary returns a catalog name
+          table = tablesLookup.get(tableKey(null, schemaName, tableName));
+        }
+        if (table != null) {
+          estimatedRowCounts.put(table, rowCount);
+        }
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(
+          Level.WARNING,
+          e,
+          new StringFormat(
+              "Could not retrieve estimated table row counts from SQL:%n%s",
+              estimatedRowCountsSql));
+    }
+    return estimatedRowCounts;
+  }
+
+  private List<TableRowCount> skipBatch(
+      final TableCountsBatch batch, final long elapsedNanos, final boolean timedOut) {
+    final List<TableRowCount> rowCounts = new ArrayList<>();
+    for (final Table table : batch.tables) {
+      rowCounts.add(new TableRowCount(table, -1, elapsedNanos, timedOut, batch));
+    }
+    return rowCounts;
+  }
+
+  private NamedObjectKey tableKey(
+      final String catalogName, final String schemaName, final String tableName) {
+    return new SchemaReference(
+            isBlank(catalogName) ? null : catalogName, isBlank(schemaName) ? null : schemaName)
+        .key()
+        .with(tableName);
   }
 }
@@ -37,6 +37,8 @@ public final class TableRowCountsUtility {
 
   private static final int UNKNOWN_TABLE_ROW_COUNT = -1;
   private static final String TABLE_ROW_COUNT_KEY = "schemacrawler.table.row_count";
+  private static final String TABLE_ROW_COUNT_ESTIMATED_KEY =
+      "schemacrawler.table.row_count_estimated";
 
   public static long getRowCount(final Table table) {
     if (table == null) {
@@ -71,6 +73,24 @@ public final class TableRowCountsUtility {
     return table != null && table.hasAttribute(TABLE_ROW_COUNT_KEY);
   }
 
+  /**
+   * Whether the row count of the table is an estimate from database statistics, rather than an
+   * exact count of the rows.
+   *
+   * @param table Table to check
+   * @return True if the table has an estimated row count
+   */
+  public static boolean isRowCountEstimated(final Table table) {
+    return hasRowCount(table) && table.getAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY, false);
+  }
+
+  static void addEstimatedRowCountToTable(final Table table, final long rowCount) {
+    addRowCountToTable(table, rowCount);
+    if (hasRowCount(table)) {
+      table.setAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY, true);
+    }
+  }
+
   static void addRowCountToTable(final Table table, final long rowCount) {
     if (table != null) {
       if (rowCount >= 0) {
@@ -78,6 +98,7 @@ public final class TableRowCountsUtility {
       } else {
         table.removeAttribute(TABLE_ROW_COUNT_KEY);
       }
+      table.removeAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY);
     }
   }
 
@@ -29,53 +29,63 @@ package schemacrawler.loader.weakassociations;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnReference;
 import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.Table;
 
 final class ForeignKeys {
 
-  private final Collection<ColumnReference> foreignKeys;
+  private final Map<Column, Set<Column>> fkColumnsForPkColumn;
 
   ForeignKeys(final List<Table> tables) {
-    foreignKeys = mapForeignKeyColumns(tables);
+    fkColumnsForPkColumn = mapForeignKeyColumns(tables);
   }
 
-  public boolean contains(final ProposedWeakAssociation columnMap) {
-    if (columnMap == null) {
+  /**
+   * Checks if a column reference is already covered by a foreign key. The lookup is by primary key
+   * column, so that no objects need to be created for the check.
+   *
+   * @param pkColumn Referenced column
+   * @param fkColumn Referencing column
+   * @return True if there is a foreign key for the column reference
+   */
+  public boolean contains(final Column pkColumn, final Column fkColumn) {
+    if (pkColumn == null || fkColumn == null) {
       return false;
     }
+    return fkColumnsForPkColumn.getOrDefault(pkColumn, Collections.emptySet()).contains(fkColumn);
+  }
 
-    // We have to loop through the collection, since we want to use the
-    // equals from the WeakAssociation
-    for (final ColumnReference columnReference : foreignKeys) {
-      final ProposedWeakAssociation columnReferenceAsProposal =
-          new ProposedWeakAssociation(columnReference);
-      final boolean equals = columnMap.equals(columnReferenceAsProposal);
-      if (equals) {
-        return true;
-      }
+  public boolean contains(final ProposedWeakAssociation columnMap) {
+    if (columnMap == null) {
+      return false;
     }
-    return false;
+    return contains(columnMap.getKey(), columnMap.getValue());
   }
 
   @Override
   public String toString() {
-    return foreignKeys.toString();
+    return fkColumnsForPkColumn.toString();
   }
 
-  private Collection<ColumnReference> mapForeignKeyColumns(final List<Table> tables) {
+  private Map<Column, Set<Column>> mapForeignKeyColumns(final List<Table> tables) {
     requireNonNull(tables, "No tables provided");
 
-    final Collection<ColumnReference> fkColumnsMap = new HashSet<>();
+    final Map<Column, Set<Column>> fkColumnsMap = new HashMap<>();
     for (final Table table : tables) {
       for (final ForeignKey foreignKey : table.getForeignKeys()) {
         for (final ColumnReference columnRef : foreignKey) {
-          fkColumnsMap.add(columnRef);
+          fkColumnsMap
+              .computeIfAbsent(columnRef.getPrimaryKeyColumn(), pkColumn -> new HashSet<>())
+              .add(columnRef.getForeignKeyColumn());
         }
       }
     }
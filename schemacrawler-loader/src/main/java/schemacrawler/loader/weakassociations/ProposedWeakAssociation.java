@@ -40,18 +40,14 @@ public final class ProposedWeakAssociation
 
   private static final long serialVersionUID = 24677218335455928L;
 
-  ProposedWeakAssociation(final Column key, final Column value) {
-    super(key, value);
-  }
-
-  ProposedWeakAssociation(final ColumnReference columnReference) {
-    super(columnReference.getPrimaryKeyColumn(), columnReference.getForeignKeyColumn());
-  }
-
-  public boolean isValid() {
-
-    final Column pkColumn = getKey();
-    final Column fkColumn = getValue();
+  /**
+   * Checks if a column could refer to a key column, without creating a proposed weak association.
+   *
+   * @param pkColumn Referenced column
+   * @param fkColumn Referencing column
+   * @return True if the columns could form a weak association
+   */
+  static boolean isValid(final Column pkColumn, final Column fkColumn) {
     if (pkColumn == null || fkColumn == null) {
       return false;
     }
@@ -82,4 +78,16 @@ public final class ProposedWeakAssociation
         fkColumnType.getJavaSqlType().getName().equals(pkColumnType.getJavaSqlType().getName());
     return isValid;
   }
+
+  ProposedWeakAssociation(final Column key, final Column value) {
+    super(key, value);
+  }
+
+  ProposedWeakAssociation(final ColumnReference columnReference) {
+    super(columnReference.getPrimaryKeyColumn(), columnReference.getForeignKeyColumn());
+  }
+
+  public boolean isValid() {
+    return isValid(getKey(), getValue());
+  }
 }
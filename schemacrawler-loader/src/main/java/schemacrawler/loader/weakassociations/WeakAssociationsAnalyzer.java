@@ -28,11 +28,12 @@ http://www.gnu.org/licenses/
 package schemacrawler.loader.weakassociations;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
@@ -42,20 +43,23 @@ import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
 import us.fatehi.utility.string.StringFormat;
 
+/**
+ * Finds weak associations between tables, based on table and column naming patterns. Match keys
+ * for all tables and columns are indexed up front, so that the candidate keys of each table can be
+ * analyzed independently. Tables are analyzed in parallel on the common fork-join pool, and the
+ * weak associations are returned in table order.
+ */
 public final class WeakAssociationsAnalyzer {
 
   private static final Logger LOGGER =
       Logger.getLogger(WeakAssociationsAnalyzer.class.getName());
 
   private final List<Table> tables;
-  private final Collection<ProposedWeakAssociation> weakAssociations;
 
   public WeakAssociationsAnalyzer(final Collection<Table> tables) {
     requireNonNull(tables, "No tables provided");
     this.tables = new ArrayList<>(tables);
     Collections.sort(this.tables);
-
-    weakAssociations = new ArrayList<>();
   }
 
   public Collection<ProposedWeakAssociation> analyzeTables() {
@@ -63,12 +67,10 @@ public final class WeakAssociationsAnalyzer {
       return Collections.emptySet();
     }
 
-    findWeakAssociations(tables);
-
-    return weakAssociations;
+    return findWeakAssociations();
   }
 
-  private void findWeakAssociations(final List<Table> tables) {
+  private List<ProposedWeakAssociation> findWeakAssociations() {
     LOGGER.log(Level.INFO, "Finding weak associations");
     final ForeignKeys foreignKeys = new ForeignKeys(tables);
     final ColumnMatchKeysMap columnMatchKeysMap = new ColumnMatchKeysMap(tables);
@@ -78,31 +80,47 @@ public final class WeakAssociationsAnalyzer {
       LOGGER.log(Level.FINER, new StringFormat("Column match keys <%s>", columnMatchKeysMap));
       LOGGER.log(Level.FINER, new StringFormat("Table match keys <%s>", tableMatchKeys));
     }
-    for (final Table table : tables) {
-      final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
-      LOGGER.log(Level.FINER, new StringFormat("Table candidate keys <%s>", tableCandidateKeys));
-      for (final Column pkColumn : tableCandidateKeys) {
-        final Set<String> fkColumnMatchKeys = new HashSet<>();
-        // Look for all columns matching this table match key
-        if (pkColumn.isPartOfPrimaryKey()) {
-          fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
-        }
-        // Look for all columns matching this column match key
-        if (columnMatchKeysMap.containsKey(pkColumn)) {
-          fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
-        }
 
-        final Set<Column> fkColumns = new HashSet<>();
-        for (final String fkColumnMatchKey : fkColumnMatchKeys) {
-          if (columnMatchKeysMap.containsKey(fkColumnMatchKey)) {
-            fkColumns.addAll(columnMatchKeysMap.get(fkColumnMatchKey));
-          }
-        }
+    // The indexes are only read from here on, so tables can be analyzed in parallel
+    return tables
+        .parallelStream()
+        .map(table -> findWeakAssociations(table, foreignKeys, columnMatchKeysMap, tableMatchKeys))
+        .flatMap(List::stream)
+        .collect(toList());
+  }
+
+  private List<ProposedWeakAssociation> findWeakAssociations(
+      final Table table,
+      final ForeignKeys foreignKeys,
+      final ColumnMatchKeysMap columnMatchKeysMap,
+      final TableMatchKeys tableMatchKeys) {
+    final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
+    LOGGER.log(Level.FINER, new StringFormat("Table candidate keys <%s>", tableCandidateKeys));
+
+    final List<ProposedWeakAssociation> weakAssociations = new ArrayList<>();
+    for (final Column pkColumn : tableCandidateKeys) {
+      final Set<String> fkColumnMatchKeys = new LinkedHashSet<>();
+      // Look for all columns matching this table match key
+      if (pkColumn.isPartOfPrimaryKey()) {
+        fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
+      }
+      // Look for all columns matching this column match key
+      if (columnMatchKeysMap.containsKey(pkColumn)) {
+        fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
+      }
 
-        for (final Column fkColumn : fkColumns) {
-          final ProposedWeakAssociation proposedWeakAssociation =
-              new ProposedWeakAssociation(pkColumn, fkColumn);
-          if (proposedWeakAssociation.isValid() && !foreignKeys.contains(proposedWeakAssociation)) {
+      // Every column has a single match key, so the columns for different
+      // match keys do not overlap, and each pair of columns is only seen once
+      for (final String fkColumnMatchKey : fkColumnMatchKeys) {
+        if (!columnMatchKeysMap.containsKey(fkColumnMatchKey)) {
+          continue;
+        }
+        for (final Column fkColumn : columnMatchKeysMap.get(fkColumnMatchKey)) {
+          // Check the pair before creating a proposed weak association for it
+          if (ProposedWeakAssociation.isValid(pkColumn, fkColumn)
+              && !foreignKeys.contains(pkColumn, fkColumn)) {
+            final ProposedWeakAssociation proposedWeakAssociation =
+                new ProposedWeakAssociation(pkColumn, fkColumn);
             LOGGER.log(
                 Level.FINE,
                 new StringFormat("Found weak association <%s>", proposedWeakAssociation));
@@ -111,5 +129,6 @@ public final class WeakAssociationsAnalyzer {
         }
       }
     }
+    return weakAssociations;
   }
 }
@@ -50,7 +50,14 @@ public class LoaderPluginCommandTest {
         is(
             "PluginCommand[name='countsloader', options=["
                 + "PluginCommandOption[name='load-row-counts', valueClass=java.lang.Boolean], "
-                + "PluginCommandOption[name='no-empty-tables', valueClass=java.lang.Boolean]"
+                + "PluginCommandOption[name='no-empty-tables', valueClass=java.lang.Boolean], "
+                + "PluginCommandOption[name='row-counts-batch-size', "
+                + "valueClass=java.lang.Integer], "
+                + "PluginCommandOption[name='row-counts-concurrency', "
+                + "valueClass=java.lang.Integer], "
+                + "PluginCommandOption[name='row-counts-estimated', "
+                + "valueClass=java.lang.Boolean], "
+                + "PluginCommandOption[name='row-counts-timeout', valueClass=java.lang.Integer]"
                 + "]]"));
 
     final PluginCommand attributesPluginCommand =
@@ -29,15 +29,28 @@ package schemacrawler.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static schemacrawler.loader.counts.TableRowCountsUtility.getRowCount;
 import static schemacrawler.loader.counts.TableRowCountsUtility.getRowCountMessage;
 import static schemacrawler.loader.counts.TableRowCountsUtility.hasRowCount;
+import static schemacrawler.loader.counts.TableRowCountsUtility.isRowCountEstimated;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_ROW_COUNTS;
 import static schemacrawler.test.utility.FileHasContent.classpathResource;
 import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
 import static schemacrawler.test.utility.FileHasContent.outputOf;
 
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -45,15 +58,22 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.loader.counts.TableRowCountsRetriever;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
 import schemacrawler.test.utility.TestContext;
 import schemacrawler.test.utility.TestContextParameterResolver;
 import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
@@ -69,6 +89,7 @@ import schemacrawler.utility.NamedObjectSort;
 public class TableRowCountsTest {
 
   private Catalog catalog;
+  private SchemaCrawlerOptions schemaCrawlerOptions;
 
   @BeforeAll
   public void loadCatalog(final Connection connection) throws Exception {
@@ -83,7 +104,7 @@ public class TableRowCountsTest {
             .includeAllRoutines();
     final LoadOptionsBuilder loadOptionsBuilder =
         LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
-    final SchemaCrawlerOptions schemaCrawlerOptions =
+    schemaCrawlerOptions =
         SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
             .withLimitOptions(limitOptionsBuilder.toOptions())
             .withLoadOptions(loadOptionsBuilder.toOptions());
@@ -130,6 +151,208 @@ public class TableRowCountsTest {
 
   @Test
   public void rowCounts(final TestContext testContext) throws Exception {
+    assertThat(
+        outputOf(rowCountsOutput(catalog)),
+        hasSameContentAs(classpathResource(testContext.testMethodFullName())));
+  }
+
+  @Test
+  public void rowCountsBatched(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo)
+      throws Exception {
+    final Supplier<Connection> connectionSource =
+        () -> {
+          try {
+            return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new SchemaCrawlerRuntimeException("Could not connect", e);
+          }
+        };
+
+    final Config additionalConfig = new Config();
+    additionalConfig.put("load-row-counts", true);
+    additionalConfig.put("row-counts-batch-size", 4);
+    additionalConfig.put("row-counts-concurrency", 2);
+
+    final Catalog batchedCatalog =
+        SchemaCrawlerUtility.getCatalog(
+            connection,
+            connectionSource,
+            TestUtility.newSchemaRetrievalOptions(),
+            schemaCrawlerOptions,
+            additionalConfig);
+
+    assertThat(
+        outputOf(rowCountsOutput(batchedCatalog)),
+        hasSameContentAs(classpathResource("TableRowCountsTest.rowCounts")));
+  }
+
+  @Test
+  public void rowCountsBatchFallback() throws Exception {
+    try (final Connection connection =
+            DriverManager.getConnection("jdbc:hsqldb:mem:batchfallback", "sa", "");
+        final Statement statement = connection.createStatement()) {
+      for (int i = 1; i <= 3; i++) {
+        statement.execute(String.format("CREATE TABLE TABLE%d (ID INTEGER)", i));
+        for (int j = 0; j < i; j++) {
+          statement.execute(String.format("INSERT INTO TABLE%d VALUES (%d)", i, j));
+        }
+      }
+
+      final Catalog batchCatalog =
+          SchemaCrawlerUtility.getCatalog(
+              connection,
+              SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+                  .withLimitOptions(
+                      LimitOptionsBuilder.builder()
+                          .includeSchemas(new RegularExpressionInclusionRule("PUBLIC\\.PUBLIC"))
+                          .toOptions()));
+      assertThat(batchCatalog.getTables(), hasSize(3));
+      // Drop a table after the catalog is loaded, so that the batch query fails
+      statement.execute("DROP TABLE TABLE2");
+
+      new TableRowCountsRetriever(connection, batchCatalog)
+          .withBatchSize(3)
+          .retrieveTableRowCounts();
+
+      for (final Table table : batchCatalog.getTables()) {
+        switch (table.getName()) {
+          case "TABLE2":
+            assertThat(hasRowCount(table), is(false));
+            break;
+          case "TABLE1":
+            assertThat(getRowCount(table), is(1L));
+            break;
+          default:
+            assertThat(getRowCount(table), is(3L));
+            break;
+        }
+      }
+    }
+  }
+
+  @Test
+  public void rowCountsBatchTimeout(final Connection connection) throws Exception {
+    // Every count query times out, so tables in a timed out batch should not be counted again
+    final AtomicInteger queryCount = new AtomicInteger();
+    final Connection timeoutConnection =
+        (Connection)
+            Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                  final Object result = method.invoke(connection, args);
+                  if (!method.getName().equals("createStatement")) {
+                    return result;
+                  }
+                  return Proxy.newProxyInstance(
+                      getClass().getClassLoader(),
+                      new Class<?>[] {Statement.class},
+                      (statementProxy, statementMethod, statementArgs) -> {
+                        if (statementMethod.getName().equals("executeQuery")) {
+                          queryCount.incrementAndGet();
+                          throw new SQLTimeoutException("Query timed out");
+                        }
+                        return statementMethod.invoke(result, statementArgs);
+                      });
+                });
+
+    final Catalog batchCatalog =
+        SchemaCrawlerUtility.getCatalog(
+            connection,
+            SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+                .withLimitOptions(
+                    LimitOptionsBuilder.builder()
+                        .includeSchemas(new RegularExpressionInclusionRule(".*\\.BOOKS"))
+                        .toOptions()));
+    final int tableCount = batchCatalog.getTables().size();
+    assertThat(tableCount, is(greaterThan(1)));
+
+    new TableRowCountsRetriever(timeoutConnection, batchCatalog)
+        .withBatchSize(tableCount)
+        .withQueryTimeout(1)
+        .retrieveTableRowCounts();
+
+    assertThat(queryCount.get(), is(1));
+    for (final Table table : batchCatalog.getTables()) {
+      assertThat(hasRowCount(table), is(false));
+    }
+  }
+
+  @Test
+  public void rowCountsConcurrently(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo)
+      throws Exception {
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSource =
+        () -> {
+          connectionCount.incrementAndGet();
+          try {
+            return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new SchemaCrawlerRuntimeException("Could not connect", e);
+          }
+        };
+
+    final Config additionalConfig = new Config();
+    additionalConfig.put("load-row-counts", true);
+    additionalConfig.put("row-counts-concurrency", 3);
+    additionalConfig.put("row-counts-timeout", 60);
+
+    final Catalog concurrentCatalog =
+        SchemaCrawlerUtility.getCatalog(
+            connection,
+            connectionSource,
+            TestUtility.newSchemaRetrievalOptions(),
+            schemaCrawlerOptions,
+            additionalConfig);
+
+    assertThat(connectionCount.get(), is(greaterThan(0)));
+    assertThat(connectionCount.get(), is(lessThanOrEqualTo(3)));
+    assertThat(
+        outputOf(rowCountsOutput(concurrentCatalog)),
+        hasSameContentAs(classpathResource("TableRowCountsTest.rowCounts")));
+  }
+
+  @Test
+  public void rowCountsEstimated(final Connection connection) throws Exception {
+    // Provide statistics for only the BOOKS schema, so that all other tables are counted,
+    // and views, which have no statistics, are counted too
+    final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+    final InformationSchemaViewsBuilder informationSchemaViewsBuilder =
+        InformationSchemaViewsBuilder.builder(schemaRetrievalOptions.getInformationSchemaViews())
+            .withSql(
+                EXT_TABLE_ROW_COUNTS,
+                "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, CARDINALITY AS ROW_COUNT "
+                    + "FROM INFORMATION_SCHEMA.SYSTEM_TABLESTATS "
+                    + "WHERE TABLE_SCHEMA = 'BOOKS' AND REGEXP_MATCHES(TABLE_SCHEMA, '${schemas}')");
+    final SchemaRetrievalOptionsBuilder schemaRetrievalOptionsBuilder =
+        SchemaRetrievalOptionsBuilder.builder(schemaRetrievalOptions)
+            .withInformationSchemaViews(informationSchemaViewsBuilder.toOptions());
+
+    final Config additionalConfig = new Config();
+    additionalConfig.put("load-row-counts", true);
+    additionalConfig.put("row-counts-estimated", true);
+
+    final Catalog estimatedCatalog =
+        SchemaCrawlerUtility.getCatalog(
+            connection,
+            schemaRetrievalOptionsBuilder.toOptions(),
+            schemaCrawlerOptions,
+            additionalConfig);
+
+    for (final Table table : estimatedCatalog.getTables()) {
+      assertThat(
+          table.getFullName(),
+          isRowCountEstimated(table),
+          is(table.getSchema().getName().equals("BOOKS") && !(table instanceof View)));
+    }
+    assertThat(
+        outputOf(rowCountsOutput(estimatedCatalog)),
+        hasSameContentAs(classpathResource("TableRowCountsTest.rowCounts")));
+  }
+
+  private TestWriter rowCountsOutput(final Catalog catalog) throws Exception {
     final TestWriter testout = new TestWriter();
     try (final TestWriter out = testout) {
       final Schema[] schemas = catalog.getSchemas().toArray(new Schema[0]);
@@ -143,7 +366,6 @@ public class TableRowCountsTest {
         }
       }
     }
-    assertThat(
-        outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
+    return testout;
   }
 }
@@ -6,12 +6,15 @@ import static schemacrawler.filter.ReducerFactory.getSequenceReducer;
 import static schemacrawler.filter.ReducerFactory.getSynonymReducer;
 import static schemacrawler.filter.ReducerFactory.getTableReducer;
 
+import java.io.BufferedInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.SQLException;
 
+import schemacrawler.crawl.CatalogSnapshotReader;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Reducible;
 import schemacrawler.schema.Routine;
@@ -23,7 +26,9 @@ import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.tools.catalogloader.BaseCatalogLoader;
 import schemacrawler.tools.executable.CommandDescription;
+import schemacrawler.tools.formatter.serialize.CatalogSerializer;
 import schemacrawler.tools.formatter.serialize.JavaSerializedCatalog;
+import schemacrawler.tools.formatter.serialize.SnapshotSerializedCatalog;
 import schemacrawler.tools.offline.jdbc.OfflineConnection;
 
 public final class OfflineCatalogLoader extends BaseCatalogLoader {
@@ -59,12 +64,18 @@ public final class OfflineCatalogLoader extends BaseCatalogLoader {
       }
 
       final Path offlineDatabasePath = dbConnection.getOfflineDatabasePath();
-      try (final FileInputStream inputFileStream =
-          new FileInputStream(offlineDatabasePath.toFile())) {
-        final JavaSerializedCatalog deserializedCatalog =
-            new JavaSerializedCatalog(inputFileStream);
-        catalog = deserializedCatalog.getCatalog();
+      final CatalogSerializer deserializedCatalog;
+      if (isCatalogSnapshot(offlineDatabasePath)) {
+        // Only the tables that are needed are loaded from a catalog snapshot
+        deserializedCatalog =
+            new SnapshotSerializedCatalog(offlineDatabasePath, getSchemaCrawlerOptions());
+      } else {
+        try (final InputStream inputFileStream =
+            new BufferedInputStream(new FileInputStream(offlineDatabasePath.toFile()))) {
+          deserializedCatalog = new JavaSerializedCatalog(inputFileStream);
+        }
       }
+      catalog = deserializedCatalog.getCatalog();
       reduceCatalog(catalog);
     } catch (final IOException | SQLException e) {
       throw new SchemaCrawlerException("Could not load offline database", e);
@@ -73,6 +84,13 @@ public final class OfflineCatalogLoader extends BaseCatalogLoader {
     setCatalog(catalog);
   }
 
+  private static boolean isCatalogSnapshot(final Path offlineDatabasePath) throws IOException {
+    try (final InputStream inputFileStream =
+        new BufferedInputStream(new FileInputStream(offlineDatabasePath.toFile()))) {
+      return CatalogSnapshotReader.isCatalogSnapshot(inputFileStream);
+    }
+  }
+
   private void reduceCatalog(final Catalog catalog) {
     final SchemaCrawlerOptions schemaCrawlerOptions = getSchemaCrawlerOptions();
     ((Reducible) catalog).reduce(Schema.class, getSchemaReducer(schemaCrawlerOptions));
@@ -32,6 +32,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static schemacrawler.test.utility.ExecutableTestUtility.executableExecution;
@@ -44,6 +45,7 @@ import static schemacrawler.test.utility.TestUtility.javaVersion;
 import static schemacrawler.tools.offline.jdbc.OfflineConnectionUtility.newOfflineConnection;
 import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
 
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -73,6 +75,7 @@ import schemacrawler.tools.command.text.schema.options.SchemaTextOptionsBuilder;
 import schemacrawler.tools.command.text.schema.options.TextOutputFormat;
 import schemacrawler.tools.executable.SchemaCrawlerExecutable;
 import schemacrawler.tools.formatter.serialize.JavaSerializedCatalog;
+import schemacrawler.tools.formatter.serialize.SnapshotSerializedCatalog;
 import schemacrawler.tools.offline.OfflineDatabaseConnector;
 import schemacrawler.tools.offline.jdbc.OfflineConnection;
 import us.fatehi.utility.IOUtility;
@@ -108,6 +111,50 @@ public class OfflineSnapshotTest {
         hasSameContentAs(classpathResource(OFFLINE_EXECUTABLE_OUTPUT + expectedResource)));
   }
 
+  @Test
+  public void offlineBinarySnapshotCommandLine() throws Exception {
+    final Path snapshotFile = IOUtility.createTempFilePath("schemacrawler", "snapshot");
+    try (final FileInputStream in = new FileInputStream(serializedCatalogFile.toFile())) {
+      final Catalog catalog = new JavaSerializedCatalog(in).getCatalog();
+      new SnapshotSerializedCatalog(catalog).save(new FileOutputStream(snapshotFile.toFile()));
+    }
+    assertThat("Database was not serialized", size(snapshotFile), greaterThan(0L));
+
+    // Both snapshots hold the same catalog, so they need to produce the same output
+    final TestWriter serializedCatalogOutput = detailsCommandLineOutput(serializedCatalogFile);
+    final TestWriter snapshotOutput = detailsCommandLineOutput(snapshotFile);
+    assertThat(snapshotOutput.getFileContents(), is(serializedCatalogOutput.getFileContents()));
+  }
+
+  @Test
+  public void offlineBinarySnapshotCommandLineWithFilters() throws Exception {
+    final Path snapshotFile = IOUtility.createTempFilePath("schemacrawler", "snapshot");
+    try (final FileInputStream in = new FileInputStream(serializedCatalogFile.toFile())) {
+      final Catalog catalog = new JavaSerializedCatalog(in).getCatalog();
+      new SnapshotSerializedCatalog(catalog).save(new FileOutputStream(snapshotFile.toFile()));
+    }
+
+    final TestWriter testout = new TestWriter();
+    try (final TestWriter out = testout) {
+      final Map<String, String> argsMap = new HashMap<>();
+      argsMap.put("--server", "offline");
+      argsMap.put("--database", snapshotFile.toString());
+
+      argsMap.put("--no-info", "true");
+      argsMap.put("--info-level", "maximum");
+      argsMap.put("--command", "details");
+      argsMap.put("--output-format", TextOutputFormat.text.getFormat());
+      argsMap.put("--routines", "");
+      argsMap.put("--tables", ".*SALES");
+      argsMap.put("--output-file", out.toString());
+
+      Main.main(flattenCommandlineArgs(argsMap));
+    }
+    assertThat(
+        outputOf(testout),
+        hasSameContentAs(classpathResource(OFFLINE_EXECUTABLE_OUTPUT + "offlineWithFilters.txt")));
+  }
+
   @Test
   public void offlineSnapshotCommandLineWithFilters() throws Exception {
     final TestWriter testout = new TestWriter();
@@ -211,6 +258,25 @@ public class OfflineSnapshotTest {
     assertThat("Database was not serialized", size(serializedCatalogFile), greaterThan(0L));
   }
 
+  private TestWriter detailsCommandLineOutput(final Path databaseFile) throws Exception {
+    final TestWriter testout = new TestWriter();
+    try (final TestWriter out = testout) {
+      final Map<String, String> argsMap = new HashMap<>();
+      argsMap.put("--server", "offline");
+      argsMap.put("--database", databaseFile.toString());
+
+      argsMap.put("--no-info", Boolean.FALSE.toString());
+      argsMap.put("--info-level", "maximum");
+      argsMap.put("--routines", ".*");
+      argsMap.put("--command", "details");
+      argsMap.put("--output-format", TextOutputFormat.text.getFormat());
+      argsMap.put("--output-file", out.toString());
+
+      Main.main(flattenCommandlineArgs(argsMap));
+    }
+    return testout;
+  }
+
   private void executeExecutable(
       final SchemaCrawlerExecutable executable, final String referenceFileName) throws Exception {
     final OfflineConnection connection = newOfflineConnection(serializedCatalogFile);
@@ -0,0 +1,14 @@
+SELECT /*+ PARALLEL(AUTO) */
+  NULL AS TABLE_CATALOG,
+  OBJECTS.OWNER AS TABLE_SCHEMA,
+  OBJECTS.OBJECT_TYPE,
+  COUNT(*) AS OBJECT_COUNT,
+  MAX(OBJECTS.LAST_DDL_TIME) AS LAST_DDL_TIME
+FROM
+  ${catalogscope}_OBJECTS OBJECTS
+WHERE
+  REGEXP_LIKE(OBJECTS.OWNER, '${schemas}')
+  AND OBJECTS.OBJECT_NAME NOT LIKE 'BIN$%'
+GROUP BY
+  OBJECTS.OWNER,
+  OBJECTS.OBJECT_TYPE
@@ -0,0 +1,12 @@
+SELECT /*+ PARALLEL(AUTO) */
+  NULL AS TABLE_CATALOG,
+  OBJECTS.OWNER AS TABLE_SCHEMA,
+  OBJECTS.OBJECT_NAME AS TABLE_NAME,
+  OBJECTS.LAST_DDL_TIME,
+  SYSDATE AS DATABASE_TIMESTAMP
+FROM
+  ${catalogscope}_OBJECTS OBJECTS
+WHERE
+  OBJECTS.OBJECT_TYPE IN ('TABLE', 'VIEW', 'MATERIALIZED VIEW')
+  AND REGEXP_LIKE(OBJECTS.OWNER, '${schemas}')
+  AND OBJECTS.OBJECT_NAME NOT LIKE 'BIN$%'
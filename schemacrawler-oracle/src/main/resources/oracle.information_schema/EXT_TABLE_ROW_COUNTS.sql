@@ -0,0 +1,11 @@
+SELECT /*+ PARALLEL(AUTO) */
+  NULL AS TABLE_CATALOG,
+  TABLES.OWNER AS TABLE_SCHEMA,
+  TABLES.TABLE_NAME,
+  TABLES.NUM_ROWS AS ROW_COUNT
+FROM
+  ${catalogscope}_TABLES TABLES
+WHERE
+  TABLES.NUM_ROWS IS NOT NULL
+  AND REGEXP_LIKE(TABLES.OWNER, '${schemas}')
+  AND TABLES.TABLE_NAME NOT LIKE 'BIN$%'
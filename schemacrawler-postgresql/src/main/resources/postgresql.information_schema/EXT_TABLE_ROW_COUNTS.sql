@@ -0,0 +1,13 @@
+SELECT
+  current_database()::information_schema.sql_identifier AS TABLE_CATALOG,
+  nc.nspname::information_schema.sql_identifier AS TABLE_SCHEMA,
+  c.relname::information_schema.sql_identifier AS TABLE_NAME,
+  c.reltuples::bigint AS ROW_COUNT
+FROM
+  pg_catalog.pg_class c
+  INNER JOIN pg_catalog.pg_namespace nc
+    ON c.relnamespace = nc.oid
+WHERE
+  c.relkind IN ('r', 'p')
+  AND c.reltuples >= 0
+  AND nc.nspname ~ '${schemas}'
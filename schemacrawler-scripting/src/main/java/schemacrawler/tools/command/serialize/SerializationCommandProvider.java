@@ -57,7 +57,8 @@ public class SerializationCommandProvider extends BaseCommandProvider {
                 },
             () ->
                 new String[] {
-                  "Deserialization is possible with the \"offline\" command for Java serialization"
+                  "Deserialization is possible with the \"offline\" command for Java serialization",
+                  "and binary catalog snapshots"
                 });
 
     return pluginCommand;
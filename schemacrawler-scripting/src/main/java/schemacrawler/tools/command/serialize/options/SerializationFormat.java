@@ -46,7 +46,11 @@ public enum SerializationFormat implements OutputFormat {
   yaml(
       "YAML Ain't Markup Language (YAML) serialization format",
       "schemacrawler.tools.formatter.serialize.YamlSerializedCatalog",
-      false);
+      false),
+  snapshot(
+      "Indexed binary catalog snapshot",
+      "schemacrawler.tools.formatter.serialize.SnapshotSerializedCatalog",
+      true);
 
   private static final Logger LOGGER =
       Logger.getLogger(SerializationFormat.class.getName());
@@ -45,6 +45,7 @@ import java.util.TreeSet;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
@@ -63,6 +64,8 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.CrawlMetrics;
 import schemacrawler.schema.PartialDatabaseObject;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
@@ -187,6 +190,12 @@ public abstract class BaseJacksonSerializedCatalog implements CatalogSerializer
     @JsonFilter("ignore-getter-errors-filter")
     class JacksonAnnotationMixIn {}
 
+    // Crawl metrics are timings for a single run, and do not belong in a serialized catalog
+    abstract class CrawlInfoMixIn {
+      @JsonIgnore
+      public abstract CrawlMetrics getCrawlMetrics();
+    }
+
     final FilterProvider filters =
         new SimpleFilterProvider()
             .addFilter(
@@ -201,6 +210,7 @@ public abstract class BaseJacksonSerializedCatalog implements CatalogSerializer
         WRITE_ENUMS_USING_TO_STRING);
     mapper.registerModule(new JavaTimeModule());
     mapper.addMixIn(Object.class, JacksonAnnotationMixIn.class);
+    mapper.addMixIn(CrawlInfo.class, CrawlInfoMixIn.class);
     mapper.setFilterProvider(filters);
     return mapper;
   }
@@ -0,0 +1,119 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.formatter.serialize;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Path;
+
+import schemacrawler.crawl.CatalogSnapshotReader;
+import schemacrawler.crawl.CatalogSnapshotWriter;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+
+/**
+ * Decorates a database to allow for serialization to and from an indexed, binary catalog snapshot,
+ * which is smaller, and much faster to load than Java serialization. Just the tables that are
+ * needed can be loaded from a snapshot file.
+ */
+public final class SnapshotSerializedCatalog implements CatalogSerializer {
+
+  private static Catalog readCatalog(final InputStream in) throws SchemaCrawlerException {
+    requireNonNull(in, "No input stream provided");
+    try (final InputStream snapshotIn = in) {
+      return new CatalogSnapshotReader(snapshotIn).read();
+    } catch (final IOException e) {
+      throw new SchemaCrawlerException("Cannot deserialize catalog", e);
+    }
+  }
+
+  private static Catalog readCatalog(
+      final Path snapshotFile, final SchemaCrawlerOptions schemaCrawlerOptions)
+      throws SchemaCrawlerException {
+    requireNonNull(snapshotFile, "No catalog snapshot file provided");
+    try {
+      return new CatalogSnapshotReader(snapshotFile)
+          .withSchemaCrawlerOptions(schemaCrawlerOptions)
+          .read();
+    } catch (final IOException e) {
+      throw new SchemaCrawlerException("Cannot deserialize catalog", e);
+    }
+  }
+
+  private final Catalog catalog;
+
+  public SnapshotSerializedCatalog(final Catalog catalog) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+  }
+
+  public SnapshotSerializedCatalog(final InputStream in) throws SchemaCrawlerException {
+    this(readCatalog(in));
+  }
+
+  /**
+   * Loads a catalog from a snapshot file, with just the tables that are selected by the
+   * SchemaCrawler options. The catalog still needs to be reduced with the same options.
+   *
+   * @param snapshotFile Catalog snapshot file
+   * @param schemaCrawlerOptions SchemaCrawler options, or null to load all tables
+   * @throws SchemaCrawlerException On an exception reading the snapshot
+   */
+  public SnapshotSerializedCatalog(
+      final Path snapshotFile, final SchemaCrawlerOptions schemaCrawlerOptions)
+      throws SchemaCrawlerException {
+    this(readCatalog(snapshotFile, schemaCrawlerOptions));
+  }
+
+  @Override
+  public Catalog getCatalog() {
+    return catalog;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void save(final OutputStream out) throws SchemaCrawlerException {
+    requireNonNull(out, "No output stream provided");
+    try (final OutputStream snapshotOut = out) {
+      new CatalogSnapshotWriter(catalog).withIndex(true).withDigest(true).write(snapshotOut);
+    } catch (final IOException e) {
+      throw new SchemaCrawlerException("Could not serialize catalog", e);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void save(final Writer out) {
+    throw new UnsupportedOperationException("Cannot serialize binary format using character data");
+  }
+}
@@ -113,6 +113,14 @@ public class CatalogJsonSerializationTest {
         "Catalog schemas were not serialized",
         catalogNode.findPath("schemas"),
         not(instanceOf(MissingNode.class)));
+    assertThat(
+        "Crawl information was not serialized",
+        catalogNode.findPath("crawl-info"),
+        not(instanceOf(MissingNode.class)));
+    assertThat(
+        "Crawl metrics were serialized",
+        catalogNode.findPath("crawl-metrics"),
+        is(instanceOf(MissingNode.class)));
 
     final JsonNode allTableColumnsNode = catalogNode.findPath("all-table-columns");
     assertThat(
@@ -0,0 +1,101 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.integration.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseSqliteTest;
+import schemacrawler.test.utility.TestLoggingExtension;
+import schemacrawler.testdb.SyntheticSchemaCreatorMain;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+import us.fatehi.utility.IOUtility;
+
+@ExtendWith(TestLoggingExtension.class)
+public class SyntheticSchemaTest extends BaseSqliteTest {
+
+  @Test
+  public void syntheticSchema() throws Exception {
+    final Path sqliteDbFile =
+        IOUtility.createTempFilePath("sc", ".db").normalize().toAbsolutePath();
+
+    final int exitCode =
+        SyntheticSchemaCreatorMain.call(
+            "--url",
+            "jdbc:sqlite:" + sqliteDbFile,
+            "--schemas",
+            "2",
+            "--tables",
+            "30",
+            "--foreign-keys",
+            "1",
+            "--views",
+            "5");
+    assertThat(exitCode, is(0));
+
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+
+    try (final Connection connection = createConnection(sqliteDbFile)) {
+      final Catalog catalog = SchemaCrawlerUtility.getCatalog(connection, schemaCrawlerOptions);
+      assertThat(catalog.getTables(), hasSize(2 * (30 + 5)));
+
+      int viewCount = 0;
+      int foreignKeyCount = 0;
+      for (final Table table : catalog.getTables()) {
+        if (table instanceof View) {
+          viewCount++;
+        } else {
+          assertThat(table.getColumns(), hasSize(1 + 10 + table.getImportedForeignKeys().size()));
+          foreignKeyCount += table.getImportedForeignKeys().size();
+        }
+      }
+      assertThat(viewCount, is(2 * 5));
+      // The first table with each schema prefix has no foreign keys
+      assertThat(foreignKeyCount, is(2 * 29));
+    }
+  }
+}
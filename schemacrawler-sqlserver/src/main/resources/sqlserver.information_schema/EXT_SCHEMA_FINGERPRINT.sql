@@ -0,0 +1,13 @@
+SELECT
+  DB_NAME() AS TABLE_CATALOG,
+  SCHEMA_NAME(OBJECTS.SCHEMA_ID) AS TABLE_SCHEMA,
+  OBJECTS.TYPE AS OBJECT_TYPE,
+  COUNT(*) AS OBJECT_COUNT,
+  MAX(OBJECTS.MODIFY_DATE) AS LAST_DDL_TIME
+FROM
+  SYS.OBJECTS OBJECTS
+WHERE
+  OBJECTS.IS_MS_SHIPPED = 0
+GROUP BY
+  OBJECTS.SCHEMA_ID,
+  OBJECTS.TYPE
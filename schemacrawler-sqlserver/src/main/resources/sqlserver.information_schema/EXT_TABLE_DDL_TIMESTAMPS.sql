@@ -0,0 +1,15 @@
+SELECT
+  DB_NAME() AS TABLE_CATALOG,
+  SCHEMA_NAME(TABLES.SCHEMA_ID) AS TABLE_SCHEMA,
+  TABLES.NAME AS TABLE_NAME,
+  (SELECT MAX(OBJECTS.MODIFY_DATE)
+    FROM SYS.OBJECTS OBJECTS
+    WHERE OBJECTS.OBJECT_ID = TABLES.OBJECT_ID
+      OR OBJECTS.PARENT_OBJECT_ID = TABLES.OBJECT_ID)
+    AS LAST_DDL_TIME,
+  GETDATE() AS DATABASE_TIMESTAMP
+FROM
+  SYS.OBJECTS TABLES
+WHERE
+  TABLES.TYPE IN ('U', 'V')
+  AND TABLES.IS_MS_SHIPPED = 0
@@ -0,0 +1,376 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.testdb;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates a synthetic database schema of any size, to test and measure
+ * SchemaCrawler against production-like catalogs. The same settings and seed
+ * always create the same schema. HyperSQL and SQLite are supported. SQLite
+ * does not have schemas, routines or remarks, so tables and views are named
+ * with a schema prefix, and routines and remarks are not created.
+ */
+public class SyntheticSchemaCreator
+  implements Runnable
+{
+
+  private enum Dialect
+  {
+    hsqldb,
+    sqlite;
+
+    static Dialect from(final Connection connection)
+      throws SQLException
+    {
+      final String databaseProductName = connection
+        .getMetaData()
+        .getDatabaseProductName()
+        .toLowerCase(Locale.ENGLISH);
+      if (databaseProductName.startsWith("hsql"))
+      {
+        return hsqldb;
+      }
+      else if (databaseProductName.startsWith("sqlite"))
+      {
+        return sqlite;
+      }
+      else
+      {
+        throw new IllegalArgumentException(
+          "Synthetic schemas cannot be created for " + databaseProductName);
+      }
+    }
+  }
+
+  private static final Logger LOGGER =
+    Logger.getLogger(SyntheticSchemaCreator.class.getName());
+
+  private static final String[] COLUMN_DATA_TYPES = {
+    "VARCHAR(50)", "INTEGER", "DECIMAL(10, 2)", "DATE", "TIMESTAMP"
+  };
+
+  private static final String REMARKS_TEXT =
+    "Synthetic remarks for measuring the cost of long object descriptions. ";
+
+  private final Connection connection;
+  private int schemaCount;
+  private int tablesPerSchema;
+  private int columnsPerTable;
+  private double foreignKeysPerTable;
+  private int indexesPerTable;
+  private int viewsPerSchema;
+  private int routinesPerSchema;
+  private int remarksLength;
+  private long seed;
+
+  public SyntheticSchemaCreator(final Connection connection)
+  {
+    this.connection =
+      requireNonNull(connection, "No database connection provided");
+    schemaCount = 1;
+    tablesPerSchema = 100;
+    columnsPerTable = 10;
+    foreignKeysPerTable = 1;
+    indexesPerTable = 1;
+    viewsPerSchema = 10;
+    routinesPerSchema = 10;
+    remarksLength = 0;
+    seed = 1;
+  }
+
+  @Override
+  public void run()
+  {
+    try
+    {
+      final Dialect dialect = Dialect.from(connection);
+      final Random random = new Random(seed);
+      for (int schemaNumber = 1; schemaNumber <= schemaCount; schemaNumber++)
+      {
+        final String schemaName = String.format("SYNTHETIC_%03d", schemaNumber);
+        LOGGER.log(Level.FINE,
+                   String.format("Creating synthetic schema %s", schemaName));
+        try (final Statement statement = connection.createStatement())
+        {
+          createSchema(dialect, schemaName, random, statement);
+          statement.executeBatch();
+        }
+        if (!connection.getAutoCommit())
+        {
+          connection.commit();
+        }
+      }
+    }
+    catch (final SQLException e)
+    {
+      throw new RuntimeException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Number of columns in each table, in addition to the primary key and
+   * foreign key columns.
+   */
+  public SyntheticSchemaCreator withColumnsPerTable(final int columnsPerTable)
+  {
+    this.columnsPerTable = atLeast(0, columnsPerTable);
+    return this;
+  }
+
+  /**
+   * Average number of foreign keys in each table. For example, 0.5 means that
+   * half the tables have a foreign key. Foreign keys always refer to tables
+   * that were created earlier in the same schema, so the first table in a
+   * schema has none.
+   */
+  public SyntheticSchemaCreator withForeignKeysPerTable(final double foreignKeysPerTable)
+  {
+    this.foreignKeysPerTable = Math.max(0, foreignKeysPerTable);
+    return this;
+  }
+
+  /**
+   * Number of indexes on each table, in addition to the primary key index.
+   * There can be no more indexes than columns.
+   */
+  public SyntheticSchemaCreator withIndexesPerTable(final int indexesPerTable)
+  {
+    this.indexesPerTable = atLeast(0, indexesPerTable);
+    return this;
+  }
+
+  /** Length of remarks on each table and column, or 0 for no remarks. */
+  public SyntheticSchemaCreator withRemarksLength(final int remarksLength)
+  {
+    this.remarksLength = atLeast(0, remarksLength);
+    return this;
+  }
+
+  public SyntheticSchemaCreator withRoutinesPerSchema(final int routinesPerSchema)
+  {
+    this.routinesPerSchema = atLeast(0, routinesPerSchema);
+    return this;
+  }
+
+  public SyntheticSchemaCreator withSchemas(final int schemaCount)
+  {
+    this.schemaCount = atLeast(1, schemaCount);
+    return this;
+  }
+
+  /** Seed for random choices, such as the tables that foreign keys refer to. */
+  public SyntheticSchemaCreator withSeed(final long seed)
+  {
+    this.seed = seed;
+    return this;
+  }
+
+  public SyntheticSchemaCreator withTablesPerSchema(final int tablesPerSchema)
+  {
+    this.tablesPerSchema = atLeast(1, tablesPerSchema);
+    return this;
+  }
+
+  /**
+   * Number of views in each schema. Each view selects from one of the tables
+   * in the schema.
+   */
+  public SyntheticSchemaCreator withViewsPerSchema(final int viewsPerSchema)
+  {
+    this.viewsPerSchema = atLeast(0, viewsPerSchema);
+    return this;
+  }
+
+  private int atLeast(final int minimum, final int value)
+  {
+    if (value < minimum)
+    {
+      throw new IllegalArgumentException(String.format(
+        "Value %d cannot be less than %d",
+        value,
+        minimum));
+    }
+    return value;
+  }
+
+  private void createSchema(final Dialect dialect,
+                            final String schemaName,
+                            final Random random,
+                            final Statement statement)
+    throws SQLException
+  {
+    final String prefix;
+    if (dialect == Dialect.hsqldb)
+    {
+      statement.addBatch(String.format("CREATE SCHEMA %s", schemaName));
+      prefix = schemaName + ".";
+    }
+    else
+    {
+      prefix = schemaName + "_";
+    }
+
+    for (int tableNumber = 1; tableNumber <= tablesPerSchema; tableNumber++)
+    {
+      final String tableName = String.format("%sTABLE_%05d", prefix, tableNumber);
+      statement.addBatch(createTable(tableName, tableNumber, prefix, random));
+
+      // Index names are unique in a schema in HyperSQL, and in the database
+      // in SQLite
+      final String indexPrefix = dialect == Dialect.hsqldb? "": prefix;
+      final int indexCount = Math.min(indexesPerTable, columnsPerTable);
+      for (int indexNumber = 1; indexNumber <= indexCount; indexNumber++)
+      {
+        statement.addBatch(String.format(
+          "CREATE INDEX %sINDEX_%05d_%03d ON %s (COLUMN_%03d)",
+          indexPrefix,
+          tableNumber,
+          indexNumber,
+          tableName,
+          indexNumber));
+      }
+
+      if (remarksLength > 0 && dialect == Dialect.hsqldb)
+      {
+        statement.addBatch(String.format("COMMENT ON TABLE %s IS '%s'",
+                                         tableName,
+                                         remarks(tableName)));
+        for (int columnNumber = 1; columnNumber <= columnsPerTable; columnNumber++)
+        {
+          statement.addBatch(String.format(
+            "COMMENT ON COLUMN %s.COLUMN_%03d IS '%s'",
+            tableName,
+            columnNumber,
+            remarks(tableName)));
+        }
+      }
+    }
+
+    for (int viewNumber = 1; viewNumber <= viewsPerSchema; viewNumber++)
+    {
+      final int tableNumber = 1 + (viewNumber - 1) % tablesPerSchema;
+      statement.addBatch(String.format(
+        "CREATE VIEW %sVIEW_%05d AS SELECT * FROM %sTABLE_%05d",
+        prefix,
+        viewNumber,
+        prefix,
+        tableNumber));
+    }
+
+    if (dialect == Dialect.hsqldb)
+    {
+      for (int routineNumber = 1; routineNumber <= routinesPerSchema; routineNumber++)
+      {
+        statement.addBatch(String.format(
+          "CREATE FUNCTION %sFUNCTION_%05d(X INTEGER) RETURNS INTEGER "
+          + "RETURN X + %d",
+          prefix,
+          routineNumber,
+          routineNumber));
+      }
+    }
+  }
+
+  private String createTable(final String tableName,
+                             final int tableNumber,
+                             final String prefix,
+                             final Random random)
+  {
+    final List<String> definitions = new ArrayList<>();
+    definitions.add("ID INTEGER NOT NULL PRIMARY KEY");
+    for (int columnNumber = 1; columnNumber <= columnsPerTable; columnNumber++)
+    {
+      definitions.add(String.format("COLUMN_%03d %s",
+                                    columnNumber,
+                                    COLUMN_DATA_TYPES[(tableNumber + columnNumber)
+                                                      % COLUMN_DATA_TYPES.length]));
+    }
+
+    // Only earlier tables can be referenced, since they already exist
+    final int foreignKeyCount;
+    if (tableNumber == 1)
+    {
+      foreignKeyCount = 0;
+    }
+    else
+    {
+      final int wholeForeignKeys = (int) foreignKeysPerTable;
+      final double fractionalForeignKeys = foreignKeysPerTable - wholeForeignKeys;
+      foreignKeyCount = wholeForeignKeys
+                        + (random.nextDouble() < fractionalForeignKeys? 1: 0);
+    }
+    final List<String> constraints = new ArrayList<>();
+    for (int foreignKeyNumber = 1; foreignKeyNumber <= foreignKeyCount; foreignKeyNumber++)
+    {
+      final int referencedTableNumber = 1 + random.nextInt(tableNumber - 1);
+      definitions.add(String.format("FK_%03d INTEGER", foreignKeyNumber));
+      constraints.add(String.format(
+        "CONSTRAINT %sFK_%05d_%03d FOREIGN KEY (FK_%03d) REFERENCES %sTABLE_%05d (ID)",
+        prefix.replace('.', '_'),
+        tableNumber,
+        foreignKeyNumber,
+        foreignKeyNumber,
+        prefix,
+        referencedTableNumber));
+    }
+    definitions.addAll(constraints);
+
+    return String.format("CREATE TABLE %s (%s)",
+                         tableName,
+                         String.join(", ", definitions));
+  }
+
+  private String remarks(final String objectName)
+  {
+    final StringBuilder remarks = new StringBuilder(remarksLength
+                                                    + REMARKS_TEXT.length());
+    remarks
+      .append(objectName)
+      .append(": ");
+    while (remarks.length() < remarksLength)
+    {
+      remarks.append(REMARKS_TEXT);
+    }
+    remarks.setLength(remarksLength);
+    return remarks.toString();
+  }
+
+}
@@ -0,0 +1,149 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.testdb;
+
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.concurrent.Callable;
+
+import picocli.CommandLine;
+
+@CommandLine.Command(description = "Creates a synthetic database schema of any size, for measuring SchemaCrawler performance",
+                     name = "Synthetic Schema Creator",
+                     mixinStandardHelpOptions = true)
+public class SyntheticSchemaCreatorMain
+  implements Callable<Integer>
+{
+
+  public static int call(String... args)
+  {
+    final int exitCode =
+      new CommandLine(new SyntheticSchemaCreatorMain()).execute(args);
+    return exitCode;
+  }
+
+  public static void main(String... args)
+  {
+    System.exit(call(args));
+  }
+
+  @CommandLine.Option(names = {
+    "--url"
+  },
+                      required = true,
+                      description = "JDBC connection URL to a HyperSQL or SQLite database",
+                      paramLabel = "<url>")
+  private String connectionUrl;
+  @CommandLine.Option(names = {
+    "--user"
+  }, description = "Database user name", paramLabel = "<user>")
+  private String user;
+  @CommandLine.Option(names = {
+    "--password"
+  }, description = "Database password", paramLabel = "<password>")
+  private String passwordProvided;
+  @CommandLine.Option(names = {
+    "--schemas"
+  }, description = "Number of schemas", paramLabel = "<schemas>")
+  private int schemas = 1;
+  @CommandLine.Option(names = {
+    "--tables"
+  }, description = "Number of tables in each schema", paramLabel = "<tables>")
+  private int tables = 100;
+  @CommandLine.Option(names = {
+    "--columns"
+  },
+                      description = "Number of columns in each table, besides key columns",
+                      paramLabel = "<columns>")
+  private int columns = 10;
+  @CommandLine.Option(names = {
+    "--foreign-keys"
+  },
+                      description = "Average number of foreign keys in each table",
+                      paramLabel = "<foreign-keys>")
+  private double foreignKeys = 1;
+  @CommandLine.Option(names = {
+    "--indexes"
+  }, description = "Number of indexes on each table", paramLabel = "<indexes>")
+  private int indexes = 1;
+  @CommandLine.Option(names = {
+    "--views"
+  }, description = "Number of views in each schema", paramLabel = "<views>")
+  private int views = 10;
+  @CommandLine.Option(names = {
+    "--routines"
+  }, description = "Number of routines in each schema", paramLabel = "<routines>")
+  private int routines = 10;
+  @CommandLine.Option(names = {
+    "--remarks-length"
+  },
+                      description = "Length of remarks on tables and columns",
+                      paramLabel = "<remarks-length>")
+  private int remarksLength = 0;
+  @CommandLine.Option(names = {
+    "--seed"
+  }, description = "Seed for random choices", paramLabel = "<seed>")
+  private long seed = 1;
+
+  private SyntheticSchemaCreatorMain()
+  {
+  }
+
+  @Override
+  public Integer call()
+  {
+    try (
+      final Connection connection = DriverManager.getConnection(connectionUrl,
+                                                                user,
+                                                                passwordProvided)
+    )
+    {
+      connection.setAutoCommit(false);
+      new SyntheticSchemaCreator(connection)
+        .withSchemas(schemas)
+        .withTablesPerSchema(tables)
+        .withColumnsPerTable(columns)
+        .withForeignKeysPerTable(foreignKeys)
+        .withIndexesPerTable(indexes)
+        .withViewsPerSchema(views)
+        .withRoutinesPerSchema(routines)
+        .withRemarksLength(remarksLength)
+        .withSeed(seed)
+        .run();
+    }
+    catch (final Exception e)
+    {
+      e.printStackTrace();
+      return 1;
+    }
+    return 0;
+  }
+
+}
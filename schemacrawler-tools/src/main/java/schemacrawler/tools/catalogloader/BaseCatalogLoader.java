@@ -35,6 +35,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.sql.Connection;
 import java.util.Comparator;
+import java.util.function.Supplier;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -57,6 +58,7 @@ public abstract class BaseCatalogLoader implements CatalogLoader {
   private SchemaCrawlerOptions schemaCrawlerOptions;
   private Config additionalConfig;
   private Connection connection;
+  private Supplier<Connection> connectionSource;
 
   private Catalog catalog;
 
@@ -90,6 +92,18 @@ public abstract class BaseCatalogLoader implements CatalogLoader {
     return connection;
   }
 
+  /**
+   * Source of additional connections to the same database, for catalog loaders that can use more
+   * than one connection at a time. Connections that are obtained need to be closed by the catalog
+   * loader.
+   *
+   * @return Connection source, or null if only the provided connection can be used
+   */
+  @Override
+  public Supplier<Connection> getConnectionSource() {
+    return connectionSource;
+  }
+
   @Override
   public int getPriority() {
     return priority;
@@ -129,6 +143,11 @@ public abstract class BaseCatalogLoader implements CatalogLoader {
     this.connection = connection;
   }
 
+  @Override
+  public void setConnectionSource(final Supplier<Connection> connectionSource) {
+    this.connectionSource = connectionSource;
+  }
+
   @Override
   public void setSchemaCrawlerOptions(final SchemaCrawlerOptions schemaCrawlerOptions) {
     this.schemaCrawlerOptions = schemaCrawlerOptions;
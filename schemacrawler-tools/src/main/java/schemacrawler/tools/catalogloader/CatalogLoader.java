@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.catalogloader;
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
@@ -52,6 +53,16 @@ public interface CatalogLoader extends Comparable<CatalogLoader> {
 
   Connection getConnection();
 
+  /**
+   * Source of additional connections to the same database, for loaders that can work on more than
+   * one connection at a time.
+   *
+   * @return Connection source, or null if only the provided connection can be used
+   */
+  default Supplier<Connection> getConnectionSource() {
+    return null;
+  }
+
   int getPriority();
 
   SchemaCrawlerOptions getSchemaCrawlerOptions();
@@ -66,6 +77,10 @@ public interface CatalogLoader extends Comparable<CatalogLoader> {
 
   void setConnection(Connection connection);
 
+  default void setConnectionSource(final Supplier<Connection> connectionSource) {
+    // No-op
+  }
+
   void setSchemaCrawlerOptions(SchemaCrawlerOptions schemaCrawlerOptions);
 
   void setSchemaRetrievalOptions(SchemaRetrievalOptions schemaRetrievalOptions);
@@ -34,6 +34,7 @@ import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
@@ -64,12 +65,14 @@ public class ChainedCatalogLoader extends BaseCatalogLoader implements Iterable<
   public void loadCatalog() throws SchemaCrawlerException {
     Catalog catalog = null;
     final Connection connection = getConnection();
+    final Supplier<Connection> connectionSource = getConnectionSource();
     final SchemaCrawlerOptions schemaCrawlerOptions = getSchemaCrawlerOptions();
     final SchemaRetrievalOptions schemaRetrievalOptions = getSchemaRetrievalOptions();
     final Config additionalConfig = getAdditionalConfiguration();
     for (final CatalogLoader nextCatalogLoader : chainedCatalogLoaders) {
       nextCatalogLoader.setCatalog(catalog);
       nextCatalogLoader.setConnection(connection);
+      nextCatalogLoader.setConnectionSource(connectionSource);
       nextCatalogLoader.setSchemaCrawlerOptions(schemaCrawlerOptions);
       nextCatalogLoader.setSchemaRetrievalOptions(schemaRetrievalOptions);
       nextCatalogLoader.setAdditionalConfiguration(additionalConfig);
@@ -31,10 +31,12 @@ package schemacrawler.tools.catalogloader;
 import static java.util.Objects.requireNonNull;
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 
 import schemacrawler.crawl.SchemaCrawler;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.tools.executable.CommandDescription;
 
 public class SchemaCrawlerCatalogLoader extends BaseCatalogLoader {
@@ -54,8 +56,20 @@ public class SchemaCrawlerCatalogLoader extends BaseCatalogLoader {
     final Connection connection = getConnection();
     requireNonNull(connection, "No connection provided");
 
+    // Only crawl on more than one connection if metadata retrieval concurrency is configured,
+    // so that other catalog loaders can otherwise have the connections from the source
+    final SchemaRetrievalOptions schemaRetrievalOptions = getSchemaRetrievalOptions();
+    final Supplier<Connection> connectionSource;
+    if (schemaRetrievalOptions != null
+        && schemaRetrievalOptions.getMetadataRetrievalConcurrency() > 1) {
+      connectionSource = getConnectionSource();
+    } else {
+      connectionSource = null;
+    }
+
     final SchemaCrawler schemaCrawler =
-        new SchemaCrawler(connection, getSchemaRetrievalOptions(), getSchemaCrawlerOptions());
+        new SchemaCrawler(
+            connection, connectionSource, schemaRetrievalOptions, getSchemaCrawlerOptions());
     final Catalog catalog = schemaCrawler.crawl();
     setCatalog(catalog);
   }
@@ -32,6 +32,7 @@ import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.requireNotBlank;
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Identifiers;
@@ -52,6 +53,7 @@ public abstract class BaseSchemaCrawlerCommand<C extends CommandOptions>
   protected C commandOptions;
   protected Catalog catalog;
   protected Connection connection;
+  protected Supplier<Connection> connectionSource;
   protected Identifiers identifiers;
   protected OutputOptions outputOptions;
   protected SchemaCrawlerOptions schemaCrawlerOptions;
@@ -91,6 +93,17 @@ public abstract class BaseSchemaCrawlerCommand<C extends CommandOptions>
     return connection;
   }
 
+  /**
+   * Source of additional connections to the same database, for commands that can use more than
+   * one connection at a time. Connections that are obtained need to be closed by the command.
+   *
+   * @return Connection source, or null if only the provided connection can be used
+   */
+  @Override
+  public Supplier<Connection> getConnectionSource() {
+    return connectionSource;
+  }
+
   @Override
   public Identifiers getIdentifiers() {
     return identifiers;
@@ -128,6 +141,11 @@ public abstract class BaseSchemaCrawlerCommand<C extends CommandOptions>
     this.connection = connection;
   }
 
+  @Override
+  public void setConnectionSource(final Supplier<Connection> connectionSource) {
+    this.connectionSource = connectionSource;
+  }
+
   @Override
   public void setIdentifiers(final Identifiers identifiers) {
     this.identifiers = identifiers;
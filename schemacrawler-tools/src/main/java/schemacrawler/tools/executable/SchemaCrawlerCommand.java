@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.executable;
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Identifiers;
@@ -64,6 +65,16 @@ public interface SchemaCrawlerCommand<C extends CommandOptions> {
 
   Connection getConnection();
 
+  /**
+   * Source of additional connections to the same database, for commands that can work on more than
+   * one connection at a time.
+   *
+   * @return Connection source, or null if only the provided connection can be used
+   */
+  default Supplier<Connection> getConnectionSource() {
+    return null;
+  }
+
   Identifiers getIdentifiers();
 
   OutputOptions getOutputOptions();
@@ -83,6 +94,10 @@ public interface SchemaCrawlerCommand<C extends CommandOptions> {
 
   void setConnection(Connection connection);
 
+  default void setConnectionSource(final Supplier<Connection> connectionSource) {
+    // No-op
+  }
+
   void setIdentifiers(Identifiers identifiers);
 
   void setOutputOptions(OutputOptions outputOptions);
@@ -31,6 +31,7 @@ import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.requireNotBlank;
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -62,6 +63,7 @@ public final class SchemaCrawlerExecutable {
   private Config additionalConfig;
   private Catalog catalog;
   private Connection connection;
+  private Supplier<Connection> connectionSource;
   private OutputOptions outputOptions;
   private SchemaCrawlerOptions schemaCrawlerOptions;
   private SchemaRetrievalOptions schemaRetrievalOptions;
@@ -100,6 +102,7 @@ public final class SchemaCrawlerExecutable {
     scCommand.setCatalog(catalog);
     if (scCommand.usesConnection()) {
       scCommand.setConnection(connection);
+      scCommand.setConnectionSource(connectionSource);
     }
 
     // Execute
@@ -138,6 +141,16 @@ public final class SchemaCrawlerExecutable {
     this.connection = requireNonNull(connection, "No connection provided");
   }
 
+  /**
+   * Sets a source of additional connections to the same database, for catalog loaders and
+   * commands that can use more than one connection at a time.
+   *
+   * @param connectionSource Connection source, or null if only the provided connection can be used
+   */
+  public void setConnectionSource(final Supplier<Connection> connectionSource) {
+    this.connectionSource = connectionSource;
+  }
+
   public void setOutputOptions(final OutputOptions outputOptions) {
     if (outputOptions == null) {
       this.outputOptions = OutputOptionsBuilder.newOutputOptions();
@@ -167,7 +180,11 @@ public final class SchemaCrawlerExecutable {
   private void loadCatalog() throws Exception {
     catalog =
         SchemaCrawlerUtility.getCatalog(
-            connection, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+            connection,
+            connectionSource,
+            schemaRetrievalOptions,
+            schemaCrawlerOptions,
+            additionalConfig);
     requireNonNull(catalog, "Catalog could not be retrieved");
   }
 
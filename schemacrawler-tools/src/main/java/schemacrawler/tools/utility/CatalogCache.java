@@ -0,0 +1,315 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2021, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.utility;
+
+import static java.util.Comparator.comparing;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_SCHEMA_FINGERPRINT;
+import static us.fatehi.utility.PropertiesUtility.getSystemConfigurationProperty;
+import static us.fatehi.utility.Utility.isBlank;
+import static us.fatehi.utility.Utility.sha256Digest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.crawl.CatalogSnapshotReader;
+import schemacrawler.crawl.CatalogSnapshotWriter;
+import schemacrawler.crawl.SchemaFingerprinter;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.tools.options.Config;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * On-disk cache of catalogs, kept as indexed catalog snapshots, so that repeated requests for the
+ * same database with the same options do not need a full crawl. Entries are keyed by the
+ * connection URL and user, the schema retrieval options, the SchemaCrawler options, and a
+ * fingerprint of the database structure.
+ * Entries expire after a time to live, and the oldest entries are removed when there are more than
+ * the maximum number of entries.
+ *
+ * <p>The cache is turned on by setting the <code>SC_CATALOG_CACHE_DIRECTORY</code> system property
+ * or environment variable. The time to live can be set in seconds with <code>
+ * SC_CATALOG_CACHE_TTL_SECONDS</code>, and the maximum number of entries with <code>
+ * SC_CATALOG_CACHE_MAX_ENTRIES</code>.
+ */
+final class CatalogCache {
+
+  private static final Logger LOGGER = Logger.getLogger(CatalogCache.class.getName());
+
+  private static final String SNAPSHOT_EXTENSION = ".snapshot";
+  private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofHours(1);
+  private static final int DEFAULT_MAXIMUM_ENTRIES = 32;
+
+  private static final AtomicLong hits = new AtomicLong();
+  private static final AtomicLong misses = new AtomicLong();
+  private static final AtomicLong invalidations = new AtomicLong();
+
+  /**
+   * Creates a catalog cache from the system configuration.
+   *
+   * @return Catalog cache, or empty if a cache directory is not configured
+   */
+  static Optional<CatalogCache> fromSystemConfiguration() {
+    final String cacheDirectory =
+        getSystemConfigurationProperty("SC_CATALOG_CACHE_DIRECTORY", "");
+    if (isBlank(cacheDirectory)) {
+      return Optional.empty();
+    }
+    final long timeToLiveSeconds =
+        parseLong(
+            getSystemConfigurationProperty("SC_CATALOG_CACHE_TTL_SECONDS", ""),
+            DEFAULT_TIME_TO_LIVE.getSeconds());
+    final long maximumEntries =
+        parseLong(
+            getSystemConfigurationProperty("SC_CATALOG_CACHE_MAX_ENTRIES", ""),
+            DEFAULT_MAXIMUM_ENTRIES);
+    return Optional.of(
+        new CatalogCache(
+            Paths.get(cacheDirectory),
+            Duration.ofSeconds(timeToLiveSeconds),
+            (int) Math.min(maximumEntries, Integer.MAX_VALUE)));
+  }
+
+  private static long parseLong(final String value, final long defaultValue) {
+    if (isBlank(value)) {
+      return defaultValue;
+    }
+    try {
+      final long longValue = Long.parseLong(value.trim());
+      return longValue < 0 ? defaultValue : longValue;
+    } catch (final NumberFormatException e) {
+      LOGGER.log(Level.WARNING, new StringFormat("Bad catalog cache setting <%s>", value));
+      return defaultValue;
+    }
+  }
+
+  /**
+   * Describes options without the identity hash codes that some of the descriptions include, so
+   * that equal options have equal descriptions.
+   */
+  private static String withoutIdentities(final Object options) {
+    return String.valueOf(options).replaceAll("@\\p{XDigit}+", "");
+  }
+
+  private final Path cacheDirectory;
+  private final Duration timeToLive;
+  private final int maximumEntries;
+
+  CatalogCache(final Path cacheDirectory, final Duration timeToLive, final int maximumEntries) {
+    this.cacheDirectory = requireNonNull(cacheDirectory, "No cache directory provided");
+    this.timeToLive = requireNonNull(timeToLive, "No time to live provided");
+    this.maximumEntries = maximumEntries;
+  }
+
+  /**
+   * Looks up a catalog in the cache. Entries that have expired, or cannot be read, are removed.
+   *
+   * @param key Cache key
+   * @return Cached catalog, or empty if there is none
+   */
+  Optional<Catalog> get(final String key) {
+    final Path snapshotFile = snapshotFile(key);
+    try {
+      if (!Files.isRegularFile(snapshotFile)) {
+        misses.incrementAndGet();
+        return Optional.empty();
+      }
+      final Instant cachedAt = Files.getLastModifiedTime(snapshotFile).toInstant();
+      if (cachedAt.plus(timeToLive).isBefore(Instant.now())) {
+        invalidate(snapshotFile);
+        misses.incrementAndGet();
+        return Optional.empty();
+      }
+      final Catalog catalog = new CatalogSnapshotReader(snapshotFile).read();
+      hits.incrementAndGet();
+      return Optional.of(catalog);
+    } catch (final IOException e) {
+      LOGGER.log(
+          Level.WARNING, e, new StringFormat("Could not read cached catalog <%s>", snapshotFile));
+      invalidate(snapshotFile);
+      misses.incrementAndGet();
+      return Optional.empty();
+    } finally {
+      logCounts();
+    }
+  }
+
+  /**
+   * Builds a cache key for a database connection and options. The key includes a fingerprint of
+   * the database structure, so that the key changes when tables are created or dropped. Altered
+   * tables only change the key if the data dictionary fingerprint query includes DDL change times;
+   * otherwise the fingerprint comes from table names and types alone. Schema retrieval options are
+   * keyed by the information schema views and metadata retrieval strategies, since those change
+   * what is crawled.
+   *
+   * @return Cache key
+   * @throws SQLException On an exception reading database metadata
+   * @throws SchemaCrawlerException On an exception computing the fingerprint
+   */
+  String key(
+      final Connection connection,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final Config additionalConfig)
+      throws SQLException, SchemaCrawlerException {
+    final DatabaseMetaData metaData = connection.getMetaData();
+    final List<String> values = new ArrayList<>();
+    values.add(metaData.getURL());
+    values.add(metaData.getUserName());
+    values.addAll(schemaRetrievalOptionsValues(schemaRetrievalOptions));
+    values.add(withoutIdentities(schemaCrawlerOptions));
+    values.add(withoutIdentities(additionalConfig));
+    values.add(
+        new SchemaFingerprinter(connection, schemaRetrievalOptions, schemaCrawlerOptions)
+            .fingerprint());
+
+    if (!schemaRetrievalOptions.getInformationSchemaViews().hasQuery(EXT_SCHEMA_FINGERPRINT)) {
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "No schema fingerprint SQL provided, so catalogs with altered tables may be served "
+                  + "from the catalog cache until they expire after %d seconds",
+              timeToLive.getSeconds()));
+    }
+
+    return sha256Digest(values);
+  }
+
+  /**
+   * Adds a catalog to the cache, and removes the oldest entries if the cache is full. The catalog
+   * is written to a temporary file first, so that a partly written entry is never read.
+   *
+   * @param key Cache key
+   * @param catalog Catalog to cache
+   */
+  void put(final String key, final Catalog catalog) {
+    final Path snapshotFile = snapshotFile(key);
+    try {
+      Files.createDirectories(cacheDirectory);
+      final Path tempFile = Files.createTempFile(cacheDirectory, key, ".tmp");
+      try (final OutputStream out = Files.newOutputStream(tempFile)) {
+        new CatalogSnapshotWriter(catalog).withIndex(true).write(out);
+      } catch (final IOException | RuntimeException e) {
+        Files.deleteIfExists(tempFile);
+        throw e;
+      }
+      Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+      evict();
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, e, new StringFormat("Could not cache catalog <%s>", snapshotFile));
+    }
+  }
+
+  /** Removes the oldest entries, until there are no more than the maximum number of entries. */
+  private void evict() throws IOException {
+    final List<Path> snapshotFiles = new ArrayList<>();
+    try (final DirectoryStream<Path> directoryStream =
+        Files.newDirectoryStream(cacheDirectory, "*" + SNAPSHOT_EXTENSION)) {
+      for (final Path snapshotFile : directoryStream) {
+        snapshotFiles.add(snapshotFile);
+      }
+    }
+    if (snapshotFiles.size() <= maximumEntries) {
+      return;
+    }
+
+    final Map<Path, FileTime> lastModifiedTimes = new HashMap<>();
+    for (final Path snapshotFile : snapshotFiles) {
+      lastModifiedTimes.put(snapshotFile, Files.getLastModifiedTime(snapshotFile));
+    }
+    snapshotFiles.sort(comparing(lastModifiedTimes::get));
+    for (int i = 0; i < snapshotFiles.size() - maximumEntries; i++) {
+      invalidate(snapshotFiles.get(i));
+    }
+    logCounts();
+  }
+
+  private void invalidate(final Path snapshotFile) {
+    try {
+      if (Files.deleteIfExists(snapshotFile)) {
+        invalidations.incrementAndGet();
+      }
+    } catch (final IOException e) {
+      LOGGER.log(
+          Level.WARNING, e, new StringFormat("Could not remove cached catalog <%s>", snapshotFile));
+    }
+  }
+
+  private void logCounts() {
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Catalog cache <%s> has had %d hits, %d misses, and %d invalidations",
+            cacheDirectory, hits.get(), misses.get(), invalidations.get()));
+  }
+
+  /**
+   * Describes the schema retrieval options that change what is crawled. Other options, such as the
+   * type map and the enum data type helper, are not described in a way that stays the same from one
+   * run to the next.
+   */
+  private List<String> schemaRetrievalOptionsValues(
+      final SchemaRetrievalOptions schemaRetrievalOptions) {
+    final List<String> values = new ArrayList<>();
+    values.add(schemaRetrievalOptions.getDatabaseServerType().getDatabaseSystemIdentifier());
+    values.add(String.valueOf(schemaRetrievalOptions.getInformationSchemaViews()));
+    for (final SchemaInfoMetadataRetrievalStrategy strategy :
+        SchemaInfoMetadataRetrievalStrategy.values()) {
+      values.add(String.format("%s=%s", strategy, schemaRetrievalOptions.get(strategy)));
+    }
+    return values;
+  }
+
+  private Path snapshotFile(final String key) {
+    return cacheDirectory.resolve(key + SNAPSHOT_EXTENSION);
+  }
+}
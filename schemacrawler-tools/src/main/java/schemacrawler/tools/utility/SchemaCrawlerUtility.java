@@ -33,6 +33,8 @@ import static java.util.Objects.requireNonNull;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import java.util.logging.Logger;
@@ -85,17 +87,75 @@ public final class SchemaCrawlerUtility {
     return getCatalog(connection, schemaRetrievalOptions, schemaCrawlerOptions, new Config());
   }
 
+  /**
+   * Crawls a database, and returns a catalog. If a catalog cache is configured, a cached catalog
+   * for the same database and options is returned if there is one, and otherwise the catalog is
+   * cached after the crawl.
+   *
+   * @param connection Live database connection.
+   * @param schemaRetrievalOptions Database specific options.
+   * @param schemaCrawlerOptions Options.
+   * @param additionalConfig Additional configuration for catalog loaders.
+   * @return Database catalog.
+   * @throws SchemaCrawlerException On an exception.
+   */
+  public static Catalog getCatalog(
+      final Connection connection,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final Config additionalConfig)
+      throws SchemaCrawlerException {
+    return getCatalog(
+        connection, null, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+  }
+
+  /**
+   * Crawls a database, and returns a catalog. Catalog loaders that can use more than one
+   * connection at a time, such as the loader for table row counts, obtain additional connections
+   * from the connection source.
+   *
+   * @param connection Live database connection.
+   * @param connectionSource Source of additional connections to the same database, or null.
+   * @param schemaRetrievalOptions Database specific options.
+   * @param schemaCrawlerOptions Options.
+   * @param additionalConfig Additional configuration for catalog loaders.
+   * @return Database catalog.
+   * @throws SchemaCrawlerException On an exception.
+   */
   public static Catalog getCatalog(
       final Connection connection,
+      final Supplier<Connection> connectionSource,
       final SchemaRetrievalOptions schemaRetrievalOptions,
       final SchemaCrawlerOptions schemaCrawlerOptions,
       final Config additionalConfig)
       throws SchemaCrawlerException {
+    final Optional<CatalogCache> catalogCache = CatalogCache.fromSystemConfiguration();
+    String cacheKey = null;
+    if (catalogCache.isPresent()) {
+      try {
+        cacheKey =
+            catalogCache
+                .get()
+                .key(connection, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+      } catch (final SQLException | SchemaCrawlerException e) {
+        LOGGER.log(Level.WARNING, "Could not look up catalog in the catalog cache", e);
+      }
+    }
+    if (cacheKey != null) {
+      final Optional<Catalog> cachedCatalog = catalogCache.get().get(cacheKey);
+      if (cachedCatalog.isPresent()) {
+        final Catalog catalog = cachedCatalog.get();
+        catalog.freeze();
+        return catalog;
+      }
+    }
+
     final CatalogLoaderRegistry catalogLoaderRegistry = new CatalogLoaderRegistry();
     final CatalogLoader catalogLoader = catalogLoaderRegistry.newChainedCatalogLoader();
     LOGGER.log(Level.CONFIG, new StringFormat("Catalog loader: %s", catalogLoader));
 
     catalogLoader.setConnection(connection);
+    catalogLoader.setConnectionSource(connectionSource);
     catalogLoader.setSchemaRetrievalOptions(schemaRetrievalOptions);
     catalogLoader.setSchemaCrawlerOptions(schemaCrawlerOptions);
     catalogLoader.setAdditionalConfiguration(additionalConfig);
@@ -103,6 +163,11 @@ public final class SchemaCrawlerUtility {
     catalogLoader.loadCatalog();
     final Catalog catalog = catalogLoader.getCatalog();
     requireNonNull(catalog, "Catalog could not be retrieved");
+    // Catalog is fully loaded, so compact it to use less memory
+    catalog.freeze();
+    if (cacheKey != null) {
+      catalogCache.get().put(cacheKey, catalog);
+    }
     return catalog;
   }
 
@@ -30,14 +30,22 @@ package schemacrawler.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLES;
 import static schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -45,13 +53,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.ResultsColumns;
 import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.options.Config;
 import schemacrawler.tools.utility.SchemaCrawlerUtility;
 
 @ExtendWith(TestDatabaseConnectionParameterResolver.class)
 public class SchemaCrawlerUtilityTest {
 
+  private static List<Path> cachedCatalogs(final Path cacheDirectory) throws Exception {
+    try (final Stream<Path> files = Files.list(cacheDirectory)) {
+      return files.collect(Collectors.toList());
+    }
+  }
+
   @Test
   public void getCatalog(final Connection connection) throws Exception {
     final Catalog catalog = SchemaCrawlerUtility.getCatalog(connection, newSchemaCrawlerOptions());
@@ -60,6 +81,79 @@ public class SchemaCrawlerUtilityTest {
     assertThat("Schema count does not match", schemas, arrayWithSize(6));
   }
 
+  @Test
+  public void getCatalogCached(final Connection connection) throws Exception {
+    final Path cacheDirectory = Files.createTempDirectory("catalog-cache");
+    try {
+      System.setProperty("SC_CATALOG_CACHE_DIRECTORY", cacheDirectory.toString());
+
+      final Catalog catalog =
+          SchemaCrawlerUtility.getCatalog(connection, newSchemaCrawlerOptions());
+      assertThat(cachedCatalogs(cacheDirectory), hasSize(1));
+      final String runId = catalog.getCrawlInfo().getRunId();
+
+      // A catalog is returned from the cache for the same options
+      final Catalog cachedCatalog =
+          SchemaCrawlerUtility.getCatalog(connection, newSchemaCrawlerOptions());
+      assertThat(cachedCatalog.getCrawlInfo().getRunId(), is(runId));
+      assertThat(
+          cachedCatalog.getSchemas().toString(), is(equalTo(catalog.getSchemas().toString())));
+      assertThat(
+          cachedCatalog.getTables().toString(), is(equalTo(catalog.getTables().toString())));
+
+      // Different options need another crawl, and the oldest entry is evicted
+      System.setProperty("SC_CATALOG_CACHE_MAX_ENTRIES", "1");
+      final SchemaCrawlerOptions minimumOptions =
+          newSchemaCrawlerOptions()
+              .withLoadOptions(
+                  LoadOptionsBuilder.builder()
+                      .withSchemaInfoLevel(SchemaInfoLevelBuilder.minimum())
+                      .toOptions());
+      final Catalog otherCatalog = SchemaCrawlerUtility.getCatalog(connection, minimumOptions);
+      assertThat(otherCatalog.getCrawlInfo().getRunId(), is(not(runId)));
+      assertThat(cachedCatalogs(cacheDirectory), hasSize(1));
+
+      // Different schema retrieval options need another crawl
+      final SchemaRetrievalOptions schemaRetrievalOptions =
+          SchemaCrawlerUtility.matchSchemaRetrievalOptions(connection);
+      final SchemaRetrievalOptions otherSchemaRetrievalOptions =
+          SchemaRetrievalOptionsBuilder.builder(schemaRetrievalOptions)
+              .withInformationSchemaViews(
+                  InformationSchemaViewsBuilder.builder(
+                          schemaRetrievalOptions.getInformationSchemaViews())
+                      .withSql(
+                          EXT_TABLES,
+                          "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, "
+                              + "NULL AS TABLE_DEFINITION "
+                              + "FROM INFORMATION_SCHEMA.TABLES")
+                      .toOptions())
+              .toOptions();
+      final Catalog otherViewsCatalog =
+          SchemaCrawlerUtility.getCatalog(
+              connection, otherSchemaRetrievalOptions, minimumOptions, new Config());
+      assertThat(
+          otherViewsCatalog.getCrawlInfo().getRunId(),
+          is(not(otherCatalog.getCrawlInfo().getRunId())));
+      final Catalog sameViewsCatalog =
+          SchemaCrawlerUtility.getCatalog(
+              connection, otherSchemaRetrievalOptions, minimumOptions, new Config());
+      assertThat(
+          sameViewsCatalog.getCrawlInfo().getRunId(),
+          is(otherViewsCatalog.getCrawlInfo().getRunId()));
+
+      // Expired entries are crawled again
+      System.setProperty("SC_CATALOG_CACHE_TTL_SECONDS", "0");
+      final Catalog expiredCatalog = SchemaCrawlerUtility.getCatalog(connection, minimumOptions);
+      assertThat(
+          expiredCatalog.getCrawlInfo().getRunId(),
+          is(not(otherCatalog.getCrawlInfo().getRunId())));
+    } finally {
+      System.clearProperty("SC_CATALOG_CACHE_DIRECTORY");
+      System.clearProperty("SC_CATALOG_CACHE_MAX_ENTRIES");
+      System.clearProperty("SC_CATALOG_CACHE_TTL_SECONDS");
+    }
+  }
+
   @Test
   public void getCatalogClosedConnection(final Connection connection) throws Exception {
     connection.close();
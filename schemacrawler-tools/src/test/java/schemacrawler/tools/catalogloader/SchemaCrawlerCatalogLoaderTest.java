@@ -30,17 +30,26 @@ package schemacrawler.tools.catalogloader;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 
 import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
 import schemacrawler.test.utility.TestDatabaseDriver;
 
 public class SchemaCrawlerCatalogLoaderTest {
@@ -57,6 +66,40 @@ public class SchemaCrawlerCatalogLoaderTest {
     assertThat(catalogLoader.getConnection(), is(not(nullValue())));
   }
 
+  @Test
+  @ExtendWith(TestDatabaseConnectionParameterResolver.class)
+  public void connectionSource(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo)
+      throws Exception {
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSource =
+        () -> {
+          connectionCount.incrementAndGet();
+          try {
+            return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new SchemaCrawlerRuntimeException("Could not connect", e);
+          }
+        };
+
+    // Connections from the source are not used without metadata retrieval concurrency
+    final CatalogLoader catalogLoader = new SchemaCrawlerCatalogLoader();
+    catalogLoader.setConnection(connection);
+    catalogLoader.setConnectionSource(connectionSource);
+    catalogLoader.loadCatalog();
+    assertThat(catalogLoader.getCatalog(), is(not(nullValue())));
+    assertThat(connectionCount.get(), is(0));
+
+    final CatalogLoader concurrentCatalogLoader = new SchemaCrawlerCatalogLoader();
+    concurrentCatalogLoader.setConnection(connection);
+    concurrentCatalogLoader.setConnectionSource(connectionSource);
+    concurrentCatalogLoader.setSchemaRetrievalOptions(
+        SchemaRetrievalOptionsBuilder.builder().withMetadataRetrievalConcurrency(2).toOptions());
+    concurrentCatalogLoader.loadCatalog();
+    assertThat(concurrentCatalogLoader.getCatalog(), is(not(nullValue())));
+    assertThat(connectionCount.get(), is(greaterThan(0)));
+  }
+
   @Test
   public void schemaCrawlerOptions() {
     final CatalogLoader catalogLoader = new SchemaCrawlerCatalogLoader();
@@ -144,8 +144,24 @@ public final class DatabaseUtility {
 
   public static Object executeSqlForScalar(final Connection connection, final String sql)
       throws SQLException {
-    try (final Statement statement = createStatement(connection);
-        final ResultSet resultSet = executeSql(statement, sql)) {
+    try (final Statement statement = createStatement(connection)) {
+      return executeSqlForScalar(statement, sql);
+    }
+  }
+
+  /**
+   * Executes SQL that returns a single value, using a statement that can be reused for more
+   * queries, for example, with a query timeout already set.
+   *
+   * @param statement Statement to execute the SQL with
+   * @param sql SQL that returns exactly one column and at most one row
+   * @return Scalar value, or null if no rows of data were returned
+   * @throws SQLException On an exception
+   */
+  public static Object executeSqlForScalar(final Statement statement, final String sql)
+      throws SQLException {
+    requireNonNull(statement, "No statement provided");
+    try (final ResultSet resultSet = executeSql(statement, sql)) {
       if (resultSet == null) {
         return null;
       }
@@ -28,13 +28,13 @@ http://www.gnu.org/licenses/
 package us.fatehi.utility;
 
 import static java.util.Objects.requireNonNull;
-import static us.fatehi.utility.Utility.commonPrefix;
 import static us.fatehi.utility.Utility.isBlank;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
@@ -47,8 +47,29 @@ import us.fatehi.utility.string.StringFormat;
 
 public final class PrefixMatches {
 
+  /** Number of keys that start with a prefix. */
+  private static final class PrefixCount {
+
+    private long keys;
+    private long repeatedPairs;
+
+    void add(final long repeats) {
+      keys = keys + repeats;
+      // The same key does not share a prefix with itself
+      repeatedPairs = repeatedPairs + pairs(repeats);
+    }
+
+    long sharedPairs() {
+      return pairs(keys) - repeatedPairs;
+    }
+  }
+
   private static final Logger LOGGER = Logger.getLogger(PrefixMatches.class.getName());
 
+  private static long pairs(final long count) {
+    return count * (count - 1) / 2;
+  }
+
   private final String keySeparator;
   private final Multimap<String, String> keyPrefixes;
 
@@ -86,53 +107,58 @@ public final class PrefixMatches {
   }
 
   /**
-   * Finds key prefixes. Prefixes are separated by a separator character.
+   * Finds key prefixes. Prefixes are separated by a separator character. Each prefix is counted
+   * once for every pair of different keys that share it. Keys are counted by prefix rather than
+   * compared in pairs, so that prefixes can be found quickly for a large number of keys.
    *
    * @param keys Keys
    * @return Key name prefixes
    */
   private Collection<String> findPrefixes(final List<String> keys) {
-    final SortedMap<String, Integer> prefixesMap = new TreeMap<>();
-    for (int i = 0; i < keys.size(); i++) {
-      for (int j = i + 1; j < keys.size(); j++) {
-        final String key1 = keys.get(i);
-        final String key2 = keys.get(j);
-        final String commonPrefix = commonPrefix(key1, key2);
-        if (isBlank(commonPrefix)) {
-          continue;
-        }
+    final Map<String, Long> keyRepeats = new HashMap<>();
+    for (final String key : keys) {
+      keyRepeats.merge(key, 1L, Long::sum);
+    }
 
-        final List<String> splitCommonPrefixes = new ArrayList<>();
-        final String[] splitPrefix = commonPrefix.split(keySeparator);
-        if (splitPrefix != null && splitPrefix.length > 0) {
-          for (int k = 0; k < splitPrefix.length; k++) {
-            final StringBuilder buffer = new StringBuilder(1024);
-            for (int l = 0; l < k; l++) {
-              buffer.append(splitPrefix[l]).append(keySeparator);
-            }
-            if (buffer.length() > 0) {
-              splitCommonPrefixes.add(buffer.toString());
-            }
-          }
-        }
-        if (commonPrefix.endsWith(keySeparator)) {
-          splitCommonPrefixes.add(commonPrefix);
+    // Count keys for each prefix, and for each prefix followed by one more character
+    final Map<String, PrefixCount> prefixCounts = new HashMap<>();
+    final Map<String, Map<String, PrefixCount>> nextPrefixCounts = new HashMap<>();
+    for (final Map.Entry<String, Long> keyRepeat : keyRepeats.entrySet()) {
+      final String key = keyRepeat.getKey();
+      final long repeats = keyRepeat.getValue();
+      for (final String prefix : separatedPrefixes(key)) {
+        prefixCounts.computeIfAbsent(prefix, k -> new PrefixCount()).add(repeats);
+        if (key.length() > prefix.length()) {
+          nextPrefixCounts
+              .computeIfAbsent(prefix, k -> new HashMap<>())
+              .computeIfAbsent(key.substring(0, prefix.length() + 1), k -> new PrefixCount())
+              .add(repeats);
         }
+      }
+    }
 
-        for (final String splitCommonPrefix : splitCommonPrefixes) {
-          final int prevCount;
-          if (prefixesMap.containsKey(splitCommonPrefix)) {
-            prevCount = prefixesMap.get(splitCommonPrefix);
-          } else {
-            prevCount = 0;
-          }
-          prefixesMap.put(splitCommonPrefix, prevCount + 1);
+    final SortedMap<String, Long> prefixesMap = new TreeMap<>();
+    for (final Map.Entry<String, PrefixCount> prefixCount : prefixCounts.entrySet()) {
+      final String prefix = prefixCount.getKey();
+      long pairsCount = prefixCount.getValue().sharedPairs();
+      // A prefix is not counted for pairs of keys that share exactly that
+      // prefix followed by more separators
+      String longerPrefix = prefix + keySeparator;
+      while (prefixCounts.containsKey(longerPrefix)) {
+        pairsCount = pairsCount - prefixCounts.get(longerPrefix).sharedPairs();
+        for (final PrefixCount nextPrefixCount :
+            nextPrefixCounts.getOrDefault(longerPrefix, Collections.emptyMap()).values()) {
+          pairsCount = pairsCount + nextPrefixCount.sharedPairs();
         }
+        longerPrefix = longerPrefix + keySeparator;
+      }
+      if (pairsCount > 0) {
+        prefixesMap.merge(prefix.toLowerCase(), pairsCount, Long::sum);
       }
     }
 
     // Sort prefixes by the number of keys using them, in descending order
-    final List<Map.Entry<String, Integer>> prefixesList = new ArrayList<>(prefixesMap.entrySet());
+    final List<Map.Entry<String, Long>> prefixesList = new ArrayList<>(prefixesMap.entrySet());
     Collections.sort(
         prefixesList, (entry1, entry2) -> entry1.getValue().compareTo(entry2.getValue()));
 
@@ -164,4 +190,25 @@ public final class PrefixMatches {
       }
     }
   }
+
+
+  /**
+   * Lists every prefix of the key that ends with the separator.
+   *
+   * @param key Key
+   * @return Prefixes of the key
+   */
+  private List<String> separatedPrefixes(final String key) {
+    final List<String> prefixes = new ArrayList<>();
+    if (keySeparator.isEmpty()) {
+      return prefixes;
+    }
+    int index = key.indexOf(keySeparator);
+    while (index >= 0) {
+      prefixes.add(key.substring(0, index + keySeparator.length()));
+      index = key.indexOf(keySeparator, index + keySeparator.length());
+    }
+    return prefixes;
+  }
+
 }
@@ -27,6 +27,10 @@ http://www.gnu.org/licenses/
 */
 package us.fatehi.utility;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -178,6 +182,33 @@ public final class Utility {
     return text;
   }
 
+  /**
+   * Computes a SHA-256 digest of a list of values, in order. Values are separated, so that adjacent
+   * values cannot run into each other.
+   *
+   * @param values Values to digest, where null values are treated as "null"
+   * @return Hex encoded digest
+   */
+  public static String sha256Digest(final Collection<String> values) {
+    try {
+      final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      if (values != null) {
+        for (final String value : values) {
+          messageDigest.update(String.valueOf(value).getBytes(UTF_8));
+          messageDigest.update((byte) 0);
+        }
+      }
+      final StringBuilder buffer = new StringBuilder(64);
+      for (final byte digestByte : messageDigest.digest()) {
+        buffer.append(String.format("%02x", digestByte));
+      }
+      return buffer.toString();
+    } catch (final NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
   public static String toSnakeCase(final String identifier) {
     if (isBlank(identifier)) {
       return identifier;
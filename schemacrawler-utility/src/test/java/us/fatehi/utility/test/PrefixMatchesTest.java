@@ -124,6 +124,27 @@ public class PrefixMatchesTest {
     assertThat(withoutPrefix, containsInAnyOrder("giraffe"));
   }
 
+  @Test
+  public void prefixMatches_repeated_separators() {
+    List<String> withoutPrefix;
+
+    final PrefixMatches matchkeys =
+        new PrefixMatches(
+            keys("pfx__key1", "pfx__key2", "pfx_key3", "pfx_key3", "other_key4"), "_");
+
+    withoutPrefix = matchkeys.get("pfx__key1");
+    assertThat(withoutPrefix, containsInAnyOrder("key1", "_key1", "pfx__key1"));
+
+    withoutPrefix = matchkeys.get("pfx__key2");
+    assertThat(withoutPrefix, containsInAnyOrder("key2", "_key2", "pfx__key2"));
+
+    withoutPrefix = matchkeys.get("pfx_key3");
+    assertThat(withoutPrefix, containsInAnyOrder("key3", "pfx_key3", "key3", "pfx_key3"));
+
+    withoutPrefix = matchkeys.get("other_key4");
+    assertThat(withoutPrefix, containsInAnyOrder("other_key4"));
+  }
+
   @Test
   public void prefixMatches_same_prefixes() {
     List<String> withoutPrefix;
@@ -29,6 +29,7 @@ package us.fatehi.utility.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static us.fatehi.utility.Utility.commonPrefix;
@@ -37,6 +38,7 @@ import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.isClassAvailable;
 import static us.fatehi.utility.Utility.isIntegral;
 import static us.fatehi.utility.Utility.join;
+import static us.fatehi.utility.Utility.sha256Digest;
 import static us.fatehi.utility.Utility.toSnakeCase;
 
 import java.util.ArrayList;
@@ -141,6 +143,20 @@ public class UtilityTest {
         join(MapUtils.putAll(new HashMap<>(), map), ","), is("RED=null,null=#00FF00,BLUE=#0000FF"));
   }
 
+  @Test
+  public void sha256DigestTest() {
+    assertThat(
+        sha256Digest(null),
+        is("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855"));
+    assertThat(
+        sha256Digest(Arrays.asList("abc")),
+        is("dc1114cd074914bd872cc1f9a23ec910ea2203bc79779ab2e17da25782a624fc"));
+    assertThat(
+        sha256Digest(Arrays.asList("ab", "c")), is(not(sha256Digest(Arrays.asList("a", "bc")))));
+    assertThat(
+        sha256Digest(Arrays.asList("a", null)), is(sha256Digest(Arrays.asList("a", "null"))));
+  }
+
   @Test
   public void snakeCaseTest() {
     assertThat(toSnakeCase(null), nullValue());